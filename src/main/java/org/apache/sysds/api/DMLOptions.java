@@ -54,6 +54,7 @@ public class DMLOptions {
 	public boolean              clean         = false;            // Whether to clean up all SystemDS working directories (FS, DFS)
 	public boolean              stats         = false;            // Whether to record and print the statistics
 	public int                  statsCount    = 10;               // Default statistics count
+	public boolean              statsAlloc    = false;            // Whether to record allocated bytes and GC time per instruction
 	public boolean              fedStats      = false;            // Whether to record and print the federated statistics
 	public int                  fedStatsCount = 10;               // Default federated statistics count
 	public boolean              memStats      = false;            // max memory statistics
@@ -96,6 +97,7 @@ public class DMLOptions {
 			", clean=" + clean +
 			", stats=" + stats +
 			", statsCount=" + statsCount +
+			", statsAlloc=" + statsAlloc +
 			", fedStats=" + fedStats +
 			", fedStatsCount=" + fedStatsCount +
 			", fedMonitoring=" + fedMonitoring +
@@ -203,12 +205,16 @@ public class DMLOptions {
 
 		dmlOptions.stats = line.hasOption("stats");
 		if (dmlOptions.stats){
-			String statsCount = line.getOptionValue("stats");
-			if (statsCount != null) {
+			String[] statsArgs = line.getOptionValues("stats");
+			for (int i = 0; statsArgs != null && i < statsArgs.length; i++) {
+				if (statsArgs[i].equalsIgnoreCase("alloc")) {
+					dmlOptions.statsAlloc = true;
+					continue;
+				}
 				try {
-					dmlOptions.statsCount = Integer.parseInt(statsCount);
+					dmlOptions.statsCount = Integer.parseInt(statsArgs[i]);
 				} catch (NumberFormatException e) {
-					throw new org.apache.commons.cli.ParseException("Invalid argument specified for -stats option, must be a valid integer");
+					throw new org.apache.commons.cli.ParseException("Invalid argument specified for -stats option, must be a valid integer or 'alloc'");
 				}
 			}
 		}
@@ -332,9 +338,10 @@ public class DMLOptions {
 		Option cleanOpt = OptionBuilder
 			.withDescription("cleans up all SystemDS working directories (FS, DFS); all other flags are ignored in this mode.")
 			.create("clean");
-		Option statsOpt = OptionBuilder.withArgName("count")
-			.withDescription("monitors and reports summary execution statistics; heavy hitter <count> is 10 unless overridden; default off")
-			.hasOptionalArg().create("stats");
+		Option statsOpt = OptionBuilder.withArgName("count> <alloc")
+			.withDescription("monitors and reports summary execution statistics; heavy hitter <count> is 10 unless overridden; "
+				+ "'alloc' additionally reports allocated bytes and GC time per instruction and DML line; default off")
+			.hasOptionalArgs(2).create("stats");
 		Option fedStatsOpt = OptionBuilder.withArgName("count")
 			.withDescription("monitors and reports summary execution statistics of federated workers; heavy hitter <count> is 10 unless overridden; default off")
 			.hasOptionalArg().create("fedStats");
@@ -94,6 +94,8 @@ public class DMLScript
 	private static ExecMode   EXEC_MODE                  = DMLOptions.defaultOptions.execMode;
 	// Enable/disable to print statistics
 	public static boolean     STATISTICS                 = DMLOptions.defaultOptions.stats;
+	// Enable/disable to gather allocated bytes and GC time per instruction
+	public static boolean     STATISTICS_ALLOC           = DMLOptions.defaultOptions.statsAlloc;
 	// Enable/disable to gather memory use stats in JMLC
 	public static boolean     JMLC_MEM_STATISTICS        = false;
 	// Set maximum heavy hitter count
@@ -250,6 +252,7 @@ public class DMLScript
 		{
 			STATISTICS            = dmlOptions.stats;
 			STATISTICS_COUNT      = dmlOptions.statsCount;
+			STATISTICS_ALLOC      = dmlOptions.statsAlloc;
 			FED_STATISTICS        = dmlOptions.fedStats;
 			FED_STATISTICS_COUNT  = dmlOptions.fedStatsCount;
 			JMLC_MEM_STATISTICS   = dmlOptions.memStats;
@@ -650,6 +650,9 @@ public class Types
 		FEDERATED, // A federated matrix
 		PROTO,  // protocol buffer representation
 		HDF5,   // Hierarchical Data Format (HDF)
+		PARQUET, // columnar Apache Parquet representation
+		ARROW,  // columnar Apache Arrow IPC file representation
+		NATIVE, // native single-node binary block representation w/ block index
 		UNKNOWN;
 		
 		public boolean isIJV() {
@@ -657,7 +660,11 @@ public class Types
 		}
 		
 		public boolean isTextFormat() {
-			return this != BINARY && this != COMPRESSED;
+			return this != BINARY && this != COMPRESSED && this != NATIVE && !isColumnarFormat();
+		}
+		
+		public boolean isColumnarFormat() {
+			return this == PARQUET || this == ARROW;
 		}
 		
 		public static boolean isTextFormat(String fmt) {
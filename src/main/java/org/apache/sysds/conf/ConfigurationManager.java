@@ -30,6 +30,7 @@ import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.lops.Compression.CompressConfig;
 import org.apache.sysds.lops.compile.linearization.IDagLinearizerFactory.DagLinearizer;
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 
@@ -266,6 +267,27 @@ public class ConfigurationManager{
 		return getDMLConfig().getBooleanValue(DMLConfig.FEDERATED_READCACHE);
 	}
 
+	public static boolean isOffHeapCachingEnabled() {
+		return getDMLConfig().getBooleanValue(DMLConfig.CACHING_OFFHEAP);
+	}
+
+	public static boolean isMMapEvictionEnabled() {
+		return getDMLConfig().getBooleanValue(DMLConfig.CACHING_MMAP);
+	}
+
+	public static RPolicy getBufferPoolPolicy() {
+		return RPolicy.valueOf(getDMLConfig()
+			.getTextValue(DMLConfig.CACHING_POLICY).toUpperCase());
+	}
+
+	public static String getSpillCompression() {
+		return getDMLConfig().getTextValue(DMLConfig.CACHING_SPILL_COMPRESSION);
+	}
+
+	public static int getReadAheadWindow() {
+		return getDMLConfig().getIntValue(DMLConfig.CACHING_READAHEAD);
+	}
+
 	public static boolean isPrefetchEnabled() {
 		return (getDMLConfig().getBooleanValue(DMLConfig.ASYNC_PREFETCH)
 			|| OptimizerUtils.ASYNC_PREFETCH);
@@ -284,6 +306,10 @@ public class ConfigurationManager{
 		return getDMLConfig().getBooleanValue(DMLConfig.CP_PARALLEL_IO);
 	}
 
+	public static boolean isCSVSinglePassEnabled(){
+		return getDMLConfig().getBooleanValue(DMLConfig.IO_CSV_SINGLE_PASS);
+	}
+
 	public static boolean isBroadcastEnabled() {
 		return (getDMLConfig().getBooleanValue(DMLConfig.ASYNC_SPARK_BROADCAST)
 			|| OptimizerUtils.ASYNC_BROADCAST_SPARK);
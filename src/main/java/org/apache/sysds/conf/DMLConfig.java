@@ -71,6 +71,7 @@ public class DMLConfig
 	public static final String CP_PARALLEL_OPS      = "sysds.cp.parallel.ops";
 	public static final String CP_PARALLEL_IO       = "sysds.cp.parallel.io";
 	public static final String IO_COMPRESSION_CODEC = "sysds.io.compression.encoding";
+	public static final String IO_CSV_SINGLE_PASS   = "sysds.io.csv.singlepass"; // boolean: parallel csv read w/o row-count prepass
 	public static final String PARALLEL_ENCODE      = "sysds.parallel.encode";  // boolean: enable multi-threaded transformencode and apply
 	public static final String PARALLEL_ENCODE_STAGED = "sysds.parallel.encode.staged";
 	public static final String PARALLEL_ENCODE_APPLY_BLOCKS = "sysds.parallel.encode.applyBlocks";
@@ -109,6 +110,12 @@ public class DMLConfig
 	public static final String COMPILERASSISTED_RW  = "sysds.lineage.compilerassisted"; // boolean: whether to apply compiler assisted rewrites
 	public static final String BUFFERPOOL_LIMIT     = "sysds.caching.bufferpoollimit"; // max buffer pool size in percentage
 	public static final String MEMORY_MANAGER       = "sysds.caching.memorymanager"; // static or unified memory manager
+	public static final String CACHING_OFFHEAP      = "sysds.caching.offheap"; // boolean: park dense buffer pool entries off-heap
+	public static final String PAGECACHE_LIMIT      = "sysds.caching.pagecachelimit"; // max page cache size in percentage (0 disables)
+	public static final String CACHING_POLICY       = "sysds.caching.evictionpolicy"; // buffer pool eviction policy: fifo, lru, costnsize, cleanfirst
+	public static final String CACHING_SPILL_COMPRESSION = "sysds.caching.spillcompression"; // none, lz4, zlib, or per type, e.g., matrix:lz4,frame:zlib
+	public static final String CACHING_READAHEAD    = "sysds.caching.readahead"; // int: instruction window for restoring evicted inputs (0 disables)
+	public static final String CACHING_MMAP         = "sysds.caching.mmap"; // boolean: evict/restore dense blocks via memory-mapped files
 	
 	// Fraction of available memory to use. The available memory is computer when the GPUContext is created
 	// to handle the tradeoff on calling cudaMemGetInfo too often.
@@ -156,6 +163,7 @@ public class DMLConfig
 		_defaultVals.put(CP_PARALLEL_OPS,        "true" );
 		_defaultVals.put(CP_PARALLEL_IO,         "true" );
 		_defaultVals.put(IO_COMPRESSION_CODEC,   "none");
+		_defaultVals.put(IO_CSV_SINGLE_PASS,     "false");
 		_defaultVals.put(PARALLEL_TOKENIZE,      "false");
 		_defaultVals.put(PARALLEL_TOKENIZE_NUM_BLOCKS, "64");
 		_defaultVals.put(PARALLEL_ENCODE,        "true" );
@@ -186,6 +194,12 @@ public class DMLConfig
 		_defaultVals.put(COMPILERASSISTED_RW,    "true" );
 		_defaultVals.put(BUFFERPOOL_LIMIT,       "15"); // % of total heap
 		_defaultVals.put(MEMORY_MANAGER,         "static"); // static/unified partitioning of heap
+		_defaultVals.put(CACHING_OFFHEAP,        "false" );
+		_defaultVals.put(CACHING_MMAP,           "false" );
+		_defaultVals.put(PAGECACHE_LIMIT,        "0"); // % of total heap
+		_defaultVals.put(CACHING_READAHEAD,      "0" );
+		_defaultVals.put(CACHING_POLICY,         "fifo" );
+		_defaultVals.put(CACHING_SPILL_COMPRESSION, "none" );
 		_defaultVals.put(PRINT_GPU_MEMORY_INFO,  "false" );
 		_defaultVals.put(EVICTION_SHADOW_BUFFERSIZE,  "0.0" );
 		_defaultVals.put(STATS_MAX_WRAP_LEN,     "30" );
@@ -455,13 +469,14 @@ public class DMLConfig
 	public String getConfigInfo()  {
 		String[] tmpConfig = new String[] { 
 			LOCAL_TMP_DIR,SCRATCH_SPACE,OPTIMIZATION_LEVEL, DEFAULT_BLOCK_SIZE,
-			CP_PARALLEL_OPS, CP_PARALLEL_IO, PARALLEL_ENCODE, NATIVE_BLAS, NATIVE_BLAS_DIR,
+			CP_PARALLEL_OPS, CP_PARALLEL_IO, IO_CSV_SINGLE_PASS, PARALLEL_ENCODE, NATIVE_BLAS, NATIVE_BLAS_DIR,
 			COMPRESSED_LINALG, COMPRESSED_LOSSY, COMPRESSED_VALID_COMPRESSIONS, COMPRESSED_OVERLAPPING,
 			COMPRESSED_SAMPLING_RATIO, COMPRESSED_SOFT_REFERENCE_COUNT,
 			COMPRESSED_COCODE, COMPRESSED_TRANSPOSE, COMPRESSED_TRANSFORMENCODE, DAG_LINEARIZATION,
 			CODEGEN, CODEGEN_API, CODEGEN_COMPILER, CODEGEN_OPTIMIZER, CODEGEN_PLANCACHE, CODEGEN_LITERALS,
 			STATS_MAX_WRAP_LEN, LINEAGECACHESPILL, COMPILERASSISTED_RW, BUFFERPOOL_LIMIT, MEMORY_MANAGER,
-			PRINT_GPU_MEMORY_INFO, AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, GPU_RULE_BASED_PLACEMENT,
+			CACHING_OFFHEAP, CACHING_MMAP, PAGECACHE_LIMIT, CACHING_READAHEAD,
+			CACHING_POLICY, CACHING_SPILL_COMPRESSION, PRINT_GPU_MEMORY_INFO, AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, GPU_RULE_BASED_PLACEMENT,
 			FLOATING_POINT_PRECISION, GPU_EVICTION_POLICY, LOCAL_SPARK_NUM_THREADS, EVICTION_SHADOW_BUFFERSIZE,
 			GPU_MEMORY_ALLOCATOR, GPU_MEMORY_UTILIZATION_FACTOR, USE_SSL_FEDERATED_COMMUNICATION,
 			DEFAULT_FEDERATED_INITIALIZATION_TIMEOUT, FEDERATED_TIMEOUT, FEDERATED_MONITOR_FREQUENCY, FEDERATED_COMPRESSION,
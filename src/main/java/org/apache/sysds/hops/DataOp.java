@@ -359,6 +359,19 @@ public class DataOp extends Hop {
 		return( _op == OpOpData.PERSISTENTWRITE || _op == OpOpData.TRANSIENTWRITE );
 	}
 	
+	/**
+	 * Indicates if this persistent write appends rows to an existing
+	 * output, which is always executed in CP.
+	 * 
+	 * @return true if write with append=TRUE
+	 */
+	public boolean isAppendWrite() {
+		Integer ix = _paramIndexMap.get(DataExpression.APPENDPARAM);
+		return _op == OpOpData.PERSISTENTWRITE && ix != null
+			&& getInput().get(ix) instanceof LiteralOp
+			&& ((LiteralOp)getInput().get(ix)).getBooleanValue();
+	}
+
 	public boolean isPersistentReadWrite() {
 		return( _op == OpOpData.PERSISTENTREAD || _op == OpOpData.PERSISTENTWRITE );
 	}
@@ -456,7 +469,7 @@ public class DataOp extends Hop {
 			checkAndSetForcedPlatform();
 
 			//additional check for write only
-			if( getDataType()==DataType.SCALAR )
+			if( getDataType()==DataType.SCALAR || isAppendWrite() )
 				_etypeForced = ExecType.CP;
 			
 			if( _etypeForced != null )
@@ -431,7 +431,7 @@ public abstract class Hop implements ParseInfo {
 		}
 
 		//add reblock lop to output if required
-		if( _requiresReblock && et != ExecType.CP )
+		if( _requiresReblock && et != ExecType.CP && !isReadPushdownInput() )
 		{
 			Lop input = getLops();
 
@@ -452,6 +452,21 @@ public abstract class Hop implements ParseInfo {
 		}
 	}
 
+	/**
+	 * Indicates if this hop is a persistent read whose only consumer is a right
+	 * indexing with read pushdown in CP (see RewriteIndexingReadPushdown), which
+	 * reads the index range from the file and thus requires no reblock.
+	 * 
+	 * @return true if read via the index range of a CP right indexing
+	 */
+	private boolean isReadPushdownInput() {
+		if( !(this instanceof DataOp) || getParent().size() != 1 )
+			return false;
+		Hop p = getParent().get(0);
+		return p instanceof IndexingOp && ((IndexingOp) p).isReadPushdown()
+			&& p.getInput(0) == this && p.getExecType() == ExecType.CP;
+	}
+
 	private void constructAndSetCheckpointLopIfRequired() {
 		//determine execution type
 		ExecType et = ExecType.CP;
@@ -39,6 +39,8 @@ public class IndexingOp extends Hop
 	
 	private boolean _rowLowerEqualsUpper = false;
 	private boolean _colLowerEqualsUpper = false;
+	//read index range directly from the input file (see RewriteIndexingReadPushdown)
+	private boolean _readPushdown = false;
 	
 	private enum IndexingMethod { 
 		CP_RIX, //in-memory range index
@@ -95,6 +97,14 @@ public class IndexingOp extends Hop
 		_colLowerEqualsUpper = passed;
 	}
 	
+	public boolean isReadPushdown() {
+		return _readPushdown;
+	}
+	
+	public void setReadPushdown(boolean flag) {
+		_readPushdown = flag;
+	}
+	
 	@Override
 	public boolean isGPUEnabled() {
 		if(!DMLScript.USE_ACCELERATOR) {
@@ -152,6 +162,7 @@ public class IndexingOp extends Hop
 					RightIndex reindex = new RightIndex(input.constructLops(), getInput(1).constructLops(),
 						getInput(2).constructLops(), getInput(3).constructLops(), getInput(4).constructLops(),
 						getDataType(), getValueType(), et);
+					reindex.setReadPushdown(_readPushdown && et == ExecType.CP);
 					
 					setOutputDimensions(reindex);
 					setLineNumbers(reindex);
@@ -198,6 +209,10 @@ public class IndexingOp extends Hop
 				_memEstimate = getInputOutputSize();
 			}
 		}
+		
+		//with read pushdown, the input is never materialized in memory
+		if( _readPushdown )
+			_memEstimate = _outputMemEstimate;
 	}
 	
 	@Override
@@ -330,6 +345,11 @@ public class IndexingOp extends Hop
 		{
 			_etype = _etypeForced;
 		}
+		else if( _readPushdown && getMemEstimate() < OptimizerUtils.getLocalMemBudget() )
+		{
+			//read of the index range only (no GPU/spark operations)
+			_etype = ExecType.CP;
+		}
 		else
 		{
 			if ( OptimizerUtils.isMemoryBasedOptLevel() ) {
@@ -451,6 +471,7 @@ public class IndexingOp extends Hop
 		//copy generic attributes
 		ret.clone(this, false);
 		//copy specific attributes
+		ret._readPushdown = _readPushdown;
 		return ret;
 	}
 	
@@ -202,6 +202,12 @@ public class OptimizerUtils
 	 */
 	public static boolean ALLOW_SPLIT_HOP_DAGS = true;
 	
+	/**
+	 * Enables a specific rewrite that pushes right indexing over persistent reads into
+	 * the matrix readers, which then only read the rows and columns of the index range.
+	 */
+	public static boolean ALLOW_INDEXING_READ_PUSHDOWN = true;
+	
 	/**
 	 * Enables a specific rewrite that enables update in place for loop variables that are
 	 * only read/updated via cp leftindexing.
@@ -532,6 +538,12 @@ public class OptimizerUtils
 		return (long)(bufferPoolFactor * maxMem);
 	}
 
+	public static long getPageCacheLimit() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		double pageCacheFactor = (double)(conf.getIntValue(DMLConfig.PAGECACHE_LIMIT))/100;
+		return (long)(pageCacheFactor * InfrastructureAnalyzer.getLocalMaxMemory());
+	}
+
 	/**
 	 * Check if unified memory manager is in effect
 	 * @return boolean
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.hops.rewrite;
+
+import java.util.ArrayList;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.OpOpData;
+import org.apache.sysds.hops.DataOp;
+import org.apache.sysds.hops.Hop;
+import org.apache.sysds.hops.IndexingOp;
+import org.apache.sysds.hops.OptimizerUtils;
+
+/**
+ * Rule: Push right indexing over persistent matrix reads into the matrix readers. 
+ * For a pattern like X = read(f); Y = X[1:1000, 5:10], we mark the right indexing
+ * operation for read pushdown, which then reads the index range directly from the
+ * file (without reading the entire matrix into the buffer pool). This rewrite only
+ * applies to reads without other consumers, of formats with reader support for index
+ * ranges, and (in hybrid mode) for outputs that fit into the local memory budget.
+ */
+public class RewriteIndexingReadPushdown extends HopRewriteRule
+{
+	@Override
+	public ArrayList<Hop> rewriteHopDAGs(ArrayList<Hop> roots, ProgramRewriteStatus state) {
+		if( roots == null || !isApplicableExecMode() )
+			return roots;
+		
+		for( Hop h : roots )
+			rule_IndexingReadPushdown(h);
+		
+		return roots;
+	}
+
+	@Override
+	public Hop rewriteHopDAG(Hop root, ProgramRewriteStatus state) {
+		// not applicable to predicates (we do not allow persistent reads there)
+		return root;
+	}
+	
+	private static boolean isApplicableExecMode() {
+		return DMLScript.getGlobalExecMode() == ExecMode.SINGLE_NODE
+			|| DMLScript.getGlobalExecMode() == ExecMode.HYBRID;
+	}
+	
+	private static void rule_IndexingReadPushdown(Hop hop) {
+		if( hop.isVisited() )
+			return;
+		
+		//recursively process children
+		for( Hop c : hop.getInput() )
+			rule_IndexingReadPushdown(c);
+		
+		if( isApplicable(hop) ) {
+			//the reblock of the read is only dropped at lop construction
+			//if the indexing is executed in CP (see Hop.isReadPushdownInput)
+			((IndexingOp) hop).setReadPushdown(true);
+			LOG.debug("Applied indexingReadPushdown (line "+hop.getBeginLine()+").");
+		}
+		
+		hop.setVisited();
+	}
+	
+	private static boolean isApplicable(Hop hop) {
+		if( !(hop instanceof IndexingOp) || !hop.getDataType().isMatrix()
+			|| ((IndexingOp)hop).isAllRowsAndCols() )
+			return false;
+		Hop input = hop.getInput(0);
+		if( !HopRewriteUtils.isData(input, OpOpData.PERSISTENTREAD)
+			|| !input.getDataType().isMatrix() || input.getParent().size() > 1
+			|| !input.dimsKnown() || !isPushdownFormat(((DataOp)input).getFileFormat()) )
+			return false;
+		//in hybrid mode, the output is required to fit into memory (CP indexing)
+		return DMLScript.getGlobalExecMode() == ExecMode.SINGLE_NODE
+			|| (hop.dimsKnown() && OptimizerUtils.estimateSize(hop.getDim1(), hop.getDim2())
+				< OptimizerUtils.getLocalMemBudget());
+	}
+	
+	private static boolean isPushdownFormat(FileFormat fmt) {
+		return fmt == FileFormat.BINARY || fmt == FileFormat.CSV
+			|| fmt == FileFormat.HDF5 || fmt == FileFormat.NATIVE;
+	}
+}
@@ -36,10 +36,10 @@ import org.apache.sysds.parser.StatementBlock;
 import org.apache.sysds.parser.VariableSet;
 
 /**
- * Rule: Split Hop DAG after CSV reads with unknown size. This is
+ * Rule: Split Hop DAG after CSV (or Parquet/Arrow) reads with unknown size. This is
  * important to create recompile hooks if format is read from mtd
  * (we are not able to split it on statementblock creation) and 
- * mtd has unknown size (which can only happen for CSV). 
+ * mtd has unknown size (which can only happen for CSV and columnar formats). 
  * 
  */
 public class RewriteSplitDagUnknownCSVRead extends StatementBlockRewriteRule
@@ -147,12 +147,12 @@ public class RewriteSplitDagUnknownCSVRead extends StatementBlockRewriteRule
 		if( hop.isVisited() )
 			return;
 		
-		//collect persistent reads (of type csv, with unknown size)
+		//collect persistent reads (of type csv/parquet/arrow, with unknown size)
 		if( hop instanceof DataOp )
 		{
 			DataOp dop = (DataOp) hop;
 			if(    dop.getOp() == OpOpData.PERSISTENTREAD
-				&& dop.getFileFormat() == FileFormat.CSV
+				&& (dop.getFileFormat() == FileFormat.CSV || dop.getFileFormat().isColumnarFormat())
 				&& !dop.dimsKnown()
 				&& !HopRewriteUtils.hasOnlyWriteParents(dop, true, false) )
 			{
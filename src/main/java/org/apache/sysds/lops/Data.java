@@ -380,6 +380,18 @@ public class Data extends Lop
 			}
 			sb.append(OPERAND_DELIMITOR);
 			sb.append(oparams.getBlocksize());
+			
+			//optional append flag (only for append, to keep regular writes unchanged)
+			Data appendLop = (Data) getNamedInputLop(DataExpression.APPENDPARAM);
+			if( appendLop != null ) {
+				if( appendLop.isVariable() )
+					throw new LopsException(this.printErrorLocation()
+						+ "Parameter " + DataExpression.APPENDPARAM + " must be a literal for a write operation.");
+				if( appendLop.getBooleanValue() ) {
+					sb.append(OPERAND_DELIMITOR);
+					sb.append(true);
+				}
+			}
 		}
 
 		return sb.toString();
@@ -35,6 +35,9 @@ public class RightIndex extends Lop
 
 	//optional attribute for spark exec type
 	private SparkAggType _aggtype = SparkAggType.MULTI_BLOCK;
+	
+	//optional attribute for cp exec type (read index range from input file)
+	private boolean _readPushdown = false;
 
 	public RightIndex(Lop input, Lop rowL, Lop rowU, Lop colL, Lop colU,
 		DataType dt, ValueType vt, ExecType et, boolean forleft)
@@ -83,6 +86,10 @@ public class RightIndex extends Lop
 			return OPCODE;
 	}
 
+	public void setReadPushdown(boolean flag) {
+		_readPushdown = flag;
+	}
+	
 	@Override
 	public SparkAggType getAggType() {
 		return _aggtype;
@@ -122,6 +129,11 @@ public class RightIndex extends Lop
 			sb.append( OPERAND_DELIMITOR );
 			sb.append( _aggtype );
 		}
+		//in case of cp, we compile the optional read pushdown flag into the instruction.
+		else if( getExecType() == ExecType.CP && _readPushdown ) {
+			sb.append( OPERAND_DELIMITOR );
+			sb.append( _readPushdown );
+		}
 		
 		return sb.toString();
 	}
@@ -117,6 +117,8 @@ public class DataExpression extends DataIdentifier
 	
 	public static final String DELIM_SPARSE = "sparse";  // applicable only for write
 	
+	public static final String APPENDPARAM = "append";  // applicable only for write
+	
 	public static final Set<String> RAND_VALID_PARAM_NAMES = new HashSet<>(
 		Arrays.asList(RAND_ROWS, RAND_COLS, RAND_DIMS,
 			RAND_MIN, RAND_MAX, RAND_SPARSITY, RAND_SEED, RAND_PDF, RAND_LAMBDA));
@@ -167,6 +169,7 @@ public class DataExpression extends DataIdentifier
 	public static final String  DEFAULT_NA_STRINGS = "";
 	public static final String  DEFAULT_SCHEMAPARAM = "NULL";
 	public static final String DEFAULT_LIBSVM_INDEX_DELIM = ":";
+	public static final boolean DEFAULT_APPENDPARAM = false;
 	private static Map<String, Object> csvDefaults;
 	static {
 		csvDefaults = new HashMap<>();
@@ -1093,6 +1096,9 @@ public class DataExpression extends DataIdentifier
 			}
 			
 			boolean isCSV = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.CSV.toString()));
+			boolean isColumnar = (formatTypeString != null && (formatTypeString.equalsIgnoreCase(FileFormat.PARQUET.toString())
+				|| formatTypeString.equalsIgnoreCase(FileFormat.ARROW.toString())));
+			boolean isNative = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.NATIVE.toString()));
 			
 			if (shouldReadMTD){
 				configObj = new MetaDataAll(mtdFileName, conditional, false);
@@ -1101,12 +1107,26 @@ public class DataExpression extends DataIdentifier
 					inferredFormatType = true;
 				}
 				else {
-					if(!isCSV){
+					if(!isCSV && !isColumnar && !isNative){
 						LOG.warn("Metadata file: " + new Path(mtdFileName) + " not provided");
 					}
 				}
 			}
 			
+			if ((isColumnar || isNative) && shouldReadMTD
+				&& (getVarParam(READROWPARAM) == null || getVarParam(READCOLPARAM) == null)) {
+				// get dimensions from the embedded metadata of parquet/arrow/native files
+				try {
+					long[] dims = IOUtilFunctions.readEmbeddedDimensions(
+						inputFileName, FileFormat.safeValueOf(formatTypeString));
+					addVarParam(READROWPARAM, new IntIdentifier(dims[0], this));
+					addVarParam(READCOLPARAM, new IntIdentifier(dims[1], this));
+				}
+				catch(DMLRuntimeException ex) {
+					raiseValidateError(ex.getMessage(), conditional);
+				}
+			}
+			
 			if (isCSV){
 				// there should be no MTD file for delimited file format
 				shouldReadMTD = true;
@@ -1187,8 +1207,8 @@ public class DataExpression extends DataIdentifier
 				// initialize size of target data identifier to UNKNOWN
 				getOutput().setDimensions(-1, -1);
 				
-				if (!isCSV && !isLIBSVM && !isHDF5 && ConfigurationManager.getCompilerConfig()
-						.getBool(ConfigType.REJECT_READ_WRITE_UNKNOWNS) //skip check for csv/libsvm format / jmlc api
+				if (!isCSV && !isLIBSVM && !isHDF5 && !isColumnar && ConfigurationManager.getCompilerConfig()
+						.getBool(ConfigType.REJECT_READ_WRITE_UNKNOWNS) //skip check for csv/libsvm/columnar format / jmlc api
 					&& (getVarParam(READROWPARAM) == null || getVarParam(READCOLPARAM) == null) ) {
 						raiseValidateError("Missing or incomplete dimension information in read statement: "
 								+ mtdFileName, conditional, LanguageErrorCodes.INVALID_PARAMETERS);
@@ -1243,7 +1263,8 @@ public class DataExpression extends DataIdentifier
 				// block dimensions must be -1x-1 when format="text"
 				// NOTE MB: disabled validate of default blocksize for inputs w/ format="binary"
 				// because we automatically introduce reblocks if blocksizes don't match
-				if ( (getOutput().getFileFormat().isTextFormat() || !isMatrix)  && getOutput().getBlocksize() != -1 ){
+				if ( (getOutput().getFileFormat().isTextFormat() || getOutput().getFileFormat().isColumnarFormat() || !isMatrix)
+					&& getOutput().getBlocksize() != -1 ){
 					raiseValidateError("Invalid block dimensions (" + getOutput().getBlocksize() + ") when format=" + getVarParam(FORMAT_TYPE) + " in \"" + this.toString() + "\".", conditional);
 				}
 			
@@ -1318,9 +1339,10 @@ public class DataExpression extends DataIdentifier
 			}
 			
 			//validate read filename
-			if (getVarParam(FORMAT_TYPE) == null || FileFormat.isTextFormat(getVarParam(FORMAT_TYPE).toString()))
+			if (getVarParam(FORMAT_TYPE) == null || FileFormat.isTextFormat(getVarParam(FORMAT_TYPE).toString())
+				|| checkFormatType(FileFormat.PARQUET, FileFormat.ARROW))
 				getOutput().setBlocksize(-1);
-			else if (checkFormatType(FileFormat.BINARY, FileFormat.COMPRESSED, FileFormat.UNKNOWN)) {
+			else if (checkFormatType(FileFormat.BINARY, FileFormat.COMPRESSED, FileFormat.NATIVE, FileFormat.UNKNOWN)) {
 				if( getVarParam(ROWBLOCKCOUNTPARAM)!=null )
 					getOutput().setBlocksize(Integer.parseInt(getVarParam(ROWBLOCKCOUNTPARAM).toString()));
 				else
@@ -1329,6 +1351,17 @@ public class DataExpression extends DataIdentifier
 			else if( getVarParam(FORMAT_TYPE) instanceof StringIdentifier ) //literal format
 				raiseValidateError("Invalid format " + getVarParam(FORMAT_TYPE)
 					+ " in statement: " + toString(), conditional);
+			
+			//validate append (row batches to existing binary or csv files)
+			if( getVarParam(APPENDPARAM) != null ) {
+				if( !(getVarParam(APPENDPARAM) instanceof BooleanIdentifier) )
+					raiseValidateError("For write method, parameter " + APPENDPARAM
+						+ " can only be a boolean literal.", conditional);
+				else if( ((BooleanIdentifier)getVarParam(APPENDPARAM)).getValue() && (getVarParam(FORMAT_TYPE) == null
+					|| (getVarParam(FORMAT_TYPE) instanceof StringIdentifier && !checkFormatType(FileFormat.BINARY, FileFormat.CSV))) )
+					raiseValidateError("For write method, parameter " + APPENDPARAM
+						+ " is only supported for formats binary and csv.", conditional);
+			}
 			break;
 
 			case RAND:
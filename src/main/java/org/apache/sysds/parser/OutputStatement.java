@@ -35,7 +35,8 @@ public class OutputStatement extends Statement
 																DataExpression.DELIM_DELIMITER, 
 																DataExpression.DELIM_HAS_HEADER_ROW, 
 																DataExpression.DELIM_SPARSE,
-																DataExpression.DESCRIPTIONPARAM};
+																DataExpression.DESCRIPTIONPARAM,
+																DataExpression.APPENDPARAM};
 
 	public DataIdentifier getIdentifier(){
 		return _id;
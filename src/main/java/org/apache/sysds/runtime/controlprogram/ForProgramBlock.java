@@ -28,7 +28,9 @@ import org.apache.sysds.parser.ForStatementBlock;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.DMLScriptException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
+import org.apache.sysds.runtime.controlprogram.caching.ReadAheadPrefetcher;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.Instruction;
 import org.apache.sysds.runtime.instructions.cp.CPOperand;
@@ -139,8 +141,13 @@ public class ForProgramBlock extends ProgramBlock
 					ec.getLineage().createDedupPatch(this, ec);
 				
 				//execute all child blocks
-				for (int i = 0; i < _childBlocks.size(); i++)
+				for (int i = 0; i < _childBlocks.size(); i++) {
+					//read-ahead of next child block (w/ wrap-around to next iteration)
+					if (CacheableData.getReadAheadWindow() > 0)
+						ReadAheadPrefetcher.trigger(_childBlocks.get(i),
+							_childBlocks.get((i+1) % _childBlocks.size()), ec);
 					_childBlocks.get(i).execute(ec);
+				}
 				
 				if (DMLScript.LINEAGE_DEDUP) {
 					LineageDedupUtils.replaceLineage(ec);
@@ -39,6 +39,7 @@ import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
+import org.apache.sysds.runtime.controlprogram.caching.ReadAheadPrefetcher;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.Instruction;
 import org.apache.sysds.runtime.instructions.cp.BooleanObject;
@@ -55,6 +56,7 @@ import org.apache.sysds.runtime.meta.MetaData;
 import org.apache.sysds.runtime.meta.MetaDataFormat;
 import org.apache.sysds.utils.stats.RecompileStatistics;
 import org.apache.sysds.utils.Statistics;
+import org.apache.sysds.utils.stats.JFREvents;
 
 public abstract class ProgramBlock implements ParseInfo {
 	public static final String PRED_VAR = "__pred";
@@ -196,9 +198,15 @@ public abstract class ProgramBlock implements ParseInfo {
 	}
 
 	protected void executeInstructions(ArrayList<Instruction> inst, ExecutionContext ec) {
+		// restore evicted inputs of upcoming instructions in the background
+		int readAhead = CacheableData.getReadAheadWindow();
+		if(readAhead > 0)
+			ReadAheadPrefetcher.trigger(inst, 0, readAhead, ec);
 		for(int i = 0; i < inst.size(); i++) {
 			// indexed access required due to dynamic add
 			Instruction currInst = inst.get(i);
+			if(readAhead > 0 && i + readAhead < inst.size())
+				ReadAheadPrefetcher.triggerNext(inst, i, i + readAhead, ec);
 			// execute instruction
 			executeSingleInstruction(currInst, ec);
 		}
@@ -242,12 +250,17 @@ public abstract class ProgramBlock implements ParseInfo {
 		try {
 			// start time measurement for statistics
 			long t0 = (DMLScript.STATISTICS || LOG.isTraceEnabled()) ? System.nanoTime() : 0;
+			// start allocation measurement for statistics (opt-in)
+			long a0 = DMLScript.STATISTICS_ALLOC ? Statistics.getThreadAllocatedBytes() : 0;
+			// start flight recorder event (if enabled)
+			JFREvents.InstructionEvent jfr = JFREvents.beginInstruction(currInst, ec);
 
 			// pre-process instruction (inst patching, listeners, lineage)
 			Instruction tmp = currInst.preprocessInstruction(ec);
 
 			// try to reuse instruction result from lineage cache
-			if(!LineageCache.reuse(tmp, ec)) {
+			boolean reused = LineageCache.reuse(tmp, ec);
+			if(!reused) {
 				long et0 = (!ReuseCacheType.isNone() || DMLScript.LINEAGE_ESTIMATE) ? System.nanoTime() : 0;
 
 				// process actual instruction
@@ -262,9 +275,14 @@ public abstract class ProgramBlock implements ParseInfo {
 				// maintain aggregate statistics
 				if(DMLScript.STATISTICS) {
 					Statistics.maintainCPHeavyHitters(tmp.getExtendedOpcode(), System.nanoTime() - t0);
+					if(DMLScript.STATISTICS_ALLOC)
+						Statistics.maintainAllocHeavyHitters(tmp, Statistics.getThreadAllocatedBytes() - a0,
+							Statistics.getThreadGCTimeDelta());
 				}
 			}
 
+			JFREvents.commitInstruction(jfr, tmp, ec, reused);
+
 			// optional trace information (instruction and runtime)
 			if(LOG.isTraceEnabled()) {
 				long t1 = System.nanoTime();
@@ -27,7 +27,9 @@ import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.DMLScriptException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
+import org.apache.sysds.runtime.controlprogram.caching.ReadAheadPrefetcher;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.Instruction;
 import org.apache.sysds.runtime.instructions.cp.BooleanObject;
@@ -114,6 +116,10 @@ public class WhileProgramBlock extends ProgramBlock
 				
 				//execute all child blocks
 				for (int i=0 ; i < _childBlocks.size() ; i++) {
+					//read-ahead of next child block (w/ wrap-around to next iteration)
+					if (CacheableData.getReadAheadWindow() > 0)
+						ReadAheadPrefetcher.trigger(_childBlocks.get(i),
+							_childBlocks.get((i+1) % _childBlocks.size()), ec);
 					_childBlocks.get(i).execute(ec);
 				}
 				
@@ -25,10 +25,19 @@ import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.data.DenseBlockFP64DEDUP;
 import org.apache.sysds.runtime.data.DenseBlockLDRB;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.utils.stats.JFREvents;
 
 /**
  * Wrapper for WriteBuffer byte array per matrix/frame in order to
@@ -40,10 +49,17 @@ public class ByteBuffer
 	private volatile boolean _serialized;
 	private volatile boolean _shallow;
 	private volatile boolean _matrix;
+	private volatile boolean _offheap;
+	private volatile String _pfname;  //valid persistent copy, no write on eviction
+	private volatile long[] _pstamp;  //modification time and length of persistent copy
+	private volatile boolean _dropped; //evicted w/o write, restore from persistent copy
+	private volatile int _accesses;   //number of buffer pool reads
 	private final long _size;
 	
 	protected byte[]     _bdata = null; //sparse matrix
 	protected CacheBlock<?> _cdata = null; //dense matrix/frame
+	protected OffHeapDenseBlock _odata = null; //dense matrix (off-heap)
+	private long _nnz;
 	
 	public ByteBuffer( long size ) {
 		_size = size;
@@ -55,13 +71,29 @@ public class ByteBuffer
 	{	
 		_shallow = cb.isShallowSerialize(true);
 		_matrix = (cb instanceof MatrixBlock);
+		_offheap = _shallow && _matrix && CacheableData.isOffHeapCachingActive()
+			&& isOffHeapCandidate((MatrixBlock)cb);
+		if( _offheap ) {
+			//reserve direct memory, fallback to heap if off-heap limit exceeded
+			MatrixBlock mb = (MatrixBlock) cb;
+			_odata = OffHeapDenseBlock.allocate(mb.getNumRows(), mb.getNumColumns());
+			_offheap = (_odata != null);
+		}
 		
 		try
 		{
-			if( !_shallow ) //SPARSE/DENSE -> SPARSE
+			if( _offheap ) //DENSE -> DENSE (off-heap)
+			{
+				//copy into direct memory, the heap block is
+				//only weakly referenced by the cacheable data
+				MatrixBlock mb = (MatrixBlock) cb;
+				_nnz = mb.getNonZeros();
+				_odata.set(mb.getDenseBlock());
+			}
+			else if( !_shallow ) //SPARSE/DENSE -> SPARSE
 			{
 				//deep serialize (for compression)
-				if( CacheableData.CACHING_BUFFER_PAGECACHE )
+				if( PageCache.isActive() )
 					_bdata = PageCache.getPage((int)_size);
 				if( _bdata==null )
 					_bdata = new byte[(int)_size];
@@ -85,12 +117,25 @@ public class ByteBuffer
 		_serialized = true;
 	}
 
-	public CacheBlock<?> deserializeBlock() 
+	public synchronized CacheBlock<?> deserializeBlock() 
 		throws IOException
 	{
 		CacheBlock<?> ret = null;
 		
-		if( !_shallow ) { //sparse matrix / string frame
+		if( _offheap ) { //dense matrix (off-heap)
+			//null if concurrently evicted, read from local file instead
+			if( _odata != null ) {
+				MatrixBlock mb = new MatrixBlock(_odata.getNumRows(), _odata.getNumColumns(), false);
+				mb.allocateDenseBlock();
+				_odata.copyTo(mb.getDenseBlock());
+				mb.setNonZeros(_nnz);
+				ret = mb;
+			}
+		}
+		else if( !_shallow ) { //sparse matrix / string frame
+			//null if concurrently evicted, read from local file instead
+			if( _bdata == null )
+				return null;
 			DataInput din = _matrix ? new CacheDataInput(_bdata) :
 				new DataInputStream(new ByteArrayInputStream(_bdata));
 			ret = _matrix ? new MatrixBlock() : new FrameBlock();
@@ -106,14 +151,38 @@ public class ByteBuffer
 	public void evictBuffer( String fname ) 
 		throws IOException
 	{
-		if( !_shallow ) {
+		JFREvents.BufferPoolEvent jfr = JFREvents.beginBufferPool();
+		if( hasUnmodifiedPersistentCopy() ) {
+			//drop w/o write, restored from persistent copy
+			_dropped = true;
+			if( DMLScript.STATISTICS )
+				CacheStatistics.incrementCleanDrops();
+			JFREvents.commitBufferPool(jfr, "drop", fname, _size);
+			return;
+		}
+		//persistent copy modified in the meantime (e.g., by a later write)
+		setClean(null);
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementSpillBytes(_size);
+		
+		if( _offheap ) {
+			//write out off-heap buffers w/o on-heap copy
+			LocalFileUtils.writeDenseBlockToLocal(fname, _odata);
+		}
+		else if( !_shallow ) {
 			//write out byte serialized array
-			LocalFileUtils.writeByteArrayToLocal(fname, _bdata);
+			//(pages from the page cache might be larger than the block)
+			if( SpillCompression.isActive() )
+				LocalFileUtils.writeCacheBytesToLocal(fname, _bdata, (int)_size, _matrix);
+			else
+				LocalFileUtils.writeByteArrayToLocal(fname, _bdata, (int)_size);
 		}
 		else {
 			//serialize cache block to output stream
-			LocalFileUtils.writeCacheBlockToLocal(fname, _cdata);
+			LocalFileUtils.writeCacheBlockToLocal(fname, _cdata,
+				CacheableData.isMMapEvictionActive());
 		}
+		JFREvents.commitBufferPool(jfr, "evict", fname, _size);
 	}
 	
 	/**
@@ -129,12 +198,76 @@ public class ByteBuffer
 		return _shallow;
 	}
 	
-	public void freeMemory()
+	/**
+	 * Indicates if the cache block has a valid persistent copy, which allows
+	 * dropping the buffer on eviction without a write to local disk.
+	 * 
+	 * @return true if clean
+	 */
+	public boolean isClean() {
+		return _pfname != null;
+	}
+	
+	/**
+	 * Marks the cache block as clean w.r.t. the given persistent copy, whose
+	 * modification time and length are captured in order to detect later
+	 * overwrites of this file.
+	 * 
+	 * @param pfname file name of the persistent copy, or null if dirty
+	 */
+	public void setClean(String pfname) {
+		_pstamp = (pfname != null) ? getFileStamp(pfname) : null;
+		_pfname = (_pstamp != null) ? pfname : null;
+	}
+	
+	/**
+	 * Indicates if the buffer was dropped on eviction without a write to
+	 * local disk, i.e., it needs to be restored from its persistent copy.
+	 * 
+	 * @return true if dropped
+	 */
+	public boolean isDropped() {
+		return _dropped;
+	}
+	
+	/**
+	 * Indicates if the persistent copy still exists and is unmodified
+	 * since the buffer was marked as clean.
+	 * 
+	 * @return true if valid persistent copy
+	 */
+	public boolean hasUnmodifiedPersistentCopy() {
+		String pfname = _pfname;
+		long[] pstamp = _pstamp;
+		if( pfname == null || pstamp == null )
+			return false;
+		long[] stamp = getFileStamp(pfname);
+		return stamp != null && stamp[0] == pstamp[0] && stamp[1] == pstamp[1];
+	}
+	
+	public int getNumAccesses() {
+		return _accesses;
+	}
+	
+	public void incrementAccesses() {
+		_accesses++;
+	}
+	
+	public boolean isOffHeap() {
+		return _offheap;
+	}
+	
+	public synchronized void freeMemory()
 	{
 		//clear strong references to buffer/matrix
-		if( !_shallow ) {
-			if( CacheableData.CACHING_BUFFER_PAGECACHE )
-				PageCache.putPage(_bdata);
+		if( _offheap ) {
+			//eager release of direct memory
+			if( _odata != null )
+				_odata.free();
+			_odata = null;
+		}
+		else if( !_shallow ) {
+			PageCache.putPage(_bdata);
 			_bdata = null;
 		}
 		else {
@@ -154,6 +287,34 @@ public class ByteBuffer
 		}
 	}
 	
+	private static long[] getFileStamp(String fname) {
+		//modification time and length of file or directory of part files
+		try {
+			Path path = new Path(fname);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path);
+			FileStatus stat = fs.getFileStatus(path);
+			long[] ret = new long[] {stat.getModificationTime(), stat.getLen()};
+			if( stat.isDirectory() )
+				for( FileStatus pstat : fs.listStatus(path) ) {
+					ret[0] = Math.max(ret[0], pstat.getModificationTime());
+					ret[1] += pstat.getLen();
+				}
+			return ret;
+		}
+		catch(IOException ex) {
+			return null;
+		}
+	}
+	
+	private static boolean isOffHeapCandidate(MatrixBlock mb) {
+		//only non-empty dense FP64 blocks of relevant size, as the
+		//copy into direct memory and back is not free
+		return !(mb instanceof CompressedMatrixBlock) && !mb.isInSparseFormat()
+			&& mb.getDenseBlock() != null && mb.getDenseBlock().isNumeric(ValueType.FP64)
+			&& !(mb.getDenseBlock() instanceof DenseBlockFP64DEDUP)
+			&& mb.getNonZeros() > 0 && mb.getInMemorySize() >= CacheableData.CACHING_OFFHEAP_THRESHOLD;
+	}
+	
 	/**
 	 * Determines if byte buffer can hold the given size given this specific cache block.
 	 * This call is consistent with 'serializeBlock' and allows for internal optimization
@@ -19,46 +19,149 @@
 
 package org.apache.sysds.runtime.controlprogram.caching;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
 
 public class CacheEvictionQueue extends LinkedHashMap<String, ByteBuffer>
 {
 	/**
 	 * Extended LinkedHashMap with convenience methods for adding and removing
-	 * last/first entries.
+	 * last/first entries. The entries are kept in insertion order (FIFO, or LRU
+	 * if re-inserted on access), and the "first" entry is selected according
+	 * to the eviction policy of the queue.
 	 *
 	 */
 	private static final long serialVersionUID = -5208333402581364859L;
+	
+	private final RPolicy _policy;
+	//entries dropped on eviction w/o write (restore from persistent copy)
+	private final Map<String, ByteBuffer> _dropped = new HashMap<>();
+	
+	public CacheEvictionQueue() {
+		this(RPolicy.FIFO);
+	}
+	
+	public CacheEvictionQueue(RPolicy policy) {
+		_policy = policy;
+	}
+	
+	public RPolicy getPolicy() {
+		return _policy;
+	}
 
 	public void addLast( String fname, ByteBuffer bbuff ) {
 		//put entry into eviction queue w/ 'addLast' semantics
 		put(fname, bbuff);
+		//new buffers supersede previously dropped ones
+		_dropped.remove(fname);
 	}
 
-	public Map.Entry<String, ByteBuffer> removeFirst()
-	{
-		//move iterator to first entry
-		Iterator<Map.Entry<String, ByteBuffer>> iter = entrySet().iterator();
-		Map.Entry<String, ByteBuffer> entry = iter.next();
-
-		//remove current iterator entry
-		iter.remove();
+	/**
+	 * Evicts the given buffer of a removed queue entry, and keeps track of
+	 * clean buffers that are dropped without write to local disk.
+	 * 
+	 * @param fname file name
+	 * @param bbuff byte buffer
+	 * @throws IOException if IOException occurs
+	 */
+	public void evictBuffer(String fname, ByteBuffer bbuff) throws IOException {
+		bbuff.evictBuffer(fname);
+		if( bbuff.isDropped() )
+			_dropped.put(fname, bbuff);
+	}
+	
+	/**
+	 * Removes the dropped buffer of the given file, if existing.
+	 * 
+	 * @param fname file name
+	 * @return dropped byte buffer, or null if not dropped
+	 */
+	public ByteBuffer removeDropped(String fname) {
+		return _dropped.remove(fname);
+	}
+	
+	@Override
+	public void clear() {
+		super.clear();
+		_dropped.clear();
+	}
 
-		return entry;
+	public Map.Entry<String, ByteBuffer> removeFirst() {
+		return removeFirstUnpinned(null);
 	}
 
 	public Map.Entry<String, ByteBuffer> removeFirstUnpinned(List<String> pinnedList) {
-		//move iterator to first entry
-		Iterator<Map.Entry<String, ByteBuffer>> iter = entrySet().iterator();
-		var entry = iter.next();
-		while (pinnedList.contains(entry.getKey()))
-			entry = iter.next();
-
-		//remove current iterator entry
-		iter.remove();
+		//select the eviction candidate
+		Map.Entry<String, ByteBuffer> entry = null;
+		switch( _policy ) {
+			case FIFO:
+			case LRU:
+				entry = getFirst(pinnedList, false);
+				break;
+			case CLEANFIRST:
+				entry = getFirst(pinnedList, true);
+				if( entry == null )
+					entry = getFirst(pinnedList, false);
+				break;
+			case COSTNSIZE:
+				entry = getMinScore(pinnedList);
+				break;
+		}
+		if( entry == null )
+			throw new NoSuchElementException("No unpinned entry in eviction queue.");
+		
+		//remove selected entry
+		remove(entry.getKey());
 		return entry;
 	}
+	
+	private Map.Entry<String, ByteBuffer> getFirst(List<String> pinnedList, boolean cleanOnly) {
+		for( Map.Entry<String, ByteBuffer> e : entrySet() ) {
+			if( pinnedList != null && pinnedList.contains(e.getKey()) )
+				continue;
+			if( !cleanOnly || (e.getValue() != null && e.getValue().isClean()) )
+				return e;
+		}
+		return null;
+	}
+	
+	private Map.Entry<String, ByteBuffer> getMinScore(List<String> pinnedList) {
+		//scan in queue order, i.e., ties are resolved by age
+		Map.Entry<String, ByteBuffer> ret = null;
+		double minScore = Double.MAX_VALUE;
+		Iterator<Map.Entry<String, ByteBuffer>> iter = entrySet().iterator();
+		while( iter.hasNext() ) {
+			Map.Entry<String, ByteBuffer> e = iter.next();
+			if( pinnedList != null && pinnedList.contains(e.getKey()) )
+				continue;
+			double score = getScore(e.getValue());
+			if( ret == null || score < minScore ) {
+				ret = e;
+				minScore = score;
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * Cost-size score of a buffer pool entry (evict lowest score first). The cost
+	 * of an eviction is the restore I/O weighted by the number of accesses, where
+	 * dirty entries require a write and read, but clean entries only a read.
+	 * 
+	 * @param bbuff byte buffer
+	 * @return score (cost per byte)
+	 */
+	protected static double getScore(ByteBuffer bbuff) {
+		if( bbuff == null )
+			return 0;
+		double cost = (1 + bbuff.getNumAccesses()) * (bbuff.isClean() ? 1 : 2);
+		return cost / Math.max(bbuff.getSize(), 1);
+	}
 }
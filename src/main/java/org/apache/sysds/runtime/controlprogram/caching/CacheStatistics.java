@@ -64,6 +64,24 @@ public class CacheStatistics
 	private static final LongAdder _numWritesHDFS   = new LongAdder();
 	private static final LongAdder _numWritesLin    = new LongAdder();
 	
+	//page cache statistics
+	private static final LongAdder _numPageHits     = new LongAdder();
+	private static final LongAdder _numPageMisses   = new LongAdder();
+	private static final LongAdder _numPageDrops    = new LongAdder();
+	
+	//eviction statistics
+	private static final LongAdder _numCleanDrops   = new LongAdder();
+	private static final LongAdder _numSpillBytes   = new LongAdder();
+	
+	//spill compression statistics
+	private static final LongAdder _numSpillCompWrites = new LongAdder();
+	private static final LongAdder _numSpillRawWrites  = new LongAdder();
+	private static final LongAdder _numSpillCompRaw    = new LongAdder();
+	private static final LongAdder _numSpillCompBytes  = new LongAdder();
+	
+	//read-ahead statistics
+	private static final LongAdder _numReadAheads   = new LongAdder();
+	
 	//time statistics caching
 	private static final LongAdder _ctimeAcquireR   = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeAcquireM   = new LongAdder(); //in nano sec
@@ -82,6 +100,17 @@ public class CacheStatistics
 		_numWritesHDFS.reset();
 		_numWritesLin.reset();
 		
+		_numPageHits.reset();
+		_numPageMisses.reset();
+		_numPageDrops.reset();
+		_numReadAheads.reset();
+		_numCleanDrops.reset();
+		_numSpillBytes.reset();
+		_numSpillCompWrites.reset();
+		_numSpillRawWrites.reset();
+		_numSpillCompRaw.reset();
+		_numSpillCompBytes.reset();
+		
 		_ctimeAcquireR.reset();
 		_ctimeAcquireM.reset();
 		_ctimeRelease.reset();
@@ -196,6 +225,72 @@ public class CacheStatistics
 		return _numWritesLin.longValue();
 	}
 	
+	public static void incrementPageHits() {
+		_numPageHits.increment();
+	}
+	
+	public static long getPageHits() {
+		return _numPageHits.longValue();
+	}
+	
+	public static void incrementPageMisses() {
+		_numPageMisses.increment();
+	}
+	
+	public static long getPageMisses() {
+		return _numPageMisses.longValue();
+	}
+	
+	public static void incrementPageDrops() {
+		_numPageDrops.increment();
+	}
+	
+	public static long getPageDrops() {
+		return _numPageDrops.longValue();
+	}
+	
+	public static void incrementCleanDrops() {
+		_numCleanDrops.increment();
+	}
+	
+	public static long getCleanDrops() {
+		return _numCleanDrops.longValue();
+	}
+	
+	public static void incrementSpillBytes(long delta) {
+		_numSpillBytes.add(delta);
+	}
+	
+	public static long getSpillBytes() {
+		return _numSpillBytes.longValue();
+	}
+	
+	public static void incrementSpillCompWrites(long rawBytes, long compBytes) {
+		_numSpillCompWrites.increment();
+		_numSpillCompRaw.add(rawBytes);
+		_numSpillCompBytes.add(compBytes);
+	}
+	
+	public static long getSpillCompWrites() {
+		return _numSpillCompWrites.longValue();
+	}
+	
+	public static void incrementSpillRawWrites() {
+		_numSpillRawWrites.increment();
+	}
+	
+	public static long getSpillRawWrites() {
+		return _numSpillRawWrites.longValue();
+	}
+	
+	public static void incrementReadAheads() {
+		_numReadAheads.increment();
+	}
+	
+	public static long getReadAheads() {
+		return _numReadAheads.longValue();
+	}
+	
 	public static void incrementAcquireRTime(long delta) {
 		_ctimeAcquireR.add(delta);
 	}
@@ -256,6 +351,40 @@ public class CacheStatistics
 		return sb.toString();
 	}
 	
+	public static String displayPages() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numPageHits.longValue());
+		sb.append("/");
+		sb.append(_numPageMisses.longValue());
+		sb.append("/");
+		sb.append(_numPageDrops.longValue());
+		
+		return sb.toString();
+	}
+	
+	public static String displayEvictions() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(CacheableData.getBufferPolicy().name().toLowerCase());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_numSpillBytes.longValue())/(1024*1024))); //in MB
+		sb.append("/");
+		sb.append(_numCleanDrops.longValue());
+		
+		return sb.toString();
+	}
+	
+	public static String displaySpillCompression() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numSpillCompWrites.longValue());
+		sb.append("/");
+		sb.append(_numSpillRawWrites.longValue());
+		sb.append("/");
+		long comp = _numSpillCompBytes.longValue();
+		sb.append(String.format("%.2f", (comp > 0) ? (double)_numSpillCompRaw.longValue() / comp : 1d));
+		
+		return sb.toString();
+	}
+	
 	public static String displayTime() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("%.3f", ((double)_ctimeAcquireR.longValue())/1000000000)); //in sec
@@ -61,6 +61,7 @@ import org.apache.sysds.runtime.meta.MetaDataFormat;
 import org.apache.sysds.runtime.util.HDFSTool;
 import org.apache.sysds.runtime.util.LocalFileUtils;
 import org.apache.sysds.utils.Statistics;
+import org.apache.sysds.utils.stats.JFREvents;
 
 
 /**
@@ -83,13 +84,12 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 	// global constant configuration parameters
 	public static final long CACHING_THRESHOLD = (long)Math.max(4*1024, //obj not s.t. caching
 		1e-5 * InfrastructureAnalyzer.getLocalMaxMemory());       //if below threshold [in bytes]
-	public static final RPolicy CACHING_BUFFER_POLICY = RPolicy.FIFO;
-	public static final boolean CACHING_BUFFER_PAGECACHE = false;
 	public static final boolean CACHING_WRITE_CACHE_ON_READ = false;
 	public static final String  CACHING_COUNTER_GROUP_NAME = "SystemDS Caching Counters";
 	public static final String  CACHING_EVICTION_FILEEXTENSION = ".dat";
 	public static final boolean CACHING_ASYNC_FILECLEANUP = true;
 	public static final boolean CACHING_ASYNC_SERIALIZE = false;
+	public static final long    CACHING_OFFHEAP_THRESHOLD = 1024*1024; //min dense size for off-heap buffering
 	
 	//NOTE CACHING_ASYNC_SERIALIZE:
 	// The serialization of matrices and frames (ultra-sparse matrices or 
@@ -126,6 +126,10 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 	
 	/** Global flag indicating if caching is enabled (controls eviction) */
 	private static volatile boolean _activeFlag = false;
+	private static volatile boolean _offHeapFlag = false;
+	private static volatile boolean _mmapFlag = false;
+	private static volatile int _readAheadWindow = 0;
+	private static volatile RPolicy _bufferPolicy = RPolicy.FIFO;
 	
 	/** Global sequence for generating unique ids. */
 	private static IDSequence _seq = null;
@@ -726,10 +730,11 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 				String filePath = getCacheFilePathAndName();
 				try {
 					//write into the buffer pool
+					String pfname = hasValidPersistentCopy() ? _hdfsFileName : null;
 					if (OptimizerUtils.isUMMEnabled())
-						UnifiedMemoryManager.writeBlock(filePath, _data);
+						UnifiedMemoryManager.writeBlock(filePath, _data, pfname);
 					else
-						LazyWriteBuffer.writeBlock(filePath, _data);
+						LazyWriteBuffer.writeBlock(filePath, _data, pfname);
 				}
 				catch (Exception e) {
 					throw new DMLRuntimeException("Eviction to local path " + filePath + " ("+hashCode()+") failed.", e);
@@ -916,8 +921,16 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 			try {
 				writeMetaData( fName, outputFormat, formatProperties );
 				writeBlobToHDFS( fName, outputFormat, replication, formatProperties );
-				if ( !pWrite )
+				if ( !pWrite ) {
 					setDirty(false);
+					//buffer pool entry can be dropped on eviction
+					if( hasValidPersistentCopy() ) {
+						if( OptimizerUtils.isUMMEnabled() )
+							UnifiedMemoryManager.setClean(getCacheFilePathAndName(), _hdfsFileName);
+						else
+							LazyWriteBuffer.setClean(getCacheFilePathAndName(), _hdfsFileName);
+					}
+				}
 			}
 			catch (Exception e) {
 				throw new DMLRuntimeException("Export to " + fName + " failed.", e);
@@ -1006,16 +1019,31 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		if (_data != null)
 			throw new DMLRuntimeException(cacheFilePathAndName + " : Cannot restore on top of existing in-memory data.");
 
+		JFREvents.BufferPoolEvent jfr = JFREvents.beginBufferPool();
+		//clean buffer pool entries are dropped w/o local write
+		ByteBuffer dropped = OptimizerUtils.isUMMEnabled() ?
+			UnifiedMemoryManager.removeDropped(cacheFilePathAndName) :
+			LazyWriteBuffer.removeDropped(cacheFilePathAndName);
+		if( dropped != null && !dropped.hasUnmodifiedPersistentCopy() )
+			throw new DMLRuntimeException(cacheFilePathAndName + " : Restore failed, persistent copy "
+				+ _hdfsFileName + " was modified after eviction.");
 		try {
-			_data = readBlobFromCache(cacheFilePathAndName);
+			if( dropped != null ) {
+				_data = readBlobFromHDFS(_hdfsFileName);
+				if( DMLScript.STATISTICS )
+					CacheStatistics.incrementHDFSHits();
+			}
+			else
+				_data = readBlobFromCache(cacheFilePathAndName);
 		}
 		catch (IOException e) {
-			throw new DMLRuntimeException(cacheFilePathAndName + " : Restore failed.", e);	
+			throw new DMLRuntimeException(cacheFilePathAndName + " : Restore failed.", e);
 		}
 		
 		//check for success
 		if (_data == null)
 			throw new DMLRuntimeException (cacheFilePathAndName + " : Restore failed.");
+		JFREvents.commitBufferPool(jfr, "restore", cacheFilePathAndName, _data.getInMemorySize());
 		
 		if( LOG.isTraceEnabled() )
 			LOG.trace("Restoring matrix - COMPLETED ... " + (System.currentTimeMillis()-begin) + " msec.");
@@ -1024,6 +1052,17 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 	protected abstract T readBlobFromCache(String fname)
 		throws IOException;
 	
+	/**
+	 * Indicates if the in-memory data equals an existing persistent copy
+	 * that can be read back instead of a local buffer pool file.
+	 * 
+	 * @return true if valid persistent copy exists
+	 */
+	protected boolean hasValidPersistentCopy() {
+		return _hdfsFileName != null && isHDFSFileExists() && !isDirty()
+			&& getRDDHandle() == null && !isFederated();
+	}
+	
 	/**
 	 * Low-level cache I/O method that deletes the file containing the
 	 * evicted data blob, without reading it.
@@ -1276,6 +1315,18 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		return (_cacheStatus == CacheStatus.MODIFY);
 	}
 	
+	/**
+	 * Indicates if the cache block is neither pinned nor in memory (incl the
+	 * soft reference cache), i.e., needs to be restored from the buffer pool
+	 * or local file system on the next acquire.
+	 * 
+	 * @return true if evicted
+	 */
+	public boolean isEvicted() {
+		return isCached(false) && _data == null
+			&& (_cache == null || _cache.get() == null);
+	}
+	
 	public boolean isPendingRDDOps() {
 		return isEmpty(true) && _data == null && (_rddHandle != null && _rddHandle.hasBackReference());
 	}
@@ -1452,6 +1503,9 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 			throw new IOException(e);
 		}
 	
+		//eviction policy required by buffer pool init
+		_bufferPolicy = ConfigurationManager.getBufferPoolPolicy();
+		
 		if (OptimizerUtils.isUMMEnabled())
 			//init unified memory manager
 			UnifiedMemoryManager.init();
@@ -1460,6 +1514,13 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 			LazyWriteBuffer.init();
 
 		_refBCs.set(0);
+		_offHeapFlag = ConfigurationManager.isOffHeapCachingEnabled();
+		//separate limit for direct memory (by default, max direct memory equals max heap)
+		OffHeapDenseBlock.init(_offHeapFlag ? OptimizerUtils.getBufferPoolLimit() : 0);
+		_mmapFlag = ConfigurationManager.isMMapEvictionEnabled();
+		//mapped eviction requires the raw serialized layout
+		SpillCompression.init(_mmapFlag ? "none" : ConfigurationManager.getSpillCompression());
+		_readAheadWindow = Math.max(ConfigurationManager.getReadAheadWindow(), 0);
 		_activeFlag = true; //turn on caching
 	}
 
@@ -1467,6 +1528,22 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		return _activeFlag;
 	}
 	
+	public static boolean isOffHeapCachingActive() {
+		return _offHeapFlag;
+	}
+	
+	public static boolean isMMapEvictionActive() {
+		return _mmapFlag;
+	}
+	
+	public static int getReadAheadWindow() {
+		return _readAheadWindow;
+	}
+	
+	public static RPolicy getBufferPolicy() {
+		return _bufferPolicy;
+	}
+	
 	public static void disableCaching() {
 		_activeFlag = false;
 	}
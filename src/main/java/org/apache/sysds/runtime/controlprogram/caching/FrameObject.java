@@ -201,7 +201,7 @@ public class FrameObject extends CacheableData<FrameBlock>
 			.createFrameReader(iimd.getFileFormat(), getFileFormatProperties())
 			.readFrameFromHDFS(fname, lschema, dc.getRows(), dc.getCols());
 
-		if(iimd.getFileFormat() == FileFormat.CSV)
+		if(iimd.getFileFormat() == FileFormat.CSV || iimd.getFileFormat().isColumnarFormat())
 			_metaData = _metaData instanceof MetaDataFormat ? new MetaDataFormat(data.getDataCharacteristics(),
 				iimd.getFileFormat()) : new MetaData(data.getDataCharacteristics());
 
@@ -33,8 +33,10 @@ public class LazyWriteBuffer {
 	protected static final Log LOG = LogFactory.getLog(LazyWriteBuffer.class.getName());
 
 	public enum RPolicy {
-		FIFO, //first-in, first-out eviction
-		LRU   //least recently used eviction
+		FIFO,      //first-in, first-out eviction
+		LRU,       //least recently used eviction
+		COSTNSIZE, //lowest restore cost per byte (access-weighted)
+		CLEANFIRST //entries w/ persistent copy first, then FIFO/LRU
 	}
 	
 	//global size limit in bytes
@@ -52,6 +54,12 @@ public class LazyWriteBuffer {
 	
 	public static int writeBlock(String fname, CacheBlock<?> cb)
 		throws IOException
+	{
+		return writeBlock(fname, cb, null);
+	}
+	
+	public static int writeBlock(String fname, CacheBlock<?> cb, String pfname)
+		throws IOException
 	{
 		//obtain basic meta data of cache block
 		//(size refers to potentially compact converted shallow-serialize
@@ -67,6 +75,7 @@ public class LazyWriteBuffer {
 		if(!requiresWrite) {
 			//create byte buffer handle (no block allocation yet)
 			ByteBuffer bbuff = new ByteBuffer( lSize );
+			bbuff.setClean(pfname);
 			
 			// modify buffer pool
 			synchronized(_mQueue) {
@@ -88,7 +97,8 @@ public class LazyWriteBuffer {
 		}
 		else {
 			//write directly to local FS (bypass buffer if too large)
-			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+			LocalFileUtils.writeCacheBlockToLocal(fname, cb,
+				CacheableData.isMMapEvictionActive());
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSWrites();
 			
@@ -111,7 +121,7 @@ public class LazyWriteBuffer {
 				tmp.checkSerialized();
 
 				// evict matrix
-				tmp.evictBuffer(ftmp);
+				_mQueue.evictBuffer(ftmp, tmp);
 				tmp.freeMemory();
 				_size -= tmp.getSize();
 				numEvicted++;
@@ -120,6 +130,36 @@ public class LazyWriteBuffer {
 		return numEvicted;
 	}
 
+	/**
+	 * Marks the buffer pool entry of the given file (if existing) as clean,
+	 * i.e., it has a valid persistent copy and can be dropped on eviction.
+	 * 
+	 * @param fname file name
+	 * @param pfname file name of the persistent copy
+	 */
+	public static void setClean(String fname, String pfname) {
+		ByteBuffer ldata = null;
+		synchronized( _mQueue ) {
+			ldata = _mQueue.get(fname);
+		}
+		//capture the persistent copy outside the critical path
+		if( ldata != null )
+			ldata.setClean(pfname);
+	}
+
+	/**
+	 * Removes the handle of the given file (if existing), whose buffer was
+	 * dropped on eviction without write to local disk.
+	 * 
+	 * @param fname file name
+	 * @return dropped byte buffer, or null if not dropped
+	 */
+	public static ByteBuffer removeDropped(String fname) {
+		synchronized( _mQueue ) {
+			return _mQueue.removeDropped(fname);
+		}
+	}
+
 	public static void deleteBlock(String fname)
 	{
 		boolean requiresDelete = true;
@@ -133,6 +173,9 @@ public class LazyWriteBuffer {
 				requiresDelete = false;
 				ldata.freeMemory(); //cleanup
 			}
+			//dropped entries have no local file
+			else if( _mQueue.removeDropped(fname) != null )
+				requiresDelete = false;
 		}
 		
 		//delete from FS if required
@@ -151,8 +194,11 @@ public class LazyWriteBuffer {
 		{
 			ldata = _mQueue.get(fname);
 			
+			if( ldata != null )
+				ldata.incrementAccesses();
+			
 			//modify eviction order (accordingly to access)
-			if(CacheableData.CACHING_BUFFER_POLICY == RPolicy.LRU
+			if(CacheableData.getBufferPolicy() != RPolicy.FIFO
 				&& ldata != null )
 			{
 				//reinsert entry at end of eviction queue
@@ -165,12 +211,17 @@ public class LazyWriteBuffer {
 		if( ldata != null )
 		{
 			cb = ldata.deserializeBlock();
+			//buffers might have been evicted and freed concurrently
+			if( cb == null )
+				cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix,
+				CacheableData.isMMapEvictionActive());
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSBuffHits();
 		}
 		else
 		{
-			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
+			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix,
+				CacheableData.isMMapEvictionActive());
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSHits();
 		}
@@ -179,12 +230,15 @@ public class LazyWriteBuffer {
 	}
 
 	public static void init() {
-		_mQueue = new CacheEvictionQueue();
+		_mQueue = new CacheEvictionQueue(CacheableData.getBufferPolicy());
 		_fClean = new CacheMaintenanceService();
 		_limit = OptimizerUtils.getBufferPoolLimit();
 		_size = 0;
-		if( CacheableData.CACHING_BUFFER_PAGECACHE )
-			PageCache.init();
+		long pageCacheLimit = OptimizerUtils.getPageCacheLimit();
+		if( pageCacheLimit > 0 )
+			PageCache.init(pageCacheLimit);
+		else
+			PageCache.clear();
 	}
 
 	public static void cleanup() {
@@ -192,8 +246,7 @@ public class LazyWriteBuffer {
 			_mQueue.clear();
 		if( _fClean != null )
 			_fClean.close();
-		if( CacheableData.CACHING_BUFFER_PAGECACHE )
-			PageCache.clear();
+		PageCache.clear();
 	}
 
 	public static long getWriteBufferLimit() {
@@ -248,7 +301,7 @@ public class LazyWriteBuffer {
 				String fname = entry.getKey();
 				ByteBuffer bbuff = entry.getValue();
 				System.out.println("\tWB: buffer element ("+count+"): "
-					+fname+", "+(bbuff.isShallow()?bbuff._cdata.getClass().getSimpleName():"?")
+					+fname+", "+(bbuff.isOffHeap()?"OffHeap":bbuff.isShallow()?bbuff._cdata.getClass().getSimpleName():"?")
 					+", "+bbuff.getSize()+", "+bbuff.isShallow());
 				count--;
 			}
@@ -276,7 +329,7 @@ public class LazyWriteBuffer {
 				tmp.checkSerialized();
 				
 				//evict matrix
-				tmp.evictBuffer(entry.getKey());
+				_mQueue.evictBuffer(entry.getKey(), tmp);
 				tmp.freeMemory();
 			}
 		}
@@ -45,6 +45,7 @@ import org.apache.sysds.runtime.controlprogram.federated.FederationUtils;
 import org.apache.sysds.runtime.instructions.fed.InitFEDInstruction;
 import org.apache.sysds.runtime.instructions.spark.data.RDDObject;
 import org.apache.sysds.runtime.io.FileFormatProperties;
+import org.apache.sysds.runtime.io.ReadProperties;
 import org.apache.sysds.runtime.io.ReaderWriterFederated;
 import org.apache.sysds.runtime.lineage.LineageItem;
 import org.apache.sysds.runtime.lineage.LineageRecomputeUtils;
@@ -357,6 +358,62 @@ public class MatrixObject extends CacheableData<MatrixBlock> {
 		return mb;
 	}
 
+	/**
+	 * Indicates if an index range can be read directly from the input file, which requires a
+	 * matrix that was not yet read into memory (and is not dirty, federated or backed by an RDD)
+	 * and a file with known dimensions.
+	 * 
+	 * @return true if index range reads via {@link #readMatrixRange(IndexRange)} are applicable
+	 */
+	public synchronized boolean isIndexRangeReadable() {
+		return isEmpty(false) && _data == null && !isDirty() && !isFederated()
+			&& getRDDHandle() == null && !isDeviceToHostCopy()
+			&& _metaData instanceof MetaDataFormat && _metaData.getDataCharacteristics().dimsKnown()
+			&& ((MetaDataFormat) _metaData).getFileFormat() != FileFormat.FEDERATED
+			&& HDFSTool.existsFileOnHDFS(_hdfsFileName);
+	}
+
+	/**
+	 * Reads the given index range directly from the input file (index range pushdown into
+	 * the matrix readers), without reading the entire matrix into the buffer pool. Readers
+	 * without pushdown support read the entire matrix and slice the index range.
+	 * 
+	 * @param pred index range (0-based, inclusive)
+	 * @return matrix block of the index range
+	 */
+	public synchronized MatrixBlock readMatrixRange(IndexRange pred) {
+		if(LOG.isTraceEnabled())
+			LOG.trace("Read index range " + hashCode() + " " + pred);
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+
+		MetaDataFormat iimd = (MetaDataFormat) _metaData;
+		DataCharacteristics mc = iimd.getDataCharacteristics();
+		ReadProperties prop = new ReadProperties();
+		prop.path = _hdfsFileName;
+		prop.fmt = iimd.getFileFormat();
+		prop.rlen = mc.getRows();
+		prop.clen = mc.getCols();
+		prop.blen = mc.getBlocksize() <= 0 ? ConfigurationManager.getBlocksize() : mc.getBlocksize();
+		prop.expectedNnz = mc.getNonZeros();
+		prop.formatProperties = getFileFormatProperties();
+		prop.indexRange = pred;
+
+		MatrixBlock mb = null;
+		try {
+			mb = DataConverter.readMatrixFromHDFS(prop);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to read index range " + pred + " of " + _hdfsFileName, ex);
+		}
+
+		if(DMLScript.STATISTICS) {
+			CacheStatistics.incrementHDFSHits();
+			CacheStatistics.incrementAcquireRTime(System.nanoTime() - t0);
+		}
+
+		return mb;
+	}
+
 	public String getPartitionFileName(IndexRange pred, int blen) {
 		if(!_partitioned)
 			throw new DMLRuntimeException("MatrixObject not available to indexed read.");
@@ -445,7 +502,7 @@ public class MatrixObject extends CacheableData<MatrixBlock> {
 		MatrixBlock newData = isFederated() ? acquireReadAndRelease() : DataConverter.readMatrixFromHDFS(fname,
 			iimd.getFileFormat(), rlen, clen, blen, mc.getNonZeros(), getFileFormatProperties());
 
-		if(iimd.getFileFormat() == FileFormat.CSV) {
+		if(iimd.getFileFormat() == FileFormat.CSV || iimd.getFileFormat().isColumnarFormat()) {
 			_metaData = _metaData instanceof MetaDataFormat ? new MetaDataFormat(newData.getDataCharacteristics(),
 				iimd.getFileFormat()) : new MetaData(newData.getDataCharacteristics());
 		}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.caching;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Off-heap storage of a dense FP64 matrix while it resides unpinned in the buffer pool. Similar to the large dense
+ * row blocks, the values are split into direct byte buffers of complete rows, where each buffer is limited to 2GB.
+ * <p>
+ * This class is internal to the buffer pool and intentionally not a {@link DenseBlock}, because matrix kernels
+ * require on-heap arrays: values are copied in via {@link #set(DenseBlock)} on release and copied back via
+ * {@link #copyTo(DenseBlock)} on acquire. The values are stored in big-endian order, which makes the raw content
+ * identical to the serialized dense block format and allows zero-copy eviction through file channels.
+ * <p>
+ * The allocated native memory is tracked against a separate off-heap limit (independent of the heap-based buffer
+ * pool limit). Blocks are only created if they fit into this limit, and are released explicitly via {@link #free()}.
+ */
+public class OffHeapDenseBlock
+{
+	// max number of doubles per direct byte buffer
+	public static final int MAX_BLOCK_CELLS = (Integer.MAX_VALUE - 8) / Double.BYTES;
+
+	private static final AtomicLong _size = new AtomicLong(0);
+	private static volatile long _limit = 0;
+
+	private final int _rlen;
+	private final int _clen;
+	private final int _blen; //rows per buffer
+	private final long _bytes;
+	private ByteBuffer[] _buffers;
+	private DoubleBuffer[] _blocks;
+
+	private OffHeapDenseBlock(int rlen, int clen, long bytes) {
+		_rlen = rlen;
+		_clen = clen;
+		_blen = Math.max(Math.min(rlen, MAX_BLOCK_CELLS / Math.max(clen, 1)), 1);
+		_bytes = bytes;
+		int numBlocks = Math.max(UtilFunctions.toInt(Math.ceil((double) rlen / _blen)), 1);
+		_buffers = new ByteBuffer[numBlocks];
+		_blocks = new DoubleBuffer[numBlocks];
+		// newly allocated direct buffers are already zero-initialized
+		for( int i = 0; i < numBlocks; i++ ) {
+			int len = Math.min(_blen, rlen - i * _blen) * clen;
+			_buffers[i] = ByteBuffer.allocateDirect(len * Double.BYTES).order(ByteOrder.BIG_ENDIAN);
+			_blocks[i] = _buffers[i].asDoubleBuffer();
+		}
+	}
+
+	/**
+	 * Initializes the off-heap limit. The tracked off-heap size is not reset,
+	 * because it refers to blocks that are still allocated.
+	 *
+	 * @param limit max number of bytes of allocated off-heap blocks
+	 */
+	public static void init(long limit) {
+		_limit = limit;
+	}
+
+	/**
+	 * Returns the number of bytes currently allocated by off-heap blocks.
+	 *
+	 * @return size in bytes
+	 */
+	public static long getSize() {
+		return _size.get();
+	}
+
+	/**
+	 * Returns the max number of bytes of allocated off-heap blocks.
+	 *
+	 * @return limit in bytes
+	 */
+	public static long getLimit() {
+		return _limit;
+	}
+
+	/**
+	 * Allocates an off-heap block of the given dimensions, if it fits into
+	 * the remaining off-heap limit.
+	 *
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @return off-heap block, or null if the off-heap limit would be exceeded
+	 */
+	public static OffHeapDenseBlock allocate(int rlen, int clen) {
+		long bytes = estimateOffHeapMemory(rlen, clen);
+		//reserve memory before allocation
+		if( _size.addAndGet(bytes) > _limit ) {
+			_size.addAndGet(-bytes);
+			return null;
+		}
+		try {
+			return new OffHeapDenseBlock(rlen, clen, bytes);
+		}
+		catch(OutOfMemoryError ex) {
+			//direct memory exhausted (e.g., -XX:MaxDirectMemorySize below limit)
+			_size.addAndGet(-bytes);
+			return null;
+		}
+	}
+
+	/**
+	 * Estimates the size of the off-heap memory in bytes.
+	 *
+	 * @param nrows number of rows
+	 * @param ncols number of columns
+	 * @return size in bytes
+	 */
+	public static long estimateOffHeapMemory(long nrows, long ncols) {
+		return nrows * ncols * Double.BYTES;
+	}
+
+	/**
+	 * Releases the off-heap memory of this block. Afterwards, the block must not be used anymore.
+	 */
+	public synchronized void free() {
+		if( _buffers == null )
+			return;
+		for( ByteBuffer buff : _buffers )
+			IOUtilFunctions.freeDirectBuffer(buff);
+		_buffers = null;
+		_blocks = null;
+		_size.addAndGet(-_bytes);
+	}
+
+	/**
+	 * Indicates if the off-heap memory of this block is still allocated.
+	 *
+	 * @return true if allocated
+	 */
+	public boolean isAllocated() {
+		return _blocks != null;
+	}
+
+	public int getNumRows() {
+		return _rlen;
+	}
+
+	public int getNumColumns() {
+		return _clen;
+	}
+
+	public double get(int r, int c) {
+		return _blocks[r / _blen].get(pos(r) + c);
+	}
+
+	public void set(int r, int c, double v) {
+		_blocks[r / _blen].put(pos(r) + c, v);
+	}
+
+	/**
+	 * Copies the values of the given on-heap dense block of equal dimensions into this off-heap block.
+	 *
+	 * @param db on-heap dense block
+	 * @return this off-heap block
+	 */
+	public OffHeapDenseBlock set(DenseBlock db) {
+		// bulk copy of rows, robust against different row blockings
+		for( int i = 0; i < _rlen; i++ )
+			_blocks[i / _blen].duplicate().position(pos(i)).put(db.values(i), db.pos(i), _clen);
+		return this;
+	}
+
+	/**
+	 * Copies the values of this off-heap block into the given on-heap dense block of equal dimensions.
+	 *
+	 * @param db on-heap dense block
+	 * @return the given dense block
+	 */
+	public DenseBlock copyTo(DenseBlock db) {
+		for( int i = 0; i < _rlen; i++ )
+			_blocks[i / _blen].duplicate().position(pos(i)).get(db.values(i), db.pos(i), _clen);
+		return db;
+	}
+
+	/**
+	 * Writes the raw (big-endian) values of all blocks to the given channel, without on-heap copies.
+	 *
+	 * @param channel output channel
+	 * @throws IOException if IOException occurs
+	 */
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		for( ByteBuffer b : _buffers ) {
+			ByteBuffer buff = b.duplicate();
+			buff.position(0);
+			while( buff.hasRemaining() )
+				channel.write(buff);
+		}
+	}
+
+	private int pos(int r) {
+		return (r % _blen) * _clen;
+	}
+}
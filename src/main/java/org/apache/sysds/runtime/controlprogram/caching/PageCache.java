@@ -19,49 +19,119 @@
 
 package org.apache.sysds.runtime.controlprogram.caching;
 
-import java.lang.ref.SoftReference;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.sysds.api.DMLScript;
+
+/**
+ * Thread-safe pool of byte arrays for reuse across buffer pool serialization,
+ * eviction threads, and readers. Pages are organized in power-of-two size
+ * classes, where class k holds arrays of length [2^k, 2^(k+1)), with a lock-free
+ * free list per class. The total size of pooled pages is bounded by a hard byte
+ * budget; pages beyond this budget are dropped and left to garbage collection.
+ */
 public class PageCache 
 {
-	private static final int CLEANUP_THRESHOLD = 128;
-	private static HashMap<Integer, LinkedList<SoftReference<byte[]>>> _pool;
+	private static final int NUM_CLASSES = 32;
+	
+	private static volatile ConcurrentLinkedDeque<byte[]>[] _pool;
+	private static final AtomicLong _size = new AtomicLong(0);
+	private static long _limit = 0;
 
-	public static void init() {
-		_pool = new HashMap<>();
+	/**
+	 * Initializes the page cache with the given budget.
+	 * 
+	 * @param limit max number of bytes of pooled pages
+	 */
+	@SuppressWarnings("unchecked")
+	public static void init(long limit) {
+		ConcurrentLinkedDeque<byte[]>[] pool = new ConcurrentLinkedDeque[NUM_CLASSES];
+		for( int i=0; i<NUM_CLASSES; i++ )
+			pool[i] = new ConcurrentLinkedDeque<>();
+		_size.set(0);
+		_limit = limit;
+		_pool = pool;
 	}
 
-	public static void clear()
-	{
+	public static void clear() {
 		_pool = null;
+		_size.set(0);
+	}
+
+	public static boolean isActive() {
+		return _pool != null;
+	}
+
+	/**
+	 * Returns the number of bytes currently held by pooled pages.
+	 * 
+	 * @return size in bytes
+	 */
+	public static long getSize() {
+		return _size.get();
 	}
 
-	public static void putPage( byte[] data )
+	/**
+	 * Returns a page to the cache for later reuse. The page is dropped
+	 * if the cache is not initialized or its budget would be exceeded.
+	 * 
+	 * @param data page
+	 * @return true if the page was pooled
+	 */
+	public static boolean putPage( byte[] data )
 	{
-		//cleanup if too many different size lists
-		if( _pool.size()>CLEANUP_THRESHOLD )
-			_pool.clear();
+		ConcurrentLinkedDeque<byte[]>[] pool = _pool;
+		if( pool == null || data == null || data.length == 0 )
+			return false;
 		
-		LinkedList<SoftReference<byte[]>> list = _pool.get( data.length );
-		if( list==null ){
-			list = new LinkedList<>();
-			_pool.put(data.length, list);
+		//reserve budget before publishing the page
+		if( _size.addAndGet(data.length) > _limit ) {
+			_size.addAndGet(-data.length);
+			if( DMLScript.STATISTICS )
+				CacheStatistics.incrementPageDrops();
+			return false;
 		}
-		list.addLast(new SoftReference<>(data));	
+		pool[floorClass(data.length)].addFirst(data);
+		return true;
 	}
 
+	/**
+	 * Obtains a page of at least the given size from the cache. Note that
+	 * the returned page might be larger than the requested size.
+	 * 
+	 * @param size min size in bytes
+	 * @return page, or null if there is no matching page
+	 */
 	public static byte[] getPage( int size )
 	{
-		LinkedList<SoftReference<byte[]>> list = _pool.get( size );
-		if( list!=null ) {
-			while( !list.isEmpty() ){
-				SoftReference<byte[]> ref = list.removeFirst();
-				byte[] tmp = ref.get();
-				if( tmp!=null )
-					return tmp;
-			}
+		ConcurrentLinkedDeque<byte[]>[] pool = _pool;
+		if( pool == null || size <= 0 )
+			return null;
+		
+		//probe the size class of the request (pages might be too small), 
+		//and the next larger class (all pages are large enough)
+		int k = floorClass(size);
+		byte[] ret = pool[k].pollFirst();
+		if( ret != null && ret.length < size ) {
+			pool[k].addLast(ret);
+			ret = null;
+		}
+		if( ret == null && k+1 < NUM_CLASSES )
+			ret = pool[k+1].pollFirst();
+		
+		if( ret != null )
+			_size.addAndGet(-ret.length);
+		if( DMLScript.STATISTICS ) {
+			if( ret != null )
+				CacheStatistics.incrementPageHits();
+			else
+				CacheStatistics.incrementPageMisses();
 		}
-		return null;
+		return ret;
+	}
+
+	private static int floorClass(int len) {
+		return 31 - Integer.numberOfLeadingZeros(len);
 	}
 }
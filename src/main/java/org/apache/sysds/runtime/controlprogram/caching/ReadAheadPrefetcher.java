@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.caching;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.parser.StatementBlock;
+import org.apache.sysds.runtime.controlprogram.BasicProgramBlock;
+import org.apache.sysds.runtime.controlprogram.ProgramBlock;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.instructions.cp.BuiltinNaryCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.instructions.cp.ComputationCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.Data;
+import org.apache.sysds.runtime.instructions.cp.FunctionCallCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.MultiReturnBuiltinCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.MultiReturnComplexMatrixBuiltinCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.MultiReturnParameterizedBuiltinCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.TriggerPrefetchTask;
+import org.apache.sysds.runtime.instructions.cp.VariableCPInstruction;
+
+/**
+ * Look-ahead prefetcher for local buffer pool evictions. While executing an
+ * instruction, the inputs of upcoming instructions (within a configured window,
+ * see sysds.caching.readahead) that are currently evicted are restored in the
+ * background via the caching utility thread pool, which overlaps restore I/O
+ * and deserialization with compute. Since the inputs are resolved against the
+ * current symbol table, variables written by instructions before the upcoming
+ * instruction (or by the currently executing program block) are skipped.
+ */
+public class ReadAheadPrefetcher
+{
+	/**
+	 * Triggers read-ahead for the inputs of the instructions in the given range,
+	 * excluding variables written by preceding instructions of this range.
+	 * 
+	 * @param inst list of instructions
+	 * @param from first instruction (inclusive)
+	 * @param to last instruction (exclusive)
+	 * @param ec execution context
+	 */
+	public static void trigger(List<Instruction> inst, int from, int to, ExecutionContext ec) {
+		trigger(inst, from, to, new HashSet<>(), ec);
+	}
+	
+	/**
+	 * Triggers read-ahead for the inputs of the upcoming instruction, excluding
+	 * variables written by the instructions from the current instruction (inclusive)
+	 * to the upcoming instruction (exclusive).
+	 * 
+	 * @param inst list of instructions
+	 * @param cur current instruction
+	 * @param next upcoming instruction
+	 * @param ec execution context
+	 */
+	public static void triggerNext(List<Instruction> inst, int cur, int next, ExecutionContext ec) {
+		Set<String> written = new HashSet<>();
+		for( int i=cur; i<next; i++ )
+			if( !addWrittenVariables(inst.get(i), written) )
+				return; //unknown outputs
+		trigger(inst.get(next), written, ec);
+	}
+	
+	/**
+	 * Triggers read-ahead for the inputs of the first instructions (within the
+	 * read-ahead window) of the next program block, excluding variables updated
+	 * by the current program block.
+	 * 
+	 * @param cur current program block
+	 * @param next next program block
+	 * @param ec execution context
+	 */
+	public static void trigger(ProgramBlock cur, ProgramBlock next, ExecutionContext ec) {
+		StatementBlock sb = cur.getStatementBlock();
+		if( !(next instanceof BasicProgramBlock) || sb == null || sb.variablesUpdated() == null )
+			return;
+		trigger(((BasicProgramBlock)next).getInstructions(), 0, CacheableData.getReadAheadWindow(),
+			new HashSet<>(sb.variablesUpdated().getVariableNames()), ec);
+	}
+	
+	private static void trigger(List<Instruction> inst, int from, int to, Set<String> written, ExecutionContext ec) {
+		for( int i=from; i<Math.min(to, inst.size()); i++ ) {
+			trigger(inst.get(i), written, ec);
+			if( !addWrittenVariables(inst.get(i), written) )
+				return; //unknown outputs
+		}
+	}
+	
+	private static void trigger(Instruction inst, Set<String> written, ExecutionContext ec) {
+		CPOperand[] inputs = null;
+		if( inst instanceof ComputationCPInstruction )
+			inputs = ((ComputationCPInstruction)inst).getInputs();
+		else if( inst instanceof BuiltinNaryCPInstruction )
+			inputs = ((BuiltinNaryCPInstruction)inst).getInputs();
+		if( inputs == null )
+			return;
+		
+		for( CPOperand in : inputs ) {
+			if( in == null || !in.isMatrix() || in.isLiteral() || written.contains(in.getName()) )
+				continue;
+			Data dat = ec.getVariables().get(in.getName());
+			if( dat instanceof MatrixObject && ((MatrixObject)dat).isEvicted() ) {
+				ExecutorService pool = getThreadPool();
+				if( pool != null )
+					pool.submit(new TriggerPrefetchTask((MatrixObject)dat));
+			}
+		}
+	}
+	
+	/**
+	 * Adds the names of variables written (or rebound) by the given instruction.
+	 * 
+	 * @param inst instruction
+	 * @param ret set of written variable names
+	 * @return false if the written variables are unknown
+	 */
+	private static boolean addWrittenVariables(Instruction inst, Set<String> ret) {
+		if( inst instanceof VariableCPInstruction ) {
+			//createvar, rmvar, cpvar, mvvar etc (conservatively all operands)
+			VariableCPInstruction vinst = (VariableCPInstruction) inst;
+			for( CPOperand in : vinst.getInputs() )
+				if( in != null && !in.isLiteral() )
+					ret.add(in.getName());
+			if( vinst.getOutput() != null )
+				ret.add(vinst.getOutput().getName());
+		}
+		else if( inst instanceof MultiReturnBuiltinCPInstruction )
+			((MultiReturnBuiltinCPInstruction)inst).getOutputs().forEach(o -> ret.add(o.getName()));
+		else if( inst instanceof MultiReturnParameterizedBuiltinCPInstruction )
+			((MultiReturnParameterizedBuiltinCPInstruction)inst).getOutputs().forEach(o -> ret.add(o.getName()));
+		else if( inst instanceof MultiReturnComplexMatrixBuiltinCPInstruction )
+			((MultiReturnComplexMatrixBuiltinCPInstruction)inst).getOutputs().forEach(o -> ret.add(o.getName()));
+		else if( inst instanceof ComputationCPInstruction || inst instanceof BuiltinNaryCPInstruction ) {
+			CPOperand out = (inst instanceof ComputationCPInstruction) ?
+				((ComputationCPInstruction)inst).getOutput() : ((BuiltinNaryCPInstruction)inst).getOutput();
+			if( out == null )
+				return false;
+			ret.add(out.getName());
+		}
+		else if( inst instanceof FunctionCallCPInstruction )
+			ret.addAll(((FunctionCallCPInstruction)inst).getBoundOutputParamNames());
+		else
+			return false;
+		return true;
+	}
+	
+	private static ExecutorService getThreadPool() {
+		return OptimizerUtils.isUMMEnabled() ?
+			UnifiedMemoryManager.getUtilThreadPool() :
+			LazyWriteBuffer.getUtilThreadPool();
+	}
+}
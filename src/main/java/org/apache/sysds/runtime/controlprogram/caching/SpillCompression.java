@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.caching;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+import net.jpountz.lz4.LZ4BlockInputStream;
+import net.jpountz.lz4.LZ4BlockOutputStream;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Optional compression of buffer pool spill files. Compressed files start with
+ * a magic header (negative int, i.e., never the start of a serialized matrix or
+ * frame block) that encodes the codec, all other files are raw serialized blocks.
+ * 
+ * The codec is configured per block type and selected adaptively: every write
+ * records its time per uncompressed byte, and every PROBE_INTERVAL-th write uses
+ * the alternative (raw or compressed) in order to keep both measurements up to
+ * date. Compression is skipped whenever raw writes are faster, i.e., when the
+ * CPU instead of the local disk becomes the bottleneck.
+ */
+public class SpillCompression 
+{
+	public enum Codec {
+		NONE, //raw serialized block
+		LZ4,  //lz4 block stream (fast)
+		ZLIB; //deflate stream (best speed)
+	}
+	
+	private static final int MAGIC = 0xC5535000; //'S','P',codec
+	private static final int BLOCK_SIZE = 64 * 1024;
+	private static final int PROBE_INTERVAL = 16;
+	private static final double EWMA_ALPHA = 0.25;
+	
+	private static volatile Codec _matrixCodec = Codec.NONE;
+	private static volatile Codec _frameCodec = Codec.NONE;
+	private static final Monitor _matrixMonitor = new Monitor();
+	private static final Monitor _frameMonitor = new Monitor();
+
+	/**
+	 * Initializes the spill compression from a configuration string, which is
+	 * either a single codec for all block types (e.g., "lz4") or a list of
+	 * per-type codecs (e.g., "matrix:lz4,frame:zlib").
+	 * 
+	 * @param spec codec specification
+	 */
+	public static void init(String spec) {
+		Codec matrix = Codec.NONE, frame = Codec.NONE;
+		for( String part : spec.trim().split(",") ) {
+			String[] kv = part.trim().split(":");
+			if( kv.length == 1 )
+				matrix = frame = parseCodec(kv[0]);
+			else if( kv.length == 2 && kv[0].trim().equalsIgnoreCase("matrix") )
+				matrix = parseCodec(kv[1]);
+			else if( kv.length == 2 && kv[0].trim().equalsIgnoreCase("frame") )
+				frame = parseCodec(kv[1]);
+			else
+				throw new DMLRuntimeException("Invalid spill compression: " + spec);
+		}
+		_matrixCodec = matrix;
+		_frameCodec = frame;
+		_matrixMonitor.reset();
+		_frameMonitor.reset();
+	}
+	
+	private static Codec parseCodec(String name) {
+		try {
+			return Codec.valueOf(name.trim().toUpperCase());
+		}
+		catch(IllegalArgumentException ex) {
+			throw new DMLRuntimeException("Invalid spill compression codec: " + name);
+		}
+	}
+	
+	public static boolean isActive() {
+		return _matrixCodec != Codec.NONE || _frameCodec != Codec.NONE;
+	}
+	
+	public static Codec getConfiguredCodec(boolean matrix) {
+		return matrix ? _matrixCodec : _frameCodec;
+	}
+	
+	/**
+	 * Selects the codec for the next spill write of the given block type,
+	 * which is either the configured codec or NONE.
+	 * 
+	 * @param matrix true if matrix block, false if frame block
+	 * @return codec
+	 */
+	public static Codec selectCodec(boolean matrix) {
+		Codec codec = getConfiguredCodec(matrix);
+		return (codec == Codec.NONE) ? codec :
+			(matrix ? _matrixMonitor : _frameMonitor).select(codec);
+	}
+	
+	/**
+	 * Records the time of a spill write for the adaptive codec selection.
+	 * 
+	 * @param matrix true if matrix block, false if frame block
+	 * @param codec used codec
+	 * @param rawBytes number of uncompressed bytes
+	 * @param nanos write time in nanoseconds
+	 */
+	public static void monitor(boolean matrix, Codec codec, long rawBytes, long nanos) {
+		if( rawBytes > 0 )
+			(matrix ? _matrixMonitor : _frameMonitor)
+				.record(codec != Codec.NONE, (double)nanos / rawBytes);
+	}
+	
+	/**
+	 * Wraps the given file output stream into a compressed stream including the
+	 * spill file header. For codec NONE, the output stream is returned as is.
+	 * 
+	 * @param os output stream
+	 * @param codec codec
+	 * @return output stream
+	 * @throws IOException if IOException occurs
+	 */
+	public static OutputStream createOutputStream(OutputStream os, Codec codec) 
+		throws IOException
+	{
+		if( codec == Codec.NONE )
+			return os;
+		os.write(ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC | codec.ordinal()).array());
+		switch( codec ) {
+			case LZ4:
+				return new LZ4BlockOutputStream(os, BLOCK_SIZE,
+					LZ4Factory.fastestInstance().fastCompressor());
+			case ZLIB:
+				final Deflater def = new Deflater(Deflater.BEST_SPEED);
+				return new DeflaterOutputStream(os, def, BLOCK_SIZE) {
+					@Override
+					public void close() throws IOException {
+						try { super.close(); }
+						finally { def.end(); }
+					}
+				};
+			default:
+				throw new DMLRuntimeException("Unsupported spill codec: " + codec);
+		}
+	}
+	
+	/**
+	 * Wraps the given file input stream into a decompressing stream if the
+	 * spill file header indicates a compressed file, otherwise the returned
+	 * stream provides the raw serialized block.
+	 * 
+	 * @param is input stream
+	 * @param fname file name, for error reporting
+	 * @return input stream
+	 * @throws IOException if IOException occurs or the header holds an unknown codec
+	 */
+	public static InputStream createInputStream(InputStream is, String fname) 
+		throws IOException
+	{
+		BufferedInputStream bis = new BufferedInputStream(is, BLOCK_SIZE);
+		bis.mark(Integer.BYTES);
+		byte[] tmp = new byte[Integer.BYTES];
+		int header = (bis.readNBytes(tmp, 0, tmp.length) == tmp.length) ?
+			ByteBuffer.wrap(tmp).getInt() : 0;
+		if( (header & 0xFFFFFF00) != MAGIC ) {
+			bis.reset(); //raw serialized block
+			return bis;
+		}
+		int ix = header & 0xFF;
+		if( ix >= Codec.values().length )
+			throw new IOException("Invalid spill compression codec ("+ix+") "
+				+ "in header of file: " + fname);
+		switch( Codec.values()[ix] ) {
+			case LZ4:  return new LZ4BlockInputStream(bis);
+			case ZLIB: return new InflaterInputStream(bis, new Inflater(), BLOCK_SIZE);
+			default:   return bis;
+		}
+	}
+	
+	/**
+	 * Running estimates of the write time per uncompressed byte for
+	 * compressed and raw spill writes of a single block type.
+	 */
+	private static class Monitor {
+		private double _compNs = -1;
+		private double _rawNs = -1;
+		private long _count = 0;
+		
+		public synchronized void reset() {
+			_compNs = _rawNs = -1;
+			_count = 0;
+		}
+		
+		public synchronized Codec select(Codec codec) {
+			boolean compress = _compNs < 0 || _rawNs < 0 || _compNs <= _rawNs;
+			//periodically probe the alternative
+			if( ++_count % PROBE_INTERVAL == 0 )
+				compress = !compress;
+			if( !compress && DMLScript.STATISTICS )
+				CacheStatistics.incrementSpillRawWrites();
+			return compress ? codec : Codec.NONE;
+		}
+		
+		public synchronized void record(boolean compressed, double nsPerByte) {
+			if( compressed )
+				_compNs = (_compNs < 0) ? nsPerByte : EWMA_ALPHA * nsPerByte + (1 - EWMA_ALPHA) * _compNs;
+			else
+				_rawNs = (_rawNs < 0) ? nsPerByte : EWMA_ALPHA * nsPerByte + (1 - EWMA_ALPHA) * _rawNs;
+		}
+	}
+}
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Unified Memory Manager - Initial Design
@@ -179,15 +180,18 @@ public class UnifiedMemoryManager
 
 	// Initialize the unified memory manager
 	public static void init() {
-		_mQueue = new CacheEvictionQueue();
+		_mQueue = new CacheEvictionQueue(CacheableData.getBufferPolicy());
 		_fClean = new CacheMaintenanceService();
 		_limit = OptimizerUtils.getBufferPoolLimit();
 		_opMemLimit = (long)(OptimizerUtils.getLocalMemBudget()); //70% of heap
 		_totCachedSize = 0;
 		_pinnedPhysicalMemSize = 0;
 		_pinnedVirtualMemSize = 0;
-		if( CacheableData.CACHING_BUFFER_PAGECACHE )
-			PageCache.init();
+		long pageCacheLimit = OptimizerUtils.getPageCacheLimit();
+		if( pageCacheLimit > 0 )
+			PageCache.init(pageCacheLimit);
+		else
+			PageCache.clear();
 	}
 
 	// Cleanup the unified memory manager
@@ -196,8 +200,7 @@ public class UnifiedMemoryManager
 			_mQueue.clear();
 		if( _fClean != null )
 			_fClean.close();
-		if( CacheableData.CACHING_BUFFER_PAGECACHE )
-			PageCache.clear();
+		PageCache.clear();
 		_totCachedSize = 0;
 		_pinnedPhysicalMemSize = 0;
 		_pinnedVirtualMemSize = 0;
@@ -228,7 +231,7 @@ public class UnifiedMemoryManager
 				String fname = entry.getKey();
 				ByteBuffer bbuff = entry.getValue();
 				System.out.println("\tUMM: Cached element ("+count+"): "
-					+fname+", "+(bbuff.isShallow()?bbuff._cdata.getClass().getSimpleName():"?")
+					+fname+", "+(bbuff.isOffHeap()?"OffHeap":bbuff.isShallow()?bbuff._cdata.getClass().getSimpleName():"?")
 					+", "+bbuff.getSize()+", "+bbuff.isShallow());
 				count--;
 			}
@@ -264,8 +267,11 @@ public class UnifiedMemoryManager
 		{
 			ldata = _mQueue.get(fname);
 
+			if (ldata != null)
+				ldata.incrementAccesses();
+
 			//modify eviction order (accordingly to access)
-			if (CacheableData.CACHING_BUFFER_POLICY == LazyWriteBuffer.RPolicy.LRU
+			if (CacheableData.getBufferPolicy() != LazyWriteBuffer.RPolicy.FIFO
 				&& ldata != null)
 			{
 				//reinsert entry at end of eviction queue
@@ -278,12 +284,17 @@ public class UnifiedMemoryManager
 		if( ldata != null )
 		{
 			cb = ldata.deserializeBlock();
+			//buffers might have been evicted and freed concurrently
+			if( cb == null )
+				cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix,
+				CacheableData.isMMapEvictionActive());
 			if (DMLScript.STATISTICS)
 				CacheStatistics.incrementFSBuffHits();
 		}
 		else
 		{
-			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
+			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix,
+				CacheableData.isMMapEvictionActive());
 			if (DMLScript.STATISTICS)
 				CacheStatistics.incrementFSHits();
 		}
@@ -291,6 +302,26 @@ public class UnifiedMemoryManager
 		return cb;
 	}
 
+	public static ExecutorService getUtilThreadPool() {
+		return _fClean != null ? _fClean._pool : null;
+	}
+
+	public static void setClean(String fname, String pfname) {
+		ByteBuffer ldata = null;
+		synchronized (_mQueue) {
+			ldata = _mQueue.get(fname);
+		}
+		//capture the persistent copy outside the critical path
+		if (ldata != null)
+			ldata.setClean(pfname);
+	}
+
+	public static ByteBuffer removeDropped(String fname) {
+		synchronized (_mQueue) {
+			return _mQueue.removeDropped(fname);
+		}
+	}
+
 	public static boolean probe(CacheableData<?> cd) {
 		String filePath = cd.getCacheFilePathAndName();
 		return _mQueue.containsKey(filePath);
@@ -317,7 +348,7 @@ public class UnifiedMemoryManager
 						// Wait for pending serialization
 						bb.checkSerialized();
 						// Evict object
-						bb.evictBuffer(ftmp);
+						_mQueue.evictBuffer(ftmp, bb);
 						bb.freeMemory();
 						_totCachedSize -= bb.getSize();
 						numEvicted++;
@@ -338,6 +369,12 @@ public class UnifiedMemoryManager
 	// Write an object to the cache
 	public static int writeBlock(String fname, CacheBlock<?> cb)
 		throws IOException
+	{
+		return writeBlock(fname, cb, null);
+	}
+	
+	public static int writeBlock(String fname, CacheBlock<?> cb, String pfname)
+		throws IOException
 	{
 		//obtain basic metadata of the cache block
 		long lSize = getCacheBlockSize(cb);
@@ -350,6 +387,7 @@ public class UnifiedMemoryManager
 		{
 			// Create byte buffer handle (no block allocation yet)
 			ByteBuffer bbuff = new ByteBuffer( lSize );
+			bbuff.setClean(pfname);
 
 			// Modify buffer pool
 			synchronized( _mQueue )
@@ -370,7 +408,8 @@ public class UnifiedMemoryManager
 		else
 		{
 			// Write directly to local FS (bypass buffer if too large)
-			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+			LocalFileUtils.writeCacheBlockToLocal(fname, cb,
+				CacheableData.isMMapEvictionActive());
 			if( DMLScript.STATISTICS ) {
 				CacheStatistics.incrementFSWrites();
 			}
@@ -398,6 +437,9 @@ public class UnifiedMemoryManager
 				requiresDelete = false;
 				ldata.freeMemory(); //cleanup
 			}
+			//dropped entries have no local file
+			else if( _mQueue.removeDropped(fname) != null )
+				requiresDelete = false;
 		}
 
 		//delete from FS if required
@@ -436,7 +478,7 @@ public class UnifiedMemoryManager
 				tmp.checkSerialized();
 
 				//evict matrix
-				tmp.evictBuffer(entry.getKey());
+				_mQueue.evictBuffer(entry.getKey(), tmp);
 				tmp.freeMemory();
 			}
 		}
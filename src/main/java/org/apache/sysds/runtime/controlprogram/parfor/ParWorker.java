@@ -37,6 +37,7 @@ import org.apache.sysds.runtime.instructions.cp.CPOperand;
 import org.apache.sysds.runtime.instructions.cp.Data;
 import org.apache.sysds.runtime.instructions.cp.IntObject;
 import org.apache.sysds.runtime.lineage.Lineage;
+import org.apache.sysds.utils.stats.JFREvents;
 
 /**
  * Super class for master/worker pattern implementations. Central place to
@@ -116,6 +117,7 @@ public abstract class ParWorker
 	protected void executeTask( Task task ) {
 		LOG.trace("EXECUTE PARFOR_WORKER ID="+_workerID+" for task "+task.toCompactString());
 		
+		JFREvents.ParForTaskEvent jfr = JFREvents.beginParForTask();
 		switch( task.getType() ) {
 			case SET:
 				executeSetTask( task );
@@ -124,6 +126,7 @@ public abstract class ParWorker
 				executeRangeTask( task );
 				break;
 		}
+		JFREvents.commitParForTask(jfr, _workerID, task);
 	}	
 
 	private void executeSetTask( Task task ) {
@@ -52,6 +52,7 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.codegen.CodegenUtils;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.controlprogram.parfor.util.IDSequence;
+import org.apache.sysds.runtime.frame.data.columns.ACompressedArray;
 import org.apache.sysds.runtime.frame.data.columns.Array;
 import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
 import org.apache.sysds.runtime.frame.data.columns.ColumnMetadata;
@@ -518,7 +519,7 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 	 * @param val value to set at specified position
 	 */
 	public void set(int r, int c, Object val) {
-		_coldata[c].set(r, UtilFunctions.objectToObject(_schema[c], val));
+		getMutableColumn(c).set(r, UtilFunctions.objectToObject(_schema[c], val));
 	}
 
 	/**
@@ -530,7 +531,22 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 	 * @param val value to set at specified position
 	 */
 	public void set(int r, int c, String val) {
-		_coldata[c].set(r, val);
+		getMutableColumn(c).set(r, val);
+	}
+
+	/**
+	 * Get the column for modification, which decompresses compressed columns (e.g., dictionary-encoded string columns
+	 * created by the frame readers) because compressed arrays are immutable.
+	 * 
+	 * @param c column index
+	 * @return the uncompressed column
+	 */
+	private Array getMutableColumn(int c) {
+		if(_coldata[c] instanceof ACompressedArray) {
+			_coldata[c] = ((ACompressedArray<?>) _coldata[c]).decompress();
+			_msize = -1;
+		}
+		return _coldata[c];
 	}
 
 	public void reset(int nrow, boolean clearMeta) {
@@ -545,7 +561,7 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 		}
 		if(_coldata != null) {
 			for(int i = 0; i < _coldata.length; i++)
-				_coldata[i].reset(nrow);
+				getMutableColumn(i).reset(nrow);
 		}
 		_nRow = nrow;
 		_msize = -1;
@@ -575,7 +591,7 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 		}
 		else {
 			for(int j = 0; j < row.length; j++)
-				_coldata[j].append(row[j]);
+				getMutableColumn(j).append(row[j]);
 		}
 		_nRow++;
 		_msize = -1;
@@ -601,7 +617,7 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 		}
 		else {
 			for(int j = 0; j < row.length; j++)
-				_coldata[j].append(row[j]);
+				getMutableColumn(j).append(row[j]);
 		}
 		_nRow++;
 		_msize = -1;
@@ -729,8 +745,17 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 		_coldata = FrameUtil.add(_coldata, col);
 	}
 
+	/**
+	 * Get the primitive array of a column. Compressed columns (e.g., dictionary-encoded string columns) remain
+	 * unmodified and are returned as a decompressed copy, so only for uncompressed columns writes into the returned
+	 * array are reflected in the frame.
+	 * 
+	 * @param c column index
+	 * @return primitive array of the column
+	 */
 	public Object getColumnData(int c) {
-		return _coldata[c].get();
+		return (_coldata[c] instanceof ACompressedArray) ?
+			((ACompressedArray<?>) _coldata[c]).decompress().get() : _coldata[c].get();
 	}
 
 	public ValueType getColumnType(int c) {
@@ -1052,8 +1077,10 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 
 		// copy data to output and partial overwrite w/ rhs
 		for(int j = 0; j < getNumColumns(); j++) {
-			Array tmp = _coldata[j].clone();
-			if(j >= cl && j <= cu) {
+			final boolean update = j >= cl && j <= cu;
+			Array tmp = (update && _coldata[j] instanceof ACompressedArray) ? //
+				((ACompressedArray<?>) _coldata[j]).decompress() : _coldata[j].clone();
+			if(update) {
 				// fast-path for homogeneous column schemas
 				if(_schema[j] == rhsFrame._schema[j - cl])
 					tmp.set(rl, ru, rhsFrame._coldata[j - cl]);
@@ -1237,24 +1264,45 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 			copy(src);
 			return;
 		}
+		final Object[] locks = getColumnLocks();
+		for(int j = cl; j <= cu; j++) // for each column
+			copyColumn(rl, ru, j, src._coldata[j - cl], locks);
+	}
+
+	/**
+	 * Copy the given column into the row range of the specified column of this frame, which allows copying a subset of
+	 * the columns of a smaller block. Concurrent copies into disjoint row ranges are synchronized on the column.
+	 * 
+	 * @param rl  row start
+	 * @param ru  row end inclusive
+	 * @param c   column index
+	 * @param src source column of ru - rl + 1 rows
+	 */
+	public void copyColumn(int rl, int ru, int c, Array<?> src) {
+		copyColumn(rl, ru, c, src, getColumnLocks());
+	}
+
+	private void copyColumn(int rl, int ru, int c, Array<?> src, Object[] locks) {
+		synchronized(locks[c]) { // synchronize on the column.
+			if(_coldata[c] instanceof ACompressedArray && !(src instanceof ACompressedArray))
+				getMutableColumn(c);
+			_coldata[c] = ArrayFactory.set(_coldata[c], src, rl, ru, _nRow);
+		}
+	}
+
+	private synchronized Object[] getColumnLocks() {
 		ensureAllocateMeta();
 		if(_coldata == null) // allocate column data.
 			_coldata = new Array[_schema.length];
-		synchronized(this) { // make sync locks
-			// TODO remove sync locks on array types where they are not needed.
-			if(_columnLocks == null) {
-				Object[] locks = new Object[_schema.length];
-				for(int i = 0; i < locks.length; i++)
-					locks[i] = new Object();
-				_columnLocks = new SoftReference<>(locks);
-			}
-		}
-		Object[] locks = _columnLocks.get();
-		for(int j = cl; j <= cu; j++) { // for each column
-			synchronized(locks[j]) { // synchronize on the column.
-				_coldata[j] = ArrayFactory.set(_coldata[j], src._coldata[j - cl], rl, ru, _nRow);
-			}
+		// TODO remove sync locks on array types where they are not needed.
+		Object[] locks = (_columnLocks != null) ? _columnLocks.get() : null;
+		if(locks == null) {
+			locks = new Object[_schema.length];
+			for(int i = 0; i < locks.length; i++)
+				locks[i] = new Object();
+			_columnLocks = new SoftReference<>(locks);
 		}
+		return locks;
 	}
 
 	/**
@@ -1295,9 +1343,9 @@ public class FrameBlock implements CacheBlock<FrameBlock>, Externalizable {
 		// with column-wide access pattern
 		for(int j = 0; j < getNumColumns(); j++) {
 			if(_coldata[j].getValueType().equals(that._coldata[j].getValueType()))
-				_coldata[j].setNz(that._coldata[j]);
+				getMutableColumn(j).setNz(that._coldata[j]);
 			else
-				_coldata[j].setFromOtherTypeNz(that._coldata[j]);
+				getMutableColumn(j).setFromOtherTypeNz(that._coldata[j]);
 		}
 		return this;
 	}
@@ -115,6 +115,13 @@ public abstract class ACompressedArray<T> extends Array<T> {
 		throw new DMLCompressionException("Invalid to reset compressed array");
 	}
 
+	/**
+	 * Decompress this array into an uncompressed array of the same value type, which allows modification.
+	 * 
+	 * @return The uncompressed array
+	 */
+	public abstract Array<T> decompress();
+
 	@Override
 	public ArrayCompressionStatistics statistics(int nSamples) {
 		// already compressed
@@ -110,15 +110,11 @@ public abstract class Array<T> implements Writable {
 	 * @return The recode map
 	 */
 	protected Map<T, Long> createRecodeMap() {
-		Map<T, Long> map = new HashMap<>();
-		long id = 1;
+		final RecodeMap<T> map = new ObjectRecodeMap<>();
 		for(int i = 0; i < size(); i++) {
 			T val = get(i);
-			if(val != null) {
-				Long v = map.putIfAbsent(val, id);
-				if(v == null)
-					id++;
-			}
+			if(val != null)
+				map.add(val);
 		}
 		return map;
 	}
@@ -269,6 +269,12 @@ public interface ArrayFactory {
 	@SuppressWarnings("unchecked")
 	public static <C> Array<C> append(Array<?> a, Array<?> b) {
 
+		// compressed arrays are immutable, and are therefore decompressed for the append
+		if(a instanceof ACompressedArray)
+			a = ((ACompressedArray<?>) a).decompress();
+		if(b instanceof ACompressedArray)
+			b = ((ACompressedArray<?>) b).decompress();
+
 		// get common highest datatype.
 		final ValueType ta = a.getValueType();
 		final ValueType tb = b.getValueType();
@@ -226,6 +226,17 @@ public class DDCArray<T> extends ACompressedArray<T> {
 		return dict.get(map.getIndex(index));
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Array<T> decompress() {
+		final Array<T> ret = (Array<T>) (dict != null && dict.getFrameArrayType() == FrameArrayType.OPTIONAL ? //
+			ArrayFactory.allocateOptional(getValueType(), _size) : ArrayFactory.allocate(getValueType(), _size));
+		if(dict != null) // values are shared with the dictionary
+			for(int i = 0; i < _size; i++)
+				ret.set(i, dict.get(map.getIndex(i)));
+		return ret;
+	}
+
 	@Override
 	public double[] extractDouble(double[] ret, int rl, int ru) {
 		// overridden to allow GIT compile
@@ -247,7 +258,7 @@ public class DDCArray<T> extends ACompressedArray<T> {
 	@Override
 	public Array<T> append(Array<T> other) {
 		// TODO add append compressed to each other.
-		throw new DMLCompressionException("Currently not supported to append compressed but could be cool");
+		return decompress().append(other);
 	}
 
 	@Override
@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Map;
 
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
@@ -412,6 +413,14 @@ public class DoubleArray extends Array<Double> {
 			return false;
 	}
 
+	@Override
+	protected Map<Double, Long> createRecodeMap() {
+		final DoubleRecodeMap map = new DoubleRecodeMap();
+		for(int i = 0; i < _size; i++)
+			map.add(_data[i]);
+		return map;
+	}
+
 	@Override
 	public boolean possiblyContainsNaN() {
 		return true;
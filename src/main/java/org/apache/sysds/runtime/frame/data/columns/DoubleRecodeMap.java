@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.util.Arrays;
+
+/**
+ * Recode map of primitive double keys. Keys are compared by their bit patterns (equivalent to Double.equals), which
+ * maps all NaN values to a single entry.
+ */
+public class DoubleRecodeMap extends RecodeMap<Double> {
+	private static final long serialVersionUID = 4629460781287325310L;
+
+	private long[] _keys;
+
+	public DoubleRecodeMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public DoubleRecodeMap(int capacity) {
+		super(capacity);
+		_keys = new long[_codes.length];
+	}
+
+	public int getCode(double key) {
+		final long bits = Double.doubleToLongBits(key);
+		final int mask = _table.length - 1;
+		for(int s = slot(Long.hashCode(bits)); _table[s] != 0; s = (s + 1) & mask)
+			if(_keys[_table[s] - 1] == bits)
+				return _codes[_table[s] - 1];
+		return -1;
+	}
+
+	public int add(double key) {
+		final long bits = Double.doubleToLongBits(key);
+		final int mask = _table.length - 1;
+		int s = slot(Long.hashCode(bits));
+		for(; _table[s] != 0; s = (s + 1) & mask)
+			if(_keys[_table[s] - 1] == bits)
+				return _codes[_table[s] - 1];
+		final int code = _size + 1;
+		final int e = newEntry(s, code);
+		_keys[e] = bits;
+		checkRehash();
+		return code;
+	}
+
+	public void put(double key, int code) {
+		final long bits = Double.doubleToLongBits(key);
+		final int mask = _table.length - 1;
+		int s = slot(Long.hashCode(bits));
+		for(; _table[s] != 0; s = (s + 1) & mask) {
+			if(_keys[_table[s] - 1] == bits) {
+				_codes[_table[s] - 1] = code;
+				return;
+			}
+		}
+		final int e = newEntry(s, code);
+		_keys[e] = bits;
+		checkRehash();
+	}
+
+	@Override
+	public int getCode(Object key) {
+		return key instanceof Double ? getCode(((Double) key).doubleValue()) : -1;
+	}
+
+	@Override
+	public int add(Double key) {
+		return add(key.doubleValue());
+	}
+
+	@Override
+	public void put(Double key, int code) {
+		put(key.doubleValue(), code);
+	}
+
+	@Override
+	protected Double getKey(int e) {
+		return Double.longBitsToDouble(_keys[e]);
+	}
+
+	@Override
+	protected int hashKey(int e) {
+		return Long.hashCode(_keys[e]);
+	}
+
+	@Override
+	protected void resizeKeys(int cap) {
+		_keys = Arrays.copyOf(_keys, cap);
+	}
+
+	@Override
+	protected void clearKeys() {
+		// primitive keys are overwritten on reuse
+	}
+}
@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Map;
 
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
@@ -359,6 +360,14 @@ public class IntegerArray extends Array<Integer> {
 			return false;
 	}
 
+	@Override
+	protected Map<Integer, Long> createRecodeMap() {
+		final IntegerRecodeMap map = new IntegerRecodeMap();
+		for(int i = 0; i < _size; i++)
+			map.add(_data[i]);
+		return map;
+	}
+
 	@Override
 	public boolean possiblyContainsNaN(){
 		return false;
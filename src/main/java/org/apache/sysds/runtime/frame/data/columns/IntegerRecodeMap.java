@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.util.Arrays;
+
+/**
+ * Recode map of primitive int keys.
+ */
+public class IntegerRecodeMap extends RecodeMap<Integer> {
+	private static final long serialVersionUID = 7311064827391650294L;
+
+	private int[] _keys;
+
+	public IntegerRecodeMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntegerRecodeMap(int capacity) {
+		super(capacity);
+		_keys = new int[_codes.length];
+	}
+
+	public int getCode(int key) {
+		final int mask = _table.length - 1;
+		for(int s = slot(key); _table[s] != 0; s = (s + 1) & mask)
+			if(_keys[_table[s] - 1] == key)
+				return _codes[_table[s] - 1];
+		return -1;
+	}
+
+	public int add(int key) {
+		final int mask = _table.length - 1;
+		int s = slot(key);
+		for(; _table[s] != 0; s = (s + 1) & mask)
+			if(_keys[_table[s] - 1] == key)
+				return _codes[_table[s] - 1];
+		final int code = _size + 1;
+		final int e = newEntry(s, code);
+		_keys[e] = key;
+		checkRehash();
+		return code;
+	}
+
+	public void put(int key, int code) {
+		final int mask = _table.length - 1;
+		int s = slot(key);
+		for(; _table[s] != 0; s = (s + 1) & mask) {
+			if(_keys[_table[s] - 1] == key) {
+				_codes[_table[s] - 1] = code;
+				return;
+			}
+		}
+		final int e = newEntry(s, code);
+		_keys[e] = key;
+		checkRehash();
+	}
+
+	@Override
+	public int getCode(Object key) {
+		return key instanceof Integer ? getCode(((Integer) key).intValue()) : -1;
+	}
+
+	@Override
+	public int add(Integer key) {
+		return add(key.intValue());
+	}
+
+	@Override
+	public void put(Integer key, int code) {
+		put(key.intValue(), code);
+	}
+
+	@Override
+	protected Integer getKey(int e) {
+		return _keys[e];
+	}
+
+	@Override
+	protected int hashKey(int e) {
+		return _keys[e];
+	}
+
+	@Override
+	protected void resizeKeys(int cap) {
+		_keys = Arrays.copyOf(_keys, cap);
+	}
+
+	@Override
+	protected void clearKeys() {
+		// primitive keys are overwritten on reuse
+	}
+}
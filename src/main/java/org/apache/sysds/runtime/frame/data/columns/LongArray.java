@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Map;
 
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
@@ -63,7 +64,7 @@ public class LongArray extends Array<Long> {
 
 	@Override
 	public void set(int index, String value) {
-		set(index, parseLong(value));
+		_data[index] = parseLong(value); // w/o widening to double
 	}
 
 	@Override
@@ -358,6 +359,14 @@ public class LongArray extends Array<Long> {
 			return false;
 	}
 
+	@Override
+	protected Map<Long, Long> createRecodeMap() {
+		final LongRecodeMap map = new LongRecodeMap();
+		for(int i = 0; i < _size; i++)
+			map.add(_data[i]);
+		return map;
+	}
+
 	@Override
 	public boolean possiblyContainsNaN(){
 		return false;
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.util.Arrays;
+
+/**
+ * Recode map of object keys compared by equals, used for string tokens. The hashes of the keys are kept next to the
+ * keys, such that probing compares hashes before calling equals and rehashing does not touch the key objects.
+ *
+ * @param <T> The key type
+ */
+public class ObjectRecodeMap<T> extends RecodeMap<T> {
+	private static final long serialVersionUID = 2457715590126381465L;
+
+	private Object[] _keys;
+	private int[] _hashes;
+
+	public ObjectRecodeMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ObjectRecodeMap(int capacity) {
+		super(capacity);
+		_keys = new Object[_codes.length];
+		_hashes = new int[_codes.length];
+	}
+
+	@Override
+	public int getCode(Object key) {
+		if(key == null)
+			return -1;
+		final int h = key.hashCode();
+		final int mask = _table.length - 1;
+		for(int s = slot(h); _table[s] != 0; s = (s + 1) & mask) {
+			final int e = _table[s] - 1;
+			if(_hashes[e] == h && key.equals(_keys[e]))
+				return _codes[e];
+		}
+		return -1;
+	}
+
+	@Override
+	public int add(T key) {
+		final int h = key.hashCode();
+		final int mask = _table.length - 1;
+		int s = slot(h);
+		for(; _table[s] != 0; s = (s + 1) & mask) {
+			final int e = _table[s] - 1;
+			if(_hashes[e] == h && key.equals(_keys[e]))
+				return _codes[e];
+		}
+		final int code = _size + 1;
+		setKey(newEntry(s, code), key, h);
+		return code;
+	}
+
+	@Override
+	public void put(T key, int code) {
+		final int h = key.hashCode();
+		final int mask = _table.length - 1;
+		int s = slot(h);
+		for(; _table[s] != 0; s = (s + 1) & mask) {
+			final int e = _table[s] - 1;
+			if(_hashes[e] == h && key.equals(_keys[e])) {
+				_codes[e] = code;
+				return;
+			}
+		}
+		setKey(newEntry(s, code), key, h);
+	}
+
+	private void setKey(int e, T key, int h) {
+		_keys[e] = key;
+		_hashes[e] = h;
+		checkRehash();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected T getKey(int e) {
+		return (T) _keys[e];
+	}
+
+	@Override
+	protected int hashKey(int e) {
+		return _hashes[e];
+	}
+
+	@Override
+	protected void resizeKeys(int cap) {
+		_keys = Arrays.copyOf(_keys, cap);
+		_hashes = Arrays.copyOf(_hashes, cap);
+	}
+
+	@Override
+	protected void clearKeys() {
+		Arrays.fill(_keys, 0, _size, null);
+	}
+}
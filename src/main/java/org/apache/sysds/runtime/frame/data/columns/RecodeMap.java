@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+/**
+ * Base class of the recode maps used in transformencode, which map distinct tokens to integer codes. In contrast to a
+ * HashMap&lt;T, Long&gt;, the entries are stored in dense key and code arrays (in insertion order) and an
+ * open-addressing table with linear probing stores the entry positions. This avoids an entry object and a boxed Long
+ * per distinct value, and the primitive subclasses additionally avoid boxing of the keys.
+ *
+ * The map implements the Map interface for compatibility with existing users, where missing keys are reported as null.
+ * The int accessors {@link #getCode(Object)} and {@link #add(Object)} should be preferred on the hot paths.
+ *
+ * @param <T> The key type
+ */
+public abstract class RecodeMap<T> extends AbstractMap<T, Long> implements Serializable {
+	private static final long serialVersionUID = -3208434426345021187L;
+
+	/** Default number of entries to allocate for */
+	protected static final int DEFAULT_CAPACITY = 16;
+
+	/** Open-addressing table of entry positions + 1, where 0 marks an empty slot */
+	protected int[] _table;
+	/** Codes of the entries in insertion order */
+	protected int[] _codes;
+	/** Number of entries */
+	protected int _size;
+
+	protected RecodeMap(int capacity) {
+		final int cap = Math.max(capacity, 4);
+		_table = new int[Integer.highestOneBit(cap - 1) << 2];
+		_codes = new int[cap];
+		_size = 0;
+	}
+
+	/**
+	 * Get the code of the given key.
+	 *
+	 * @param key The key to look up
+	 * @return The code, or -1 if the key is not contained
+	 */
+	public abstract int getCode(Object key);
+
+	/**
+	 * Add the key with the next code (size + 1) if it is not yet contained.
+	 *
+	 * @param key The key to add
+	 * @return The code of the key, either existing or newly assigned
+	 */
+	public abstract int add(T key);
+
+	/**
+	 * Put the key with the given code, overwriting the code of an existing entry.
+	 *
+	 * @param key  The key
+	 * @param code The code
+	 */
+	public abstract void put(T key, int code);
+
+	/**
+	 * Get the key at the given entry position.
+	 *
+	 * @param e The entry position in insertion order
+	 * @return The key
+	 */
+	protected abstract T getKey(int e);
+
+	/**
+	 * Get the hash of the key at the given entry position, used for rehashing.
+	 *
+	 * @param e The entry position in insertion order
+	 * @return The hash of the key
+	 */
+	protected abstract int hashKey(int e);
+
+	/**
+	 * Resize the key storage to the given number of entries.
+	 *
+	 * @param cap The new capacity
+	 */
+	protected abstract void resizeKeys(int cap);
+
+	/**
+	 * Clear the key storage, e.g., to release references of object keys.
+	 */
+	protected abstract void clearKeys();
+
+	/**
+	 * Get the code of the entry at the given position in insertion order.
+	 *
+	 * @param e The entry position
+	 * @return The code
+	 */
+	public final int getCodeAt(int e) {
+		return _codes[e];
+	}
+
+	/**
+	 * Get the key of the entry at the given position in insertion order.
+	 *
+	 * @param e The entry position
+	 * @return The key
+	 */
+	public final T getKeyAt(int e) {
+		return getKey(e);
+	}
+
+	@Override
+	public final int size() {
+		return _size;
+	}
+
+	@Override
+	public final boolean isEmpty() {
+		return _size == 0;
+	}
+
+	@Override
+	public final boolean containsKey(Object key) {
+		return getCode(key) >= 0;
+	}
+
+	@Override
+	public final Long get(Object key) {
+		final int code = getCode(key);
+		return code < 0 ? null : Long.valueOf(code);
+	}
+
+	@Override
+	public final Long getOrDefault(Object key, Long defaultValue) {
+		final int code = getCode(key);
+		return code < 0 ? defaultValue : Long.valueOf(code);
+	}
+
+	@Override
+	public final Long put(T key, Long value) {
+		final int old = getCode(key);
+		put(key, toCode(value));
+		return old < 0 ? null : Long.valueOf(old);
+	}
+
+	@Override
+	public final Long putIfAbsent(T key, Long value) {
+		final int old = getCode(key);
+		if(old >= 0)
+			return Long.valueOf(old);
+		put(key, toCode(value));
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(_table, 0);
+		clearKeys();
+		_size = 0;
+	}
+
+	@Override
+	public Set<Map.Entry<T, Long>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * Spread the bits of the given hash for the power of two table.
+	 *
+	 * @param h The hash
+	 * @return The start slot
+	 */
+	protected final int slot(int h) {
+		h *= 0x9E3779B9;
+		return (h ^ (h >>> 16)) & (_table.length - 1);
+	}
+
+	/**
+	 * Append a new entry with the given code, and register it in the given (empty) slot. The subclass has to set the key
+	 * at the returned position.
+	 *
+	 * @param slot The empty slot found by probing
+	 * @param code The code of the new entry
+	 * @return The entry position of the new entry
+	 */
+	protected final int newEntry(int slot, int code) {
+		if(_size == _codes.length) {
+			final int cap = _codes.length * 2;
+			_codes = Arrays.copyOf(_codes, cap);
+			resizeKeys(cap);
+		}
+		final int e = _size++;
+		_codes[e] = code;
+		_table[slot] = e + 1;
+		return e;
+	}
+
+	/**
+	 * Grow the open-addressing table if the load factor exceeds 0.5. Has to be called after the key of a new entry is
+	 * set.
+	 */
+	protected final void checkRehash() {
+		if(_size * 2 <= _table.length)
+			return;
+		_table = new int[_table.length * 2];
+		final int mask = _table.length - 1;
+		for(int e = 0; e < _size; e++) {
+			int s = slot(hashKey(e));
+			while(_table[s] != 0)
+				s = (s + 1) & mask;
+			_table[s] = e + 1;
+		}
+	}
+
+	private static int toCode(Long value) {
+		final long v = value.longValue();
+		if(v < 0 || v > Integer.MAX_VALUE)
+			throw new DMLRuntimeException("Invalid recode map code: " + v);
+		return (int) v;
+	}
+
+	private class EntrySet extends AbstractSet<Map.Entry<T, Long>> {
+		@Override
+		public Iterator<Map.Entry<T, Long>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return _size;
+		}
+	}
+
+	private class EntryIterator implements Iterator<Map.Entry<T, Long>> {
+		private int _e = 0;
+
+		@Override
+		public boolean hasNext() {
+			return _e < _size;
+		}
+
+		@Override
+		public Map.Entry<T, Long> next() {
+			if(_e >= _size)
+				throw new NoSuchElementException();
+			final int e = _e++;
+			return new AbstractMap.SimpleImmutableEntry<>(getKey(e), Long.valueOf(_codes[e]));
+		}
+	}
+}
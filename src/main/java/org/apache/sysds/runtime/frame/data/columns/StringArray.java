@@ -24,7 +24,6 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.BitSet;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -706,12 +705,12 @@ public class StringArray extends Array<String> {
 	protected Map<String, Long> createRecodeMap() {
 		try {
 
-			Map<String, Long> map = new HashMap<>();
-			for(int i = 0; i < size(); i++) {
-				Object val = get(i);
+			final ObjectRecodeMap<String> map = new ObjectRecodeMap<>();
+			for(int i = 0; i < _size; i++) {
+				String val = _data[i];
 				if(val != null) {
-					String[] tmp = ColumnEncoderRecode.splitRecodeMapEntry(val.toString());
-					map.put(tmp[0], Long.parseLong(tmp[1]));
+					String[] tmp = ColumnEncoderRecode.splitRecodeMapEntry(val);
+					map.put(tmp[0], Integer.parseInt(tmp[1]));
 				}
 			}
 			return map;
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+
+/**
+ * Builder of dictionary-encoded (DDC) string columns, used by the frame readers to construct low-cardinality string
+ * columns without materializing a String object per cell. Every parsed token is replaced by the code of its dictionary
+ * entry, such that the parsed strings become garbage immediately.
+ *
+ * The builder is thread-safe for concurrent writes of disjoint rows. If the number of distinct values exceeds the
+ * threshold, the builder falls back to a plain StringArray; the rows set so far are decoded on build.
+ */
+public class StringDDCArrayBuilder {
+
+	/** Enable dictionary encoding of string columns in the frame readers */
+	public static boolean ENABLED = true;
+	/** Minimum number of rows of a frame to dictionary-encode its string columns */
+	public static int MIN_ROWS = 1024;
+	/** Maximum number of distinct values of a dictionary-encoded column (bounded by the char codes) */
+	public static int MAX_DISTINCT = Character.MAX_VALUE;
+
+	private final int _nRow;
+	private final int _maxDistinct;
+	/** Codes of the rows, where 0 encodes null and i the dictionary entry i-1 */
+	private final char[] _codes;
+	/** Lookup of codes, probed concurrently without locks */
+	private final ConcurrentHashMap<String, Integer> _lookup;
+	/** Dictionary entries in order of their codes (guarded by this) */
+	private final List<String> _dict;
+	/** Fallback to uncompressed strings if the threshold was exceeded */
+	private volatile String[] _data;
+
+	public StringDDCArrayBuilder(int nRow) {
+		_nRow = nRow;
+		_maxDistinct = Math.min(Math.min(MAX_DISTINCT, Character.MAX_VALUE), nRow / 2);
+		_codes = new char[nRow];
+		_lookup = new ConcurrentHashMap<>();
+		_dict = new ArrayList<>();
+	}
+
+	/**
+	 * Create builders for all string columns of the given schema, if dictionary encoding is applicable.
+	 *
+	 * @param schema The schema of the frame
+	 * @param nRow   The number of rows of the frame
+	 * @return The builders, with null for non-string columns, or null if not applicable
+	 */
+	public static StringDDCArrayBuilder[] create(ValueType[] schema, long nRow) {
+		if(!ENABLED || nRow < MIN_ROWS || nRow > Integer.MAX_VALUE)
+			return null;
+		StringDDCArrayBuilder[] ret = null;
+		for(int j = 0; j < schema.length; j++) {
+			if(schema[j] == ValueType.STRING) {
+				if(ret == null)
+					ret = new StringDDCArrayBuilder[schema.length];
+				ret[j] = new StringDDCArrayBuilder((int) nRow);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Build all columns and set them into the given frame.
+	 *
+	 * @param fb      The target frame
+	 * @param builder The builders, with null for columns to skip
+	 */
+	public static void setColumns(FrameBlock fb, StringDDCArrayBuilder[] builder) {
+		if(builder == null)
+			return;
+		for(int j = 0; j < builder.length; j++)
+			if(builder[j] != null)
+				fb.setColumn(j, builder[j].build());
+	}
+
+	/**
+	 * Set the value of the given row, where null values can be skipped.
+	 *
+	 * @param row   The row index
+	 * @param value The value
+	 */
+	public void set(int row, String value) {
+		if(value == null)
+			return;
+		final String[] data = _data;
+		if(data != null) {
+			data[row] = value;
+			return;
+		}
+		final Integer code = _lookup.get(value);
+		final int c = (code != null) ? code.intValue() : add(value);
+		if(c > 0)
+			_codes[row] = (char) c;
+		else
+			_data[row] = value;
+	}
+
+	/**
+	 * Set the values of the given array into the rows starting at rl.
+	 *
+	 * @param rl  The row offset
+	 * @param src The source array
+	 */
+	public void set(int rl, Array<?> src) {
+		for(int i = 0; i < src.size(); i++) {
+			final Object o = src.get(i);
+			if(o != null)
+				set(rl + i, o.toString());
+		}
+	}
+
+	private synchronized int add(String value) {
+		if(_data != null)
+			return -1;
+		final Integer code = _lookup.get(value);
+		if(code != null)
+			return code.intValue();
+		if(_dict.size() >= _maxDistinct) {
+			// too many distinct values: fall back to uncompressed strings
+			_data = new String[_nRow];
+			_lookup.clear();
+			return -1;
+		}
+		_dict.add(value);
+		_lookup.put(value, _dict.size());
+		return _dict.size();
+	}
+
+	/**
+	 * Build the column after all rows have been set, which is either a DDCArray or a StringArray.
+	 *
+	 * @return The column array
+	 */
+	public synchronized Array<String> build() {
+		if(_data != null) {
+			// decode rows set before the fallback
+			for(int i = 0; i < _nRow; i++)
+				if(_codes[i] != 0)
+					_data[i] = _dict.get(_codes[i] - 1);
+			return new StringArray(_data);
+		}
+
+		boolean containsNull = false;
+		for(int i = 0; i < _nRow && !containsNull; i++)
+			containsNull = _codes[i] == 0;
+
+		final int nUnique = _dict.size() + (containsNull ? 1 : 0);
+		final String[] dict = _dict.toArray(new String[nUnique]);
+		final AMapToData map = MapToFactory.create(_nRow, nUnique);
+		for(int i = 0; i < _nRow; i++)
+			map.set(i, _codes[i] == 0 ? nUnique - 1 : _codes[i] - 1);
+		return new DDCArray<>(new StringArray(dict), map);
+	}
+}
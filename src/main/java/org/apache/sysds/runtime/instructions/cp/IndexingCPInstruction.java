@@ -77,7 +77,7 @@ public abstract class IndexingCPInstruction extends UnaryCPInstruction {
 		String opcode = parts[0];
 		
 		if ( opcode.equalsIgnoreCase(RightIndex.OPCODE) ) {
-			if ( parts.length == 7 ) {
+			if ( parts.length == 7 || parts.length == 8 ) {
 				CPOperand in, rl, ru, cl, cu, out;
 				in = new CPOperand(parts[1]);
 				rl = new CPOperand(parts[2]);
@@ -85,8 +85,9 @@ public abstract class IndexingCPInstruction extends UnaryCPInstruction {
 				cl = new CPOperand(parts[4]);
 				cu = new CPOperand(parts[5]);
 				out = new CPOperand(parts[6]);
+				boolean readPushdown = parts.length == 8 && Boolean.parseBoolean(parts[7]);
 				if( in.getDataType()==DataType.MATRIX )
-					return new MatrixIndexingCPInstruction(in, rl, ru, cl, cu, out, opcode, str);
+					return new MatrixIndexingCPInstruction(in, rl, ru, cl, cu, out, opcode, str, readPushdown);
 				else if( in.getDataType() == DataType.FRAME )
 					return new FrameIndexingCPInstruction(in, rl, ru, cl, cu, out, opcode, str);
 				else if( in.getDataType() == DataType.LIST )
@@ -37,14 +37,28 @@ import org.apache.sysds.utils.Statistics;
 
 public final class MatrixIndexingCPInstruction extends IndexingCPInstruction {
 
+	//read the index range directly from the input file, if not yet in memory
+	private final boolean _readPushdown;
+	
 	public MatrixIndexingCPInstruction(CPOperand in, CPOperand rl, CPOperand ru, CPOperand cl, CPOperand cu,
 			CPOperand out, String opcode, String istr) {
+		this(in, rl, ru, cl, cu, out, opcode, istr, false);
+	}
+	
+	public MatrixIndexingCPInstruction(CPOperand in, CPOperand rl, CPOperand ru, CPOperand cl, CPOperand cu,
+			CPOperand out, String opcode, String istr, boolean readPushdown) {
 		super(in, rl, ru, cl, cu, out, opcode, istr);
+		_readPushdown = readPushdown;
 	}
 
 	protected MatrixIndexingCPInstruction(CPOperand lhsInput, CPOperand rhsInput, CPOperand rl,
 			CPOperand ru, CPOperand cl, CPOperand cu, CPOperand out, String opcode, String istr) {
 		super(lhsInput, rhsInput, rl, ru, cl, cu, out, opcode, istr);
+		_readPushdown = false;
+	}
+	
+	public boolean isReadPushdown() {
+		return _readPushdown;
 	}
 
 	@Override
@@ -62,6 +76,8 @@ public final class MatrixIndexingCPInstruction extends IndexingCPInstruction {
 			
 			if( mo.isPartitioned() ) //via data partitioning
 				resultBlock = mo.readMatrixPartition(ixrange.add(1));
+			else if( _readPushdown && mo.isIndexRangeReadable() ) //via index range read
+				resultBlock = mo.readMatrixRange(ixrange);
 			else //via slicing the in-memory matrix
 			{
 				//execute right indexing operation (with shallow row copies for range
@@ -19,23 +19,39 @@
 
 package org.apache.sysds.runtime.instructions.cp;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData.CacheStatus;
+import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReaderBinaryBlock;
+import org.apache.sysds.runtime.io.FrameReaderFactory;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
 import org.apache.sysds.runtime.lineage.LineageItem;
 import org.apache.sysds.runtime.lineage.LineageItemUtils;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.Operator;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
 import org.apache.sysds.runtime.transform.encode.EncoderFactory;
 import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
+import org.apache.sysds.runtime.transform.encode.StreamingEncode;
+import org.apache.sysds.runtime.util.UtilFunctions;
 
 public class MultiReturnParameterizedBuiltinCPInstruction extends ComputationCPInstruction {
 	protected final ArrayList<CPOperand> _outputs;
@@ -79,6 +95,11 @@ public class MultiReturnParameterizedBuiltinCPInstruction extends ComputationCPI
 
 	@Override
 	public void processInstruction(ExecutionContext ec) {
+		// stream over inputs on disk that exceed the local memory budget
+		FrameObject fo = ec.getFrameObject(input1);
+		if(isStreamingEncode(fo) && processStreamingEncode(ec, fo))
+			return;
+
 		// obtain and pin input frame
 		FrameBlock fin = ec.getFrameInput(input1.getName());
 		String spec = ec.getScalarInput(input2).getStringValue();
@@ -98,6 +119,75 @@ public class MultiReturnParameterizedBuiltinCPInstruction extends ComputationCPI
 		ec.setFrameOutput(getOutput(1).getName(), meta);
 	}
 
+	private static boolean isStreamingEncode(FrameObject fo) {
+		// input not yet read into memory, in a format with batch reads
+		DataCharacteristics dc = fo.getDataCharacteristics();
+		if(fo.getStatus() != CacheStatus.EMPTY || fo.isFederated() || fo.getRDDHandle() != null ||
+			fo.getFileName() == null || !dc.rowsKnown() || !dc.colsKnown() || !(fo.getMetaData() instanceof MetaDataFormat))
+			return false;
+		FileFormat fmt = ((MetaDataFormat) fo.getMetaData()).getFileFormat();
+		if(fmt != FileFormat.BINARY && !(fmt == FileFormat.CSV && !(fo.getFileFormatProperties() instanceof
+			FileFormatPropertiesCSV && ((FileFormatPropertiesCSV) fo.getFileFormatProperties()).hasHeader())))
+			return false;
+		// estimated in-memory size of the input frame
+		ValueType[] schema = getSchema(fo);
+		int rows = (int) Math.min(dc.getRows(), Integer.MAX_VALUE);
+		long size = 0;
+		for(ValueType vt : schema)
+			size += ArrayFactory.getInMemorySize(vt, rows, true);
+		return size > OptimizerUtils.getLocalMemBudget();
+	}
+
+	private boolean processStreamingEncode(ExecutionContext ec, FrameObject fo) {
+		String spec = ec.getScalarInput(input2).getStringValue();
+		MetaDataFormat md = (MetaDataFormat) fo.getMetaData();
+		int clen = (int) md.getDataCharacteristics().getCols();
+		try {
+			// column names of binary frames are stored in the blocks, otherwise default names
+			String[] colnames = (md.getFileFormat() == FileFormat.BINARY) ?
+				new FrameReaderBinaryBlock().readFirstBlock(fo.getFileName()).getColumnNames() :
+				FrameBlock.createColNames(clen);
+			MultiColumnEncoder encoder = EncoderFactory.createEncoder(spec, colnames, clen, null);
+			if(!StreamingEncode.isSupported(encoder)) {
+				// fall back to the in-memory encode before reading any data
+				LOG.warn("Input frame of transformencode exceeds the memory budget, but the spec is not "
+					+ "supported by the streaming encode (fallback to in-memory encode): " + spec);
+				return false;
+			}
+
+			// build and apply over row batches, and write the output matrix directly to its file
+			MatrixObject mo = ec.getMatrixObject(getOutput(0));
+			int k = OptimizerUtils.getTransformNumThreads();
+			MatrixCharacteristics mc = StreamingEncode.encode(encoder,
+				FrameReaderFactory.createFrameReader(md.getFileFormat(), fo.getFileFormatProperties()), fo.getFileName(),
+				getSchema(fo), colnames, clen, MatrixWriterFactory.createMatrixWriter(FileFormat.BINARY),
+				mo.getFileName(), ConfigurationManager.getBlocksize(), StreamingEncode.DEFAULT_BATCH_SIZE, k);
+			if(mc.getRows() == 0) // all rows omitted
+				ec.setMatrixOutput(getOutput(0).getName(), new MatrixBlock(0, encoder.getNumOutCols(), true));
+			else {
+				mo.setMetaData(new MetaDataFormat(mc, FileFormat.BINARY));
+				mo.setFileFormatProperties(null);
+				mo.setHDFSFileExists(true);
+				mo.setDirty(false);
+			}
+
+			FrameBlock meta = encoder.getMetaData(new FrameBlock(clen, ValueType.STRING), k);
+			meta.setColumnNames(colnames);
+			ec.setFrameOutput(getOutput(1).getName(), meta);
+			return true;
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed streaming transformencode of " + fo.getFileName() + ".", ex);
+		}
+	}
+
+	private static ValueType[] getSchema(FrameObject fo) {
+		// handle missing schema as in the frame read
+		long clen = fo.getDataCharacteristics().getCols();
+		return (fo.getSchema() != null) ? fo.getSchema() :
+			UtilFunctions.nCopies(clen >= 1 ? (int) clen : 1, ValueType.STRING);
+	}
+
 	@Override
 	public boolean hasSingleLineage() {
 		return false;
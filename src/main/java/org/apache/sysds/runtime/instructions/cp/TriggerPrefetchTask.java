@@ -20,6 +20,7 @@
 package org.apache.sysds.runtime.instructions.cp;
 
 import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedStatistics;
 import org.apache.sysds.runtime.lineage.LineageCache;
@@ -44,6 +45,7 @@ public class TriggerPrefetchTask implements Runnable {
 	@Override
 	public void run() {
 		boolean prefetched = false;
+		boolean restored = false;
 		MatrixBlock mb = null;
 		long t1 = System.nanoTime();
 		synchronized (_prefetchMO) {
@@ -56,12 +58,19 @@ public class TriggerPrefetchTask implements Runnable {
 				mb = _prefetchMO.acquireReadAndRelease();
 				prefetched = true;
 			}
+			else if (_prefetchMO.isEvicted()) {
+				// Restore evicted local intermediate (read-ahead)
+				_prefetchMO.acquireReadAndRelease();
+				restored = true;
+			}
 		}
 
 		// Save the collected intermediate in the lineage cache
 		if (_inputLi != null && mb != null)
 			LineageCache.putValueAsyncOp(_inputLi, _prefetchMO, mb, t1);
 
+		if (DMLScript.STATISTICS && restored)
+			CacheStatistics.incrementReadAheads();
 		if (DMLScript.STATISTICS && prefetched) {
 			if (_prefetchMO.isFederated())
 				FederatedStatistics.incAsyncPrefetchCount(1);
@@ -34,6 +34,7 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.lops.Lop;
+import org.apache.sysds.parser.DataExpression;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
@@ -50,8 +51,12 @@ import org.apache.sysds.runtime.io.FileFormatProperties;
 import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
 import org.apache.sysds.runtime.io.FileFormatPropertiesHDF5;
 import org.apache.sysds.runtime.io.FileFormatPropertiesLIBSVM;
+import org.apache.sysds.runtime.io.FrameWriter;
+import org.apache.sysds.runtime.io.FrameWriterFactory;
 import org.apache.sysds.runtime.io.ListReader;
 import org.apache.sysds.runtime.io.ListWriter;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
 import org.apache.sysds.runtime.io.WriterHDF5;
 import org.apache.sysds.runtime.io.WriterMatrixMarket;
 import org.apache.sysds.runtime.io.WriterTextCSV;
@@ -62,6 +67,7 @@ import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.meta.DataCharacteristics;
 import org.apache.sysds.runtime.meta.MatrixCharacteristics;
 import org.apache.sysds.runtime.meta.MetaData;
+import org.apache.sysds.runtime.meta.MetaDataAll;
 import org.apache.sysds.runtime.meta.MetaDataFormat;
 import org.apache.sysds.runtime.meta.TensorCharacteristics;
 import org.apache.sysds.runtime.util.DataConverter;
@@ -141,6 +147,9 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 	// CSV and LIBSVM related members (used only in createvar instructions)
 	private final FileFormatProperties _formatProperties;
 
+	// append of rows to an existing output (used only in write instructions)
+	private boolean _append = false;
+
 	private VariableCPInstruction(VariableOperationCode op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out,
 			MetaData meta, FileFormatProperties fprops, String schema, UpdateType utype, String sopcode, String istr, int k) {
 		super(CPType.Variable, sopcode, istr);
@@ -347,8 +356,9 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 			// All write instructions have 3 parameters, except in case of delimited/csv/libsvm file.
 			// Write instructions for csv files also include three additional parameters (hasHeader, delimiter, sparse)
 			// Write instructions for libsvm files also include one additional parameters (sparse)
+			// Write instructions that append to existing files include one additional parameter (append)
 			// TODO - replace hardcoded numbers with more sophisticated code
-			if ( parts.length != 6 && parts.length != 7 && parts.length != 9 )
+			if ( parts.length < 6 || parts.length > 10 )
 				throw new DMLRuntimeException("Invalid number of operands in write instruction: " + str);
 		}
 		else if(voc == VariableOperationCode.CastAsFrameVariable){
@@ -567,30 +577,36 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 			in3 = new CPOperand(parts[3]);
 
 			FileFormatProperties fprops = null;
+			int appendPos = -1; // position of optional append flag after blocksize
 			if ( in3.getName().equalsIgnoreCase("csv") ) {
 				boolean hasHeader = Boolean.parseBoolean(parts[4]);
 				String delim = parts[5];
 				boolean sparse = Boolean.parseBoolean(parts[6]);
 				fprops = new FileFormatPropertiesCSV(hasHeader, delim, sparse);
 				in4 = new CPOperand(parts[7]); // description
+				appendPos = 9;
 			}
 			else if ( in3.getName().equalsIgnoreCase("libsvm") ) {
 				String delim = parts[4];
 				String indexDelim = parts[5];
 				boolean sparse = Boolean.parseBoolean(parts[6]);
 				fprops = new FileFormatPropertiesLIBSVM(delim, indexDelim, sparse);
+				appendPos = 9;
 			}
 			else if(in3.getName().equalsIgnoreCase("hdf5") ){
 				String datasetName = parts[4];
 				fprops = new FileFormatPropertiesHDF5(datasetName);
+				appendPos = 7;
 			}
 			else {
 				fprops = new FileFormatProperties();
 				in4 = new CPOperand(parts[5]); // blocksize in empty description
+				appendPos = 6;
 			}
 			VariableCPInstruction inst = new VariableCPInstruction(
 				getVariableOperationCode(opcode), in1, in2, in3, out, null, fprops, null, null, opcode, str);
 			inst.addInput(in4);
+			inst._append = parts.length > appendPos && Boolean.parseBoolean(parts[appendPos]);
 
 			return inst;
 
@@ -1052,7 +1068,10 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 			_formatProperties.setDescription(desc);
 		}
 
-		if( getInput1().getDataType() == DataType.SCALAR ) {
+		if( _append && HDFSTool.existsFileOnHDFS(fname) ) {
+			appendToFile(ec, fname, fmt);
+		}
+		else if( getInput1().getDataType() == DataType.SCALAR ) {
 			HDFSTool.writeScalarToHDFS(ec.getScalarInput(getInput1()), fname);
 		}
 		else if( getInput1().getDataType() == DataType.MATRIX ) {
@@ -1118,6 +1137,77 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 			ec.cleanupDataObject(dat);
 	}
 
+	/**
+	 * Helper function to append the rows of a matrix or frame to an existing
+	 * binary or csv file on HDFS, including the update of its metadata file.
+	 *
+	 * @param ec execution context
+	 * @param fname file name
+	 * @param fmt file format
+	 */
+	private void appendToFile(ExecutionContext ec, String fname, FileFormat fmt) {
+		CPOperand in = getInput1();
+		if( !in.isMatrix() && !in.isFrame() )
+			throw new DMLRuntimeException("Append write is only supported for matrices and frames: " + in.getDataType());
+		
+		//obtain and validate metadata of the existing output
+		MetaDataAll mtd = new MetaDataAll(fname + ".mtd", false, true);
+		if( !mtd.mtdExists() || mtd.getFileFormat() != fmt || mtd.getDataType() != in.getDataType() )
+			throw new DMLRuntimeException("Append write requires an existing " + in.getDataType().toString().toLowerCase()
+				+ " in format " + fmt + " with metadata file: " + fname);
+		DataCharacteristics dc = mtd.getDataCharacteristics();
+		FileFormatProperties fprops = (fmt == FileFormat.CSV) ?
+			new FileFormatPropertiesCSV(mtd.getHasHeader(), mtd.getDelim(), mtd.getSparseDelim()) : null;
+		
+		try {
+			if( in.isMatrix() ) {
+				MatrixBlock mb = ec.getMatrixInput(in.getName());
+				MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(fmt, -1, fprops);
+				writer.appendMatrixToHDFS(mb, fname, dc.getRows(), dc.getCols(), dc.getBlocksize());
+				DataCharacteristics dc2 = new MatrixCharacteristics(dc.getRows() + mb.getNumRows(), dc.getCols(),
+					dc.getBlocksize(), dc.nnzKnown() ? dc.getNonZeros() + mb.getNonZeros() : -1);
+				ec.releaseMatrixInput(in.getName());
+				HDFSTool.writeMetaDataFile(fname + ".mtd", ec.getMatrixObject(in).getValueType(), dc2, fmt, fprops);
+			}
+			else {
+				FrameBlock fb = ec.getFrameInput(in.getName());
+				//the existing schema is retained, so the appended rows must match it
+				ValueType[] schema = (mtd.getSchema() != null) ? parseAppendSchema(mtd.getSchema()) : fb.getSchema();
+				if( !isAppendSchemaCompatible(schema, fb.getSchema()) ) {
+					ec.releaseFrameInput(in.getName());
+					throw new DMLRuntimeException("Frame schema mismatch for append: " + Arrays.toString(fb.getSchema())
+						+ " vs " + Arrays.toString(schema) + " of existing file: " + fname);
+				}
+				FrameWriter writer = FrameWriterFactory.createFrameWriter(fmt, fprops);
+				writer.appendFrameToHDFS(fb, fname, dc.getRows(), dc.getCols());
+				DataCharacteristics dc2 = new MatrixCharacteristics(dc.getRows() + fb.getNumRows(), dc.getCols(), -1, -1);
+				ec.releaseFrameInput(in.getName());
+				HDFSTool.writeMetaDataFile(fname + ".mtd", ValueType.UNKNOWN, schema, DataType.FRAME, dc2, fmt, fprops);
+			}
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to append to file: " + fname, ex);
+		}
+	}
+
+	private static ValueType[] parseAppendSchema(String schema) {
+		//unknown value types are written as '*' into the metadata file
+		String[] parts = schema.split(DataExpression.DEFAULT_DELIM_DELIMITER);
+		ValueType[] ret = new ValueType[parts.length];
+		for( int i = 0; i < parts.length; i++ )
+			ret[i] = parts[i].equals("*") ? ValueType.UNKNOWN : ValueType.fromExternalString(parts[i]);
+		return ret;
+	}
+
+	private static boolean isAppendSchemaCompatible(ValueType[] schema, ValueType[] schema2) {
+		if( schema.length != schema2.length )
+			return false;
+		for( int i = 0; i < schema.length; i++ )
+			if( schema[i] != ValueType.UNKNOWN && schema[i] != schema2[i] )
+				return false;
+		return true;
+	}
+
 	/**
 	 * Helper function to write CSV files to HDFS.
 	 *
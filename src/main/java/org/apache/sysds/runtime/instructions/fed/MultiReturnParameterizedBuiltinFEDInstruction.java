@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
@@ -46,6 +47,7 @@ import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRange;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedUDF;
@@ -153,8 +155,8 @@ public class MultiReturnParameterizedBuiltinFEDInstruction extends ComputationFE
 		} else {
 			// first create encoders at the federated workers, then collect them and aggregate them to a single large
 			// encoder
-			MultiColumnEncoder finalGlobalEncoder = globalEncoder;
 			String[] finalColNames = colNames;
+			Map<FederatedRange, MultiColumnEncoder> encoders = new TreeMap<>();
 			fedMapping.forEachParallel((range, data) -> {
 				int columnOffset = (int) range.getBeginDims()[1];
 
@@ -163,14 +165,13 @@ public class MultiReturnParameterizedBuiltinFEDInstruction extends ComputationFE
 				Future<FederatedResponse> responseFuture = data.executeFederatedOperation(new FederatedRequest(
 					RequestType.EXEC_UDF,
 					-1,
-					new CreateFrameEncoder(data.getVarID(), spec, columnOffset + 1)));
+					new CreateFrameEncoder(data.getVarID(), spec, columnOffset + 1, range.getBeginDims()[0])));
 				// collect responses with encoders
 				try {
 					FederatedResponse response = responseFuture.get();
 					MultiColumnEncoder encoder = (MultiColumnEncoder) response.getData()[0];
-					// merge this encoder into a composite encoder
-					synchronized(finalGlobalEncoder) {
-						finalGlobalEncoder.mergeAt(encoder, columnOffset, (int) (range.getBeginDims()[0] + 1));
+					synchronized(encoders) {
+						encoders.put(range, encoder);
 					}
 					// no synchronization necessary since names should anyway match
 					String[] subRangeColNames = (String[]) response.getData()[1];
@@ -181,7 +182,11 @@ public class MultiReturnParameterizedBuiltinFEDInstruction extends ComputationFE
 				}
 				return null;
 			});
-			globalEncoder = finalGlobalEncoder;
+			// merge the encoders into a composite encoder in order of federated ranges, which makes
+			// order-dependent merges (e.g., of quantile sketches) reproducible
+			for(Map.Entry<FederatedRange, MultiColumnEncoder> e : encoders.entrySet())
+				globalEncoder.mergeAt(e.getValue(), (int) e.getKey().getBeginDims()[1],
+					(int) (e.getKey().getBeginDims()[0] + 1));
 			colNames = finalColNames;
 		}
 
@@ -225,7 +230,7 @@ public class MultiReturnParameterizedBuiltinFEDInstruction extends ComputationFE
 			// tell the federated worker how much the indexes in the spec have to be offset.
 			Future<FederatedResponse> responseFuture = data.executeFederatedOperation(
 				new FederatedRequest(RequestType.EXEC_UDF, -1,
-					new CreateFrameEncoder(data.getVarID(), spec, columnOffset + 1)));
+					new CreateFrameEncoder(data.getVarID(), spec, columnOffset + 1, range.getBeginDims()[0])));
 			// collect responses with encoders
 			try {
 				FederatedResponse response = responseFuture.get();
@@ -325,11 +330,13 @@ public class MultiReturnParameterizedBuiltinFEDInstruction extends ComputationFE
 		private static final long serialVersionUID = 2376756757742169692L;
 		private final String _spec;
 		private final int _offset;
+		private final long _rowOffset;
 
-		public CreateFrameEncoder(long input, String spec, int offset) {
+		public CreateFrameEncoder(long input, String spec, int offset, long rowOffset) {
 			super(new long[] {input});
 			_spec = spec;
 			_offset = offset;
+			_rowOffset = rowOffset;
 		}
 
 		@Override
@@ -341,6 +348,8 @@ public class MultiReturnParameterizedBuiltinFEDInstruction extends ComputationFE
 			// create the encoder
 			MultiColumnEncoder encoder = EncoderFactory
 				.createEncoder(_spec, colNames, fb.getNumColumns(), null, _offset, _offset + fb.getNumColumns());
+			// seed the quantile sketches by the row offset of this partition
+			encoder.applyToAll(ColumnEncoderBin.class, e -> e.setRowOffset(_rowOffset));
 
 			// build necessary structures for encoding
 			//encoder.build(fb, OptimizerUtils.getTransformNumThreads()); // FIXME skip equi-height sorting
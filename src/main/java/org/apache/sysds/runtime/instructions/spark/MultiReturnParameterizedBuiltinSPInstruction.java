@@ -58,6 +58,7 @@ import org.apache.sysds.runtime.io.FrameReader;
 import org.apache.sysds.runtime.io.FrameReaderFactory;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.matrix.data.sketch.quantileapprox.KLLSketch;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 import org.apache.sysds.runtime.meta.DataCharacteristics;
 import org.apache.sysds.runtime.transform.TfUtils;
@@ -248,13 +249,24 @@ public class MultiReturnParameterizedBuiltinSPInstruction extends ComputationSPI
 		@Override
 		public Iterator<Tuple2<Integer, Object>> call(Iterator<Tuple2<Long, FrameBlock>> iter) throws Exception {
 			// build meta data (e.g., recoding recode maps and binning min/max)
-			_encoder.prepareBuildPartial();
-			while(iter.hasNext())
-				_encoder.buildPartial(iter.next()._2());
+			List<ColumnEncoderBin> baEncoders = _encoder.getColumnEncoders(ColumnEncoderBin.class);
+			long rowOffset = -1;
+			while(iter.hasNext()) {
+				Tuple2<Long, FrameBlock> in = iter.next();
+				if(rowOffset < 0) {
+					// seed the quantile sketches by the (1-based) first row of the partition
+					final long offset = in._1() - 1;
+					baEncoders.forEach(e -> e.setRowOffset(offset));
+					_encoder.prepareBuildPartial();
+					rowOffset = offset;
+				}
+				_encoder.buildPartial(in._2());
+			}
+			if(rowOffset < 0)
+				_encoder.prepareBuildPartial();
 
 			// encoder-specific outputs
 			List<ColumnEncoderRecode> raEncoders = _encoder.getColumnEncoders(ColumnEncoderRecode.class);
-			List<ColumnEncoderBin> baEncoders = _encoder.getColumnEncoders(ColumnEncoderBin.class);
 			ArrayList<Tuple2<Integer, Object>> ret = new ArrayList<>();
 
 			// output recode maps as columnID - token pairs
@@ -269,14 +281,17 @@ public class MultiReturnParameterizedBuiltinSPInstruction extends ComputationSPI
 					raEncoders.forEach(columnEncoderRecode -> columnEncoderRecode.getCPRecodeMapsPartial().clear());
 			}
 
-			// output binning column min/max as columnID - min/max pairs
-			if(!baEncoders.isEmpty()) {
-				int[] colIDs = _encoder.getFromAllIntArray(ColumnEncoderBin.class, ColumnEncoder::getColID);
-				double[] colMins = _encoder.getFromAllDoubleArray(ColumnEncoderBin.class, ColumnEncoderBin::getColMins);
-				double[] colMaxs = _encoder.getFromAllDoubleArray(ColumnEncoderBin.class, ColumnEncoderBin::getColMaxs);
-				for(int j = 0; j < colIDs.length; j++) {
-					ret.add(new Tuple2<>(colIDs[j], String.valueOf(colMins[j])));
-					ret.add(new Tuple2<>(colIDs[j], String.valueOf(colMaxs[j])));
+			// output binning column min/max as columnID - min/max pairs,
+			// or the partial quantile sketches as columnID - sketch pairs
+			for(ColumnEncoderBin baEncoder : baEncoders) {
+				int colID = baEncoder.getColID();
+				if(baEncoder.getBinMethod() == ColumnEncoderBin.BinMethod.EQUI_HEIGHT_SKETCH) {
+					if(!baEncoder.getSketch().isEmpty())
+						ret.add(new Tuple2<>(colID, new Tuple2<>(rowOffset, baEncoder.getSketch())));
+				}
+				else if(baEncoder.getColMins() <= baEncoder.getColMaxs()) { // skip partitions w/o values
+					ret.add(new Tuple2<>(colID, String.valueOf(baEncoder.getColMins())));
+					ret.add(new Tuple2<>(colID, String.valueOf(baEncoder.getColMaxs())));
 				}
 			}
 
@@ -337,7 +352,20 @@ public class MultiReturnParameterizedBuiltinSPInstruction extends ComputationSPI
 					assert baEncoder != null;
 					baEncoder.computeBins(min, max);
 				}
-				else //TODO: support equi-height
+				else if (baEncoder.getBinMethod() == ColumnEncoderBin.BinMethod.EQUI_HEIGHT_SKETCH) {
+					// merge the partial sketches of all partitions in order of row offsets
+					List<Tuple2<Long, KLLSketch>> parts = new ArrayList<>();
+					while(iter.hasNext()) {
+						@SuppressWarnings("unchecked")
+						Tuple2<Long, KLLSketch> part = (Tuple2<Long, KLLSketch>) iter.next();
+						parts.add(part);
+					}
+					parts.sort((a, b) -> Long.compare(a._1(), b._1()));
+					KLLSketch sketch = ColumnEncoderBin.createSketch(colID, -1);
+					parts.forEach(part -> sketch.merge(part._2()));
+					baEncoder.computeBins(sketch);
+				}
+				else //TODO: support exact equi-height
 					throw new DMLRuntimeException("Binning method "+baEncoder.getBinMethod().toString()
 						+" is not support for Spark");
 
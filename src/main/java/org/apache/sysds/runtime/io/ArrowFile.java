@@ -0,0 +1,801 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.arrow.flatbuf.Block;
+import org.apache.arrow.flatbuf.BodyCompression;
+import org.apache.arrow.flatbuf.BodyCompressionMethod;
+import org.apache.arrow.flatbuf.Bool;
+import org.apache.arrow.flatbuf.Buffer;
+import org.apache.arrow.flatbuf.CompressionType;
+import org.apache.arrow.flatbuf.Endianness;
+import org.apache.arrow.flatbuf.Field;
+import org.apache.arrow.flatbuf.FieldNode;
+import org.apache.arrow.flatbuf.FloatingPoint;
+import org.apache.arrow.flatbuf.Footer;
+import org.apache.arrow.flatbuf.Int;
+import org.apache.arrow.flatbuf.Message;
+import org.apache.arrow.flatbuf.MessageHeader;
+import org.apache.arrow.flatbuf.MetadataVersion;
+import org.apache.arrow.flatbuf.Precision;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.flatbuf.Schema;
+import org.apache.arrow.flatbuf.Type;
+import org.apache.arrow.flatbuf.Utf8;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.BooleanArray;
+import org.apache.sysds.runtime.frame.data.columns.DoubleArray;
+import org.apache.sysds.runtime.frame.data.columns.FloatArray;
+import org.apache.sysds.runtime.frame.data.columns.IntegerArray;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
+import org.apache.sysds.runtime.frame.data.columns.StringArray;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+import ch.randelshofer.fastdoubleparser.JavaDoubleParser;
+
+import com.github.luben.zstd.Zstd;
+import com.google.flatbuffers.FlatBufferBuilder;
+
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * Reader and writer of the Apache Arrow IPC file format (random access format
+ * with footer), implemented directly on the flatbuffer metadata and heap byte
+ * buffers in order to avoid the off-heap memory management of the Arrow Java
+ * vectors (whose allocator requires --add-opens java.base/java.nio on Java 17
+ * for all embeddings of SystemDS, e.g., the Python API). Reads only fetch the buffers of projected columns via positioned
+ * reads, and record batches are read in parallel into disjoint row ranges of
+ * a pre-allocated output. Only flat schemas of boolean, integer, floating point
+ * and string/binary columns are supported, optionally with LZ4 frame or ZSTD
+ * buffer compression.
+ */
+public class ArrowFile 
+{
+	private static final byte[] MAGIC = "ARROW1".getBytes(StandardCharsets.US_ASCII);
+	private static final int CONTINUATION = 0xFFFFFFFF;
+	private static final int NO_COMPRESSION = -1;
+	
+	private final Configuration _conf;
+	private final Path _path;
+	private final String[] _names;
+	private final byte[] _types;
+	private final int[] _bitWidths;
+	private final boolean[] _signed;
+	private final int[] _bufferIndexes;
+	private final long[] _bodyOffsets;
+	private final RecordBatch[] _batches;
+	private final int[] _rowOffsets;
+	
+	public ArrowFile(Path path, Configuration conf) throws IOException {
+		_conf = conf;
+		_path = path;
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, conf);
+		long len = fs.getFileStatus(path).getLen();
+		try(FSDataInputStream in = fs.open(path)) {
+			//read and validate trailer (footer length, magic)
+			byte[] head = new byte[MAGIC.length];
+			byte[] tail = new byte[4 + MAGIC.length];
+			if(len < 2 * MAGIC.length + 4)
+				throw new IOException("Invalid arrow file (too short): " + path);
+			in.readFully(0, head);
+			in.readFully(len - tail.length, tail);
+			if(!Arrays.equals(head, MAGIC) || !Arrays.equals(Arrays.copyOfRange(tail, 4, tail.length), MAGIC))
+				throw new IOException("Invalid arrow file (magic mismatch): " + path);
+			int flen = wrap(tail).getInt(0);
+			byte[] fbuf = new byte[flen];
+			in.readFully(len - tail.length - flen, fbuf);
+			Footer footer = Footer.getRootAsFooter(wrap(fbuf));
+			
+			//parse schema of flat fields
+			Schema schema = footer.schema();
+			if(schema.endianness() != Endianness.Little)
+				throw new IOException("Unsupported big-endian arrow file: " + path);
+			int ncol = schema.fieldsLength();
+			_names = new String[ncol];
+			_types = new byte[ncol];
+			_bitWidths = new int[ncol];
+			_signed = new boolean[ncol];
+			_bufferIndexes = new int[ncol];
+			int bufferIndex = 0;
+			for(int j = 0; j < ncol; j++) {
+				Field f = schema.fields(j);
+				_names[j] = f.name();
+				_types[j] = f.typeType();
+				if(f.childrenLength() > 0 || f.dictionary() != null)
+					throw new IOException("Unsupported nested or dictionary-encoded arrow field: " + f.name());
+				if(_types[j] == Type.Int) {
+					Int t = (Int) f.type(new Int());
+					_bitWidths[j] = t.bitWidth();
+					_signed[j] = t.isSigned();
+				}
+				else if(_types[j] == Type.FloatingPoint)
+					_bitWidths[j] = ((FloatingPoint) f.type(new FloatingPoint())).precision();
+				_bufferIndexes[j] = bufferIndex;
+				bufferIndex += getNumBuffers(_types[j], f.name());
+			}
+			
+			//read record batch metadata and row offsets
+			int nbatch = footer.recordBatchesLength();
+			_bodyOffsets = new long[nbatch];
+			_batches = new RecordBatch[nbatch];
+			_rowOffsets = new int[nbatch + 1];
+			for(int i = 0; i < nbatch; i++) {
+				Block block = footer.recordBatches(i);
+				byte[] mbuf = new byte[block.metaDataLength()];
+				in.readFully(block.offset(), mbuf);
+				ByteBuffer bb = wrap(mbuf);
+				bb.position(bb.getInt(0) == CONTINUATION ? 8 : 4);
+				Message msg = Message.getRootAsMessage(bb);
+				if(msg.headerType() != MessageHeader.RecordBatch)
+					throw new IOException("Invalid arrow record batch message: " + msg.headerType());
+				_batches[i] = (RecordBatch) msg.header(new RecordBatch());
+				_bodyOffsets[i] = block.offset() + block.metaDataLength();
+				long nrow = _rowOffsets[i] + _batches[i].length();
+				if(nrow > Integer.MAX_VALUE)
+					throw new IOException("Arrow file exceeds maximum number of rows: " + nrow);
+				_rowOffsets[i + 1] = (int) nrow;
+			}
+		}
+	}
+	
+	public String[] getColumnNames() {
+		return _names;
+	}
+	
+	public int getNumRows() {
+		return _rowOffsets[_batches.length];
+	}
+	
+	/**
+	 * Gets the indexes of the given columns, and checks that all columns exist
+	 * and are of supported types.
+	 * 
+	 * @param columns column names, or null for all columns
+	 * @return column indexes
+	 */
+	public int[] getProjection(String[] columns) {
+		int[] ret = new int[(columns != null) ? columns.length : _names.length];
+		for(int j = 0; j < ret.length; j++) {
+			ret[j] = (columns != null) ? Arrays.asList(_names).indexOf(columns[j]) : j;
+			if(ret[j] < 0)
+				throw new IllegalArgumentException("Column '" + columns[j] + "' not found in arrow file " + _path);
+			if(getValueType(ret[j]) == null)
+				throw new IllegalArgumentException("Unsupported type of arrow column '"
+					+ _names[ret[j]] + "': " + Type.name(_types[ret[j]]));
+		}
+		return ret;
+	}
+	
+	public ValueType[] getValueTypes(int[] cols) {
+		ValueType[] ret = new ValueType[cols.length];
+		for(int j = 0; j < cols.length; j++)
+			ret[j] = getValueType(cols[j]);
+		return ret;
+	}
+	
+	private ValueType getValueType(int col) {
+		switch(_types[col]) {
+			case Type.Bool: return ValueType.BOOLEAN;
+			case Type.Int: return (_bitWidths[col] < 32 || _bitWidths[col] == 32 && _signed[col]) ?
+				ValueType.INT32 : ValueType.INT64;
+			case Type.FloatingPoint: return (_bitWidths[col] == Precision.SINGLE) ? ValueType.FP32 :
+				(_bitWidths[col] == Precision.DOUBLE) ? ValueType.FP64 : null;
+			case Type.Utf8:
+			case Type.Binary:
+			case Type.LargeUtf8:
+			case Type.LargeBinary: return ValueType.STRING;
+			default: return null;
+		}
+	}
+	
+	private static int getNumBuffers(byte type, String name) throws IOException {
+		switch(type) {
+			case Type.Null: return 0;
+			case Type.Utf8:
+			case Type.Binary:
+			case Type.LargeUtf8:
+			case Type.LargeBinary: return 3;
+			case Type.Bool:
+			case Type.Int:
+			case Type.FloatingPoint:
+			case Type.Decimal:
+			case Type.Date:
+			case Type.Time:
+			case Type.Timestamp:
+			case Type.Interval:
+			case Type.Duration:
+			case Type.FixedSizeBinary: return 2;
+			default:
+				throw new IOException("Unsupported type of arrow field '" + name + "': " + Type.name(type));
+		}
+	}
+	
+	/**
+	 * Reads the given columns of all record batches, where record batches are read in parallel.
+	 * 
+	 * @param cols column indexes (see getProjection)
+	 * @param k degree of parallelism
+	 * @param consumer column consumer (thread-safe for disjoint row ranges)
+	 * @return aggregated return values of the column consumer (e.g., nnz)
+	 * @throws IOException if the read fails
+	 */
+	public long read(int[] cols, int k, ColumnConsumer consumer) throws IOException {
+		int nbatch = _batches.length;
+		int len = Math.max((int) Math.ceil((double) nbatch / k), 1);
+		if(k <= 1 || nbatch <= len)
+			return read(0, nbatch, cols, consumer);
+		
+		ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			List<Callable<Long>> tasks = new ArrayList<>();
+			for(int i = 0; i < nbatch; i += len) {
+				final int bl = i, bu = Math.min(i + len, nbatch);
+				tasks.add(() -> read(bl, bu, cols, consumer));
+			}
+			long ret = 0;
+			for(Future<Long> task : pool.invokeAll(tasks))
+				ret += task.get();
+			return ret;
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed parallel read of arrow file.", ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+	
+	private long read(int bl, int bu, int[] cols, ColumnConsumer consumer) throws IOException {
+		long ret = 0;
+		FileSystem fs = IOUtilFunctions.getFileSystem(_path, _conf);
+		try(FSDataInputStream in = fs.open(_path)) {
+			for(int i = bl; i < bu; i++) {
+				RecordBatch batch = _batches[i];
+				BodyCompression comp = batch.compression();
+				int codec = (comp != null) ? comp.codec() : NO_COMPRESSION;
+				for(int j = 0; j < cols.length; j++) {
+					int c = cols[j];
+					FieldNode node = batch.nodes(c);
+					int b = _bufferIndexes[c];
+					ByteBuffer validity = (node.nullCount() > 0) ?
+						readBuffer(in, _bodyOffsets[i], batch.buffers(b), codec) : null;
+					ByteBuffer offsets = (getValueType(c) == ValueType.STRING) ?
+						readBuffer(in, _bodyOffsets[i], batch.buffers(b + 1), codec) : null;
+					ByteBuffer values = readBuffer(in, _bodyOffsets[i],
+						batch.buffers((offsets != null) ? b + 2 : b + 1), codec);
+					ColumnChunk chunk = new ColumnChunk(_types[c], _bitWidths[c],
+						_signed[c], validity, offsets, values);
+					ret += consumer.consume(j, chunk, _rowOffsets[i], _rowOffsets[i + 1]);
+				}
+			}
+		}
+		return ret;
+	}
+	
+	private static ByteBuffer readBuffer(FSDataInputStream in, long bodyOffset, Buffer buffer, int codec)
+		throws IOException
+	{
+		byte[] buf = new byte[(int) buffer.length()];
+		in.readFully(bodyOffset + buffer.offset(), buf);
+		if(codec == NO_COMPRESSION || buf.length == 0)
+			return wrap(buf);
+		
+		//decompress buffer (int64 uncompressed length, -1 if not compressed)
+		long ulen = wrap(buf).getLong(0);
+		if(ulen == -1)
+			return wrap(Arrays.copyOfRange(buf, 8, buf.length));
+		byte[] ret = new byte[(int) ulen];
+		if(codec == CompressionType.ZSTD) {
+			long n = Zstd.decompressByteArray(ret, 0, ret.length, buf, 8, buf.length - 8);
+			if(Zstd.isError(n) || n != ulen)
+				throw new IOException("Failed ZSTD decompression of arrow buffer: " + Zstd.getErrorName(n));
+		}
+		else {
+			try(InputStream is = new LZ4FrameInputStream(new ByteArrayInputStream(buf, 8, buf.length - 8))) {
+				new DataInputStream(is).readFully(ret);
+			}
+		}
+		return wrap(ret);
+	}
+	
+	/**
+	 * Reads a column chunk into a column of the native value type.
+	 * Null values are represented as the default value of the type.
+	 * 
+	 * @param chunk column chunk
+	 * @param out output column (see ParquetFileSet.allocateColumn)
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 */
+	public static void readColumn(ColumnChunk chunk, Array<?> out, int rl, int ru) {
+		switch(out.getValueType()) {
+			case BOOLEAN: {
+				boolean[] a = ((BooleanArray) out).get();
+				for(int i = rl; i < ru; i++)
+					a[i] = chunk.isValid(i - rl) && chunk.getBoolean(i - rl);
+				break;
+			}
+			case INT32: {
+				int[] a = ((IntegerArray) out).get();
+				for(int i = rl; i < ru; i++)
+					if(chunk.isValid(i - rl))
+						a[i] = (int) chunk.getLong(i - rl);
+				break;
+			}
+			case INT64: {
+				long[] a = ((LongArray) out).get();
+				for(int i = rl; i < ru; i++)
+					if(chunk.isValid(i - rl))
+						a[i] = chunk.getLong(i - rl);
+				break;
+			}
+			case FP32: {
+				float[] a = ((FloatArray) out).get();
+				for(int i = rl; i < ru; i++)
+					if(chunk.isValid(i - rl))
+						a[i] = (float) chunk.getDouble(i - rl);
+				break;
+			}
+			case FP64: {
+				double[] a = ((DoubleArray) out).get();
+				for(int i = rl; i < ru; i++)
+					if(chunk.isValid(i - rl))
+						a[i] = chunk.getDouble(i - rl);
+				break;
+			}
+			default: {
+				String[] a = ((StringArray) out).get();
+				for(int i = rl; i < ru; i++)
+					if(chunk.isValid(i - rl))
+						a[i] = chunk.getString(i - rl);
+			}
+		}
+	}
+	
+	/**
+	 * Reads a column chunk into a column of a dense matrix block. Null values
+	 * are represented as NaN, and strings are parsed as doubles.
+	 * 
+	 * @param chunk column chunk
+	 * @param out output dense block
+	 * @param col column index
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @return number of non-zeros
+	 */
+	public static long readColumn(ColumnChunk chunk, DenseBlock out, int col, int rl, int ru) {
+		long nnz = 0;
+		for(int i = rl; i < ru; i++) {
+			double v = chunk.isValid(i - rl) ? chunk.getDouble(i - rl) : Double.NaN;
+			if(v != 0) {
+				out.set(i, col, v);
+				nnz++;
+			}
+		}
+		return nnz;
+	}
+	
+	/**
+	 * Writes nrow rows as a single arrow file with record batches of batchSize
+	 * rows, overwriting existing files. Boolean, integer and floating point value
+	 * types are written as the respective arrow types, and all other value types
+	 * as UTF-8 strings.
+	 * 
+	 * @param path file path
+	 * @param conf hadoop configuration
+	 * @param names column names
+	 * @param schema value types
+	 * @param nrow number of rows
+	 * @param batchSize number of rows per record batch
+	 * @param codec compression codec (lz4, zstd, or null for uncompressed)
+	 * @param src cell source
+	 * @throws IOException if the write fails
+	 */
+	public static void write(Path path, Configuration conf, String[] names, ValueType[] schema, int nrow,
+		int batchSize, String codec, CellSource src) throws IOException
+	{
+		int comp = getCompressionType(codec);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, conf);
+		try(FSDataOutputStream out = fs.create(path, true)) {
+			out.write(MAGIC);
+			out.write(new byte[2]); //padding to 8 bytes
+			
+			//write schema message
+			FlatBufferBuilder b = new FlatBufferBuilder();
+			int schemaOff = createSchema(b, names, schema);
+			writeMessage(out, b, MessageHeader.Schema, schemaOff, 0);
+			
+			//write record batches
+			List<long[]> blocks = new ArrayList<>();
+			for(int rl = 0; rl < nrow; rl += batchSize) {
+				int ru = Math.min(rl + batchSize, nrow);
+				List<byte[]> buffers = new ArrayList<>();
+				long[] nullCounts = new long[schema.length];
+				for(int j = 0; j < schema.length; j++)
+					nullCounts[j] = encodeColumn(src, j, schema[j], rl, ru, comp, buffers);
+				
+				b = new FlatBufferBuilder();
+				long[] offsets = new long[buffers.size()];
+				long bodyLength = 0;
+				for(int i = 0; i < offsets.length; i++) {
+					offsets[i] = bodyLength;
+					bodyLength += align(buffers.get(i).length);
+				}
+				RecordBatch.startNodesVector(b, schema.length);
+				for(int j = schema.length - 1; j >= 0; j--)
+					FieldNode.createFieldNode(b, ru - rl, nullCounts[j]);
+				int nodesOff = b.endVector();
+				RecordBatch.startBuffersVector(b, offsets.length);
+				for(int i = offsets.length - 1; i >= 0; i--)
+					Buffer.createBuffer(b, offsets[i], buffers.get(i).length);
+				int buffersOff = b.endVector();
+				int compOff = (comp != NO_COMPRESSION) ?
+					BodyCompression.createBodyCompression(b, (byte) comp, BodyCompressionMethod.BUFFER) : 0;
+				int batchOff = RecordBatch.createRecordBatch(b, ru - rl, nodesOff, buffersOff, compOff);
+				long offset = out.getPos();
+				int metaLength = writeMessage(out, b, MessageHeader.RecordBatch, batchOff, bodyLength);
+				for(byte[] buf : buffers) {
+					out.write(buf);
+					out.write(new byte[align(buf.length) - buf.length]);
+				}
+				blocks.add(new long[] {offset, metaLength, bodyLength});
+			}
+			
+			//write end-of-stream marker, footer, and trailer
+			writeInt(out, CONTINUATION);
+			writeInt(out, 0);
+			b = new FlatBufferBuilder();
+			schemaOff = createSchema(b, names, schema);
+			Footer.startDictionariesVector(b, 0);
+			int dictsOff = b.endVector();
+			Footer.startRecordBatchesVector(b, blocks.size());
+			for(int i = blocks.size() - 1; i >= 0; i--)
+				Block.createBlock(b, blocks.get(i)[0], (int) blocks.get(i)[1], blocks.get(i)[2]);
+			int blocksOff = b.endVector();
+			b.finish(Footer.createFooter(b, MetadataVersion.V5, schemaOff, dictsOff, blocksOff, 0));
+			byte[] footer = b.sizedByteArray();
+			out.write(footer);
+			writeInt(out, footer.length);
+			out.write(MAGIC);
+		}
+	}
+	
+	private static int getCompressionType(String codec) {
+		if(codec == null || codec.equalsIgnoreCase("uncompressed") || codec.equalsIgnoreCase("none"))
+			return NO_COMPRESSION;
+		else if(codec.equalsIgnoreCase("lz4") || codec.equalsIgnoreCase("lz4_frame"))
+			return CompressionType.LZ4_FRAME;
+		else if(codec.equalsIgnoreCase("zstd"))
+			return CompressionType.ZSTD;
+		throw new IllegalArgumentException("Unsupported arrow compression codec: " + codec);
+	}
+	
+	private static int createSchema(FlatBufferBuilder b, String[] names, ValueType[] schema) {
+		int[] fields = new int[schema.length];
+		for(int j = 0; j < schema.length; j++) {
+			int nameOff = b.createString(names[j]);
+			byte type;
+			int typeOff;
+			switch(schema[j]) {
+				case BOOLEAN:
+					Bool.startBool(b);
+					type = Type.Bool; typeOff = Bool.endBool(b); break;
+				case UINT4:
+				case UINT8:
+				case INT32:
+					type = Type.Int; typeOff = Int.createInt(b, 32, true); break;
+				case INT64:
+					type = Type.Int; typeOff = Int.createInt(b, 64, true); break;
+				case FP32:
+					type = Type.FloatingPoint; typeOff = FloatingPoint.createFloatingPoint(b, Precision.SINGLE); break;
+				case FP64:
+					type = Type.FloatingPoint; typeOff = FloatingPoint.createFloatingPoint(b, Precision.DOUBLE); break;
+				default:
+					Utf8.startUtf8(b);
+					type = Type.Utf8; typeOff = Utf8.endUtf8(b);
+			}
+			fields[j] = Field.createField(b, nameOff, true, type, typeOff, 0, 0, 0);
+		}
+		int fieldsOff = Schema.createFieldsVector(b, fields);
+		return Schema.createSchema(b, Endianness.Little, fieldsOff, 0, 0);
+	}
+	
+	private static long encodeColumn(CellSource src, int col, ValueType vt, int rl, int ru, int comp,
+		List<byte[]> buffers) throws IOException
+	{
+		int n = ru - rl;
+		byte[] validity = new byte[(n + 7) / 8];
+		long nullCount = 0;
+		switch(vt) {
+			case BOOLEAN: {
+				byte[] values = new byte[(n + 7) / 8];
+				for(int i = 0; i < n; i++) {
+					Object o = src.get(rl + i, col);
+					if(o == null)
+						nullCount++;
+					else {
+						validity[i >> 3] |= 1 << (i & 7);
+						if((Boolean) o)
+							values[i >> 3] |= 1 << (i & 7);
+					}
+				}
+				addBuffers(buffers, comp, nullCount, validity, values);
+				break;
+			}
+			case UINT4:
+			case UINT8:
+			case INT32: {
+				ByteBuffer values = ByteBuffer.allocate(4 * n).order(ByteOrder.LITTLE_ENDIAN);
+				for(int i = 0; i < n; i++) {
+					Object o = src.get(rl + i, col);
+					if(o == null)
+						nullCount++;
+					else {
+						validity[i >> 3] |= 1 << (i & 7);
+						values.putInt(4 * i, ((Number) o).intValue());
+					}
+				}
+				addBuffers(buffers, comp, nullCount, validity, values.array());
+				break;
+			}
+			case INT64: {
+				ByteBuffer values = ByteBuffer.allocate(8 * n).order(ByteOrder.LITTLE_ENDIAN);
+				for(int i = 0; i < n; i++) {
+					Object o = src.get(rl + i, col);
+					if(o == null)
+						nullCount++;
+					else {
+						validity[i >> 3] |= 1 << (i & 7);
+						values.putLong(8 * i, ((Number) o).longValue());
+					}
+				}
+				addBuffers(buffers, comp, nullCount, validity, values.array());
+				break;
+			}
+			case FP32: {
+				ByteBuffer values = ByteBuffer.allocate(4 * n).order(ByteOrder.LITTLE_ENDIAN);
+				for(int i = 0; i < n; i++) {
+					Object o = src.get(rl + i, col);
+					if(o == null)
+						nullCount++;
+					else {
+						validity[i >> 3] |= 1 << (i & 7);
+						values.putFloat(4 * i, ((Number) o).floatValue());
+					}
+				}
+				addBuffers(buffers, comp, nullCount, validity, values.array());
+				break;
+			}
+			case FP64: {
+				ByteBuffer values = ByteBuffer.allocate(8 * n).order(ByteOrder.LITTLE_ENDIAN);
+				for(int i = 0; i < n; i++) {
+					if(src.isNull(rl + i, col))
+						nullCount++;
+					else {
+						validity[i >> 3] |= 1 << (i & 7);
+						values.putDouble(8 * i, src.getDouble(rl + i, col));
+					}
+				}
+				addBuffers(buffers, comp, nullCount, validity, values.array());
+				break;
+			}
+			default: {
+				ByteBuffer offsets = ByteBuffer.allocate(4 * (n + 1)).order(ByteOrder.LITTLE_ENDIAN);
+				ByteArrayOutputStream values = new ByteArrayOutputStream();
+				for(int i = 0; i < n; i++) {
+					Object o = src.get(rl + i, col);
+					if(o == null)
+						nullCount++;
+					else {
+						validity[i >> 3] |= 1 << (i & 7);
+						values.write(o.toString().getBytes(StandardCharsets.UTF_8));
+					}
+					offsets.putInt(4 * (i + 1), values.size());
+				}
+				addBuffers(buffers, comp, nullCount, validity, offsets.array(), values.toByteArray());
+			}
+		}
+		return nullCount;
+	}
+	
+	private static void addBuffers(List<byte[]> buffers, int comp, long nullCount, byte[]... bufs)
+		throws IOException
+	{
+		//omit validity buffer if no nulls
+		if(nullCount == 0)
+			bufs[0] = new byte[0];
+		for(byte[] buf : bufs)
+			buffers.add(compress(buf, comp));
+	}
+	
+	private static byte[] compress(byte[] buf, int comp) throws IOException {
+		if(comp == NO_COMPRESSION || buf.length == 0)
+			return buf;
+		byte[] cbuf;
+		if(comp == CompressionType.ZSTD)
+			cbuf = Zstd.compress(buf);
+		else {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			try(OutputStream os = new LZ4FrameOutputStream(bos)) {
+				os.write(buf);
+			}
+			cbuf = bos.toByteArray();
+		}
+		//prefix with uncompressed length, or keep uncompressed if not beneficial
+		ByteBuffer ret;
+		if(cbuf.length < buf.length) {
+			ret = ByteBuffer.allocate(8 + cbuf.length).order(ByteOrder.LITTLE_ENDIAN);
+			ret.putLong(buf.length).put(cbuf);
+		}
+		else {
+			ret = ByteBuffer.allocate(8 + buf.length).order(ByteOrder.LITTLE_ENDIAN);
+			ret.putLong(-1).put(buf);
+		}
+		return ret.array();
+	}
+	
+	private static int writeMessage(OutputStream out, FlatBufferBuilder b, byte headerType, int headerOff,
+		long bodyLength) throws IOException
+	{
+		b.finish(Message.createMessage(b, MetadataVersion.V5, headerType, headerOff, bodyLength, 0));
+		byte[] msg = b.sizedByteArray();
+		int len = align(msg.length);
+		writeInt(out, CONTINUATION);
+		writeInt(out, len);
+		out.write(msg);
+		out.write(new byte[len - msg.length]);
+		return 8 + len;
+	}
+	
+	private static void writeInt(OutputStream out, int val) throws IOException {
+		out.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(val).array());
+	}
+	
+	private static int align(int len) {
+		return (len + 7) & ~7;
+	}
+	
+	private static ByteBuffer wrap(byte[] buf) {
+		return ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+	}
+	
+	/**
+	 * Buffers of a single column of a record batch.
+	 */
+	public static class ColumnChunk {
+		private final byte _type;
+		private final int _bitWidth;
+		private final boolean _signed;
+		private final ByteBuffer _validity;
+		private final ByteBuffer _offsets;
+		private final ByteBuffer _values;
+		
+		protected ColumnChunk(byte type, int bitWidth, boolean signed,
+			ByteBuffer validity, ByteBuffer offsets, ByteBuffer values)
+		{
+			_type = type;
+			_bitWidth = bitWidth;
+			_signed = signed;
+			_validity = validity;
+			_offsets = offsets;
+			_values = values;
+		}
+		
+		public boolean isValid(int i) {
+			return _validity == null || (_validity.get(i >> 3) & (1 << (i & 7))) != 0;
+		}
+		
+		public boolean getBoolean(int i) {
+			return (_values.get(i >> 3) & (1 << (i & 7))) != 0;
+		}
+		
+		public long getLong(int i) {
+			switch(_bitWidth) {
+				case 8:  return _signed ? _values.get(i) : _values.get(i) & 0xFFL;
+				case 16: return _signed ? _values.getShort(2 * i) : _values.getShort(2 * i) & 0xFFFFL;
+				case 32: return _signed ? _values.getInt(4 * i) : _values.getInt(4 * i) & 0xFFFFFFFFL;
+				default: return _values.getLong(8 * i);
+			}
+		}
+		
+		public double getDouble(int i) {
+			switch(_type) {
+				case Type.Bool: return getBoolean(i) ? 1 : 0;
+				case Type.Int: return getLong(i);
+				case Type.FloatingPoint: return (_bitWidth == Precision.SINGLE) ?
+					_values.getFloat(4 * i) : _values.getDouble(8 * i);
+				default: {
+					int beg = getOffset(i), end = getOffset(i + 1);
+					byte[] buf = _values.array();
+					beg = IOUtilFunctions.trimBegin(buf, beg, end);
+					end = IOUtilFunctions.trimEnd(buf, beg, end);
+					return (beg == end) ? Double.NaN : JavaDoubleParser.parseDouble(buf, beg, end - beg);
+				}
+			}
+		}
+		
+		public String getString(int i) {
+			int beg = getOffset(i);
+			return new String(_values.array(), beg, getOffset(i + 1) - beg, StandardCharsets.UTF_8);
+		}
+		
+		private int getOffset(int i) {
+			return (_type == Type.LargeUtf8 || _type == Type.LargeBinary) ?
+				(int) _offsets.getLong(8 * i) : _offsets.getInt(4 * i);
+		}
+	}
+	
+	public interface ColumnConsumer {
+		/**
+		 * Consumes the values of rows [rl, ru) of a single column chunk.
+		 * 
+		 * @param col column index in the projection
+		 * @param chunk column chunk
+		 * @param rl row lower bound (inclusive)
+		 * @param ru row upper bound (exclusive)
+		 * @return arbitrary count (e.g., nnz) to aggregate
+		 * @throws IOException if the read fails
+		 */
+		long consume(int col, ColumnChunk chunk, int rl, int ru) throws IOException;
+	}
+	
+	public interface CellSource {
+		/**
+		 * Gets the value of the given cell, or null for missing values.
+		 * 
+		 * @param row row index
+		 * @param col column index
+		 * @return cell value or null
+		 */
+		Object get(int row, int col);
+		
+		default boolean isNull(int row, int col) {
+			return get(row, col) == null;
+		}
+		
+		default double getDouble(int row, int col) {
+			return ((Number) get(row, col)).doubleValue();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.util.Arrays;
+
+/**
+ * Properties of the columnar formats Parquet and Arrow: an optional projection
+ * of columns (by name) for reads, and the compression codec for writes, where
+ * null refers to the format default (snappy for Parquet, none for Arrow).
+ */
+public class FileFormatPropertiesColumnar extends FileFormatProperties 
+{
+	private final String[] _columns;
+	private final String _codec;
+	
+	public FileFormatPropertiesColumnar() {
+		this(null, null);
+	}
+	
+	public FileFormatPropertiesColumnar(String[] columns) {
+		this(columns, null);
+	}
+	
+	public FileFormatPropertiesColumnar(String[] columns, String codec) {
+		_columns = columns;
+		_codec = codec;
+	}
+	
+	/**
+	 * Gets the names of projected columns, or null for all columns.
+	 * 
+	 * @return array of column names or null
+	 */
+	public String[] getColumns() {
+		return _columns;
+	}
+	
+	public boolean hasProjection() {
+		return _columns != null;
+	}
+	
+	public String getCodec() {
+		return _codec;
+	}
+	
+	public String getCodec(String defaultCodec) {
+		return (_codec != null) ? _codec : defaultCodec;
+	}
+	
+	public static FileFormatPropertiesColumnar get(FileFormatProperties props) {
+		return (props instanceof FileFormatPropertiesColumnar) ?
+			(FileFormatPropertiesColumnar) props : new FileFormatPropertiesColumnar();
+	}
+	
+	@Override
+	public String toString() {
+		return "columns " + Arrays.toString(_columns) + ", codec " + _codec;
+	}
+}
@@ -29,6 +29,10 @@ public class FileFormatPropertiesHDF5 extends FileFormatProperties implements Se
 	private static final long serialVersionUID = 8646275033790103030L;
 
 	private String datasetName;
+	// chunk dimensions for chunked writes (null for contiguous layout)
+	private int[] chunkDims;
+	// deflate compression level of chunks (-1 for uncompressed chunks)
+	private int deflateLevel = -1;
 
 	public FileFormatPropertiesHDF5() {
 		this.datasetName = "systemdsh5";
@@ -38,13 +42,33 @@ public class FileFormatPropertiesHDF5 extends FileFormatProperties implements Se
 		this.datasetName = datasetName;
 	}
 
+	public FileFormatPropertiesHDF5(String datasetName, int chunkRows, int chunkCols, int deflateLevel) {
+		this.datasetName = datasetName;
+		this.chunkDims = new int[] {chunkRows, chunkCols};
+		this.deflateLevel = deflateLevel;
+	}
+
 	public String getDatasetName() {
 		return datasetName;
 	}
 
+	public boolean isChunked() {
+		return chunkDims != null;
+	}
+
+	public int[] getChunkDims() {
+		return chunkDims;
+	}
+
+	public int getDeflateLevel() {
+		return deflateLevel;
+	}
+
 	@Override public String toString() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(" datasetName " + datasetName);
+		if(isChunked())
+			sb.append(" chunks " + chunkDims[0] + "x" + chunkDims[1] + " deflate " + deflateLevel);
 		return sb.toString();
 	}
 }
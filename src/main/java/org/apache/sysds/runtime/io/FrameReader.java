@@ -31,6 +31,8 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.StringDDCArrayBuilder;
 import org.apache.sysds.runtime.util.HDFSTool;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
@@ -72,6 +74,38 @@ public abstract class FrameReader {
 		return readFrameFromInputStream(is, getDefSchema(clen), getDefColNames(clen), rlen, clen);
 	}
 
+	/**
+	 * Reads the frame in row batches and passes each batch to the given consumer, which allows streaming over frames
+	 * larger than the available memory. The batches are passed in order of their rows, and all batches except the last
+	 * have the given number of rows. By default, batch reads are not supported.
+	 * 
+	 * @param fname     file name of the frame
+	 * @param schema    schema as array of ValueTypes
+	 * @param names     column names
+	 * @param clen      number of columns
+	 * @param batchSize number of rows per batch
+	 * @param consumer  consumer of the row batches
+	 * @throws IOException if IOException occurs
+	 */
+	public void readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long clen, int batchSize,
+		FrameBatchConsumer consumer) throws IOException, DMLRuntimeException {
+		throw new IOException("Batch read is not supported by " + getClass().getSimpleName() + ".");
+	}
+
+	/**
+	 * Consumer of the row batches of a batch read.
+	 */
+	public interface FrameBatchConsumer {
+		/**
+		 * Process the next row batch.
+		 * 
+		 * @param rowOffset row index of the first row of the batch (0-based)
+		 * @param batch     frame block of the batch rows
+		 * @throws IOException if IOException occurs
+		 */
+		void accept(long rowOffset, FrameBlock batch) throws IOException;
+	}
+
 	public ValueType[] getDefSchema(long clen) throws DMLRuntimeException {
 		int lclen = Math.max((int) clen, 1);
 		return UtilFunctions.nCopies(lclen, ValueType.STRING);
@@ -104,6 +138,23 @@ public abstract class FrameReader {
 		return ret;
 	}
 
+	protected static FrameBlock createOutputFrameBlock(ValueType[] schema, String[] names, long nrow,
+		StringDDCArrayBuilder[] dict) throws IOException {
+		if(dict == null)
+			return createOutputFrameBlock(schema, names, nrow);
+		// check schema and column names
+		if(!OptimizerUtils.isValidCPDimensions(schema, names))
+			throw new DMLRuntimeException("Schema and names to be define with equal size.:" +
+				 schema.length + " vs "+ names.length);
+
+		// prepare result frame block, where the dictionary-encoded columns are set after read
+		FrameBlock ret = new FrameBlock(schema, names, (int) nrow);
+		for(int j = 0; j < schema.length; j++)
+			if(dict[j] == null)
+				ret.setColumn(j, ArrayFactory.allocate(schema[j], (int) nrow));
+		return ret;
+	}
+
 	protected static ValueType[] createOutputSchema(ValueType[] schema, long ncol) {
 		if(schema.length == 1 && ncol > 1)
 			return UtilFunctions.nCopies((int) ncol, schema[0]);
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+
+/**
+ * Frame reader for Arrow IPC files, where all (or the projected) column buffers
+ * are read directly into typed columns of the native value types of the file
+ * schema, with record batches read in parallel. The column names are taken from
+ * the file schema, and columns are only converted if the given schema is fully
+ * known but differs from the file schema.
+ */
+public class FrameReaderArrow extends FrameReader {
+	private final FileFormatPropertiesColumnar _props;
+	private final int _numThreads;
+
+	public FrameReaderArrow(FileFormatPropertiesColumnar props, int numThreads) {
+		_props = props;
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		//read footer and determine dimensions
+		ArrowFile file = new ArrowFile(path, job);
+		int[] proj = file.getProjection(_props.getColumns());
+		ValueType[] fschema = file.getValueTypes(proj);
+		int nrow = file.getNumRows();
+		if(!OptimizerUtils.isValidCPDimensions(nrow, fschema.length))
+			throw new DMLRuntimeException("Frame dimensions too large for CP runtime: " + nrow + " x " + fschema.length);
+		if((rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != fschema.length))
+			throw new IOException("Read frame dimensions differ from meta data: ["
+				+ nrow + "x" + fschema.length + "] vs. [" + rlen + "x" + clen + "].");
+
+		String[] fnames = new String[fschema.length];
+		for(int j = 0; j < fschema.length; j++)
+			fnames[j] = file.getColumnNames()[proj[j]];
+		if(nrow == 0)
+			return new FrameBlock(fschema, fnames);
+
+		//core read of column buffers into typed columns
+		Array<?>[] cols = new Array<?>[fschema.length];
+		for(int j = 0; j < fschema.length; j++)
+			cols[j] = ParquetFileSet.allocateColumn(fschema[j], nrow);
+		file.read(proj, _numThreads, (j, chunk, rl, ru) -> {
+			ArrowFile.readColumn(chunk, cols[j], rl, ru);
+			return 0;
+		});
+
+		//convert to given schema if known
+		if(schema != null && schema.length == cols.length)
+			for(int j = 0; j < cols.length; j++)
+				if(schema[j] != fschema[j] && schema[j] != ValueType.UNKNOWN)
+					cols[j] = cols[j].changeType(schema[j]);
+		return new FrameBlock(cols, fnames);
+	}
+
+	@Override
+	public FrameBlock readFrameFromInputStream(InputStream is, ValueType[] schema, String[] names, long rlen,
+		long clen) throws IOException, DMLRuntimeException
+	{
+		throw new DMLRuntimeException("Arrow reads from input streams are not supported.");
+	}
+}
@@ -31,6 +31,7 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.StringDDCArrayBuilder;
 
 /**
  * Single-threaded frame binary block reader.
@@ -43,10 +44,11 @@ public class FrameReaderBinaryBlock extends FrameReader {
 	@Override
 	public final FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen)
 		throws IOException, DMLRuntimeException {
-		// allocate output frame block
+		// allocate output frame block (columns allocated on demand)
 		ValueType[] lschema = createOutputSchema(schema, clen);
 		String[] lnames = createOutputNames(names, clen);
 		FrameBlock ret = new FrameBlock(lschema, lnames, (int) rlen);
+		StringDDCArrayBuilder[] dict = StringDDCArrayBuilder.create(lschema, rlen);
 
 		// prepare file access
 		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
@@ -57,7 +59,8 @@ public class FrameReaderBinaryBlock extends FrameReader {
 		checkValidInputFile(fs, path);
 
 		// core read (sequential/parallel)
-		readBinaryBlockFrameFromHDFS(path, job, fs, ret, rlen, clen);
+		readBinaryBlockFrameFromHDFS(path, job, fs, ret, dict, rlen, clen);
+		StringDDCArrayBuilder.setColumns(ret, dict);
 		return ret;
 	}
 
@@ -67,15 +70,15 @@ public class FrameReaderBinaryBlock extends FrameReader {
 		throw new DMLRuntimeException("Not implemented yet.");
 	}
 
-	protected void readBinaryBlockFrameFromHDFS(Path path, JobConf job, FileSystem fs, FrameBlock dest, long rlen,
-		long clen) throws IOException, DMLRuntimeException {
+	protected void readBinaryBlockFrameFromHDFS(Path path, JobConf job, FileSystem fs, FrameBlock dest,
+		StringDDCArrayBuilder[] dict, long rlen, long clen) throws IOException, DMLRuntimeException {
 		// sequential read from sequence files
 		for(Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path)) // 1..N files
-			readBinaryBlockFrameFromSequenceFile(lpath, job, fs, dest);
+			readBinaryBlockFrameFromSequenceFile(lpath, job, fs, dest, dict);
 	}
 
-	protected static void readBinaryBlockFrameFromSequenceFile(Path path, JobConf job, FileSystem fs, FrameBlock dest)
-		throws IOException, DMLRuntimeException {
+	protected static void readBinaryBlockFrameFromSequenceFile(Path path, JobConf job, FileSystem fs, FrameBlock dest,
+		StringDDCArrayBuilder[] dict) throws IOException, DMLRuntimeException {
 		final int rlen = dest.getNumRows();
 		final int clen = dest.getNumColumns();
 
@@ -99,7 +102,10 @@ public class FrameReaderBinaryBlock extends FrameReader {
 				}
 
 				// copy block into target frame, incl meta on first
-				dest.copy(row_offset, row_offset + rows - 1, 0, cols - 1, value);
+				if(dict == null)
+					dest.copy(row_offset, row_offset + rows - 1, 0, cols - 1, value);
+				else
+					copyBlock(row_offset, dest, dict, value);
 				if(row_offset == 0) {
 					dest.setColumnNames(value.getColumnNames());
 					dest.setColumnMetadata(value.getColumnMetadata());
@@ -114,6 +120,72 @@ public class FrameReaderBinaryBlock extends FrameReader {
 		}
 	}
 
+	private static void copyBlock(int row_offset, FrameBlock dest, StringDDCArrayBuilder[] dict, FrameBlock value) {
+		final int ru = row_offset + value.getNumRows() - 1;
+		for(int j = 0; j < value.getNumColumns(); j++) {
+			if(dict[j] != null) // encode strings w/o copying the deserialized block
+				dict[j].set(row_offset, value.getColumn(j));
+			else
+				dest.copyColumn(row_offset, ru, j, value.getColumn(j));
+		}
+	}
+
+	@Override
+	public void readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long clen, int batchSize,
+		FrameBatchConsumer consumer) throws IOException, DMLRuntimeException {
+		ValueType[] lschema = createOutputSchema(schema, clen);
+		String[] lnames = createOutputNames(names, clen);
+
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		checkValidInputFile(fs, path);
+
+		LongWritable key = new LongWritable(-1L); // row block
+		FrameBlock value = new FrameBlock(); // contained values, reused across blocks
+		FrameBlock batch = createOutputFrameBlock(lschema, lnames, batchSize);
+		long rowOffset = 0;
+		int row = 0;
+		for(Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path)) { // 1..N files
+			SequenceFile.Reader reader = new SequenceFile.Reader(job, SequenceFile.Reader.file(lpath));
+			try {
+				while(reader.next(key, value)) {
+					final int rows = value.getNumRows();
+					if(rows == 0 || value.getNumColumns() == 0) // Empty block, ignore it.
+						continue;
+					// batches are passed in order, which requires the blocks in order of row offsets
+					if(key.get() - 1 != rowOffset + row)
+						throw new IOException("Frame block [" + key.get() + ":" + (key.get() + rows - 1) + ",:] "
+							+ "out of order for batch read, expected row " + (rowOffset + row + 1) + ".");
+					if(rowOffset + row == 0)
+						batch.setColumnNames(value.getColumnNames());
+
+					// copy block into batches, where blocks might span two batches
+					for(int i = 0; i < rows;) {
+						final int n = Math.min(rows - i, batchSize - row);
+						batch.copy(row, row + n - 1, 0, (int) clen - 1, n == rows ? value : value.slice(i, i + n - 1));
+						row += n;
+						i += n;
+						if(row == batchSize) {
+							consumer.accept(rowOffset, batch);
+							rowOffset += row;
+							row = 0;
+							batch = createOutputFrameBlock(lschema, lnames, batchSize);
+							batch.setColumnNames(value.getColumnNames());
+						}
+					}
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+		}
+		// pass the remaining rows
+		if(row > 0)
+			consumer.accept(rowOffset, batch.slice(0, row - 1));
+	}
+
 	/**
 	 * Specific functionality of FrameReaderBinaryBlock, mostly used for testing.
 	 * 
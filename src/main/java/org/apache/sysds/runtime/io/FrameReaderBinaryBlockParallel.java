@@ -31,6 +31,7 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.StringDDCArrayBuilder;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 
 
@@ -41,7 +42,8 @@ import org.apache.sysds.runtime.util.CommonThreadPool;
 public class FrameReaderBinaryBlockParallel extends FrameReaderBinaryBlock
 {
 	@Override
-	protected void readBinaryBlockFrameFromHDFS( Path path, JobConf job, FileSystem fs, FrameBlock dest, long rlen, long clen )
+	protected void readBinaryBlockFrameFromHDFS( Path path, JobConf job, FileSystem fs, FrameBlock dest,
+		StringDDCArrayBuilder[] dict, long rlen, long clen )
 		throws IOException, DMLRuntimeException
 	{
 		int numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
@@ -51,7 +53,7 @@ public class FrameReaderBinaryBlockParallel extends FrameReaderBinaryBlock
 			//create read tasks for all files
 			ArrayList<ReadFileTask> tasks = new ArrayList<>();
 			for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) )
-				tasks.add(new ReadFileTask(lpath, job, fs, dest));
+				tasks.add(new ReadFileTask(lpath, job, fs, dest, dict));
 
 			//check for exceptions
 			for(Future<Object> task : pool.invokeAll(tasks))
@@ -71,17 +73,19 @@ public class FrameReaderBinaryBlockParallel extends FrameReaderBinaryBlock
 		private JobConf _job = null;
 		private FileSystem _fs = null;
 		private FrameBlock _dest = null;
+		private StringDDCArrayBuilder[] _dict = null;
 		
-		public ReadFileTask(Path path, JobConf job, FileSystem fs, FrameBlock dest) {
+		public ReadFileTask(Path path, JobConf job, FileSystem fs, FrameBlock dest, StringDDCArrayBuilder[] dict) {
 			_path = path;
 			_fs = fs;
 			_job = job;
 			_dest = dest;
+			_dict = dict;
 		}
 
 		@Override
 		public Object call() throws Exception {
-			readBinaryBlockFrameFromSequenceFile(_path, _job, _fs, _dest);
+			readBinaryBlockFrameFromSequenceFile(_path, _job, _fs, _dest, _dict);
 			return null;
 		}
 	}
@@ -24,6 +24,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 
 public class FrameReaderFactory {
@@ -51,6 +52,12 @@ public class FrameReaderFactory {
 			case PROTO:
 				// TODO performance improvement: add parallel reader
 				return new FrameReaderProto();
+			case PARQUET:
+				return new FrameReaderParquet(FileFormatPropertiesColumnar.get(props),
+					binaryParallel ? OptimizerUtils.getParallelBinaryReadParallelism() : 1);
+			case ARROW:
+				return new FrameReaderArrow(FileFormatPropertiesColumnar.get(props),
+					binaryParallel ? OptimizerUtils.getParallelBinaryReadParallelism() : 1);
 			default:
 				throw new DMLRuntimeException("Failed to create frame reader for unknown format: " + fmt.toString());
 		}
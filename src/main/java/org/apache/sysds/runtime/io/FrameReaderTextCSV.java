@@ -38,6 +38,7 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.StringDDCArrayBuilder;
 import org.apache.sysds.runtime.matrix.data.Pair;
 import org.apache.sysds.runtime.transform.TfUtils;
 import org.apache.sysds.runtime.util.InputStreamInputFormat;
@@ -74,13 +75,15 @@ public class FrameReaderTextCSV extends FrameReader {
 			clen = size.getValue();
 		}
 
-		// allocate output frame block
+		// allocate output frame block (w/o dictionary-encoded string columns)
 		ValueType[] lschema = createOutputSchema(schema, clen);
 		String[] lnames = createOutputNames(names, clen);
-		FrameBlock ret = createOutputFrameBlock(lschema, lnames, rlen);
+		StringDDCArrayBuilder[] dict = StringDDCArrayBuilder.create(lschema, rlen);
+		FrameBlock ret = createOutputFrameBlock(lschema, lnames, rlen, dict);
 
 		// core read (sequential/parallel)
-		readCSVFrameFromHDFS(path, job, fs, ret, lschema, lnames, rlen, clen);
+		readCSVFrameFromHDFS(path, job, fs, ret, lschema, lnames, rlen, clen, dict);
+		StringDDCArrayBuilder.setColumns(ret, dict);
 
 		return ret;
 	}
@@ -102,19 +105,26 @@ public class FrameReaderTextCSV extends FrameReader {
 	}
 
 	protected void readCSVFrameFromHDFS(Path path, JobConf job, FileSystem fs, FrameBlock dest, ValueType[] schema,
-		String[] names, long rlen, long clen) throws IOException {
+		String[] names, long rlen, long clen, StringDDCArrayBuilder[] dict) throws IOException {
 		LOG.debug("readCSVFrameFromHDFS csv");
 		TextInputFormat informat = new TextInputFormat();
 		informat.configure(job);
 		InputSplit[] splits = informat.getSplits(job, 1);
 		splits = IOUtilFunctions.sortInputSplits(splits);
 		for(int i = 0, rpos = 0; i < splits.length; i++)
-			rpos = readCSVFrameFromInputSplit(splits[i], informat, job, dest, schema, names, rlen, clen, rpos, i == 0);
+			rpos = readCSVFrameFromInputSplit(splits[i], informat, job, dest, schema, names, rlen, clen, rpos, i == 0,
+				dict);
 	}
 
 	protected final int readCSVFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> informat,
 		JobConf job, FrameBlock dest, ValueType[] schema, String[] names, long rlen, long clen, int rl, boolean first)
 		throws IOException {
+		return readCSVFrameFromInputSplit(split, informat, job, dest, schema, names, rlen, clen, rl, first, null);
+	}
+
+	protected final int readCSVFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> informat,
+		JobConf job, FrameBlock dest, ValueType[] schema, String[] names, long rlen, long clen, int rl, boolean first,
+		StringDDCArrayBuilder[] dict) throws IOException {
 		
 		if( rl > rlen) // in case this method is called wrongly
 			throw new DMLRuntimeException("Invalid offset");
@@ -144,34 +154,12 @@ public class FrameReaderTextCSV extends FrameReader {
 			String[] parts = null; // cache array for line reading.
 			while(reader.next(key, value)) // foreach line
 			{
-				boolean emptyValuesFound = false;
 				String cellStr = IOUtilFunctions.trim(value.toString());
 				parts = IOUtilFunctions.splitCSV(cellStr, delim, parts);
-				// sanity checks for empty values and number of columns
-
-				final boolean mtdP = parts[0].equals(TfUtils.TXMTD_MVPREFIX);
-				final boolean mtdx = parts[0].equals(TfUtils.TXMTD_NDPREFIX);
-				// parse frame meta data (missing values / num distinct)
-				if(mtdP || mtdx) {
-					if(parts.length != dest.getNumColumns() + 1){
-						LOG.warn("Invalid metadata ");
-						parts = null;
-						continue;
-					}
-					else if(mtdP)
-						for(int j = 0; j < dest.getNumColumns(); j++)
-							dest.getColumnMetadata(j).setMvValue(parts[j + 1]);
-					else if(mtdx)
-						for(int j = 0; j < dest.getNumColumns(); j++)
-							dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j + 1]));
+				if(parseLine(row, nCol, dest, dict, cellStr, parts, clen, naValues, isFill, dfillValue, sfillValue))
+					row++;
+				else
 					parts = null;
-					continue;
-				}
-				assignColumns(row, nCol, dest, parts, naValues, isFill, dfillValue, sfillValue);
-				
-				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, parts, clen);
-				row++;
 			}
 		}
 		catch(Exception e){
@@ -184,32 +172,136 @@ public class FrameReaderTextCSV extends FrameReader {
 		return row;
 	}
 
-	private boolean assignColumns(int row, int nCol, FrameBlock dest, String[] parts, Set<String> naValues,
-		boolean isFill, double dfillValue, String sfillValue) {
+	@Override
+	public void readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long clen, int batchSize,
+		FrameBatchConsumer consumer) throws IOException, DMLRuntimeException {
+		LOG.debug("readFrameFromHDFS csv in batches");
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		FileInputFormat.addInputPath(job, path);
+		checkValidInputFile(fs, path);
+		if(clen <= 0)
+			clen = computeCSVSize(path, job, fs).getValue();
+
+		ValueType[] lschema = createOutputSchema(schema, clen);
+		String[] lnames = createOutputNames(names, clen);
+		boolean isFill = _props.isFill();
+		double dfillValue = _props.getFillValue();
+		String sfillValue = String.valueOf(_props.getFillValue());
+		Set<String> naValues = _props.getNAStrings();
+		String delim = _props.getDelim();
+
+		TextInputFormat informat = new TextInputFormat();
+		informat.configure(job);
+		InputSplit[] splits = IOUtilFunctions.sortInputSplits(informat.getSplits(job, 1));
+		LongWritable key = new LongWritable();
+		Text value = new Text();
+		String[] parts = null; // cache array for line reading.
+		FrameBlock batch = createOutputFrameBlock(lschema, lnames, batchSize);
+		final int nCol = batch.getNumColumns();
+		long rowOffset = 0;
+		int row = 0;
+		for(int i = 0; i < splits.length; i++) {
+			RecordReader<LongWritable, Text> reader = informat.getRecordReader(splits[i], job, Reporter.NULL);
+			try {
+				// handle header if existing
+				if(i == 0 && _props.hasHeader() && reader.next(key, value)) {
+					lnames = value.toString().split(delim);
+					batch.setColumnNames(lnames);
+				}
+				while(reader.next(key, value)) {
+					boolean parsed;
+					try {
+						String cellStr = IOUtilFunctions.trim(value.toString());
+						parts = IOUtilFunctions.splitCSV(cellStr, delim, parts);
+						parsed = parseLine(row, nCol, batch, null, cellStr, parts, clen, naValues, isFill, dfillValue,
+							sfillValue);
+					}
+					catch(Exception e) {
+						throw new DMLRuntimeException("Failed parsing string: \"" + value + "\"", e);
+					}
+					if(!parsed)
+						parts = null;
+					else if(++row == batchSize) {
+						// pass the full batch and continue with a new batch
+						consumer.accept(rowOffset, batch);
+						rowOffset += row;
+						row = 0;
+						batch = createOutputFrameBlock(lschema, lnames, batchSize);
+					}
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+		}
+		// pass the remaining rows
+		if(row > 0)
+			consumer.accept(rowOffset, batch.slice(0, row - 1));
+	}
+
+	/**
+	 * Parses a single line into the given row, or sets the column meta data of the destination for meta data lines.
+	 * 
+	 * @return true if the line was parsed into the row, false for meta data lines
+	 * @throws IOException if the line has empty fields without fill, or an invalid number of columns
+	 */
+	private boolean parseLine(int row, int nCol, FrameBlock dest, StringDDCArrayBuilder[] dict, String cellStr,
+		String[] parts, long clen, Set<String> naValues, boolean isFill, double dfillValue, String sfillValue)
+		throws IOException {
+		boolean emptyValuesFound = false;
+		// sanity checks for empty values and number of columns
+
+		final boolean mtdP = parts[0].equals(TfUtils.TXMTD_MVPREFIX);
+		final boolean mtdx = parts[0].equals(TfUtils.TXMTD_NDPREFIX);
+		// parse frame meta data (missing values / num distinct)
+		if(mtdP || mtdx) {
+			if(parts.length != dest.getNumColumns() + 1)
+				LOG.warn("Invalid metadata ");
+			else if(mtdP)
+				for(int j = 0; j < dest.getNumColumns(); j++)
+					dest.getColumnMetadata(j).setMvValue(parts[j + 1]);
+			else if(mtdx)
+				for(int j = 0; j < dest.getNumColumns(); j++)
+					dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j + 1]));
+			return false;
+		}
+		assignColumns(row, nCol, dest, dict, parts, naValues, isFill, dfillValue, sfillValue);
+
+		IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
+		IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, parts, clen);
+		return true;
+	}
+
+	private boolean assignColumns(int row, int nCol, FrameBlock dest, StringDDCArrayBuilder[] dict, String[] parts,
+		Set<String> naValues, boolean isFill, double dfillValue, String sfillValue) {
 		if(!isFill && naValues == null)
-			return assignColumnsNoFillNoNan(row, nCol, dest, parts);
+			return assignColumnsNoFillNoNan(row, nCol, dest, dict, parts);
 		else 
-			return assignColumnsGeneric(row, nCol, dest, parts, naValues, isFill, dfillValue, sfillValue);
+			return assignColumnsGeneric(row, nCol, dest, dict, parts, naValues, isFill, dfillValue, sfillValue);
 	}
 
-	private boolean assignColumnsGeneric(int row, int nCol, FrameBlock dest, String[] parts, Set<String> naValues,
-		boolean isFill, double dfillValue, String sfillValue) {
+	private boolean assignColumnsGeneric(int row, int nCol, FrameBlock dest, StringDDCArrayBuilder[] dict,
+		String[] parts, Set<String> naValues, boolean isFill, double dfillValue, String sfillValue) {
 		boolean emptyValuesFound = false;
 		for(int col = 0; col < nCol; col++) {
 			String part = IOUtilFunctions.trim(parts[col]);
 			if(part.isEmpty() || (naValues != null && naValues.contains(part))) {
 				if(isFill && dfillValue != 0)
-					dest.set(row, col, sfillValue);
+					assignColumn(row, col, dest, dict, sfillValue);
 				emptyValuesFound = true;
 			}
 			else
-				dest.set(row, col, part);
+				assignColumn(row, col, dest, dict, part);
 		}
 
 		return emptyValuesFound;
 	}
 
-	private boolean assignColumnsNoFillNoNan(int row, int nCol, FrameBlock dest, String[] parts){
+	private boolean assignColumnsNoFillNoNan(int row, int nCol, FrameBlock dest, StringDDCArrayBuilder[] dict,
+		String[] parts){
 		
 		boolean emptyValuesFound = false;
 		for(int col = 0; col < nCol; col++) {
@@ -217,12 +309,19 @@ public class FrameReaderTextCSV extends FrameReader {
 			if(part.isEmpty()) 
 				emptyValuesFound = true;
 			else
-				dest.set(row, col, part);
+				assignColumn(row, col, dest, dict, part);
 		}
 
 		return emptyValuesFound;
 	}
 
+	private static void assignColumn(int row, int col, FrameBlock dest, StringDDCArrayBuilder[] dict, String part) {
+		if(dict != null && dict[col] != null)
+			dict[col].set(row, part);
+		else
+			dest.set(row, col, part);
+	}
+
 
 	protected Pair<Integer, Integer> computeCSVSize(Path path, JobConf job, FileSystem fs) throws IOException {
 		TextInputFormat informat = new TextInputFormat();
@@ -35,6 +35,7 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.StringDDCArrayBuilder;
 import org.apache.sysds.runtime.matrix.data.Pair;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 
@@ -50,7 +51,7 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 
 	@Override
 	protected void readCSVFrameFromHDFS( Path path, JobConf job, FileSystem fs, 
-			FrameBlock dest, ValueType[] schema, String[] names, long rlen, long clen) 
+			FrameBlock dest, ValueType[] schema, String[] names, long rlen, long clen, StringDDCArrayBuilder[] dict) 
 		throws IOException
 	{
 		int numThreads = OptimizerUtils.getParallelTextReadParallelism();
@@ -81,7 +82,7 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 			//read individual splits
 			ArrayList<ReadRowsTask> tasks2 = new ArrayList<>();
 			for( int i=0; i<splits.length; i++ )
-				tasks2.add( new ReadRowsTask(splits[i], informat, job, dest, offsets.get(i).intValue(), i==0));
+				tasks2.add( new ReadRowsTask(splits[i], informat, job, dest, dict, offsets.get(i).intValue(), i==0));
 			CommonThreadPool.invokeAndShutdown(pool, tasks2);
 		} 
 		catch (Exception e) {
@@ -157,17 +158,19 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 		private TextInputFormat _informat = null;
 		private JobConf _job = null;
 		private FrameBlock _dest = null;
+		private StringDDCArrayBuilder[] _dict = null;
 		private int _offset = -1;
 		private boolean _isFirstSplit = false;
 		
 		
 		public ReadRowsTask(InputSplit split, TextInputFormat informat, JobConf job, 
-				FrameBlock dest, int offset, boolean first) 
+				FrameBlock dest, StringDDCArrayBuilder[] dict, int offset, boolean first) 
 		{
 			_split = split;
 			_informat = informat;
 			_job = job;
 			_dest = dest;
+			_dict = dict;
 			_offset = offset;
 			_isFirstSplit = first;
 		}
@@ -179,7 +182,7 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 			try{
 
 				readCSVFrameFromInputSplit(_split, _informat, _job, _dest, _dest.getSchema(), 
-						_dest.getColumnNames(), _dest.getNumRows(), _dest.getNumColumns(), _offset, _isFirstSplit);
+						_dest.getColumnNames(), _dest.getNumRows(), _dest.getNumColumns(), _offset, _isFirstSplit, _dict);
 				return null;
 			}
 			catch(Exception e){
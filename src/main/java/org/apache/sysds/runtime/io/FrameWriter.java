@@ -38,4 +38,21 @@ public abstract class FrameWriter {
 	public abstract void writeFrameToHDFS( FrameBlock src, String fname, long rlen, long clen )
 		throws IOException, DMLRuntimeException;
 
+	/**
+	 * Appends the rows of the given frame block to an existing frame on hdfs, which allows
+	 * streaming row batches to disk without materializing the entire frame in memory. The
+	 * new rows are written as additional part files; the caller is responsible for updating
+	 * the metadata file. By default, append is not supported.
+	 *
+	 * @param src  frame block of new rows
+	 * @param fname file name of the existing frame
+	 * @param rlen number of rows of the existing frame
+	 * @param clen number of columns of the existing frame
+	 * @throws IOException if IOException occurs
+	 */
+	public void appendFrameToHDFS( FrameBlock src, String fname, long rlen, long clen )
+		throws IOException, DMLRuntimeException
+	{
+		throw new IOException("Append is not supported by " + getClass().getSimpleName() + ".");
+	}
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Frame writer for Arrow IPC files, where the column names and value types of
+ * the frame schema are preserved (with types other than boolean, integer and
+ * floating point written as strings) and null values are written as arrow nulls.
+ */
+public class FrameWriterArrow extends FrameWriter {
+	private final FileFormatPropertiesColumnar _props;
+	private final int _numThreads;
+
+	public FrameWriterArrow(FileFormatPropertiesColumnar props, int numThreads) {
+		_props = props;
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public void writeFrameToHDFS(FrameBlock src, String fname, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		//validity check frame dimensions
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen)
+			throw new IOException("Frame dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(path, job);
+
+		//core write of all rows into a single file
+		Array<?>[] cols = new Array<?>[(int) clen];
+		for(int j = 0; j < cols.length; j++)
+			cols[j] = src.getColumn(j);
+		long rowSize = Math.max(src.getInMemorySize() / Math.max(rlen, 1), 1);
+		ArrowFile.write(path, job, src.getColumnNames(), src.getSchema(), (int) rlen,
+			WriterArrow.getBatchSize(rlen, rowSize, _numThreads), _props.getCodec(),
+			(row, col) -> cols[col].get(row));
+
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+}
@@ -57,6 +57,28 @@ public class FrameWriterBinaryBlock extends FrameWriter {
 		writeBinaryBlockFrameToHDFS(path, job, src, rlen, clen);
 	}
 
+	@Override
+	public final void appendFrameToHDFS(FrameBlock src, String fname, long rlen, long clen)
+		throws IOException, DMLRuntimeException {
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path);
+
+		// bound check for src block
+		if(src.getNumColumns() != clen) {
+			throw new IOException("Frame dimensions mismatch for append: " + src.getNumColumns() + " vs " + clen
+				+ " columns.");
+		}
+
+		// write new rows into the next part file (frame blocks are keyed by their
+		// row offset and thus, require no alignment with existing blocks)
+		Path part = IOUtilFunctions.getNextPartFilePath(fs, path);
+		writeBinaryBlockFrameToSequenceFile(part, job, fs, src, ConfigurationManager.getBlocksize(), 0,
+			src.getNumRows(), rlen);
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, part);
+	}
+
 	protected void writeBinaryBlockFrameToHDFS(Path path, JobConf job, FrameBlock src, long rlen, long clen)
 		throws IOException, DMLRuntimeException {
 		FileSystem fs = IOUtilFunctions.getFileSystem(path);
@@ -82,6 +104,25 @@ public class FrameWriterBinaryBlock extends FrameWriter {
 	 */
 	protected static void writeBinaryBlockFrameToSequenceFile(Path path, JobConf job, FileSystem fs, FrameBlock src,
 		int blen, int rl, int ru) throws IOException {
+		writeBinaryBlockFrameToSequenceFile(path, job, fs, src, blen, rl, ru, 0);
+	}
+
+	/**
+	 * Internal primitive to write a block-aligned row range of a frame to a single sequence file, where the
+	 * block keys are shifted by the given row offset (e.g., for appending rows).
+	 * 
+	 * @param path file path
+	 * @param job  job configuration
+	 * @param fs   file system
+	 * @param src  frame block
+	 * @param blen block length
+	 * @param rl   lower row
+	 * @param ru   upper row
+	 * @param roff row offset
+	 * @throws IOException if IOException occurs
+	 */
+	protected static void writeBinaryBlockFrameToSequenceFile(Path path, JobConf job, FileSystem fs, FrameBlock src,
+		int blen, int rl, int ru, long roff) throws IOException {
 		// 1) create sequence file writer
 		final Writer writer = IOUtilFunctions.getSeqWriterFrame(path, job, 1);
 		final int rlen = src.getNumRows();
@@ -91,7 +132,7 @@ public class FrameWriterBinaryBlock extends FrameWriter {
 			LongWritable index = new LongWritable();
 
 			if(rlen <= blen) { // single block
-				index.set(1);
+				index.set(roff + 1);
 				writer.append(index, src);
 			}
 			else { // multi block
@@ -99,10 +140,10 @@ public class FrameWriterBinaryBlock extends FrameWriter {
 					int len = Math.min(blen, rlen - bi);
 					// get reuse frame block and copy subpart to block (incl meta on first)
 					FrameBlock block = src.slice(bi, bi + len - 1, 0, clen - 1); // full width?
-					if(bi == 0) // first block
+					if(bi == 0 && roff == 0) // first block
 						block.setColumnMetadata(src.getColumnMetadata());
 					// append block to sequence file
-					index.set(bi + 1);
+					index.set(roff + bi + 1);
 					writer.append(index, block);
 				}
 			}
@@ -24,6 +24,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 
 public class FrameWriterFactory {
@@ -50,6 +51,12 @@ public class FrameWriterFactory {
 				return binaryParallel ? new FrameWriterBinaryBlockParallel() : new FrameWriterBinaryBlock();
 			case PROTO:
 				return new FrameWriterProto();
+			case PARQUET:
+				return new FrameWriterParquet(FileFormatPropertiesColumnar.get(props),
+					OptimizerUtils.getParallelBinaryReadParallelism());
+			case ARROW:
+				return new FrameWriterArrow(FileFormatPropertiesColumnar.get(props),
+					OptimizerUtils.getParallelBinaryReadParallelism());
 			default:
 				throw new DMLRuntimeException("Failed to create frame writer for unknown format: " + fmt.toString());
 		}
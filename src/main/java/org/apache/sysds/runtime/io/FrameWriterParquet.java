@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Frame writer for Parquet files, where the column names and value types of
+ * the frame schema are preserved and null values are written as parquet nulls.
+ */
+public class FrameWriterParquet extends FrameWriter {
+	private final FileFormatPropertiesColumnar _props;
+	private final int _numThreads;
+
+	public FrameWriterParquet(FileFormatPropertiesColumnar props, int numThreads) {
+		_props = props;
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public void writeFrameToHDFS(FrameBlock src, String fname, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		//validity check frame dimensions
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen)
+			throw new IOException("Frame dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(path, job);
+
+		//core write of all rows into a single file
+		int ncol = (int) clen;
+		String[] names = src.getColumnNames();
+		ValueType[] schema = src.getSchema();
+		Array<?>[] cols = new Array<?>[ncol];
+		for(int j = 0; j < ncol; j++)
+			cols[j] = src.getColumn(j);
+		MessageType mschema = ParquetFileSet.createSchema("frame", names, schema);
+		ParquetFileSet.write(path, job, mschema, (int) rlen, _props.getCodec(ParquetFileSet.DEFAULT_CODEC),
+			WriterParquet.getRowGroupSize(src.getInMemorySize(), _numThreads), (rc, i) -> {
+				for(int j = 0; j < ncol; j++) {
+					Object val = cols[j].get(i);
+					if(val == null)
+						continue; //null fields are omitted
+					rc.startField(names[j], j);
+					ParquetFileSet.addValue(rc, schema[j], val);
+					rc.endField(names[j], j);
+				}
+			});
+
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+}
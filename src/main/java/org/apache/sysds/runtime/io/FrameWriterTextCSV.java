@@ -71,6 +71,27 @@ public class FrameWriterTextCSV extends FrameWriter
 		writeCSVFrameToHDFS(path, job, src, rlen, clen, _props);
 	}
 
+	@Override
+	public final void appendFrameToHDFS(FrameBlock src, String fname, long rlen, long clen) 
+		throws IOException, DMLRuntimeException 
+	{
+		//validity check frame dimensions
+		if( src.getNumColumns() != clen ) {
+			throw new IOException("Frame dimensions mismatch for append: " + 
+					src.getNumColumns()+" vs "+clen+" columns.");
+		}
+		
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//write new rows (w/o header and meta data) into the next part file
+		Path part = IOUtilFunctions.getNextPartFilePath(fs, path);
+		writeCSVFrameToFile(part, job, fs, src, 0, src.getNumRows(), _props, false);
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, part);
+	}
+
 	protected void writeCSVFrameToHDFS( Path path, JobConf job, FrameBlock src, long rlen, long clen, FileFormatPropertiesCSV csvprops ) 
 		throws IOException
 	{
@@ -83,6 +104,12 @@ public class FrameWriterTextCSV extends FrameWriter
 
 	protected static void writeCSVFrameToFile( Path path, JobConf job, FileSystem fs, FrameBlock src, int rl, int ru, FileFormatPropertiesCSV props )
 		throws IOException
+	{
+		writeCSVFrameToFile(path, job, fs, src, rl, ru, props, rl==0);
+	}
+
+	protected static void writeCSVFrameToFile( Path path, JobConf job, FileSystem fs, FrameBlock src, int rl, int ru, FileFormatPropertiesCSV props, boolean first )
+		throws IOException
 	{
 		// create buffered writer
 		BufferedWriter br = new BufferedWriter(new OutputStreamWriter(fs.create(path, true)));
@@ -97,7 +124,7 @@ public class FrameWriterTextCSV extends FrameWriter
 			String delim = props.getDelim();
 			
 			// Write header line, if needed
-			if( rl==0 ) {
+			if( first ) {
 				//append column names if header requested
 				if( props.hasHeader() ) {
 					for( int j=0; j<cols; j++ ) {
@@ -27,7 +27,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -66,6 +71,7 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.runtime.DMLRuntimeException;
@@ -98,6 +104,27 @@ public class IOUtilFunctions {
 	public static final char CSV_QUOTE_CHAR = '"';
 	public static final String LIBSVM_DELIM = " ";
 	public static final String LIBSVM_INDEX_DELIM = ":";
+
+	//handle to explicitly free direct/mapped buffers (instead of waiting for GC)
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method cleaner = null;
+		try {
+			Class<?> clazz = Class.forName("sun.misc.Unsafe");
+			Field f = clazz.getDeclaredField("theUnsafe");
+			f.setAccessible(true);
+			unsafe = f.get(null);
+			cleaner = clazz.getMethod("invokeCleaner", ByteBuffer.class);
+		}
+		catch(Exception ex) {
+			LOG.warn("Explicit release of direct buffers not supported, relying on GC.");
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = cleaner;
+	}
 	
 	public static FileSystem getFileSystem(String fname) throws IOException {
 		return getFileSystem(new Path(fname),
@@ -146,6 +173,87 @@ public class IOUtilFunctions {
 		return String.format("0-m-%05d", pos);
 	}
 	
+	/**
+	 * Gets the temporary directory of part files, which are concurrently written
+	 * for the given output file and finally merged via {@link #mergeLocalPartFiles}.
+	 * 
+	 * @param path output file path
+	 * @return path of the part files directory
+	 */
+	public static Path getPartFilesDir(Path path) {
+		return new Path(path.getParent(), "_" + path.getName() + "_parts");
+	}
+	
+	/**
+	 * Concatenates the given number of part files of the local file system in order
+	 * into a single output file (via zero-copy channel transfers), and deletes the
+	 * directory of part files.
+	 * 
+	 * @param fs       local file system
+	 * @param dir      directory of part files
+	 * @param numParts number of part files
+	 * @param path     output file path
+	 * @throws IOException if the merge fails
+	 */
+	public static void mergeLocalPartFiles(FileSystem fs, Path dir, int numParts, Path path) throws IOException {
+		LocalFileSystem lfs = (LocalFileSystem) fs;
+		try( FileChannel out = FileChannel.open(lfs.pathToFile(path).toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING) )
+		{
+			for( int i=0; i<numParts; i++ ) {
+				File part = lfs.pathToFile(new Path(dir, getPartFileName(i)));
+				try( FileChannel in = FileChannel.open(part.toPath(), StandardOpenOption.READ) ) {
+					long pos = 0, size = in.size();
+					while( pos < size )
+						pos += in.transferTo(pos, size - pos, out);
+				}
+			}
+		}
+		fs.delete(dir, true);
+	}
+
+	/**
+	 * Prepares an existing output for appending a new part file, i.e., converts a single file
+	 * into a directory that holds this file as its first part file, and obtains the path of the
+	 * next part file. Since readers of multi-part text files process the part files in
+	 * lexicographic order, the new part file name sorts after all existing part files.
+	 *
+	 * @param fs   file system
+	 * @param path existing output file or directory
+	 * @return path of the next part file
+	 * @throws IOException if the conversion into a directory fails
+	 */
+	public static Path getNextPartFilePath(FileSystem fs, Path path) throws IOException {
+		//convert single file into directory of part files
+		if( !fs.getFileStatus(path).isDirectory() ) {
+			Path tmp = new Path(path.getParent(), "_" + path.getName() + "_tmp");
+			if( !fs.rename(path, tmp) || !fs.mkdirs(path)
+				|| !fs.rename(tmp, new Path(path, getPartFileName(0))) )
+				throw new IOException("Failed to convert file '"+path+"' into a directory of part files.");
+			deleteCrcFilesFromLocalFileSystem(fs, new Path(path, getPartFileName(0)));
+		}
+
+		//determine the lexicographically last part file
+		String last = null;
+		for( FileStatus stat : fs.listStatus(path, hiddenFileFilter) ) {
+			String name = stat.getPath().getName();
+			if( last == null || name.compareTo(last) > 0 )
+				last = name;
+		}
+
+		//obtain next part file name (continuing the sequence of our own part files,
+		//and otherwise extending the last name of foreign part files, e.g., part-00000)
+		String name = getPartFileName(0);
+		if( last != null ) {
+			int pos = last.lastIndexOf("0-m-");
+			if( pos >= 0 && last.length()-pos == name.length() && StringUtils.isNumeric(last.substring(pos+4)) )
+				name = last.substring(0, pos) + getPartFileName(Integer.parseInt(last.substring(pos+4))+1);
+			else
+				name = last + "-" + name;
+		}
+		return new Path(path, name);
+	}
+
 	public static void closeSilently( Closeable io ) {
 		try {
 			if( io != null )
@@ -167,6 +275,23 @@ public class IOUtilFunctions {
 		}
 	}
 	
+	/**
+	 * Releases the native memory or file mapping of the given direct byte buffer,
+	 * if supported by the JVM. The buffer (and any views) must not be used afterwards.
+	 * 
+	 * @param buff direct or mapped byte buffer, not a slice or duplicate
+	 */
+	public static void freeDirectBuffer( ByteBuffer buff ) {
+		if( buff == null || !buff.isDirect() || INVOKE_CLEANER == null )
+			return;
+		try {
+			INVOKE_CLEANER.invoke(UNSAFE, buff);
+		}
+		catch (Exception ex) {
+			throw new DMLRuntimeException("Failed to free direct buffer.", ex);
+		}
+	}
+
 	public static void checkAndRaiseErrorCSVEmptyField(String row, boolean fill, boolean emptyFound) 
 		throws IOException
 	{
@@ -187,6 +312,101 @@ public class IOUtilFunctions {
 		}
 	}
 	
+	public static void checkAndRaiseErrorCSVNumColumns(String fname, String line, int realncol, long ncol) 
+		throws IOException
+	{
+		if( realncol != ncol ) {
+			throw new IOException("Invalid number of columns (" + realncol + ", expected=" + ncol + ") "
+					+ "found in delimited file (" + fname + ") for line: " + line);
+		}
+	}
+	
+	/**
+	 * Returns the first position of the given delimiter within the byte range
+	 * [from, to) of an encoded line, or to if the delimiter is not found. 
+	 * 
+	 * @param buf line buffer
+	 * @param from begin of search range (inclusive)
+	 * @param to end of search range (exclusive)
+	 * @param delim encoded delimiter
+	 * @return position of delimiter or to
+	 */
+	public static int indexOf(byte[] buf, int from, int to, byte[] delim) {
+		final byte d0 = delim[0];
+		final int last = to - delim.length;
+		for( int i = from; i <= last; i++ ) {
+			if( buf[i] != d0 )
+				continue;
+			int j = 1;
+			while( j < delim.length && buf[i+j] == delim[j] )
+				j++;
+			if( j == delim.length )
+				return i;
+		}
+		return to;
+	}
+	
+	/**
+	 * Returns the first position in [from, to) of an encoded line that is not
+	 * whitespace (according to String.trim), or to if there is none.
+	 * 
+	 * @param buf line buffer
+	 * @param from begin of range (inclusive)
+	 * @param to end of range (exclusive)
+	 * @return trimmed begin position
+	 */
+	public static int trimBegin(byte[] buf, int from, int to) {
+		while( from < to && (buf[from] & 0xFF) <= ' ' )
+			from++;
+		return from;
+	}
+	
+	/**
+	 * Returns the position after the last byte in [from, to) of an encoded line
+	 * that is not whitespace (according to String.trim), or from if there is none.
+	 * 
+	 * @param buf line buffer
+	 * @param from begin of range (inclusive)
+	 * @param to end of range (exclusive)
+	 * @return trimmed end position
+	 */
+	public static int trimEnd(byte[] buf, int from, int to) {
+		while( to > from && (buf[to-1] & 0xFF) <= ' ' )
+			to--;
+		return to;
+	}
+	
+	/**
+	 * Encodes the given strings (e.g., NA strings) as UTF-8 byte arrays.
+	 * 
+	 * @param strings set of strings or null
+	 * @return array of byte arrays or null
+	 */
+	public static byte[][] toByteArrays(Set<String> strings) {
+		if( strings == null )
+			return null;
+		return strings.stream()
+			.map(s -> s.getBytes(StandardCharsets.UTF_8))
+			.toArray(byte[][]::new);
+	}
+	
+	/**
+	 * Indicates if the byte range [beg, end) of an encoded line equals
+	 * any of the given encoded strings.
+	 * 
+	 * @param strings encoded strings
+	 * @param buf line buffer
+	 * @param beg begin of range (inclusive)
+	 * @param end end of range (exclusive)
+	 * @return true if the range matches any string
+	 */
+	public static boolean containsBytes(byte[][] strings, byte[] buf, int beg, int end) {
+		for( byte[] s : strings )
+			if( Arrays.equals(s, 0, s.length, buf, beg, end) )
+				return true;
+		return false;
+	}
+	
 	/**
 	 * Splits a string by a specified delimiter into all tokens, including empty.
 	 * NOTE: This method is meant as a faster drop-in replacement of the regular 
@@ -530,6 +750,38 @@ public class IOUtilFunctions {
 		return retVal;
 	}
 	
+	/**
+	 * Reads the dimensions of a Parquet file (or directory of part files), an
+	 * Arrow file, or a native binary file from the embedded file metadata,
+	 * which avoids a scan of the data.
+	 * 
+	 * @param filename file name
+	 * @param fmt file format (parquet, arrow, or native)
+	 * @return array of number of rows and columns
+	 */
+	public static long[] readEmbeddedDimensions(String filename, FileFormat fmt) {
+		try {
+			Path path = new Path(filename);
+			Configuration conf = ConfigurationManager.getCachedJobConf();
+			if( fmt == FileFormat.PARQUET ) {
+				ParquetFileSet files = new ParquetFileSet(path, conf);
+				return new long[] {files.getNumRows(), files.getSchema().getFieldCount()};
+			}
+			else if( fmt == FileFormat.ARROW ) {
+				ArrowFile file = new ArrowFile(path, conf);
+				return new long[] {file.getNumRows(), file.getColumnNames().length};
+			}
+			else if( fmt == FileFormat.NATIVE ) {
+				NativeBinaryFile file = new NativeBinaryFile(NativeBinaryFile.getLocalFile(filename));
+				return new long[] {file.getNumRows(), file.getNumColumns()};
+			}
+			throw new DMLRuntimeException("Unsupported format w/o embedded dimensions: " + fmt);
+		}
+		catch (IOException e){
+			throw new DMLRuntimeException(e);
+		}
+	}
+	
 	/**
 	 * Returns the number of non-zero entries but avoids the expensive 
 	 * string to double parsing. This function is guaranteed to never
@@ -39,6 +39,7 @@ import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.IndexRange;
 
 /**
  * Base class for all format-specific matrix readers. Every reader is required to implement the basic 
@@ -61,6 +62,32 @@ public abstract class MatrixReader
 	public abstract MatrixBlock readMatrixFromInputStream( InputStream is, long rlen, long clen, int blen, long estnnz) 
 		throws IOException, DMLRuntimeException;
 	
+	/**
+	 * Reads the given (0-based, inclusive) index range of a matrix. By default, the entire
+	 * matrix is read and sliced, while readers with index range pushdown only read the rows
+	 * and columns (or blocks) overlapping with the index range.
+	 * 
+	 * @param fname file name
+	 * @param rlen number of rows of the entire matrix
+	 * @param clen number of columns of the entire matrix
+	 * @param blen block size
+	 * @param estnnz estimated number of non-zeros of the entire matrix
+	 * @param ixrange index range, or null to read the entire matrix
+	 * @return matrix block of the index range
+	 * @throws IOException if IOException occurs
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public MatrixBlock readMatrixFromHDFS( String fname, long rlen, long clen, int blen, long estnnz, IndexRange ixrange )
+		throws IOException, DMLRuntimeException
+	{
+		MatrixBlock ret = readMatrixFromHDFS(fname, rlen, clen, blen, estnnz);
+		if( ixrange == null )
+			return ret;
+		checkIndexRange(ixrange, ret.getNumRows(), ret.getNumColumns());
+		return ret.slice((int)ixrange.rowStart, (int)ixrange.rowEnd,
+			(int)ixrange.colStart, (int)ixrange.colEnd);
+	}
+	
 	/**
 	 * NOTE: mallocDense controls if the output matrix blocks is fully allocated, this can be redundant
 	 * if binary block read and single block. 
@@ -124,6 +151,31 @@ public abstract class MatrixReader
 		
 	}
 
+	protected static void checkIndexRange(IndexRange ixrange, long rlen, long clen)
+		throws IOException
+	{
+		if( ixrange.rowStart < 0 || ixrange.rowEnd >= rlen || ixrange.rowStart > ixrange.rowEnd
+			|| ixrange.colStart < 0 || ixrange.colEnd >= clen || ixrange.colStart > ixrange.colEnd )
+			throw new IOException("Invalid index range "+ixrange+" for matrix of size ["+rlen+"x"+clen+"].");
+	}
+	
+	/**
+	 * Estimates the number of non-zeros of an index range, assuming
+	 * uniformly distributed non-zeros over the entire matrix.
+	 * 
+	 * @param ixrange index range (0-based, inclusive)
+	 * @param rlen number of rows of the entire matrix
+	 * @param clen number of columns of the entire matrix
+	 * @param estnnz estimated number of non-zeros of the entire matrix
+	 * @return estimated number of non-zeros of the index range, or -1 if unknown
+	 */
+	protected static long estimateRangeNnz(IndexRange ixrange, long rlen, long clen, long estnnz) {
+		long cells = (ixrange.rowEnd-ixrange.rowStart+1) * (ixrange.colEnd-ixrange.colStart+1);
+		if( estnnz < 0 || rlen <= 0 || clen <= 0 )
+			return cells;
+		return Math.min((long)Math.ceil((double)estnnz / rlen / clen * cells), cells);
+	}
+
 	protected static void sortSparseRowsParallel(MatrixBlock dest, long rlen, int k, ExecutorService pool) 
 		throws InterruptedException, ExecutionException
 	{
@@ -24,6 +24,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.io.ReaderCompressed;
 import org.apache.sysds.runtime.data.SparseBlock;
@@ -71,6 +72,18 @@ public class MatrixReaderFactory {
 			case COMPRESSED:
 				reader = ReaderCompressed.create();
 				break;
+
+			case PARQUET:
+				reader = new ReaderParquet(new FileFormatPropertiesColumnar(), getBinaryReadParallelism());
+				break;
+
+			case ARROW:
+				reader = new ReaderArrow(new FileFormatPropertiesColumnar(), getBinaryReadParallelism());
+				break;
+
+			case NATIVE:
+				reader = new ReaderNativeBinary(getBinaryReadParallelism());
+				break;
 			
 			default:
 				throw new DMLRuntimeException("Failed to create matrix reader for unknown format: " + fmt.toString());
@@ -127,9 +140,28 @@ public class MatrixReaderFactory {
 			case COMPRESSED:
 				reader = new ReaderCompressed();
 				break;
+
+			case PARQUET:
+				reader = new ReaderParquet(FileFormatPropertiesColumnar.get(props.formatProperties),
+					getBinaryReadParallelism());
+				break;
+
+			case ARROW:
+				reader = new ReaderArrow(FileFormatPropertiesColumnar.get(props.formatProperties),
+					getBinaryReadParallelism());
+				break;
+
+			case NATIVE:
+				reader = new ReaderNativeBinary(getBinaryReadParallelism());
+				break;
 			default:
 				throw new DMLRuntimeException("Failed to create matrix reader for unknown format: " + fmt.toString());
 		}
 		return reader;
 	}
+
+	private static int getBinaryReadParallelism() {
+		return ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_READ_BINARYFORMATS) ?
+			OptimizerUtils.getParallelBinaryReadParallelism() : 1;
+	}
 }
@@ -54,6 +54,25 @@ public abstract class MatrixWriter {
 	public abstract void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen)
 		throws IOException;
 
+	/**
+	 * Appends the rows of the given matrix block to an existing matrix on hdfs, which allows
+	 * streaming row batches to disk without materializing the entire matrix in memory. The
+	 * new rows are written as additional part files; the caller is responsible for updating
+	 * the metadata file. By default, append is not supported.
+	 *
+	 * @param src matrix block of new rows
+	 * @param fname file name of the existing matrix
+	 * @param rlen number of rows of the existing matrix
+	 * @param clen number of columns of the existing matrix
+	 * @param blen number of rows/cols in block of the existing matrix
+	 * @throws IOException if IOException occurs
+	 */
+	public void appendMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen)
+		throws IOException
+	{
+		throw new IOException("Append is not supported by " + getClass().getSimpleName() + ".");
+	}
+
 	public static MatrixBlock[] createMatrixBlocksForReuse( long rlen, long clen, int blen, boolean sparse, long nonZeros ) {
 		MatrixBlock[] blocks = new MatrixBlock[4];
 		double sparsity = ((double)nonZeros)/(rlen*clen);
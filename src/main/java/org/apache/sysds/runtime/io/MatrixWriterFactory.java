@@ -24,6 +24,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.io.WriterCompressed;
 
@@ -94,6 +95,19 @@ public class MatrixWriterFactory{
 			case COMPRESSED:
 				return WriterCompressed.create(props);
 
+			case PARQUET:
+				return new WriterParquet(FileFormatPropertiesColumnar.get(props),
+					OptimizerUtils.getParallelBinaryReadParallelism());
+
+			case ARROW:
+				return new WriterArrow(FileFormatPropertiesColumnar.get(props),
+					OptimizerUtils.getParallelBinaryReadParallelism());
+
+			case NATIVE:
+				return new WriterNativeBinary(
+					ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_WRITE_BINARYFORMATS) ?
+					OptimizerUtils.getParallelBinaryWriteParallelism() : 1);
+
 			default:
 				throw new DMLRuntimeException("Failed to create matrix writer for unknown format: " + fmt.toString());
 		}
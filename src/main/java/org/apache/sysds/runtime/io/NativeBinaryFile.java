@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.ByteBufferDataInput;
+import org.apache.sysds.runtime.util.IndexRange;
+
+/**
+ * Native single-node binary block format, which stores all blocks of a matrix in
+ * a single local file with a block index in the footer. The file layout is
+ * 
+ * <pre>
+ * header:  magic (4), version (4), rlen (8), clen (8), blen (4), reserved (4)
+ * blocks:  serialized non-empty matrix blocks (in arbitrary order)
+ * index:   per block: row block index (8), col block index (8), offset (8), length (4), nnz (8)
+ * trailer: index offset (8), number of blocks (8), nnz (8), version (4), magic (4)
+ * </pre>
+ * 
+ * where the index is sorted by row and column block indexes. Blocks are written
+ * by appending to reserved file regions, which allows concurrent writers and
+ * appending further blocks by rewriting the index. Reads memory-map the file and
+ * deserialize only the blocks covering a requested index range.
+ */
+public class NativeBinaryFile {
+	public static final int VERSION = 1;
+	public static final int HEADER_SIZE = 32;
+	public static final int TRAILER_SIZE = 32;
+	public static final int ENTRY_SIZE = 36;
+	public static final long MAX_MAP_SIZE = 1L << 30;
+	private static final byte[] MAGIC = "SDSB".getBytes(StandardCharsets.US_ASCII);
+
+	private final File _file;
+	private final long _length;
+	private final long _rlen;
+	private final long _clen;
+	private final int _blen;
+	private final long _nnz;
+	private final long _indexOffset;
+	private final BlockEntry[] _index;
+
+	/**
+	 * Opens a native binary file and reads its header and block index.
+	 * 
+	 * @param file local file
+	 * @throws IOException if the file does not exist or is not a valid native binary file
+	 */
+	public NativeBinaryFile(File file) throws IOException {
+		_file = file;
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			_length = channel.size();
+			if(_length < HEADER_SIZE + TRAILER_SIZE)
+				throw new IOException("Invalid native binary file (too small): " + file);
+
+			//read and validate header
+			ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+			checkMagic(header, 0, file);
+			_rlen = header.getLong(8);
+			_clen = header.getLong(16);
+			_blen = header.getInt(24);
+
+			//read trailer and block index
+			ByteBuffer trailer = readFully(channel, _length - TRAILER_SIZE, TRAILER_SIZE);
+			checkMagic(trailer, 28, file);
+			_indexOffset = trailer.getLong(0);
+			long numBlocks = trailer.getLong(8);
+			_nnz = trailer.getLong(16);
+			if(_indexOffset < HEADER_SIZE || _indexOffset + numBlocks * ENTRY_SIZE != _length - TRAILER_SIZE)
+				throw new IOException("Invalid native binary file (corrupted index): " + file);
+			ByteBuffer index = readFully(channel, _indexOffset, (int) (numBlocks * ENTRY_SIZE));
+			_index = new BlockEntry[(int) numBlocks];
+			for(int i = 0; i < _index.length; i++)
+				_index[i] = new BlockEntry(index.getLong(), index.getLong(), index.getLong(), index.getInt(),
+					index.getLong());
+		}
+	}
+
+	public File getFile() {
+		return _file;
+	}
+
+	public long getNumRows() {
+		return _rlen;
+	}
+
+	public long getNumColumns() {
+		return _clen;
+	}
+
+	public int getBlocksize() {
+		return _blen;
+	}
+
+	public long getNonZeros() {
+		return _nnz;
+	}
+
+	public long getIndexOffset() {
+		return _indexOffset;
+	}
+
+	public BlockEntry[] getIndex() {
+		return _index;
+	}
+
+	/**
+	 * Obtains the index entries of all non-empty blocks that overlap with the given
+	 * (0-based, inclusive) index range, in order of row and column block indexes.
+	 * 
+	 * @param ixrange index range
+	 * @return list of block index entries
+	 */
+	public List<BlockEntry> getBlocks(IndexRange ixrange) {
+		long rbl = ixrange.rowStart / _blen + 1, rbu = ixrange.rowEnd / _blen + 1;
+		long cbl = ixrange.colStart / _blen + 1, cbu = ixrange.colEnd / _blen + 1;
+		//binary search for first row block, scan until last row block
+		int pos = Arrays.binarySearch(_index, new BlockEntry(rbl, 0, 0, 0, 0));
+		pos = (pos < 0) ? -pos - 1 : pos;
+		List<BlockEntry> ret = new ArrayList<>();
+		for(int i = pos; i < _index.length && _index[i].rix <= rbu; i++)
+			if(_index[i].cix >= cbl && _index[i].cix <= cbu)
+				ret.add(_index[i]);
+		return ret;
+	}
+
+	/**
+	 * Obtains the local file of a given file name, where the native binary format
+	 * is only supported for local file systems.
+	 * 
+	 * @param fname file name
+	 * @return local file
+	 * @throws IOException if the file system is not local
+	 */
+	public static File getLocalFile(String fname) throws IOException {
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, ConfigurationManager.getCachedJobConf());
+		if(!(fs instanceof LocalFileSystem))
+			throw new IOException("Native binary format only supported on local file systems: " + fname);
+		return ((LocalFileSystem) fs).pathToFile(path);
+	}
+
+	public static void writeHeader(FileChannel channel, long rlen, long clen, int blen) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.put(MAGIC).putInt(VERSION).putLong(rlen).putLong(clen).putInt(blen).putInt(0);
+		header.flip();
+		writeFully(channel, header, 0);
+	}
+
+	/**
+	 * Writes the sorted block index and trailer at the given offset, and truncates
+	 * any remaining bytes of a previous index.
+	 * 
+	 * @param channel file channel
+	 * @param offset index offset (end of the last block)
+	 * @param index list of block index entries
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeFooter(FileChannel channel, long offset, List<BlockEntry> index) throws IOException {
+		Collections.sort(index);
+		ByteBuffer footer = ByteBuffer.allocate(index.size() * ENTRY_SIZE + TRAILER_SIZE);
+		long nnz = 0;
+		for(BlockEntry e : index) {
+			footer.putLong(e.rix).putLong(e.cix).putLong(e.offset).putInt(e.length).putLong(e.nnz);
+			nnz += e.nnz;
+		}
+		footer.putLong(offset).putLong(index.size()).putLong(nnz).putInt(VERSION).put(MAGIC);
+		footer.flip();
+		writeFully(channel, footer, offset);
+		channel.truncate(offset + footer.limit());
+	}
+
+	public static void writeFully(FileChannel channel, ByteBuffer buff, long offset) throws IOException {
+		while(buff.hasRemaining())
+			offset += channel.write(buff, offset);
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long offset, int len) throws IOException {
+		ByteBuffer buff = ByteBuffer.allocate(len);
+		while(buff.hasRemaining())
+			if(channel.read(buff, offset + buff.position()) < 0)
+				throw new IOException("Unexpected end of file.");
+		buff.flip();
+		return buff;
+	}
+
+	private static void checkMagic(ByteBuffer buff, int pos, File file) throws IOException {
+		for(int i = 0; i < MAGIC.length; i++)
+			if(buff.get(pos + i) != MAGIC[i])
+				throw new IOException("Invalid native binary file (wrong magic number): " + file);
+		if(buff.getInt(pos == 0 ? 4 : pos - 4) != VERSION)
+			throw new IOException("Unsupported native binary file version: " + file);
+	}
+
+	/**
+	 * Index entry of a non-empty block, ordered by row and column block index.
+	 */
+	public static class BlockEntry implements Comparable<BlockEntry> {
+		public final long rix;
+		public final long cix;
+		public final long offset;
+		public final int length;
+		public final long nnz;
+
+		public BlockEntry(long rix, long cix, long offset, int length, long nnz) {
+			this.rix = rix;
+			this.cix = cix;
+			this.offset = offset;
+			this.length = length;
+			this.nnz = nnz;
+		}
+
+		@Override
+		public int compareTo(BlockEntry that) {
+			int ret = Long.compare(rix, that.rix);
+			return (ret != 0) ? ret : Long.compare(cix, that.cix);
+		}
+	}
+
+	/**
+	 * Read-only memory mapping of a window of the file, which is remapped on
+	 * demand for blocks outside the current window.
+	 */
+	public static class MappedWindow {
+		private final FileChannel _channel;
+		private final long _length;
+		private MappedByteBuffer _buff;
+		private long _offset = -1;
+
+		public MappedWindow(FileChannel channel) throws IOException {
+			_channel = channel;
+			_length = channel.size();
+		}
+
+		/**
+		 * Deserializes the given block into the reuse block.
+		 * 
+		 * @param e   block index entry
+		 * @param ret reuse block
+		 * @throws IOException if IOException occurs
+		 */
+		public void readBlock(BlockEntry e, MatrixBlock ret) throws IOException {
+			if(_buff == null || e.offset < _offset || e.offset + e.length > _offset + _buff.capacity()) {
+				_offset = e.offset;
+				_buff = _channel.map(FileChannel.MapMode.READ_ONLY, e.offset,
+					Math.max(Math.min(MAX_MAP_SIZE, _length - e.offset), e.length));
+			}
+			_buff.limit((int) (e.offset - _offset + e.length));
+			_buff.position((int) (e.offset - _offset));
+			ret.readFields(new ByteBufferDataInput(_buff));
+		}
+	}
+}
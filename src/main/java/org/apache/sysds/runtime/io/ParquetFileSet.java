@@ -0,0 +1,536 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.hadoop.util.HadoopOutputFile;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.BooleanArray;
+import org.apache.sysds.runtime.frame.data.columns.DoubleArray;
+import org.apache.sysds.runtime.frame.data.columns.FloatArray;
+import org.apache.sysds.runtime.frame.data.columns.IntegerArray;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
+import org.apache.sysds.runtime.frame.data.columns.StringArray;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+import ch.randelshofer.fastdoubleparser.JavaDoubleParser;
+
+/**
+ * Footer metadata of a Parquet file or a directory of Parquet part files (e.g.,
+ * written by Spark), and column-wise reads of row groups via the low-level column
+ * readers. Reading column chunks directly into typed arrays avoids the
+ * materialization of records, and ranges of row groups are read in parallel into
+ * disjoint row ranges of a pre-allocated output. Only flat schemas of primitive,
+ * non-repeated columns are supported.
+ */
+public class ParquetFileSet 
+{
+	public static final String DEFAULT_CODEC = "snappy";
+	private static final GroupConverter NOOP_CONVERTER = new NoopGroupConverter();
+	
+	private final Configuration _conf;
+	private final Path[] _files;
+	private final String[] _createdBy;
+	private final List<List<BlockMetaData>> _rowGroups = new ArrayList<>();
+	private final MessageType _schema;
+	private final long _numRows;
+	
+	public ParquetFileSet(Path path, Configuration conf) throws IOException {
+		_conf = conf;
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, conf);
+		_files = IOUtilFunctions.getSequenceFilePaths(fs, path);
+		Arrays.sort(_files); //row order of part files
+		_createdBy = new String[_files.length];
+		
+		//read footers of all files
+		MessageType schema = null;
+		long nrow = 0;
+		for(int i = 0; i < _files.length; i++) {
+			ParquetMetadata footer = null;
+			try(ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(_files[i], conf))) {
+				footer = reader.getFooter();
+			}
+			MessageType fschema = footer.getFileMetaData().getSchema();
+			if(schema != null && !schema.equals(fschema))
+				throw new IOException("Incompatible schemas of parquet files "
+					+ _files[0] + " and " + _files[i] + ": " + schema + " vs " + fschema);
+			schema = fschema;
+			_createdBy[i] = footer.getFileMetaData().getCreatedBy();
+			_rowGroups.add(footer.getBlocks());
+			for(BlockMetaData block : footer.getBlocks())
+				nrow += block.getRowCount();
+		}
+		_schema = schema;
+		_numRows = nrow;
+	}
+	
+	public MessageType getSchema() {
+		return _schema;
+	}
+	
+	public long getNumRows() {
+		return _numRows;
+	}
+	
+	/**
+	 * Creates the schema of projected columns, which restricts the read
+	 * to the column chunks of these columns.
+	 * 
+	 * @param columns column names or null for all columns
+	 * @return projected schema
+	 */
+	public MessageType getProjection(String[] columns) {
+		MessageType proj = _schema;
+		if(columns != null) {
+			List<Type> fields = new ArrayList<>();
+			for(String name : columns) {
+				if(!_schema.containsField(name))
+					throw new DMLRuntimeException("Column '" + name + "' not found in parquet schema: " + _schema);
+				fields.add(_schema.getType(name));
+			}
+			proj = new MessageType(_schema.getName(), fields);
+		}
+		for(Type type : proj.getFields())
+			if(!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED))
+				throw new DMLRuntimeException("Unsupported nested or repeated parquet column: " + type);
+		return proj;
+	}
+	
+	public static String[] getColumnNames(MessageType schema) {
+		return schema.getFields().stream().map(Type::getName).toArray(String[]::new);
+	}
+	
+	public static ValueType[] getValueTypes(MessageType schema) {
+		return schema.getFields().stream()
+			.map(t -> getValueType(t.asPrimitiveType())).toArray(ValueType[]::new);
+	}
+	
+	public static ValueType getValueType(PrimitiveType type) {
+		switch(type.getPrimitiveTypeName()) {
+			case BOOLEAN: return ValueType.BOOLEAN;
+			case INT32:   return ValueType.INT32;
+			case INT64:   return ValueType.INT64;
+			case FLOAT:   return ValueType.FP32;
+			case DOUBLE:  return ValueType.FP64;
+			case BINARY:
+			case FIXED_LEN_BYTE_ARRAY:
+				return ValueType.STRING;
+			default:
+				throw new DMLRuntimeException("Unsupported parquet column type: " + type);
+		}
+	}
+	
+	/**
+	 * Allocates a column of the given native value type (see getValueType),
+	 * which allows thread-safe parallel reads of disjoint row ranges.
+	 * 
+	 * @param vt native value type
+	 * @param nrow number of rows
+	 * @return allocated column
+	 */
+	public static Array<?> allocateColumn(ValueType vt, int nrow) {
+		return (vt == ValueType.BOOLEAN) ? new BooleanArray(new boolean[nrow]) : ArrayFactory.allocate(vt, nrow);
+	}
+	
+	/**
+	 * Reads the given columns of all row groups, where row groups are read in parallel.
+	 * 
+	 * @param proj projected schema
+	 * @param k degree of parallelism
+	 * @param consumer column consumer (thread-safe for disjoint row ranges)
+	 * @return aggregated return values of the column consumer (e.g., nnz)
+	 * @throws IOException if the read fails
+	 */
+	public long read(MessageType proj, int k, ColumnConsumer consumer) throws IOException {
+		List<RowGroupRange> ranges = getRowGroupRanges(k);
+		if(k <= 1 || ranges.size() <= 1) {
+			long ret = 0;
+			for(RowGroupRange range : ranges)
+				ret += read(range, proj, consumer);
+			return ret;
+		}
+		
+		ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			List<Callable<Long>> tasks = new ArrayList<>();
+			for(RowGroupRange range : ranges)
+				tasks.add(() -> read(range, proj, consumer));
+			long ret = 0;
+			for(Future<Long> task : pool.invokeAll(tasks))
+				ret += task.get();
+			return ret;
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed parallel read of parquet files.", ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+	
+	private List<RowGroupRange> getRowGroupRanges(int k) {
+		//partition row groups into about k ranges of consecutive 
+		//row groups (of a single file) with known row offsets
+		int numGroups = _rowGroups.stream().mapToInt(List::size).sum();
+		int len = Math.max((int) Math.ceil((double) numGroups / k), 1);
+		List<RowGroupRange> ret = new ArrayList<>();
+		int rowOffset = 0;
+		for(int i = 0; i < _files.length; i++) {
+			List<BlockMetaData> groups = _rowGroups.get(i);
+			for(int g = 0; g < groups.size(); g += len) {
+				int num = Math.min(len, groups.size() - g);
+				ret.add(new RowGroupRange(i, g, num, rowOffset));
+				for(int j = g; j < g + num; j++)
+					rowOffset += groups.get(j).getRowCount();
+			}
+		}
+		return ret;
+	}
+	
+	private long read(RowGroupRange range, MessageType proj, ColumnConsumer consumer) throws IOException {
+		List<ColumnDescriptor> cols = proj.getColumns();
+		long ret = 0;
+		try(ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(_files[range.file], _conf))) {
+			reader.setRequestedSchema(proj);
+			for(int g = 0; g < range.first; g++)
+				reader.skipNextRowGroup();
+			int rl = range.rowOffset;
+			for(int g = 0; g < range.num; g++) {
+				PageReadStore pages = reader.readNextRowGroup();
+				int ru = rl + (int) pages.getRowCount();
+				ColumnReadStoreImpl store = new ColumnReadStoreImpl(
+					pages, NOOP_CONVERTER, proj, _createdBy[range.file]);
+				for(int j = 0; j < cols.size(); j++)
+					ret += consumer.consume(j, store.getColumnReader(cols.get(j)), rl, ru);
+				rl = ru;
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * Reads a column chunk into a column of the native value type.
+	 * Null values are represented as the default value of the type.
+	 * 
+	 * @param reader column reader
+	 * @param out output column (see allocateColumn)
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 */
+	public static void readColumn(ColumnReader reader, Array<?> out, int rl, int ru) {
+		final int maxDef = reader.getDescriptor().getMaxDefinitionLevel();
+		switch(reader.getDescriptor().getPrimitiveType().getPrimitiveTypeName()) {
+			case BOOLEAN: {
+				boolean[] a = ((BooleanArray) out).get();
+				for(int i = rl; i < ru; i++, reader.consume())
+					if(reader.getCurrentDefinitionLevel() == maxDef)
+						a[i] = reader.getBoolean();
+				break;
+			}
+			case INT32: {
+				int[] a = ((IntegerArray) out).get();
+				for(int i = rl; i < ru; i++, reader.consume())
+					if(reader.getCurrentDefinitionLevel() == maxDef)
+						a[i] = reader.getInteger();
+				break;
+			}
+			case INT64: {
+				long[] a = ((LongArray) out).get();
+				for(int i = rl; i < ru; i++, reader.consume())
+					if(reader.getCurrentDefinitionLevel() == maxDef)
+						a[i] = reader.getLong();
+				break;
+			}
+			case FLOAT: {
+				float[] a = ((FloatArray) out).get();
+				for(int i = rl; i < ru; i++, reader.consume())
+					if(reader.getCurrentDefinitionLevel() == maxDef)
+						a[i] = reader.getFloat();
+				break;
+			}
+			case DOUBLE: {
+				double[] a = ((DoubleArray) out).get();
+				for(int i = rl; i < ru; i++, reader.consume())
+					if(reader.getCurrentDefinitionLevel() == maxDef)
+						a[i] = reader.getDouble();
+				break;
+			}
+			default: {
+				String[] a = ((StringArray) out).get();
+				for(int i = rl; i < ru; i++, reader.consume())
+					if(reader.getCurrentDefinitionLevel() == maxDef)
+						a[i] = reader.getBinary().toStringUsingUTF8();
+			}
+		}
+	}
+	
+	/**
+	 * Reads a column chunk into a column of a dense matrix block. Null values
+	 * are represented as NaN, and strings are parsed as doubles.
+	 * 
+	 * @param reader column reader
+	 * @param out output dense block
+	 * @param col column index
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @return number of non-zeros
+	 */
+	public static long readColumn(ColumnReader reader, DenseBlock out, int col, int rl, int ru) {
+		final int maxDef = reader.getDescriptor().getMaxDefinitionLevel();
+		final PrimitiveTypeName type = reader.getDescriptor().getPrimitiveType().getPrimitiveTypeName();
+		long nnz = 0;
+		for(int i = rl; i < ru; i++, reader.consume()) {
+			double v = (reader.getCurrentDefinitionLevel() == maxDef) ? getDouble(reader, type) : Double.NaN;
+			if(v != 0) {
+				out.set(i, col, v);
+				nnz++;
+			}
+		}
+		return nnz;
+	}
+	
+	private static double getDouble(ColumnReader reader, PrimitiveTypeName type) {
+		switch(type) {
+			case BOOLEAN: return reader.getBoolean() ? 1 : 0;
+			case INT32:   return reader.getInteger();
+			case INT64:   return reader.getLong();
+			case FLOAT:   return reader.getFloat();
+			case DOUBLE:  return reader.getDouble();
+			default: {
+				byte[] buf = reader.getBinary().getBytesUnsafe();
+				int beg = IOUtilFunctions.trimBegin(buf, 0, buf.length);
+				int end = IOUtilFunctions.trimEnd(buf, beg, buf.length);
+				return (beg == end) ? Double.NaN : JavaDoubleParser.parseDouble(buf, beg, end - beg);
+			}
+		}
+	}
+	
+	/**
+	 * Creates a flat parquet schema of optional columns for the given value types.
+	 * 
+	 * @param name schema name
+	 * @param names column names
+	 * @param schema value types
+	 * @return parquet schema
+	 */
+	public static MessageType createSchema(String name, String[] names, ValueType[] schema) {
+		Types.MessageTypeBuilder builder = Types.buildMessage();
+		for(int j = 0; j < schema.length; j++) {
+			switch(schema[j]) {
+				case BOOLEAN: builder.optional(PrimitiveTypeName.BOOLEAN).named(names[j]); break;
+				case UINT4:
+				case UINT8:
+				case INT32:   builder.optional(PrimitiveTypeName.INT32).named(names[j]); break;
+				case INT64:   builder.optional(PrimitiveTypeName.INT64).named(names[j]); break;
+				case FP32:    builder.optional(PrimitiveTypeName.FLOAT).named(names[j]); break;
+				case FP64:    builder.optional(PrimitiveTypeName.DOUBLE).named(names[j]); break;
+				default:
+					builder.optional(PrimitiveTypeName.BINARY)
+						.as(LogicalTypeAnnotation.stringType()).named(names[j]);
+			}
+		}
+		return builder.named(name);
+	}
+	
+	/**
+	 * Adds a non-null value of the given value type to the current field.
+	 * 
+	 * @param rc record consumer
+	 * @param vt value type (see createSchema)
+	 * @param value boxed value
+	 */
+	public static void addValue(RecordConsumer rc, ValueType vt, Object value) {
+		switch(vt) {
+			case BOOLEAN: rc.addBoolean((Boolean) value); break;
+			case UINT4:
+			case UINT8:
+			case INT32:   rc.addInteger(((Number) value).intValue()); break;
+			case INT64:   rc.addLong(((Number) value).longValue()); break;
+			case FP32:    rc.addFloat(((Number) value).floatValue()); break;
+			case FP64:    rc.addDouble(((Number) value).doubleValue()); break;
+			default:      rc.addBinary(Binary.fromString(value.toString()));
+		}
+	}
+	
+	/**
+	 * Writes nrow rows to a single parquet file, overwriting existing files.
+	 * 
+	 * @param path file path
+	 * @param conf hadoop configuration
+	 * @param schema parquet schema
+	 * @param nrow number of rows
+	 * @param codec compression codec (e.g., snappy, gzip, zstd, or uncompressed)
+	 * @param rowGroupSize row group size in bytes
+	 * @param writer row writer
+	 * @throws IOException if the write fails
+	 */
+	public static void write(Path path, Configuration conf, MessageType schema, int nrow, String codec,
+		long rowGroupSize, RowWriter writer) throws IOException
+	{
+		try(ParquetWriter<Integer> pw = new RowWriterBuilder(HadoopOutputFile.fromPath(path, conf), schema, writer)
+			.withConf(conf)
+			.withCompressionCodec(CompressionCodecName.fromConf(codec))
+			.withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+			.withRowGroupSize(rowGroupSize).build())
+		{
+			for(int i = 0; i < nrow; i++)
+				pw.write(i);
+		}
+	}
+	
+	public interface ColumnConsumer {
+		/**
+		 * Consumes the values of rows [rl, ru) of a single column chunk.
+		 * 
+		 * @param col column index in the projected schema
+		 * @param reader column reader
+		 * @param rl row lower bound (inclusive)
+		 * @param ru row upper bound (exclusive)
+		 * @return arbitrary count (e.g., nnz) to aggregate
+		 * @throws IOException if the read fails
+		 */
+		long consume(int col, ColumnReader reader, int rl, int ru) throws IOException;
+	}
+	
+	public interface RowWriter {
+		/**
+		 * Writes all fields of the given row.
+		 * 
+		 * @param rc record consumer
+		 * @param row row index
+		 */
+		void write(RecordConsumer rc, int row);
+	}
+	
+	private static class RowGroupRange {
+		private final int file;
+		private final int first;
+		private final int num;
+		private final int rowOffset;
+		
+		public RowGroupRange(int file, int first, int num, int rowOffset) {
+			this.file = file;
+			this.first = first;
+			this.num = num;
+			this.rowOffset = rowOffset;
+		}
+	}
+	
+	private static class NoopGroupConverter extends GroupConverter {
+		@Override
+		public Converter getConverter(int fieldIndex) {
+			return new PrimitiveConverter() {};
+		}
+		
+		@Override
+		public void start() {}
+		
+		@Override
+		public void end() {}
+	}
+	
+	private static class RowWriterBuilder extends ParquetWriter.Builder<Integer, RowWriterBuilder> {
+		private final MessageType _schema;
+		private final RowWriter _writer;
+		
+		protected RowWriterBuilder(OutputFile file, MessageType schema, RowWriter writer) {
+			super(file);
+			_schema = schema;
+			_writer = writer;
+		}
+		
+		@Override
+		protected RowWriterBuilder self() {
+			return this;
+		}
+		
+		@Override
+		protected WriteSupport<Integer> getWriteSupport(Configuration conf) {
+			return new RowWriteSupport(_schema, _writer);
+		}
+	}
+	
+	private static class RowWriteSupport extends WriteSupport<Integer> {
+		private final MessageType _schema;
+		private final RowWriter _writer;
+		private RecordConsumer _rc;
+		
+		public RowWriteSupport(MessageType schema, RowWriter writer) {
+			_schema = schema;
+			_writer = writer;
+		}
+		
+		@Override
+		public WriteContext init(Configuration conf) {
+			return new WriteContext(_schema, new HashMap<>());
+		}
+		
+		@Override
+		public void prepareForWrite(RecordConsumer rc) {
+			_rc = rc;
+		}
+		
+		@Override
+		public void write(Integer row) {
+			_rc.startMessage();
+			_writer.write(_rc, row);
+			_rc.endMessage();
+		}
+	}
+}
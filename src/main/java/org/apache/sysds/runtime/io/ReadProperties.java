@@ -20,6 +20,7 @@
 package org.apache.sysds.runtime.io;
 
 import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.runtime.util.IndexRange;
 
 public class ReadProperties 
 {
@@ -34,6 +35,9 @@ public class ReadProperties
 	// Properties specific to CSV files
 	public FileFormatProperties formatProperties;
 	
+	// Optional index range (0-based, inclusive) to read, null reads all
+	public IndexRange indexRange;
+	
 	public ReadProperties() {
 		rlen = -1;
 		clen = -1;
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Matrix reader for Arrow IPC files, where all (or the projected) columns are
+ * read into a dense block, with record batches read in parallel. Numeric and
+ * boolean columns are converted to doubles, string columns are parsed, and null
+ * values are represented as NaN.
+ */
+public class ReaderArrow extends MatrixReader {
+	private final FileFormatPropertiesColumnar _props;
+	private final int _numThreads;
+
+	public ReaderArrow(FileFormatPropertiesColumnar props, int numThreads) {
+		_props = props;
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		//read footer and determine dimensions
+		ArrowFile file = new ArrowFile(path, job);
+		int[] cols = file.getProjection(_props.getColumns());
+		long nrow = file.getNumRows();
+		long ncol = cols.length;
+		if((rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != ncol))
+			throw new IOException("Read matrix dimensions differ from meta data: ["
+				+ nrow + "x" + ncol + "] vs. [" + rlen + "x" + clen + "].");
+
+		//core read of column buffers into dense block
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, blen, nrow * ncol, true, false);
+		DenseBlock a = ret.getDenseBlock();
+		long lnnz = file.read(cols, _numThreads,
+			(j, chunk, rl, ru) -> ArrowFile.readColumn(chunk, a, j, rl, ru));
+		ret.setNonZeros(lnnz);
+		ret.examSparsity();
+		return ret;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		throw new DMLRuntimeException("Arrow reads from input streams are not supported.");
+	}
+}
@@ -35,6 +35,7 @@ import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
 import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.IndexRange;
 
 public class ReaderBinaryBlock extends MatrixReader
 {
@@ -69,7 +70,7 @@ public class ReaderBinaryBlock extends MatrixReader
 		checkValidInputFile(fs, path); 
 	
 		//core read 
-		readBinaryBlockMatrixFromHDFS(path, job, fs, ret, rlen, clen, blen);
+		readBinaryBlockMatrixFromHDFS(path, job, fs, ret, rlen, clen, blen, null);
 		
 		//finally check if change of sparse/dense block representation required
 		if( !AGGREGATE_BLOCK_NNZ )
@@ -79,6 +80,40 @@ public class ReaderBinaryBlock extends MatrixReader
 		return ret;
 	}
 	
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz, IndexRange ixrange) 
+		throws IOException, DMLRuntimeException 
+	{
+		if( ixrange == null )
+			return readMatrixFromHDFS(fname, rlen, clen, blen, estnnz);
+		checkIndexRange(ixrange, rlen, clen);
+		long nrow = ixrange.rowEnd - ixrange.rowStart + 1;
+		long ncol = ixrange.colEnd - ixrange.colStart + 1;
+		
+		//early abort for known empty matrices (e.g., remote parfor result vars)
+		if( RETURN_EMPTY_NNZ0 && estnnz == 0 )
+			return new MatrixBlock((int)nrow, (int)ncol, true);
+		
+		//allocate output matrix block of the index range
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, blen,
+			estimateRangeNnz(ixrange, rlen, clen, estnnz), false, false);
+		
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
+		Path path = new Path( (_localFS ? "file:///" : "") + fname); 
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		checkValidInputFile(fs, path); 
+		
+		//core read (only blocks overlapping with the index range)
+		readBinaryBlockMatrixFromHDFS(path, job, fs, ret, rlen, clen, blen, ixrange);
+		
+		if( !AGGREGATE_BLOCK_NNZ )
+			ret.recomputeNonZeros();
+		ret.examSparsity();
+		
+		return ret;
+	}
+	
 	@Override
 	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz) 
 		throws IOException, DMLRuntimeException 
@@ -117,7 +152,60 @@ public class ReaderBinaryBlock extends MatrixReader
 		}
 		return value;
 	}
-
+	
+	/**
+	 * Indicates if a block overlaps with the given index range, which allows
+	 * to skip the deserialization of blocks outside the range.
+	 * 
+	 * @param key block indexes
+	 * @param blen block size
+	 * @param ixrange index range (0-based, inclusive), or null for all blocks
+	 * @return true if the block overlaps with the index range
+	 */
+	protected static boolean isBlockInRange(MatrixIndexes key, int blen, IndexRange ixrange) {
+		if( ixrange == null )
+			return true;
+		long rbeg = (key.getRowIndex()-1) * blen;
+		long cbeg = (key.getColumnIndex()-1) * blen;
+		return rbeg <= ixrange.rowEnd && rbeg + blen > ixrange.rowStart
+			&& cbeg <= ixrange.colEnd && cbeg + blen > ixrange.colStart;
+	}
+	
+	/**
+	 * Restricts a block at the given offsets to the overlap with the index range.
+	 * 
+	 * @param value matrix block
+	 * @param row_offset row offset of the block in the entire matrix
+	 * @param col_offset column offset of the block in the entire matrix
+	 * @param ixrange index range (0-based, inclusive)
+	 * @return block of the overlap, or null if the overlap is empty
+	 */
+	protected static MatrixBlock sliceBlockToRange(MatrixBlock value, int row_offset, int col_offset, IndexRange ixrange) {
+		int rl = (int)Math.max(ixrange.rowStart - row_offset, 0);
+		int ru = (int)Math.min(ixrange.rowEnd - row_offset, value.getNumRows()-1);
+		int cl = (int)Math.max(ixrange.colStart - col_offset, 0);
+		int cu = (int)Math.min(ixrange.colEnd - col_offset, value.getNumColumns()-1);
+		if( rl > ru || cl > cu )
+			return null;
+		if( rl == 0 && cl == 0 && ru == value.getNumRows()-1 && cu == value.getNumColumns()-1 )
+			return value;
+		MatrixBlock ret = value.slice(rl, ru, cl, cu);
+		return ret.isEmptyBlock(false) ? null : ret;
+	}
+	
+	/**
+	 * Indicates if the read of the given matrix or index range spans multiple column
+	 * blocks, in which case sparse rows need to be sorted after block appends.
+	 * 
+	 * @param clen number of columns
+	 * @param blen block size
+	 * @param ixrange index range (0-based, inclusive), or null for the entire matrix
+	 * @return true if multiple column blocks
+	 */
+	protected static boolean hasMultipleColBlocks(long clen, int blen, IndexRange ixrange) {
+		return (ixrange == null) ? clen > blen :
+			ixrange.colStart / blen != ixrange.colEnd / blen;
+	}
 	
 	/**
 	 * Note: For efficiency, we directly use SequenceFile.Reader instead of SequenceFileInputFormat-
@@ -137,9 +225,11 @@ public class ReaderBinaryBlock extends MatrixReader
 	 * @param clen number of columns
 	 * @param blen number of rows in block
 	 * @param blen number of columns in block
+	 * @param ixrange index range (0-based, inclusive), or null for the entire matrix
 	 * @throws IOException if IOException occurs
 	 */
-	private static void readBinaryBlockMatrixFromHDFS( Path path, JobConf job, FileSystem fs, MatrixBlock dest, long rlen, long clen, int blen )
+	private static void readBinaryBlockMatrixFromHDFS( Path path, JobConf job, FileSystem fs, MatrixBlock dest,
+		long rlen, long clen, int blen, IndexRange ixrange )
 		throws IOException
 	{
 		boolean sparse = dest.isInSparseFormat();
@@ -160,8 +250,13 @@ public class ReaderBinaryBlock extends MatrixReader
 			try
 			{
 				//note: next(key, value) does not yet exploit the given serialization classes, record reader does but is generally slower.
-				while( reader.next(key, value) )
+				//(blocks outside the index range are skipped without deserializing the value)
+				while( reader.next(key) )
 				{	
+					if( !isBlockInRange(key, blen, ixrange) )
+						continue;
+					reader.getCurrentValue(value);
+					
 					//empty block filter (skip entire block)
 					if( value.isEmptyBlock(false) )
 						continue;
@@ -178,22 +273,34 @@ public class ReaderBinaryBlock extends MatrixReader
 						throw new IOException("Matrix block ["+(row_offset+1)+":"+(row_offset+rows)+","+(col_offset+1)+":"+(col_offset+cols)+"] " +
 								              "out of overall matrix range [1:"+rlen+",1:"+clen+"].");
 					}
+					
+					//restrict block to index range (output coordinates)
+					MatrixBlock block = value;
+					if( ixrange != null ) {
+						block = sliceBlockToRange(value, row_offset, col_offset, ixrange);
+						if( block == null )
+							continue;
+						row_offset = (int)(Math.max(row_offset, ixrange.rowStart) - ixrange.rowStart);
+						col_offset = (int)(Math.max(col_offset, ixrange.colStart) - ixrange.colStart);
+						rows = block.getNumRows();
+						cols = block.getNumColumns();
+					}
 			
 					//copy block to result
 					if( sparse )
 					{
 						//note: append requires final sort (but prevents repeated shifting)
-						dest.appendToSparse(value, row_offset, col_offset);
+						dest.appendToSparse(block, row_offset, col_offset);
 					} 
 					else
 					{
 						dest.copy( row_offset, row_offset+rows-1, 
 								   col_offset, col_offset+cols-1,
-								   value, false );
+								   block, false );
 					}
 					
 					//maintain nnz as aggregate of block nnz
-					lnnz += value.getNonZeros();
+					lnnz += block.getNonZeros();
 				}
 			}
 			finally
@@ -204,7 +311,7 @@ public class ReaderBinaryBlock extends MatrixReader
 		
 		//post-processing
 		dest.setNonZeros( lnnz );
-		if( sparse && clen>blen ){
+		if( sparse && hasMultipleColBlocks(clen, blen, ixrange) ){
 			//no need to sort if 1 column block since always sorted
 			dest.sortSparseRows();
 		}
@@ -19,7 +19,11 @@
 
 package org.apache.sysds.runtime.io;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -27,6 +31,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.io.SequenceFile.Reader;
@@ -38,12 +43,22 @@ import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.util.ByteBufferDataInput;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.IndexRange;
 
 
 public class ReaderBinaryBlockParallel extends ReaderBinaryBlock 
 {	
+	//minimum size of byte ranges of local, uncompressed sequence files that
+	//are read in parallel (split at sync markers, see SequenceFile format)
+	public static long MIN_SPLIT_SIZE = 64L * 1024 * 1024;
+	
+	private static final int READ_BUFFER_SIZE = 16 * 1024 * 1024;
+	private static final int SYNC_ESCAPE = -1;
+	private static final int SYNC_HASH_SIZE = 16;
+	
 	private static int _numThreads = 1;
 	
 	public ReaderBinaryBlockParallel( boolean localFS )
@@ -75,7 +90,7 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		int numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
 		long numBlocks = (long)Math.ceil((double)rlen / blen);
 		readBinaryBlockMatrixFromHDFS(path, job, fs, ret,
-			rlen, clen, blen, numThreads<=numBlocks);
+			rlen, clen, blen, numThreads<=numBlocks, null);
 		
 		//finally check if change of sparse/dense block representation required
 		if( !AGGREGATE_BLOCK_NNZ )
@@ -84,9 +99,50 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		
 		return ret;
 	}
+	
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz, IndexRange ixrange) 
+		throws IOException, DMLRuntimeException 
+	{
+		if( ixrange == null )
+			return readMatrixFromHDFS(fname, rlen, clen, blen, estnnz);
+		checkIndexRange(ixrange, rlen, clen);
+		long nrow = ixrange.rowEnd - ixrange.rowStart + 1;
+		long ncol = ixrange.colEnd - ixrange.colStart + 1;
+		
+		//early abort for known empty matrices (e.g., remote parfor result vars)
+		if( RETURN_EMPTY_NNZ0 && estnnz == 0 )
+			return new MatrixBlock((int)nrow, (int)ncol, true);
+		
+		//allocate output matrix block of the index range, where the block offsets are
+		//not aligned with the output rows and hence, all sparse rows are allocated
+		//as synchronization points of multiple column blocks (see appendBlock)
+		long estnnz2 = estimateRangeNnz(ixrange, rlen, clen, estnnz);
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, blen, estnnz2, true, true);
+		SparseBlock sblock = ret.getSparseBlock();
+		if( ret.isInSparseFormat() && sblock instanceof SparseBlockMCSR && hasMultipleColBlocks(clen, blen, ixrange) )
+			for( int i=0; i<nrow; i++ )
+				if( sblock.get(i) == null )
+					sblock.allocate(i, Math.max((int)(estnnz2/nrow),2), (int)ncol);
+		
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
+		Path path = new Path( (_localFS ? "file:///" : "") + fname); 
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		checkValidInputFile(fs, path); 
+		
+		//core read (only blocks overlapping with the index range)
+		readBinaryBlockMatrixFromHDFS(path, job, fs, ret, rlen, clen, blen, false, ixrange);
+		
+		if( !AGGREGATE_BLOCK_NNZ )
+			ret.recomputeNonZeros();
+		ret.examSparsity();
+		
+		return ret;
+	}
 
 	private static void readBinaryBlockMatrixFromHDFS( Path path, JobConf job, FileSystem fs, MatrixBlock dest,
-			long rlen, long clen, int blen, boolean syncBlock )
+			long rlen, long clen, int blen, boolean syncBlock, IndexRange ixrange )
 		throws IOException, DMLRuntimeException
 	{
 		//set up preferred custom serialization framework for binary block format
@@ -96,11 +152,27 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		final ExecutorService pool = CommonThreadPool.get(_numThreads);
 		try 
 		{
-			//create read tasks for all files
-			ArrayList<ReadFileTask> tasks = new ArrayList<>();
-			for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ){
-				ReadFileTask t = new ReadFileTask(lpath, job, dest, rlen, clen, blen, syncBlock);
-				tasks.add(t);
+			//create read tasks for all files, where local uncompressed files are
+			//split into byte ranges in order to read large files in parallel
+			Path[] files = IOUtilFunctions.getSequenceFilePaths(fs, path);
+			LocalSequenceFile[] lfiles = new LocalSequenceFile[files.length];
+			long totalLen = 0;
+			for( int i=0; i<files.length; i++ ) {
+				lfiles[i] = (fs instanceof LocalFileSystem) ?
+					LocalSequenceFile.open((LocalFileSystem)fs, files[i], job) : null;
+				totalLen += (lfiles[i] != null) ? lfiles[i].length : 0;
+			}
+			long splitSize = Math.max(MIN_SPLIT_SIZE, totalLen / (2L * _numThreads));
+			ArrayList<Callable<Object>> tasks = new ArrayList<>();
+			for( int i=0; i<files.length; i++ ) {
+				LocalSequenceFile lfile = lfiles[i];
+				if( lfile == null ) {
+					tasks.add(new ReadFileTask(files[i], job, dest, rlen, clen, blen, syncBlock, ixrange));
+					continue;
+				}
+				for( long start = lfile.headerEnd; start < lfile.length; start += splitSize )
+					tasks.add(new ReadFileRangeTask(lfile, start, Math.min(start + splitSize, lfile.length),
+						dest, rlen, clen, blen, syncBlock, ixrange));
 			}
 
 			//wait until all tasks have been executed
@@ -113,8 +185,8 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 			
 			//post-processing
 			dest.setNonZeros( lnnz );
-			if( dest.isInSparseFormat() && clen>blen ) 
-				sortSparseRowsParallel(dest, rlen, _numThreads, pool);
+			if( dest.isInSparseFormat() && hasMultipleColBlocks(clen, blen, ixrange) ) 
+				sortSparseRowsParallel(dest, dest.getNumRows(), _numThreads, pool);
 			
 		} 
 		catch (Exception e) {
@@ -133,8 +205,11 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		private final long _rlen, _clen;
 		private final int _blen;
 		private final boolean _syncBlocks;
+		private final IndexRange _ixrange;
 		
-		public ReadFileTask(Path path, JobConf job, MatrixBlock dest, long rlen, long clen, int blen, boolean syncBlocks) {
+		public ReadFileTask(Path path, JobConf job, MatrixBlock dest, long rlen, long clen, int blen,
+			boolean syncBlocks, IndexRange ixrange)
+		{
 			_path = path;
 			_job = job;
 			_dest = dest;
@@ -142,6 +217,7 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 			_clen = clen;
 			_blen = blen;
 			_syncBlocks = syncBlocks;
+			_ixrange = ixrange;
 		}
 
 		@Override
@@ -159,71 +235,264 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 			try
 			{
 				//note: next(key, value) does not yet exploit the given serialization classes, record reader does but is generally slower.
-				while( reader.next(key, value) )
+				//(blocks outside the index range are skipped without deserializing the value)
+				while( reader.next(key) )
 				{	
+					if( !isBlockInRange(key, _blen, _ixrange) )
+						continue;
+					reader.getCurrentValue(value);
+					
 					//empty block filter (skip entire block)
 					if( value.isEmptyBlock(false) )
 						continue;
 					
-					int row_offset = (int)(key.getRowIndex()-1)*_blen;
-					int col_offset = (int)(key.getColumnIndex()-1)*_blen;
-					int rows = value.getNumRows();
-					int cols = value.getNumColumns();
-					
-					//bound check per block
-					if( row_offset + rows < 0 || row_offset + rows > _rlen 
-						|| col_offset + cols<0 || col_offset + cols > _clen ) {
-						throw new IOException("Matrix block ["+(row_offset+1)+":"
-							+(row_offset+rows)+","+(col_offset+1)+":"+(col_offset+cols)+"] " +
-							"out of overall matrix range [1:"+_rlen+",1:"+_clen+"].");
-					}
+					lnnz += appendBlock(_dest, key, value, _rlen, _clen, _blen, _syncBlocks, _ixrange);
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
 			
-					//copy block to result
-					if( sparse )
-					{
-						//note: append requires final sort
-						if (cols < _clen ) {
-							//sparse requires lock, when matrix is wider than one block
-							//(fine-grained locking of block rows instead of the entire matrix)
-							//NOTE: fine-grained locking depends on MCSR SparseRow objects 
-							SparseBlock sblock = _dest.getSparseBlock();
-							if( sblock instanceof SparseBlockMCSR && sblock.get(row_offset) != null ) {
-								if( _syncBlocks ) {
-									synchronized( sblock.get(row_offset) ){ 
-										_dest.appendToSparse(value, row_offset, col_offset);
-									}
-								}
-								else {
-									for( int i=0; i<rows; i++ ) 
-										synchronized( sblock.get(row_offset+i) ) {
-											_dest.appendRowToSparse(sblock, value, i, row_offset, col_offset, true);
-										}
-								}
-							}
-							else {
-								synchronized( _dest ){ 
-									_dest.appendToSparse(value, row_offset, col_offset);
-								}
-							}
-						}
-						else { //quickpath (no synchronization)
-							_dest.appendToSparse(value, row_offset, col_offset);
+			return lnnz;
+		}
+	}
+
+	private static long appendBlock(MatrixBlock dest, MatrixIndexes key, MatrixBlock value,
+		long rlen, long clen, int blen, boolean syncBlocks, IndexRange ixrange) throws IOException
+	{
+		boolean sparse = dest.isInSparseFormat();
+		
+		int row_offset = (int)(key.getRowIndex()-1)*blen;
+		int col_offset = (int)(key.getColumnIndex()-1)*blen;
+		int rows = value.getNumRows();
+		int cols = value.getNumColumns();
+		
+		//bound check per block
+		if( row_offset + rows < 0 || row_offset + rows > rlen 
+			|| col_offset + cols<0 || col_offset + cols > clen ) {
+			throw new IOException("Matrix block ["+(row_offset+1)+":"
+				+(row_offset+rows)+","+(col_offset+1)+":"+(col_offset+cols)+"] " +
+				"out of overall matrix range [1:"+rlen+",1:"+clen+"].");
+		}
+		
+		//restrict block to index range (output coordinates)
+		if( ixrange != null ) {
+			value = sliceBlockToRange(value, row_offset, col_offset, ixrange);
+			if( value == null )
+				return 0;
+			row_offset = (int)(Math.max(row_offset, ixrange.rowStart) - ixrange.rowStart);
+			col_offset = (int)(Math.max(col_offset, ixrange.colStart) - ixrange.colStart);
+			rows = value.getNumRows();
+			cols = value.getNumColumns();
+		}
+
+		//copy block to result
+		if( sparse )
+		{
+			//note: append requires final sort
+			if (cols < dest.getNumColumns() ) {
+				//sparse requires lock, when matrix is wider than one block
+				//(fine-grained locking of block rows instead of the entire matrix)
+				//NOTE: fine-grained locking depends on MCSR SparseRow objects 
+				SparseBlock sblock = dest.getSparseBlock();
+				if( sblock instanceof SparseBlockMCSR && sblock.get(row_offset) != null ) {
+					if( syncBlocks ) {
+						synchronized( sblock.get(row_offset) ){ 
+							dest.appendToSparse(value, row_offset, col_offset);
 						}
-					} 
+					}
 					else {
-						_dest.copy( row_offset, row_offset+rows-1, 
-							col_offset, col_offset+cols-1, value, false );
+						for( int i=0; i<rows; i++ ) 
+							synchronized( sblock.get(row_offset+i) ) {
+								dest.appendRowToSparse(sblock, value, i, row_offset, col_offset, true);
+							}
+					}
+				}
+				else {
+					synchronized( dest ){ 
+						dest.appendToSparse(value, row_offset, col_offset);
+					}
+				}
+			}
+			else { //quickpath (no synchronization)
+				dest.appendToSparse(value, row_offset, col_offset);
+			}
+		} 
+		else {
+			dest.copy( row_offset, row_offset+rows-1, 
+				col_offset, col_offset+cols-1, value, false );
+		}
+	
+		return value.getNonZeros();
+	}
+
+	private static class ReadFileRangeTask implements Callable<Object> 
+	{
+		private final LocalSequenceFile _file;
+		private final long _start, _end;
+		private final MatrixBlock _dest;
+		private final long _rlen, _clen;
+		private final int _blen;
+		private final boolean _syncBlocks;
+		private final IndexRange _ixrange;
+		
+		public ReadFileRangeTask(LocalSequenceFile file, long start, long end,
+			MatrixBlock dest, long rlen, long clen, int blen, boolean syncBlocks, IndexRange ixrange)
+		{
+			_file = file;
+			_start = start;
+			_end = end;
+			_dest = dest;
+			_rlen = rlen;
+			_clen = clen;
+			_blen = blen;
+			_syncBlocks = syncBlocks;
+			_ixrange = ixrange;
+		}
+
+		@Override
+		public Object call() throws Exception 
+		{
+			boolean sparse = _dest.isInSparseFormat();
+			MatrixIndexes key = new MatrixIndexes(); 
+			MatrixBlock value = getReuseBlock(_blen, sparse);
+			long lnnz = 0; //aggregate block nnz
+			
+			try( FileChannel channel = FileChannel.open(_file.file.toPath(), StandardOpenOption.READ) ) {
+				RangeBuffer buff = new RangeBuffer(channel);
+				
+				//a range owns all records that follow a sync marker starting within
+				//the range, where the first range also owns the records after the header
+				long pos = (_start == _file.headerEnd) ? _start : buff.findSync(_start, _end, _file.sync);
+				while( pos >= 0 && buff.fill(pos, 4) ) {
+					int len = buff.getInt(pos);
+					if( len == SYNC_ESCAPE ) {
+						if( pos >= _end ) //sync marker of next range
+							break;
+						pos += 4 + SYNC_HASH_SIZE;
+						continue;
 					}
 					
-					//aggregate nnz
-					lnnz += value.getNonZeros();
+					//deserialize key and value (record layout: length, key length, key, value),
+					//where blocks outside the index range are skipped without deserializing the value
+					if( len < 0 || !buff.fill(pos, 8 + len) )
+						throw new IOException("Corrupted record at position "+pos+" of file "+_file.file+".");
+					ByteBufferDataInput in = buff.getDataInput(pos + 8);
+					key.readFields(in);
+					pos += 8 + len;
+					if( !isBlockInRange(key, _blen, _ixrange) )
+						continue;
+					value.readFields(in);
+					
+					//empty block filter (skip entire block)
+					if( value.isEmptyBlock(false) )
+						continue;
+					
+					lnnz += appendBlock(_dest, key, value, _rlen, _clen, _blen, _syncBlocks, _ixrange);
 				}
 			}
+			
+			return lnnz;
+		}
+	}
+	
+	/**
+	 * Meta data of an uncompressed, local sequence file, which allows to
+	 * directly read records from arbitrary byte ranges.
+	 */
+	private static class LocalSequenceFile
+	{
+		private final File file;
+		private final long length;
+		private final long headerEnd;
+		private final byte[] sync;
+		
+		private LocalSequenceFile(File file, long length, long headerEnd, byte[] sync) {
+			this.file = file;
+			this.length = length;
+			this.headerEnd = headerEnd;
+			this.sync = sync;
+		}
+		
+		private static LocalSequenceFile open(LocalFileSystem fs, Path path, JobConf job) throws IOException {
+			//parse the header via the sequence file reader, where the
+			//header ends with the sync marker of the file
+			long headerEnd = -1;
+			Reader reader = new SequenceFile.Reader(job, SequenceFile.Reader.file(path));
+			try {
+				if( reader.isCompressed() )
+					return null;
+				headerEnd = reader.getPosition();
+			}
 			finally {
 				IOUtilFunctions.closeSilently(reader);
 			}
 			
-			return lnnz;
+			File file = fs.pathToFile(path);
+			byte[] sync = new byte[SYNC_HASH_SIZE];
+			try( FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ) ) {
+				ByteBuffer buff = ByteBuffer.wrap(sync);
+				while( buff.hasRemaining() && channel.read(buff, headerEnd-SYNC_HASH_SIZE+buff.position()) >= 0 );
+				return new LocalSequenceFile(file, channel.size(), headerEnd, sync);
+			}
+		}
+	}
+	
+	/**
+	 * Reusable direct buffer over a window of a file channel, filled via
+	 * positional reads (independent of the channel position).
+	 */
+	private static class RangeBuffer
+	{
+		private final FileChannel _channel;
+		private ByteBuffer _buff;
+		private long _offset = -1; //file position of buffer start
+		
+		private RangeBuffer(FileChannel channel) {
+			_channel = channel;
+			_buff = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+			_buff.limit(0);
+		}
+		
+		private boolean fill(long pos, int len) throws IOException {
+			//check for already buffered byte range
+			if( _offset >= 0 && pos >= _offset && pos + len <= _offset + _buff.limit() )
+				return true;
+			//read byte range into (potentially enlarged) buffer
+			if( len > _buff.capacity() )
+				_buff = ByteBuffer.allocateDirect(Math.max(len,
+					(int)Math.min(2L * _buff.capacity(), Integer.MAX_VALUE - 8)));
+			_buff.clear();
+			_offset = pos;
+			while( _buff.hasRemaining() && _channel.read(_buff, pos + _buff.position()) >= 0 );
+			_buff.flip();
+			return len <= _buff.limit();
+		}
+		
+		private int getInt(long pos) {
+			return _buff.getInt((int)(pos - _offset));
+		}
+		
+		private ByteBufferDataInput getDataInput(long pos) {
+			_buff.position((int)(pos - _offset));
+			return new ByteBufferDataInput(_buff);
+		}
+		
+		private long findSync(long start, long end, byte[] sync) throws IOException {
+			//scan for the sync escape followed by the sync marker (as done by SequenceFile.Reader.sync)
+			for( long pos = start; pos < end; pos++ ) {
+				if( !fill(pos, 4 + SYNC_HASH_SIZE) )
+					return -1;
+				int off = (int)(pos - _offset);
+				if( _buff.getInt(off) != SYNC_ESCAPE )
+					continue;
+				boolean match = true;
+				for( int i=0; i<SYNC_HASH_SIZE && match; i++ )
+					match = _buff.get(off + 4 + i) == sync[i];
+				if( match )
+					return pos;
+			}
+			return -1;
 		}
 	}
 }
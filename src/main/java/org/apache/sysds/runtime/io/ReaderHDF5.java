@@ -33,10 +33,13 @@ import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.io.hdf5.H5;
+import org.apache.sysds.runtime.io.hdf5.H5ChunkedDataset;
 import org.apache.sysds.runtime.io.hdf5.H5Constants;
 import org.apache.sysds.runtime.io.hdf5.H5ContiguousDataset;
+import org.apache.sysds.runtime.io.hdf5.H5Dataset;
 import org.apache.sysds.runtime.io.hdf5.H5RootObject;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.IndexRange;
 
 public class ReaderHDF5 extends MatrixReader {
 	protected final FileFormatPropertiesHDF5 _props;
@@ -71,6 +74,45 @@ public class ReaderHDF5 extends MatrixReader {
 		return ret;
 	}
 
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz, IndexRange ixrange)
+		throws IOException, DMLRuntimeException {
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//fallback to full read and slice for unknown dimensions or multiple files
+		if(ixrange == null || rlen < 0 || clen < 0 || fs.getFileStatus(path).isDirectory())
+			return super.readMatrixFromHDFS(fname, rlen, clen, blen, estnnz, ixrange);
+		checkIndexRange(ixrange, rlen, clen);
+		checkValidInputFile(fs, path);
+
+		//fallback to full read and slice if the file prefix up to the last row exceeds the max buffer size
+		long fileLen = fs.getFileStatus(path).getLen();
+		long prefixLen = Math.min(fileLen, H5Constants.STATIC_HEADER_SIZE + (ixrange.rowEnd + 1) * clen * 8);
+		if(prefixLen > Integer.MAX_VALUE - 8)
+			return super.readMatrixFromHDFS(fname, rlen, clen, blen, estnnz, ixrange);
+
+		//allocate output matrix block of the index range
+		long nrow = ixrange.rowEnd - ixrange.rowStart + 1;
+		long ncol = ixrange.colEnd - ixrange.colStart + 1;
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, (int) nrow,
+			estimateRangeNnz(ixrange, rlen, clen, estnnz), true, false);
+
+		//core read, where the input buffer only covers the file prefix up to the last row
+		//(except for chunked datasets, whose chunks might reside anywhere in the file)
+		int bufferSize = (int) prefixLen;
+		if(bufferSize < fileLen && isChunkedHDF5(fs, path, _props.getDatasetName(), bufferSize))
+			bufferSize = getBufferSize(fs, path);
+		BufferedInputStream bis = new BufferedInputStream(fs.open(path), bufferSize);
+		long lnnz = readMatrixRangeFromHDF5(bis, _props.getDatasetName(), ret, ixrange);
+
+		ret.setNonZeros(lnnz);
+		ret.examSparsity();
+		return ret;
+	}
+
 	@Override
 	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
 		throws IOException, DMLRuntimeException {
@@ -114,7 +156,7 @@ public class ReaderHDF5 extends MatrixReader {
 		long lnnz = 0;
 		for(int fileNo = 0; fileNo < files.size(); fileNo++) {
 			BufferedInputStream bis = new BufferedInputStream(fs.open(files.get(fileNo)),
-				(int) (H5Constants.STATIC_HEADER_SIZE + (clen * rlen * 8)));
+				Math.max(getBufferSize(fs, files.get(fileNo)), (int) (H5Constants.STATIC_HEADER_SIZE + (clen * rlen * 8))));
 			lnnz += readMatrixFromHDF5(bis, datasetName, dest, 0, rlen, clen, blen);
 		}
 		//post processing
@@ -128,12 +170,22 @@ public class ReaderHDF5 extends MatrixReader {
 		bis.mark(0);
 		long lnnz = 0;
 		H5RootObject rootObject = H5.H5Fopen(bis);
-		H5ContiguousDataset contiguousDataset = H5.H5Dopen(rootObject, datasetName);
+		H5Dataset dataset = H5.H5Dopen(rootObject, datasetName);
 
 		int[] dims = rootObject.getDimensions();
 		int ncol = dims[1];
 
 		DenseBlock denseBlock = dest.getDenseBlock();
+		if(dataset.isChunked()) {
+			//decode all chunks overlapping the row range directly into the dense block
+			H5ChunkedDataset chunkedDataset = (H5ChunkedDataset) dataset;
+			lnnz = H5.H5Dread(chunkedDataset, chunkedDataset.getChunks(), denseBlock,
+				new IndexRange(row, rlen - 1, 0, ncol - 1));
+			IOUtilFunctions.closeSilently(bis);
+			return lnnz;
+		}
+
+		H5ContiguousDataset contiguousDataset = (H5ContiguousDataset) dataset;
 		double[] data = new double[ncol];
 		for(int i = row; i < rlen; i++) {
 			H5.H5Dread(contiguousDataset, i, data);
@@ -149,6 +201,78 @@ public class ReaderHDF5 extends MatrixReader {
 		return lnnz;
 	}
 
+	/**
+	 * Reads the rows and columns of the given index range from an HDF5 dataset,
+	 * where rows are read by their offset and rows after the range are never read.
+	 * 
+	 * @param bis       buffered input stream
+	 * @param datasetName dataset name
+	 * @param dest      output matrix block of the index range
+	 * @param ixrange   index range (0-based, inclusive)
+	 * @return number of non-zeros
+	 */
+	public static long readMatrixRangeFromHDF5(BufferedInputStream bis, String datasetName, MatrixBlock dest,
+		IndexRange ixrange) {
+		bis.mark(0);
+		long lnnz = 0;
+		H5RootObject rootObject = H5.H5Fopen(bis);
+		H5Dataset dataset = H5.H5Dopen(rootObject, datasetName);
+
+		if(dataset.isChunked()) {
+			//decode chunks overlapping the index range into a dense output
+			if(dest.isInSparseFormat() || dest.getDenseBlock() == null) {
+				dest.reset(dest.getNumRows(), dest.getNumColumns(), false);
+				dest.allocateDenseBlock();
+			}
+			H5ChunkedDataset chunkedDataset = (H5ChunkedDataset) dataset;
+			lnnz = H5.H5DreadRange(chunkedDataset, chunkedDataset.getChunks(), dest.getDenseBlock(), ixrange);
+			IOUtilFunctions.closeSilently(bis);
+			return lnnz;
+		}
+
+		H5ContiguousDataset contiguousDataset = (H5ContiguousDataset) dataset;
+		final int rl = (int) ixrange.rowStart, cl = (int) ixrange.colStart;
+		double[] data = new double[rootObject.getDimensions()[1]];
+		for(int i = rl; i <= ixrange.rowEnd; i++) {
+			H5.H5Dread(contiguousDataset, i, data);
+			for(int j = cl; j <= ixrange.colEnd; j++) {
+				if(data[j] != 0) {
+					if(dest.isInSparseFormat())
+						dest.appendValue(i - rl, j - cl, data[j]);
+					else
+						dest.getDenseBlock().set(i - rl, j - cl, data[j]);
+					lnnz++;
+				}
+			}
+		}
+		IOUtilFunctions.closeSilently(bis);
+		return lnnz;
+	}
+
+	/**
+	 * Gets the size of the input buffer to hold the entire file, which is required for random access to the chunks
+	 * of chunked datasets.
+	 * 
+	 * @param fs   file system
+	 * @param path file path
+	 * @return buffer size in bytes
+	 * @throws IOException if the file status cannot be obtained
+	 */
+	protected static int getBufferSize(FileSystem fs, Path path) throws IOException {
+		return (int) Math.min(fs.getFileStatus(path).getLen(), Integer.MAX_VALUE - 8);
+	}
+
+	private static boolean isChunkedHDF5(FileSystem fs, Path path, String datasetName, int bufferSize)
+		throws IOException {
+		BufferedInputStream bis = new BufferedInputStream(fs.open(path), bufferSize);
+		try {
+			return H5.H5Dopen(H5.H5Fopen(bis), datasetName).isChunked();
+		}
+		finally {
+			IOUtilFunctions.closeSilently(bis);
+		}
+	}
+
 	public static MatrixBlock computeHDF5Size(List<Path> files, FileSystem fs, String datasetName)
 		throws IOException, DMLRuntimeException {
 		int nrow = 0;
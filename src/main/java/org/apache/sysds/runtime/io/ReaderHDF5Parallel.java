@@ -23,6 +23,7 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -35,9 +36,14 @@ import org.apache.hadoop.mapred.TextInputFormat;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.io.hdf5.H5;
+import org.apache.sysds.runtime.io.hdf5.H5Chunk;
+import org.apache.sysds.runtime.io.hdf5.H5ChunkedDataset;
 import org.apache.sysds.runtime.io.hdf5.H5Constants;
+import org.apache.sysds.runtime.io.hdf5.H5Dataset;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.IndexRange;
 
 public class ReaderHDF5Parallel extends ReaderHDF5 {
 
@@ -74,6 +80,19 @@ public class ReaderHDF5Parallel extends ReaderHDF5 {
 		//create and execute tasks
 		ExecutorService pool = CommonThreadPool.get(_numThreads);
 		try {
+			//chunked datasets: parallel decode of disjoint chunk batches over a shared stream
+			BufferedInputStream cbis = new BufferedInputStream(fs.open(path), getBufferSize(fs, path));
+			H5Dataset dataset = H5.H5Dopen(H5.H5Fopen(cbis), _props.getDatasetName());
+			if(dataset.isChunked()) {
+				try {
+					return readChunkedHDF5(pool, (H5ChunkedDataset) dataset, src);
+				}
+				finally {
+					IOUtilFunctions.closeSilently(cbis);
+				}
+			}
+			IOUtilFunctions.closeSilently(cbis);
+
 			int bufferSize = (src.getNumColumns() * src.getNumRows()) * 8 + H5Constants.STATIC_HEADER_SIZE;
 			ArrayList<ReadHDF5Task> tasks = new ArrayList<>();
 			rlen = src.getNumRows();
@@ -87,9 +106,11 @@ public class ReaderHDF5Parallel extends ReaderHDF5 {
 				tasks.add(new ReadHDF5Task(bis, _props.getDatasetName(), src, rl, ru));
 			}
 
-			for(Future<Object> task : pool.invokeAll(tasks))
-				task.get();
-			
+			long lnnz = 0;
+			for(Future<Long> task : pool.invokeAll(tasks))
+				lnnz += task.get();
+			src.setNonZeros(lnnz);
+			src.examSparsity();
 			return src;
 		}
 		catch(Exception e) {
@@ -100,6 +121,24 @@ public class ReaderHDF5Parallel extends ReaderHDF5 {
 		}
 	}
 
+	private MatrixBlock readChunkedHDF5(ExecutorService pool, H5ChunkedDataset dataset, MatrixBlock dest)
+		throws Exception {
+		List<H5Chunk> chunks = dataset.getChunks();
+		IndexRange ixrange = new IndexRange(0, dest.getNumRows() - 1, 0, dest.getNumColumns() - 1);
+		ArrayList<ReadHDF5ChunksTask> tasks = new ArrayList<>();
+		int blklen = (int) Math.ceil((double) chunks.size() / _numThreads);
+		for(int i = 0; i < _numThreads & i * blklen < chunks.size(); i++)
+			tasks.add(new ReadHDF5ChunksTask(dataset,
+				chunks.subList(i * blklen, Math.min((i + 1) * blklen, chunks.size())), dest, ixrange));
+
+		long lnnz = 0;
+		for(Future<Long> task : pool.invokeAll(tasks))
+			lnnz += task.get();
+		dest.setNonZeros(lnnz);
+		dest.examSparsity();
+		return dest;
+	}
+
 	@Override
 	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
 		throws IOException, DMLRuntimeException {
@@ -107,7 +146,7 @@ public class ReaderHDF5Parallel extends ReaderHDF5 {
 		return new ReaderHDF5(_props).readMatrixFromInputStream(is, rlen, clen, blen, estnnz);
 	}
 
-	private static class ReadHDF5Task implements Callable<Object> {
+	private static class ReadHDF5Task implements Callable<Long> {
 
 		private final BufferedInputStream _bis;
 		private final String _datasetName;
@@ -124,9 +163,29 @@ public class ReaderHDF5Parallel extends ReaderHDF5 {
 		}
 
 		@Override
-		public Object call() throws IOException {
-			readMatrixFromHDF5(_bis, _datasetName, _src, _rl, _ru, 0, 0);
-			return null;
+		public Long call() throws IOException {
+			return readMatrixFromHDF5(_bis, _datasetName, _src, _rl, _ru, 0, 0);
+		}
+	}
+
+	private static class ReadHDF5ChunksTask implements Callable<Long> {
+
+		private final H5ChunkedDataset _dataset;
+		private final List<H5Chunk> _chunks;
+		private final MatrixBlock _dest;
+		private final IndexRange _ixrange;
+
+		public ReadHDF5ChunksTask(H5ChunkedDataset dataset, List<H5Chunk> chunks, MatrixBlock dest,
+			IndexRange ixrange) {
+			_dataset = dataset;
+			_chunks = chunks;
+			_dest = dest;
+			_ixrange = ixrange;
+		}
+
+		@Override
+		public Long call() {
+			return H5.H5Dread(_dataset, _chunks, _dest.getDenseBlock(), _ixrange);
 		}
 	}
 }
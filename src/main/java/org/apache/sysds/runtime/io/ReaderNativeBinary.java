@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.SparseBlockMCSR;
+import org.apache.sysds.runtime.io.NativeBinaryFile.BlockEntry;
+import org.apache.sysds.runtime.io.NativeBinaryFile.MappedWindow;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.IndexRange;
+
+/**
+ * Matrix reader for the native single-node binary block format, which
+ * memory-maps the file and deserializes blocks in parallel (tasks over
+ * disjoint row block ranges). Reads of an index range only deserialize
+ * the blocks that overlap with the range.
+ */
+public class ReaderNativeBinary extends MatrixReader {
+	private final int _numThreads;
+
+	public ReaderNativeBinary(int numThreads) {
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		NativeBinaryFile file = new NativeBinaryFile(NativeBinaryFile.getLocalFile(fname));
+		if((rlen >= 0 && rlen != file.getNumRows()) || (clen >= 0 && clen != file.getNumColumns()))
+			throw new IOException("Read matrix dimensions differ from meta data: [" + file.getNumRows() + "x"
+				+ file.getNumColumns() + "] vs. [" + rlen + "x" + clen + "].");
+		return readMatrix(file, new IndexRange(0, file.getNumRows() - 1, 0, file.getNumColumns() - 1));
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz, IndexRange ixrange)
+		throws IOException, DMLRuntimeException
+	{
+		if(ixrange == null)
+			return readMatrixFromHDFS(fname, rlen, clen, blen, estnnz);
+		return readMatrix(new NativeBinaryFile(NativeBinaryFile.getLocalFile(fname)), ixrange);
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+
+	private MatrixBlock readMatrix(NativeBinaryFile file, IndexRange ixrange) throws IOException {
+		//check valid index range
+		checkIndexRange(ixrange, file.getNumRows(), file.getNumColumns());
+		long rlen = ixrange.rowEnd - ixrange.rowStart + 1;
+		long clen = ixrange.colEnd - ixrange.colStart + 1;
+		int blen = file.getBlocksize();
+
+		//collect overlapping blocks and allocate output (upper bound nnz)
+		List<BlockEntry> blocks = file.getBlocks(ixrange);
+		long estnnz = Math.min(blocks.stream().mapToLong(e -> e.nnz).sum(), rlen * clen);
+		if(RETURN_EMPTY_NNZ0 && estnnz == 0)
+			return new MatrixBlock((int) rlen, (int) clen, true);
+		MatrixBlock ret = createOutputMatrixBlock(rlen, clen, blen, estnnz, true, true);
+
+		//split blocks into tasks of disjoint row block ranges (no sync required)
+		int k = (ret.isInSparseFormat() && !(ret.getSparseBlock() instanceof SparseBlockMCSR)) ? 1 : _numThreads;
+		long numRowBlocks = blocks.get(blocks.size() - 1).rix - blocks.get(0).rix + 1;
+		long rowBlocksPerTask = (long) Math.ceil((double) numRowBlocks / k);
+		List<ReadBlocksTask> tasks = new ArrayList<>();
+		for(int i = 0; i < blocks.size();) {
+			long rixEnd = blocks.get(i).rix + rowBlocksPerTask;
+			int j = i;
+			while(j < blocks.size() && blocks.get(j).rix < rixEnd)
+				j++;
+			tasks.add(new ReadBlocksTask(file.getFile(), blocks.subList(i, j), ret, ixrange, blen));
+			i = j;
+		}
+
+		//core read (sequential or parallel)
+		long lnnz = 0;
+		if(tasks.size() == 1)
+			lnnz = tasks.get(0).call();
+		else {
+			ExecutorService pool = CommonThreadPool.get(Math.min(k, tasks.size()));
+			try {
+				for(Future<Long> task : pool.invokeAll(tasks))
+					lnnz += task.get();
+			}
+			catch(Exception ex) {
+				throw new IOException("Failed parallel read of native binary input.", ex);
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+
+		ret.setNonZeros(lnnz);
+		ret.examSparsity();
+		return ret;
+	}
+
+	private static class ReadBlocksTask implements Callable<Long> {
+		private final File _file;
+		private final List<BlockEntry> _blocks;
+		private final MatrixBlock _dest;
+		private final IndexRange _ixrange;
+		private final int _blen;
+
+		public ReadBlocksTask(File file, List<BlockEntry> blocks, MatrixBlock dest, IndexRange ixrange, int blen) {
+			_file = file;
+			_blocks = blocks;
+			_dest = dest;
+			_ixrange = ixrange;
+			_blen = blen;
+		}
+
+		@Override
+		public Long call() throws IOException {
+			MatrixBlock value = new MatrixBlock();
+			MatrixBlock slice = new MatrixBlock();
+			long lnnz = 0;
+			try(FileChannel channel = FileChannel.open(_file.toPath(), StandardOpenOption.READ)) {
+				MappedWindow window = new MappedWindow(channel);
+				for(BlockEntry e : _blocks) {
+					window.readBlock(e, value);
+
+					//determine overlap of block and index range
+					long rbeg = (e.rix - 1) * _blen, cbeg = (e.cix - 1) * _blen;
+					int rl = (int) Math.max(_ixrange.rowStart - rbeg, 0);
+					int ru = (int) Math.min(_ixrange.rowEnd - rbeg, value.getNumRows() - 1);
+					int cl = (int) Math.max(_ixrange.colStart - cbeg, 0);
+					int cu = (int) Math.min(_ixrange.colEnd - cbeg, value.getNumColumns() - 1);
+					MatrixBlock block = (rl == 0 && cl == 0 && ru == value.getNumRows() - 1
+						&& cu == value.getNumColumns() - 1) ? value : value.slice(rl, ru, cl, cu, slice);
+					if(block.isEmptyBlock(false))
+						continue;
+
+					//copy block to result (append in column block order keeps rows sorted)
+					int row_offset = (int) (rbeg + rl - _ixrange.rowStart);
+					int col_offset = (int) (cbeg + cl - _ixrange.colStart);
+					if(_dest.isInSparseFormat())
+						_dest.appendToSparse(block, row_offset, col_offset);
+					else
+						_dest.copy(row_offset, row_offset + block.getNumRows() - 1, col_offset,
+							col_offset + block.getNumColumns() - 1, block, false);
+					lnnz += block.getNonZeros();
+				}
+			}
+			return lnnz;
+		}
+	}
+}
@@ -38,6 +38,7 @@ import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.IndexRange;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
 public class ReaderTextCSV extends MatrixReader
@@ -76,6 +77,43 @@ public class ReaderTextCSV extends MatrixReader
 		return ret;
 	}
 	
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz, IndexRange ixrange) 
+		throws IOException, DMLRuntimeException 
+	{
+		//fallback to full read and slice for unknown dimensions
+		if( ixrange == null || rlen < 0 || clen < 0 )
+			return super.readMatrixFromHDFS(fname, rlen, clen, blen, estnnz, ixrange);
+		checkIndexRange(ixrange, rlen, clen);
+		long nrow = ixrange.rowEnd - ixrange.rowStart + 1;
+		long ncol = ixrange.colEnd - ixrange.colStart + 1;
+		
+		//allocate output matrix block of the index range
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, (int)nrow,
+			estimateRangeNnz(ixrange, rlen, clen, estnnz), true, false);
+		
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		checkValidInputFile(fs, path);
+		
+		//core read of the row range, with early abort after the last row
+		long lnnz = 0;
+		MutableInt row = new MutableInt(0);
+		List<Path> files = getCSVFilePaths(fs, path);
+		for(int fileNo=0; fileNo<files.size() && row.intValue()<=ixrange.rowEnd; fileNo++) {
+			lnnz += readCSVMatrixRangeFromInputStream(fs.open(files.get(fileNo)), path.toString(), ret, row, clen, ixrange,
+				_props.hasHeader() && fileNo==0, _props.getDelim(), _props.isFill(), _props.getFillValue(), _props.getNAStrings());
+		}
+		if( row.intValue() <= ixrange.rowEnd )
+			throw new IOException("Index range "+ixrange+" out of bounds of read matrix with "+row.intValue()+" rows.");
+		
+		ret.setNonZeros( lnnz );
+		ret.examSparsity();
+		return ret;
+	}
+	
 	@Override
 	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz) 
 		throws IOException, DMLRuntimeException 
@@ -94,9 +132,8 @@ public class ReaderTextCSV extends MatrixReader
 		return ret;
 	}
 	
-	private static MatrixBlock readCSVMatrixFromHDFS( Path path, JobConf job, FileSystem fs, MatrixBlock dest, 
-			long rlen, long clen, int blen, boolean hasHeader, String delim, boolean fill, double fillValue, HashSet<String> naStrings )
-		throws IOException, DMLRuntimeException
+	private static List<Path> getCSVFilePaths( FileSystem fs, Path path ) 
+		throws IOException
 	{
 		//prepare file paths in alphanumeric order
 		ArrayList<Path> files=new ArrayList<>();
@@ -107,6 +144,14 @@ public class ReaderTextCSV extends MatrixReader
 		}
 		else
 			files.add(path);
+		return files;
+	}
+	
+	private static MatrixBlock readCSVMatrixFromHDFS( Path path, JobConf job, FileSystem fs, MatrixBlock dest, 
+			long rlen, long clen, int blen, boolean hasHeader, String delim, boolean fill, double fillValue, HashSet<String> naStrings )
+		throws IOException, DMLRuntimeException
+	{
+		List<Path> files = getCSVFilePaths(fs, path);
 
 		//determine matrix size via additional pass if required
 		if ( dest == null ) {
@@ -217,6 +262,77 @@ public class ReaderTextCSV extends MatrixReader
 		return lnnz;
 	}
 
+	/**
+	 * Reads the rows of the given index range from a CSV input stream, where rows before
+	 * the range are skipped without tokenizing and only the cells of the column range
+	 * are parsed. The read stops after the last row of the range.
+	 * 
+	 * @param is input stream
+	 * @param srcInfo source info for error messages
+	 * @param dest output matrix block of the index range
+	 * @param rowPos row position in the entire matrix (maintained across files)
+	 * @param clen number of columns of the entire matrix
+	 * @param ixrange index range (0-based, inclusive)
+	 * @param hasHeader if true, skip the header line
+	 * @param delim delimiter
+	 * @param fill if true, fill empty cells
+	 * @param fillValue fill value
+	 * @param naStrings strings to interpret as NaN
+	 * @return number of non-zeros
+	 * @throws IOException if IOException occurs
+	 */
+	private static long readCSVMatrixRangeFromInputStream( InputStream is, String srcInfo, MatrixBlock dest, MutableInt rowPos, 
+			long clen, IndexRange ixrange, boolean hasHeader, String delim, boolean fill, double fillValue, HashSet<String> naStrings )
+		throws IOException
+	{
+		final int rl = (int)ixrange.rowStart, ru = (int)ixrange.rowEnd;
+		final int cl = (int)ixrange.colStart, cu = (int)ixrange.colEnd;
+		boolean sparse = dest.isInSparseFormat();
+		int row = rowPos.intValue();
+		long lnnz = 0;
+		
+		BufferedReader br = new BufferedReader(new InputStreamReader(is));
+		try {
+			if( hasHeader ) 
+				br.readLine(); //ignore header
+			
+			String value = null;
+			while( row <= ru && (value=br.readLine())!=null ) { //foreach line
+				if( row++ < rl )
+					continue;
+				String cellStr = value.trim();
+				String[] parts = IOUtilFunctions.split(cellStr, delim);
+				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, cellStr, parts, clen);
+				boolean emptyValuesFound = false;
+				for( int j=cl; j<=cu; j++ ) { //foreach cell in column range
+					String part = parts[j].trim();
+					double cellValue = 0;
+					if( part.isEmpty() ) {
+						emptyValuesFound = true;
+						cellValue = fillValue;
+					}
+					else {
+						cellValue = UtilFunctions.parseToDouble(part, naStrings);
+					}
+					if( cellValue != 0 ) {
+						if( sparse )
+							dest.appendValue(row-1-rl, j-cl, cellValue);
+						else
+							dest.getDenseBlock().set(row-1-rl, j-cl, cellValue);
+						lnnz++;
+					}
+				}
+				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, fill, emptyValuesFound);
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(br);
+		}
+		
+		rowPos.setValue(row);
+		return lnnz;
+	}
+
 	private static MatrixBlock computeCSVSize( List<Path> files, JobConf job, FileSystem fs, boolean hasHeader, String delim, boolean fill, double fillValue) 
 		throws IOException, DMLRuntimeException 
 	{		
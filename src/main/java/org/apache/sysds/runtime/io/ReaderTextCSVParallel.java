@@ -21,7 +21,9 @@ package org.apache.sysds.runtime.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -43,11 +45,15 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseRow;
+import org.apache.sysds.runtime.data.SparseRowVector;
 import org.apache.sysds.runtime.io.IOUtilFunctions.CountRowsTask;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.IndexRange;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
+import ch.randelshofer.fastdoubleparser.JavaDoubleParser;
+
 /**
  * Parallel version of ReaderTextCSV.java. To summarize, we do two passes in order to compute row offsets and the actual
  * read. We accordingly create count and read tasks and use fixed-size thread pools to execute these tasks. If the
@@ -92,12 +98,20 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		// check existence and non-empty file
 		checkValidInputFile(fs, path);
 
-		// allocate output matrix block
-		// First Read Pass (count rows/cols, determine offsets, allocate matrix block)
-		MatrixBlock ret = computeCSVSizeAndCreateOutputMatrixBlock(splits, path, rlen, clen, blen, estnnz);
+		MatrixBlock ret = null;
+		if(ConfigurationManager.isCSVSinglePassEnabled()) {
+			// Single Read Pass (read, parse strings into row chunks per split,
+			// determine offsets, allocate and stitch chunks into matrix block)
+			ret = readCSVMatrixFromHDFSSinglePass(splits, path, rlen, clen, blen, estnnz);
+		}
+		else {
+			// allocate output matrix block
+			// First Read Pass (count rows/cols, determine offsets, allocate matrix block)
+			ret = computeCSVSizeAndCreateOutputMatrixBlock(splits, path, rlen, clen, blen, estnnz);
 
-		// Second Read Pass (read, parse strings, append to matrix block)
-		readCSVMatrixFromHDFS(splits, path, ret);
+			// Second Read Pass (read, parse strings, append to matrix block)
+			readCSVMatrixFromHDFS(splits, path, ret);
+		}
 
 		// post-processing (representation-specific, change of sparse/dense block representation)
 		// - no sorting required for CSV because it is read in sorted order per row
@@ -112,6 +126,16 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		return ret;
 	}
 
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz, IndexRange ixrange)
+		throws IOException, DMLRuntimeException {
+		// sequential read of the row range, which skips all rows before the
+		// range (without tokenizing) and stops after the last row of the range
+		if(ixrange == null)
+			return readMatrixFromHDFS(fname, rlen, clen, blen, estnnz);
+		return new ReaderTextCSV(_props).readMatrixFromHDFS(fname, rlen, clen, blen, estnnz, ixrange);
+	}
+
 	@Override
 	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
 		throws IOException, DMLRuntimeException {
@@ -132,16 +156,10 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			ArrayList<Callable<Long>> tasks = new ArrayList<>();
 			int splitCount = 0;
 			for(InputSplit split : splits) {
-				if(dest.isInSparseFormat() && _props.getNAStrings() != null)
-					tasks.add(new CSVReadSparseNanTask(split, informat, dest, splitCount++));
-				else if(dest.isInSparseFormat() && _props.getFillValue() == 0)
-					tasks.add(new CSVReadSparseNoNanTaskAndFill(split, informat, dest, splitCount++));
-				else if(dest.isInSparseFormat())
-					tasks.add(new CSVReadSparseNoNanTask(split, informat, dest, splitCount++));
-				else if(_props.getNAStrings() != null)
-					tasks.add(new CSVReadDenseNanTask(split, informat, dest, splitCount++));
+				if(dest.isInSparseFormat())
+					tasks.add(new CSVReadSparseTask(split, informat, dest, splitCount++));
 				else
-					tasks.add(new CSVReadDenseNoNanTask(split, informat, dest, splitCount++));
+					tasks.add(new CSVReadDenseTask(split, informat, dest, splitCount++));
 			}
 
 			// check return codes and aggregate nnz
@@ -177,18 +195,7 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			informat.configure(_job);
 			
 			// count number of entities in the first non-header row
-			LongWritable key = new LongWritable();
-			Text oneLine = new Text();
-			RecordReader<LongWritable, Text> reader = informat.getRecordReader(splits[0], _job, Reporter.NULL);
-			try {
-				if(reader.next(key, oneLine)) {
-					String cellStr = oneLine.toString().trim();
-					_cLen = StringUtils.countMatches(cellStr, _props.getDelim()) + 1;
-				}
-			}
-			finally {
-				IOUtilFunctions.closeSilently(reader);
-			}
+			_cLen = computeNumColumns(splits[0], informat);
 
 			ArrayList<CountRowsTask> tasks = new ArrayList<>();
 			boolean hasHeader = _props.hasHeader();
@@ -211,20 +218,7 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		
 
 			// robustness for wrong dimensions which are already compiled into the plan
-			if((rlen != -1 && _rLen != rlen) || (clen != -1 && _cLen != clen)) {
-				String msg = "Read matrix dimensions differ from meta data: [" + _rLen + "x" + _cLen + "] vs. [" + rlen
-					+ "x" + clen + "].";
-				if(rlen < _rLen || clen < _cLen) {
-					// a) specified matrix dimensions too small
-					throw new DMLRuntimeException(msg);
-				}
-				else {
-					// b) specified matrix dimensions too large -> padding and warning
-					LOG.warn(msg);
-					_rLen = (int) rlen;
-					_cLen = (int) clen;
-				}
-			}
+			checkAndSetDimensions(rlen, clen);
 
 			// allocate target matrix block based on given size;
 			// need to allocate sparse as well since lock-free insert into target
@@ -240,6 +234,94 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		}
 	}
 
+	private int computeNumColumns(InputSplit split, TextInputFormat informat) throws IOException {
+		// count number of entities in the first (potentially header) row
+		LongWritable key = new LongWritable();
+		Text oneLine = new Text();
+		RecordReader<LongWritable, Text> reader = informat.getRecordReader(split, _job, Reporter.NULL);
+		try {
+			if(reader.next(key, oneLine)) {
+				String cellStr = oneLine.toString().trim();
+				return StringUtils.countMatches(cellStr, _props.getDelim()) + 1;
+			}
+			return 0;
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+	}
+
+	private void checkAndSetDimensions(long rlen, long clen) {
+		if((rlen != -1 && _rLen != rlen) || (clen != -1 && _cLen != clen)) {
+			String msg = "Read matrix dimensions differ from meta data: [" + _rLen + "x" + _cLen + "] vs. [" + rlen
+				+ "x" + clen + "].";
+			if(rlen < _rLen || clen < _cLen) {
+				// a) specified matrix dimensions too small
+				throw new DMLRuntimeException(msg);
+			}
+			else {
+				// b) specified matrix dimensions too large -> padding and warning
+				LOG.warn(msg);
+				_rLen = (int) rlen;
+				_cLen = (int) clen;
+			}
+		}
+	}
+
+	private MatrixBlock readCSVMatrixFromHDFSSinglePass(InputSplit[] splits, Path path, long rlen, long clen,
+		int blen, long estnnz) throws IOException
+	{
+		FileInputFormat.addInputPath(_job, path);
+		TextInputFormat informat = new TextInputFormat();
+		informat.configure(_job);
+		_rLen = 0;
+		_cLen = computeNumColumns(splits[0], informat);
+
+		// row chunks in the representation of the final output block,
+		// which is dense for unknown dimensions or nnz (see two-pass read)
+		final boolean sparse = rlen >= 0 && clen >= 0 && estnnz >= 0
+			&& MatrixBlock.evalSparseFormatInMemory(rlen, clen, estnnz);
+
+		ExecutorService pool = CommonThreadPool.get(_numThreads);
+		try {
+			// parse all splits into local row chunks
+			ArrayList<CSVReadChunksTask> tasks = new ArrayList<>();
+			for(int i = 0; i < splits.length; i++)
+				tasks.add(new CSVReadChunksTask(splits[i], informat, i, sparse));
+			List<Future<Long>> rt = pool.invokeAll(tasks);
+
+			// compute split offsets from the parsed row counts
+			_offsets = new SplitOffsetInfos(tasks.size());
+			long lnnz = 0;
+			for(int i = 0; i < tasks.size(); i++) {
+				lnnz += rt.get(i).get();
+				_offsets.setOffsetPerSplit(i, _rLen);
+				_offsets.setLenghtPerSplit(i, tasks.get(i).getNumRows());
+				_rLen += tasks.get(i).getNumRows();
+			}
+			checkAndSetDimensions(rlen, clen);
+
+			// allocate output block and stitch row chunks in parallel
+			MatrixBlock ret = createOutputMatrixBlock(_rLen, _cLen, blen,
+				sparse ? estnnz : (long) _rLen * _cLen, true, false);
+			if(ret.isInSparseFormat())
+				ret.allocateSparseRowsBlock();
+			ArrayList<Callable<Object>> ctasks = new ArrayList<>();
+			for(CSVReadChunksTask task : tasks)
+				ctasks.add(() -> task.copyInto(ret));
+			for(Future<Object> ct : pool.invokeAll(ctasks))
+				ct.get();
+			ret.setNonZeros(lnnz);
+			return ret;
+		}
+		catch(Exception e) {
+			throw new IOException("Thread pool issue, while parallel read.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
 	private static class SplitOffsetInfos {
 		// offset & length info per split
 		private int[] offsetPerSplit = null;
@@ -274,6 +356,10 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		protected final boolean _isFirstSplit;
 		protected final int _splitCount;
 
+		protected final byte[] _delim;
+		protected final byte[][] _naStrings;
+		protected boolean _noFillEmpty = false;
+
 		protected int _row = 0;
 		protected int _col = 0;
 
@@ -283,6 +369,8 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			_dest = dest;
 			_isFirstSplit = (splitCount == 0);
 			_splitCount = splitCount;
+			_delim = _props.getDelim().getBytes(StandardCharsets.UTF_8);
+			_naStrings = IOUtilFunctions.toByteArrays(_props.getNAStrings());
 		}
 
 		@Override
@@ -298,7 +386,7 @@ public class ReaderTextCSVParallel extends MatrixReader {
 					reader.next(key, value);
 				}
 
-				_row = _offsets.getOffsetPerSplit(_splitCount);
+				_row = getRowOffset();
 
 				long nnz = 0;
 				try {
@@ -312,7 +400,7 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			}
 			catch(Exception ex) {
 				// post-mortem error handling and bounds checking
-				if(_row < 0 || _row + 1 > _rLen || _col < 0 || _col + 1 > _cLen) {
+				if(_row < 0 || _row + 1 > getMaxRows() || _col < 0 || _col + 1 > _cLen) {
 					String errMsg = "CSV cell [" + (_row + 1) + "," + (_col + 1) + "] "
 						+ "out of overall matrix range [1:" + _rLen + ",1:" + _cLen + "]. " + ex.getMessage();
 					throw new IOException(errMsg, ex);
@@ -328,217 +416,243 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		protected abstract long parse(RecordReader<LongWritable, Text> reader, LongWritable key, Text value)
 			throws IOException;
 
-		protected void verifyRows(Text value) throws IOException {
-			if(_row != (_offsets.getOffsetPerSplit(_splitCount) + _offsets.getLenghtPerSplit(_splitCount))) {
-				throw new IOException("Incorrect number of rows (" + _row + ") found in delimited file ("
-					+ (_offsets.getOffsetPerSplit(_splitCount) + _offsets.getLenghtPerSplit(_splitCount)) + "): "
-					+ value);
-			}
+		protected int getRowOffset() {
+			return _offsets.getOffsetPerSplit(_splitCount);
 		}
-	}
 
-	private class CSVReadDenseNoNanTask extends CSVReadTask {
-
-		public CSVReadDenseNoNanTask(InputSplit split, TextInputFormat informat, MatrixBlock dest, int splitCount) {
-			super(split, informat, dest, splitCount);
+		protected long getMaxRows() {
+			return _rLen;
 		}
 
-		protected long parse(RecordReader<LongWritable, Text> reader, LongWritable key, Text value) throws IOException {
-			DenseBlock a = _dest.getDenseBlock();
-			double cellValue = 0;
+		/**
+		 * Parses a single line into a dense row (only the first _cLen cells).
+		 * 
+		 * @param value line
+		 * @param avals dense row values
+		 * @param apos position of the row in avals
+		 * @return number of non-zeros
+		 * @throws IOException if the line is invalid
+		 */
+		protected final long parseLine(Text value, double[] avals, int apos) throws IOException {
+			final byte[] buf = value.getBytes();
+			final int beg = IOUtilFunctions.trimBegin(buf, 0, value.getLength());
+			final int end = IOUtilFunctions.trimEnd(buf, beg, value.getLength());
 			long nnz = 0;
-			boolean noFillEmpty = false;
-
-			while(reader.next(key, value)) { // foreach line
-				final String cellStr = value.toString().trim();
-				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
-				double[] avals = a.values(_row);
-				int apos = a.pos(_row);
-				for(int j = 0; j < _cLen; j++) { // foreach cell
-					String part = parts[j].trim();
-					if(part.isEmpty()) {
-						noFillEmpty |= !_props.isFill();
-						cellValue = _props.getFillValue();
-					}
-					else {
-						cellValue = Double.parseDouble(part);
-					}
-					if(cellValue != 0) {
-						avals[apos+j] = cellValue;
-						nnz++;
-					}
+			_col = 0;
+			for(int pos = beg; pos <= end; _col++) { // foreach cell (empty line: one empty cell)
+				int next = IOUtilFunctions.indexOf(buf, pos, end, _delim);
+				double cellValue = parseCell(buf, pos, next);
+				if(cellValue != 0 && _col < _cLen) {
+					avals[apos + _col] = cellValue;
+					nnz++;
 				}
-				// sanity checks (number of columns, fill values)
-				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _props.isFill(), noFillEmpty);
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _cLen);
-				_row++;
+				pos = next + _delim.length;
 			}
+			checkLine(value);
+			return nnz;
+		}
 
+		/**
+		 * Parses a single line into a sparse row (only the first _cLen cells).
+		 * 
+		 * @param value line
+		 * @param r sparse row
+		 * @return number of non-zeros
+		 * @throws IOException if the line is invalid
+		 */
+		protected final long parseLine(Text value, SparseRow r) throws IOException {
+			final byte[] buf = value.getBytes();
+			final int beg = IOUtilFunctions.trimBegin(buf, 0, value.getLength());
+			final int end = IOUtilFunctions.trimEnd(buf, beg, value.getLength());
+			long nnz = 0;
+			_col = 0;
+			for(int pos = beg; pos <= end; _col++) { // foreach cell (empty line: one empty cell)
+				int next = IOUtilFunctions.indexOf(buf, pos, end, _delim);
+				double cellValue = parseCell(buf, pos, next);
+				if(cellValue != 0 && _col < _cLen) {
+					r.append(_col, cellValue);
+					nnz++;
+				}
+				pos = next + _delim.length;
+			}
+			checkLine(value);
 			return nnz;
 		}
 
+		/**
+		 * Parses a single cell from the given byte range of a line, which
+		 * avoids the materialization of the line and its tokens as strings.
+		 * 
+		 * @param buf line buffer
+		 * @param beg begin of cell (inclusive)
+		 * @param end end of cell (exclusive)
+		 * @return cell value
+		 */
+		protected final double parseCell(byte[] buf, int beg, int end) {
+			beg = IOUtilFunctions.trimBegin(buf, beg, end);
+			end = IOUtilFunctions.trimEnd(buf, beg, end);
+			if(beg == end) {
+				_noFillEmpty |= !_props.isFill();
+				return _props.getFillValue();
+			}
+			if(_naStrings != null && IOUtilFunctions.containsBytes(_naStrings, buf, beg, end))
+				return Double.NaN;
+			try {
+				return JavaDoubleParser.parseDouble(buf, beg, end - beg);
+			}
+			catch(NumberFormatException ex) {
+				// report the invalid cell like Double.parseDouble
+				throw new NumberFormatException(
+					"For input string: \"" + new String(buf, beg, end - beg, StandardCharsets.UTF_8) + "\"");
+			}
+		}
+
+		/**
+		 * Sanity checks (number of columns, fill values) after parsing a line,
+		 * where the line string is only materialized for error messages.
+		 * 
+		 * @param value line
+		 * @throws IOException if the line is invalid
+		 */
+		protected final void checkLine(Text value) throws IOException {
+			if(_noFillEmpty)
+				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value.toString().trim(), _props.isFill(), true);
+			if(_col != _cLen)
+				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), value.toString().trim(), _col, _cLen);
+		}
+
+		protected void verifyRows(Text value) throws IOException {
+			if(_row != (_offsets.getOffsetPerSplit(_splitCount) + _offsets.getLenghtPerSplit(_splitCount))) {
+				throw new IOException("Incorrect number of rows (" + _row + ") found in delimited file ("
+					+ (_offsets.getOffsetPerSplit(_splitCount) + _offsets.getLenghtPerSplit(_splitCount)) + "): "
+					+ value);
+			}
+		}
 	}
 
-	private class CSVReadDenseNanTask extends CSVReadTask {
+	private class CSVReadDenseTask extends CSVReadTask {
 
-		public CSVReadDenseNanTask(InputSplit split, TextInputFormat informat, MatrixBlock dest, int splitCount) {
+		public CSVReadDenseTask(InputSplit split, TextInputFormat informat, MatrixBlock dest, int splitCount) {
 			super(split, informat, dest, splitCount);
 		}
 
+		@Override
 		protected long parse(RecordReader<LongWritable, Text> reader, LongWritable key, Text value) throws IOException {
-			DenseBlock a = _dest.getDenseBlock();
-			double cellValue = 0;
-			boolean noFillEmpty = false;
+			final DenseBlock a = _dest.getDenseBlock();
 			long nnz = 0;
 			while(reader.next(key, value)) { // foreach line
-				String cellStr = value.toString().trim();
-				String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
-				double[] avals = a.values(_row);
-				int apos = a.pos(_row);
-				for(int j = 0; j < _cLen; j++) { // foreach cell
-					String part = parts[j].trim();
-					if(part.isEmpty()) {
-						noFillEmpty |= !_props.isFill();
-						cellValue = _props.getFillValue();
-					}
-					else
-						cellValue = UtilFunctions.parseToDouble(part, _props.getNAStrings());
-
-					if(cellValue != 0) {
-						avals[apos+j] = cellValue;
-						nnz++;
-					}
-				}
-				// sanity checks (number of columns, fill values)
-				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _props.isFill(), noFillEmpty);
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _cLen);
+				nnz += parseLine(value, a.values(_row), a.pos(_row));
 				_row++;
 			}
 			return nnz;
 		}
 	}
 
-	private class CSVReadSparseNanTask extends CSVReadTask {
+	private class CSVReadSparseTask extends CSVReadTask {
 
-		public CSVReadSparseNanTask(InputSplit split, TextInputFormat informat, MatrixBlock dest, int splitCount) {
+		public CSVReadSparseTask(InputSplit split, TextInputFormat informat, MatrixBlock dest, int splitCount) {
 			super(split, informat, dest, splitCount);
 		}
 
+		@Override
 		protected long parse(RecordReader<LongWritable, Text> reader, LongWritable key, Text value) throws IOException {
-			boolean noFillEmpty = false;
-			double cellValue = 0;
 			final SparseBlock sb = _dest.getSparseBlock();
 			long nnz = 0;
-			while(reader.next(key, value)) {
-
-				final String cellStr = value.toString().trim();
-				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
-				_col = 0;
+			while(reader.next(key, value)) { // foreach line
 				sb.allocate(_row);
-				SparseRow r = sb.get(_row);
-
-				for(String part : parts) {
-					part = part.trim();
-					if(part.isEmpty()) {
-						noFillEmpty |= !_props.isFill();
-						cellValue = _props.getFillValue();
-					}
-					else {
-						cellValue = UtilFunctions.parseToDouble(part, _props.getNAStrings());
-					}
-
-					if(cellValue != 0) {
-						r.append(_col, cellValue);
-						nnz++;
-					}
-					_col++;
-				}
-
-				// sanity checks (number of columns, fill values)
-				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _props.isFill(), noFillEmpty);
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _cLen);
-
+				nnz += parseLine(value, sb.get(_row));
 				_row++;
 			}
 			return nnz;
 		}
 	}
 
-	private class CSVReadSparseNoNanTask extends CSVReadTask {
-		public CSVReadSparseNoNanTask(InputSplit split, TextInputFormat informat, MatrixBlock dest, int splitCount) {
-			super(split, informat, dest, splitCount);
+	/**
+	 * Read task of the single-pass read, which parses a split into local row
+	 * chunks (dense row-major arrays of CHUNK_SIZE cells, or sparse rows) because
+	 * the row offset of the split is not yet known. Once all splits are parsed,
+	 * the chunks are copied (dense) or moved (sparse) into the output block.
+	 */
+	private class CSVReadChunksTask extends CSVReadTask {
+		private static final int CHUNK_SIZE = 64 * 1024;
+
+		private final boolean _sparse;
+		private final int _ncol;
+		private final int _chunkRows;
+		private final ArrayList<double[]> _denseChunks = new ArrayList<>();
+		private final ArrayList<SparseRow> _sparseRows = new ArrayList<>();
+
+		public CSVReadChunksTask(InputSplit split, TextInputFormat informat, int splitCount, boolean sparse) {
+			super(split, informat, null, splitCount);
+			_sparse = sparse;
+			_ncol = _cLen;
+			_chunkRows = Math.max(CHUNK_SIZE / Math.max(_ncol, 1), 1);
 		}
 
+		@Override
 		protected long parse(RecordReader<LongWritable, Text> reader, LongWritable key, Text value) throws IOException {
-			final SparseBlock sb = _dest.getSparseBlock();
 			long nnz = 0;
-			double cellValue = 0;
-			boolean noFillEmpty = false;
-			while(reader.next(key, value)) {
-				_col = 0;
-				final String cellStr = value.toString().trim();
-				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
-				sb.allocate(_row);
-				SparseRow r = sb.get(_row);
-				for(String part : parts) {
-					part = part.trim();
-					if(part.isEmpty()) {
-						noFillEmpty |= !_props.isFill();
-						cellValue = _props.getFillValue();
-					}
-					else {
-						cellValue = Double.parseDouble(part);
-					}
-
-					if(cellValue != 0) {
-						r.append(_col, cellValue);
-						nnz++;
-					}
-					_col++;
+			while(reader.next(key, value)) { // foreach line
+				if(_sparse) {
+					SparseRow r = new SparseRowVector();
+					nnz += parseLine(value, r);
+					_sparseRows.add(r.isEmpty() ? null : r);
+				}
+				else {
+					int pos = (_row % _chunkRows) * _ncol;
+					if(pos == 0)
+						_denseChunks.add(new double[_chunkRows * _ncol]);
+					nnz += parseLine(value, _denseChunks.get(_denseChunks.size() - 1), pos);
 				}
-
-				// sanity checks (number of columns, fill values)
-				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _props.isFill(), noFillEmpty);
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _cLen);
-
 				_row++;
 			}
 			return nnz;
 		}
-	}
 
-	private class CSVReadSparseNoNanTaskAndFill extends CSVReadTask {
-		public CSVReadSparseNoNanTaskAndFill(InputSplit split, TextInputFormat informat, MatrixBlock dest,
-			int splitCount) {
-			super(split, informat, dest, splitCount);
+		@Override
+		protected int getRowOffset() {
+			return 0; // local row index
 		}
 
-		protected long parse(RecordReader<LongWritable, Text> reader, LongWritable key, Text value) throws IOException {
-			final SparseBlock sb = _dest.getSparseBlock();
-			long nnz = 0;
-			double cellValue = 0;
-			while(reader.next(key, value)) {
-				_col = 0;
-				final String cellStr = value.toString().trim();
-				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
-				sb.allocate(_row);
-				SparseRow r = sb.get(_row);
-				for(String part : parts) {
-					if(!part.isEmpty()) {
-						cellValue = Double.parseDouble(part);
-						if(cellValue != 0) {
-							r.append(_col, cellValue);
-							nnz++;
-						}
-					}
-					_col++;
-				}
+		@Override
+		protected long getMaxRows() {
+			return Integer.MAX_VALUE;
+		}
+
+		@Override
+		protected void verifyRows(Text value) {
+			// row count defined by this split
+		}
 
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _cLen);
+		public int getNumRows() {
+			return _row;
+		}
 
-				_row++;
+		public Object copyInto(MatrixBlock ret) {
+			final int off = _offsets.getOffsetPerSplit(_splitCount);
+			if(ret.isInSparseFormat()) {
+				SparseBlock sb = ret.getSparseBlock();
+				for(int i = 0; i < _sparseRows.size(); i++)
+					if(_sparseRows.get(i) != null)
+						sb.set(off + i, _sparseRows.get(i), false);
+				_sparseRows.clear();
 			}
-			return nnz;
+			else {
+				DenseBlock a = ret.getDenseBlock();
+				boolean contiguous = a.isContiguous() && _ncol == ret.getNumColumns();
+				for(int c = 0; c < _denseChunks.size(); c++) {
+					double[] chunk = _denseChunks.get(c);
+					int rl = c * _chunkRows;
+					int ru = Math.min(rl + _chunkRows, _row);
+					if(contiguous) // copy entire chunk
+						System.arraycopy(chunk, 0, a.values(off + rl), a.pos(off + rl), (ru - rl) * _ncol);
+					else // copy row by row
+						for(int i = rl; i < ru; i++)
+							System.arraycopy(chunk, (i - rl) * _ncol, a.values(off + i), a.pos(off + i), _ncol);
+					_denseChunks.set(c, null); // allow early GC
+				}
+			}
+			return null;
 		}
 	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.sysds.runtime.util.FastDoubleFormatter;
+
+/**
+ * Allocation-free buffered writer of ASCII text lines (e.g., matrix market or libsvm), which formats numbers directly
+ * into a reused byte buffer and streams full buffers to the underlying output stream. Compared to a BufferedWriter over
+ * strings of StringBuilders, this avoids temporary strings and char-to-byte encoding, and bounds the memory per writer
+ * by the buffer size. Doubles are formatted as shortest round-trip decimals via {@link FastDoubleFormatter}.
+ */
+public class TextOutputBuffer implements Closeable {
+	private static final int DEFAULT_SIZE = 64 * 1024;
+
+	private final OutputStream _out;
+	private final byte[] _buff;
+	private int _pos;
+
+	public TextOutputBuffer(OutputStream out) {
+		this(out, DEFAULT_SIZE);
+	}
+
+	public TextOutputBuffer(OutputStream out, int size) {
+		_out = out;
+		_buff = new byte[Math.max(size, FastDoubleFormatter.MAX_CHARS)];
+		_pos = 0;
+	}
+
+	public TextOutputBuffer append(char c) throws IOException {
+		if(_pos == _buff.length)
+			flushBuffer();
+		_buff[_pos++] = (byte) c;
+		return this;
+	}
+
+	public TextOutputBuffer append(byte[] b) throws IOException {
+		if(_pos + b.length > _buff.length) {
+			flushBuffer();
+			if(b.length > _buff.length) {
+				_out.write(b);
+				return this;
+			}
+		}
+		System.arraycopy(b, 0, _buff, _pos, b.length);
+		_pos += b.length;
+		return this;
+	}
+
+	public TextOutputBuffer append(long v) throws IOException {
+		if(_pos + FastDoubleFormatter.MAX_LONG_CHARS > _buff.length)
+			flushBuffer();
+		_pos = FastDoubleFormatter.format(v, _buff, _pos);
+		return this;
+	}
+
+	public TextOutputBuffer append(double v) throws IOException {
+		if(_pos + FastDoubleFormatter.MAX_CHARS > _buff.length)
+			flushBuffer();
+		_pos = FastDoubleFormatter.format(v, _buff, _pos);
+		return this;
+	}
+
+	public void flush() throws IOException {
+		flushBuffer();
+		_out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flushBuffer();
+		}
+		finally {
+			_out.close();
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if(_pos > 0)
+			_out.write(_buff, 0, _pos);
+		_pos = 0;
+	}
+}
@@ -20,9 +20,11 @@
 package org.apache.sysds.runtime.io;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.io.SequenceFile.Writer;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.conf.CompilerConfig.ConfigType;
@@ -104,6 +106,35 @@ public class WriterBinaryBlock extends MatrixWriter {
 		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
 	}
 
+	@Override
+	public final void appendMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen)
+		throws IOException, DMLRuntimeException {
+		// validity check matrix dimensions
+		if(src.getNumColumns() != clen)
+			throw new IOException("Matrix dimensions mismatch for append: " + src.getNumColumns() + " vs " + clen
+				+ " columns.");
+
+		// prepare file access
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		if(HDFSTool.USE_BINARYBLOCK_SERIALIZATION)
+			HDFSTool.addBinaryBlockSerializationFramework(job);
+		if(src instanceof CompressedMatrixBlock)
+			src = CompressedMatrixBlock.getUncompressed(src, "binary append");
+
+		// remove the trailing partial row block (if any) from the existing part files,
+		// and prepend it to the new rows in order to preserve the block alignment
+		long brix = rlen / blen;
+		int tlen = (int) (rlen % blen);
+		if(tlen > 0)
+			src = removeRowBlock(fs, path, brix + 1, tlen, (int) clen, blen).append(src, new MatrixBlock(), false);
+
+		// write new row blocks into the next part file
+		Path part = IOUtilFunctions.getNextPartFilePath(fs, path);
+		writeBinaryBlockMatrixToSequenceFile(part, job, src, blen, 0, src.getNumRows(), brix);
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, part);
+	}
+
 	protected void writeBinaryBlockMatrixToHDFS(Path path, JobConf job,  MatrixBlock src, long rlen,
 		long clen, int blen) throws IOException, DMLRuntimeException {
 		// sequential write
@@ -113,6 +144,24 @@ public class WriterBinaryBlock extends MatrixWriter {
 
 	protected final void writeBinaryBlockMatrixToSequenceFile(Path path, JobConf job,  MatrixBlock src,
 		int blen, int rl, int ru) throws IOException {
+		writeBinaryBlockMatrixToSequenceFile(path, job, src, blen, rl, ru, 0);
+	}
+
+	/**
+	 * Internal primitive to write a block-aligned row range of a matrix to a single sequence file, where
+	 * the block indexes are shifted by the given number of row blocks (e.g., for appending rows).
+	 * 
+	 * @param path file path
+	 * @param job  job configuration
+	 * @param src  matrix block
+	 * @param blen block length
+	 * @param rl   lower row
+	 * @param ru   upper row
+	 * @param brOffset row block index offset
+	 * @throws IOException if IOException occurs
+	 */
+	protected final void writeBinaryBlockMatrixToSequenceFile(Path path, JobConf job,  MatrixBlock src,
+		int blen, int rl, int ru, long brOffset) throws IOException {
 		boolean sparse = src.isInSparseFormat();
 		final int rlen = src.getNumRows();
 		final int clen = src.getNumColumns();
@@ -125,7 +174,7 @@ public class WriterBinaryBlock extends MatrixWriter {
 
 			if(rlen <= blen && clen <= blen && rl == 0) { // opt for single block
 				// directly write single block
-				indexes.setIndexes(1, 1);
+				indexes.setIndexes(brOffset + 1, 1);
 				writer.append(indexes, src);
 			}
 			else {
@@ -149,7 +198,7 @@ public class WriterBinaryBlock extends MatrixWriter {
 						src.slice(row_offset, row_offset + maxRow - 1, col_offset, col_offset + maxCol - 1, block);
 
 						// append block to sequence file
-						indexes.setIndexes(blockRow + 1, blockCol + 1);
+						indexes.setIndexes(brOffset + blockRow + 1, blockCol + 1);
 						writer.append(indexes, block);
 
 						// reset block for later reuse
@@ -228,4 +277,95 @@ public class WriterBinaryBlock extends MatrixWriter {
 			IOUtilFunctions.closeSilently(writer);
 		}
 	}
+
+	/**
+	 * Removes all blocks of the given row block from the existing part files, and returns the removed row block as a
+	 * single matrix block. The sequential, parallel, and append writes place the last row block into the last part
+	 * file (by name), which is rewritten first; the remaining part files are only probed if this file does not contain
+	 * all column blocks of the row block (e.g., for part files written by spark). The blocks that remain in a part file
+	 * are written to a new part file, and the old part file is deleted only after the new one is in place.
+	 * 
+	 * @param fs   file system
+	 * @param path file path
+	 * @param brix row block index (1-based)
+	 * @param rlen number of rows of the row block
+	 * @param clen number of columns
+	 * @param blen block length
+	 * @return matrix block of the removed row block
+	 * @throws IOException if IOException occurs
+	 */
+	private MatrixBlock removeRowBlock(FileSystem fs, Path path, long brix, int rlen, int clen, int blen)
+		throws IOException {
+		MatrixBlock ret = new MatrixBlock(rlen, clen, true);
+		// convert a single file into a directory of part files, and sort the part files by name
+		IOUtilFunctions.getNextPartFilePath(fs, path);
+		Path[] parts = IOUtilFunctions.getSequenceFilePaths(fs, path);
+		Arrays.sort(parts, (a, b) -> b.getName().compareTo(a.getName()));
+
+		final int ncblks = (int) Math.ceil((double) clen / blen);
+		int found = 0;
+		MatrixIndexes key = new MatrixIndexes();
+		for(int i = 0; i < parts.length && found < ncblks; i++) {
+			Path lpath = parts[i];
+			if(i > 0 && !containsRowBlock(lpath, key, brix))
+				continue;
+
+			// rewrite the part file without the blocks of the given row block
+			Path tmp = new Path(lpath.getParent(), "_" + lpath.getName() + "_tmp");
+			int removed = 0;
+			boolean nonEmpty = false;
+			SequenceFile.Reader reader = new SequenceFile.Reader(job, SequenceFile.Reader.file(lpath));
+			Writer writer = IOUtilFunctions.getSeqWriter(tmp, job, _replication);
+			try {
+				MatrixBlock value = new MatrixBlock();
+				while(reader.next(key, value)) {
+					if(key.getRowIndex() == brix) {
+						int cl = (int) (key.getColumnIndex() - 1) * blen;
+						ret.copy(0, value.getNumRows() - 1, cl, cl + value.getNumColumns() - 1, value, false);
+						removed++;
+					}
+					else {
+						writer.append(key, value);
+						nonEmpty = true;
+					}
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+				IOUtilFunctions.closeSilently(writer);
+			}
+			if(removed == 0) { // last part file without the row block
+				fs.delete(tmp, false);
+				continue;
+			}
+			if(nonEmpty) {
+				Path next = IOUtilFunctions.getNextPartFilePath(fs, path);
+				if(!fs.rename(tmp, next))
+					throw new IOException("Failed to rename '" + tmp + "' to '" + next + "'.");
+				IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, next);
+			}
+			else
+				fs.delete(tmp, false);
+			fs.delete(lpath, false);
+			IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, lpath);
+			found += removed;
+		}
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return ret;
+	}
+
+	private boolean containsRowBlock(Path lpath, MatrixIndexes key, long brix) throws IOException {
+		// probe the keys (without deserializing the blocks)
+		SequenceFile.Reader reader = new SequenceFile.Reader(job, SequenceFile.Reader.file(lpath));
+		try {
+			while(reader.next(key))
+				if(key.getRowIndex() == brix)
+					return true;
+			return false;
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+	}
 }
@@ -26,12 +26,21 @@ import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.io.hdf5.H5;
+import org.apache.sysds.runtime.io.hdf5.H5Chunk;
+import org.apache.sysds.runtime.io.hdf5.H5ChunkBTree;
+import org.apache.sysds.runtime.io.hdf5.H5Constants;
 import org.apache.sysds.runtime.io.hdf5.H5RootObject;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.HDFSTool;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
 
 public class WriterHDF5 extends MatrixWriter {
 
@@ -81,6 +90,10 @@ public class WriterHDF5 extends MatrixWriter {
 
 	protected static void writeHDF5MatrixToFile(Path path, JobConf job, FileSystem fs, MatrixBlock src, int rl,
 		int rlen) throws IOException {
+		if(_props.isChunked()) {
+			writeChunkedHDF5MatrixToFile(path, fs, src);
+			return;
+		}
 
 		int clen = src.getNumColumns();
 		BufferedOutputStream bos = new BufferedOutputStream(fs.create(path, true));
@@ -113,4 +126,63 @@ public class WriterHDF5 extends MatrixWriter {
 		}
 
 	}
+
+	protected static void writeChunkedHDF5MatrixToFile(Path path, FileSystem fs, MatrixBlock src) throws IOException {
+		final int rlen = src.getNumRows();
+		final int clen = src.getNumColumns();
+		final int[] cdims = {Math.min(_props.getChunkDims()[0], rlen), Math.min(_props.getChunkDims()[1], clen)};
+		final int level = _props.getDeflateLevel();
+
+		//encode chunks in row-major order of chunk offsets (i.e., key order of the chunk index)
+		List<byte[]> data = new ArrayList<>();
+		List<long[]> offsets = new ArrayList<>();
+		ByteBuffer buff = ByteBuffer.allocate(cdims[0] * cdims[1] * 8).order(ByteOrder.LITTLE_ENDIAN);
+		Deflater deflater = (level >= 0) ? new Deflater(level) : null;
+		try {
+			for(int bi = 0; bi < rlen; bi += cdims[0]) {
+				for(int bj = 0; bj < clen; bj += cdims[1]) {
+					buff.clear();
+					for(int i = bi; i < bi + cdims[0]; i++)
+						for(int j = bj; j < bj + cdims[1]; j++)
+							buff.putDouble((i < rlen && j < clen) ? src.get(i, j) : 0);
+					data.add(deflater != null ? deflate(deflater, buff.array()) : buff.array().clone());
+					offsets.add(new long[] {bi, bj});
+				}
+			}
+		}
+		finally {
+			if(deflater != null)
+				deflater.end();
+		}
+
+		//compute chunk addresses after the chunk index
+		long offset = H5Constants.STATIC_HEADER_SIZE + H5ChunkBTree.getIndexSize(data.size(), 2);
+		List<H5Chunk> chunks = new ArrayList<>();
+		for(int i = 0; i < data.size(); i++) {
+			chunks.add(new H5Chunk(offset, data.get(i).length, 0, offsets.get(i)));
+			offset += data.get(i).length;
+		}
+
+		BufferedOutputStream bos = new BufferedOutputStream(fs.create(path, true));
+		try {
+			H5RootObject rootObject = H5.H5Screate(bos, rlen, clen, offset - H5Constants.STATIC_HEADER_SIZE);
+			H5.H5Dcreate(rootObject, rlen, clen, _props.getDatasetName(), cdims, level);
+			H5.H5WriteHeaders(rootObject);
+			H5.H5DwriteChunks(rootObject, chunks, data);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(bos);
+		}
+	}
+
+	private static byte[] deflate(Deflater deflater, byte[] in) {
+		deflater.reset();
+		deflater.setInput(in);
+		deflater.finish();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(in.length / 2 + 64);
+		byte[] buff = new byte[8192];
+		while(!deflater.finished())
+			out.write(buff, 0, deflater.deflate(buff));
+		return out.toByteArray();
+	}
 }
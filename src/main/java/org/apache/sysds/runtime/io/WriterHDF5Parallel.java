@@ -59,7 +59,8 @@ public class WriterHDF5Parallel extends WriterHDF5 {
 		numThreads = Math.min(numThreads, numPartFiles);
 
 		//fall back to sequential write if dop is 1 (e.g., <128MB) in order to create single file
-		if(numThreads <= 1) {
+		//(chunked layouts are always written as a single file with chunk index)
+		if(numThreads <= 1 || _props.isChunked()) {
 			super.writeHDF5MatrixToHDFS(path, job, fs, src);
 			return;
 		}
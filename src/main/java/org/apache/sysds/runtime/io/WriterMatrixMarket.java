@@ -19,12 +19,9 @@
 
 package org.apache.sysds.runtime.io;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.util.Iterator;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -36,12 +33,14 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.data.DenseBlock;
-import org.apache.sysds.runtime.matrix.data.IJV;
+import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.HDFSTool;
 
 public class WriterMatrixMarket extends MatrixWriter
 {
+	protected static final byte[] MM_HEADER = "%%MatrixMarket matrix coordinate real general\n".getBytes();
+
 	@Override
 	public final void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz, boolean diag) 
 		throws IOException, DMLRuntimeException 
@@ -98,39 +97,32 @@ public class WriterMatrixMarket extends MatrixWriter
 		int clen = src.getNumColumns();
 		long nnz = src.getNonZeros();
 		
-		BufferedWriter br=new BufferedWriter(new OutputStreamWriter(fs.create(path,true)));		
+		//allocation-free formatting into a reused byte buffer
+		TextOutputBuffer out = new TextOutputBuffer(fs.create(path,true));
 
 		try
 		{
-			//for obj reuse and preventing repeated buffer re-allocations
-			StringBuilder sb = new StringBuilder();
-			
 			if( rl == 0 ) {
 				// First output MM header
-				sb.append ("%%MatrixMarket matrix coordinate real general\n");
+				out.append(MM_HEADER);
 			
 				// output number of rows, number of columns and number of nnz
-				sb.append (rlen + " " + clen + " " + nnz + "\n");
-				br.write( sb.toString());
-				sb.setLength(0);
+				out.append(rlen).append(' ').append(clen).append(' ').append(nnz).append('\n');
 			}
 			 
 			// output matrix cell
 			if( sparse ) //SPARSE
-			{			   
-				Iterator<IJV> iter = src.getSparseBlockIterator(rl, ru);
-				while( iter.hasNext() )
-				{
-					IJV cell = iter.next();
-
-					sb.append(cell.getI()+1);
-					sb.append(' ');
-					sb.append(cell.getJ()+1);
-					sb.append(' ');
-					sb.append(cell.getV());
-					sb.append('\n');
-					br.write( sb.toString() ); //same as append
-					sb.setLength(0); 
+			{
+				SparseBlock sblock = src.getSparseBlock();
+				for( int i=rl; sblock!=null && i<ru; i++ ) {
+					if( sblock.isEmpty(i) )
+						continue;
+					int apos = sblock.pos(i);
+					int alen = sblock.size(i);
+					int[] aix = sblock.indexes(i);
+					double[] avals = sblock.values(i);
+					for( int k=apos; k<apos+alen; k++ )
+						out.append(i+1).append(' ').append(aix[k]+1).append(' ').append(avals[k]).append('\n');
 				}
 			}
 			else //DENSE
@@ -138,20 +130,12 @@ public class WriterMatrixMarket extends MatrixWriter
 				if( !src.isEmpty() ) {
 					DenseBlock d = src.getDenseBlock();
 					for( int i=rl; i<ru; i++ ) {
-						String rowIndex = Integer.toString(i+1);
+						double[] avals = d.values(i);
+						int apos = d.pos(i);
 						for( int j=0; j<clen; j++ ) {
-							double lvalue = d.get(i, j);
+							double lvalue = avals[apos+j];
 							if( lvalue != 0 ) //for nnz
-							{
-								sb.append(rowIndex);
-								sb.append(' ');
-								sb.append(j+1);
-								sb.append(' ');
-								sb.append(lvalue);
-								sb.append('\n');
-								br.write( sb.toString() ); //same as append
-								sb.setLength(0); 
-							}
+								out.append(i+1).append(' ').append(j+1).append(' ').append(lvalue).append('\n');
 						}
 					}
 				}
@@ -159,10 +143,10 @@ public class WriterMatrixMarket extends MatrixWriter
 	
 			//handle empty result
 			if ( src.isEmptyBlock(false) && rl==0 )
-				br.write(IOUtilFunctions.EMPTY_TEXT_LINE);
+				out.append(IOUtilFunctions.EMPTY_TEXT_LINE.getBytes());
 		}
 		finally {
-			IOUtilFunctions.closeSilently(br);
+			IOUtilFunctions.closeSilently(out);
 		}
 	}
 
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.controlprogram.caching.CacheDataOutput;
+import org.apache.sysds.runtime.io.NativeBinaryFile.BlockEntry;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Matrix writer for the native single-node binary block format. Similar to
+ * {@link WriterBinaryBlockParallel}, tasks write disjoint row block ranges,
+ * but all tasks append their serialized blocks to reserved regions of a single
+ * file, while the block index is written once all blocks are written.
+ */
+public class WriterNativeBinary extends MatrixWriter {
+	private final int _numThreads;
+
+	public WriterNativeBinary(int numThreads) {
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz,
+		boolean diag) throws IOException, DMLRuntimeException
+	{
+		//validity check matrix dimensions
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen)
+			throw new IOException("Matrix dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+		if(src instanceof CompressedMatrixBlock)
+			src = CompressedMatrixBlock.getUncompressed(src, "native binary write", _numThreads);
+		blen = (blen > 0) ? blen : ConfigurationManager.getBlocksize();
+
+		//if the file already exists, remove it
+		File file = NativeBinaryFile.getLocalFile(fname);
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		try(FileChannel channel = FileChannel.open(file.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			NativeBinaryFile.writeHeader(channel, rlen, clen, blen);
+			AtomicLong offset = new AtomicLong(NativeBinaryFile.HEADER_SIZE);
+			List<BlockEntry> index = writeBlocks(channel, offset, src, 0, blen, _numThreads);
+			NativeBinaryFile.writeFooter(channel, offset.get(), index);
+		}
+	}
+
+	@Override
+	public void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen)
+		throws IOException, DMLRuntimeException
+	{
+		MatrixBlock empty = new MatrixBlock((int) Math.max(rlen, 1), (int) Math.max(clen, 1), true);
+		writeMatrixToHDFS(empty, fname, empty.getNumRows(), empty.getNumColumns(), blen, 0, false);
+	}
+
+	/**
+	 * Serializes all non-empty blocks of the given matrix and appends them to the
+	 * file, where row block indexes start after the given row offset.
+	 * 
+	 * @param channel file channel
+	 * @param offset  current end of the written blocks (updated)
+	 * @param src     matrix block
+	 * @param roff    row offset (multiple of blen)
+	 * @param blen    block size
+	 * @param k       degree of parallelism
+	 * @return list of index entries of the written blocks
+	 * @throws IOException if IOException occurs
+	 */
+	protected static List<BlockEntry> writeBlocks(FileChannel channel, AtomicLong offset, MatrixBlock src,
+		long roff, int blen, int k) throws IOException
+	{
+		//determine degree of parallelism and row block ranges
+		int rlen = src.getNumRows();
+		int numRowBlocks = (int) Math.ceil((double) rlen / blen);
+		int numThreads = Math.max(Math.min(k, numRowBlocks), 1);
+		int blklen = (int) Math.ceil((double) numRowBlocks / numThreads) * blen;
+		List<WriteBlocksTask> tasks = new ArrayList<>();
+		for(int i = 0; i * blklen < rlen; i++)
+			tasks.add(new WriteBlocksTask(channel, offset, src, i * blklen, Math.min((i + 1) * blklen, rlen), roff,
+				blen));
+
+		//core write (sequential or parallel)
+		List<BlockEntry> ret = new ArrayList<>();
+		if(tasks.size() <= 1) {
+			for(WriteBlocksTask task : tasks)
+				ret.addAll(task.call());
+			return ret;
+		}
+		ExecutorService pool = CommonThreadPool.get(numThreads);
+		try {
+			for(Future<List<BlockEntry>> task : pool.invokeAll(tasks))
+				ret.addAll(task.get());
+			return ret;
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed parallel write of native binary output.", ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static class WriteBlocksTask implements Callable<List<BlockEntry>> {
+		private final FileChannel _channel;
+		private final AtomicLong _offset;
+		private final MatrixBlock _src;
+		private final int _rl, _ru;
+		private final long _roff;
+		private final int _blen;
+
+		public WriteBlocksTask(FileChannel channel, AtomicLong offset, MatrixBlock src, int rl, int ru, long roff,
+			int blen) {
+			_channel = channel;
+			_offset = offset;
+			_src = src;
+			_rl = rl;
+			_ru = ru;
+			_roff = roff;
+			_blen = blen;
+		}
+
+		@Override
+		public List<BlockEntry> call() throws IOException {
+			List<BlockEntry> ret = new ArrayList<>();
+			int rlen = _src.getNumRows();
+			int clen = _src.getNumColumns();
+			MatrixBlock[] blocks = createMatrixBlocksForReuse(rlen, clen, _blen, _src.isInSparseFormat(),
+				_src.getNonZeros());
+			byte[] buff = new byte[0];
+
+			for(int bi = _rl; bi < _ru; bi += _blen) {
+				for(int bj = 0; bj < clen; bj += _blen) {
+					int maxRow = Math.min(_blen, rlen - bi);
+					int maxCol = Math.min(_blen, clen - bj);
+					MatrixBlock block = (rlen <= _blen && clen <= _blen) ? _src :
+						_src.slice(bi, bi + maxRow - 1, bj, bj + maxCol - 1,
+							getMatrixBlockForReuse(blocks, maxRow, maxCol, _blen));
+					if(block.isEmptyBlock(false))
+						continue;
+
+					//serialize block and append to reserved file region
+					int len = (int) block.getExactSizeOnDisk();
+					if(buff.length < len)
+						buff = new byte[len];
+					block.write(new CacheDataOutput(buff));
+					long off = _offset.getAndAdd(len);
+					NativeBinaryFile.writeFully(_channel, ByteBuffer.wrap(buff, 0, len), off);
+					ret.add(new BlockEntry((_roff + bi) / _blen + 1, bj / _blen + 1, off, len, block.getNonZeros()));
+					if(block != _src)
+						block.reset();
+				}
+			}
+			return ret;
+		}
+	}
+}
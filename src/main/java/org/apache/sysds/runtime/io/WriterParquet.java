@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Matrix writer for Parquet files, where every matrix column is written as a
+ * FP64 column named C1, C2, etc. The row group size is chosen such that the
+ * matrix is split into roughly as many row groups as there are threads for
+ * subsequent parallel reads (within [1MB, 128MB]).
+ */
+public class WriterParquet extends MatrixWriter {
+	protected static final long MIN_ROW_GROUP_SIZE = 1L * 1024 * 1024;
+	protected static final long MAX_ROW_GROUP_SIZE = 128L * 1024 * 1024;
+
+	private final FileFormatPropertiesColumnar _props;
+	private final int _numThreads;
+
+	public WriterParquet(FileFormatPropertiesColumnar props, int numThreads) {
+		_props = props;
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz,
+		boolean diag) throws IOException, DMLRuntimeException
+	{
+		//validity check matrix dimensions
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen)
+			throw new IOException("Matrix dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+		if(rlen * clen == 0)
+			throw new IOException("Write of matrices with zero rows or columns not supported ("
+				+ rlen + "x" + clen + ").");
+
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(path, job);
+
+		//core write of all rows into a single file
+		int ncol = (int) clen;
+		String[] names = FrameBlock.createColNames(ncol);
+		ValueType[] schema = new ValueType[ncol];
+		Arrays.fill(schema, ValueType.FP64);
+		MessageType mschema = ParquetFileSet.createSchema("matrix", names, schema);
+		ParquetFileSet.write(path, job, mschema, (int) rlen, _props.getCodec(ParquetFileSet.DEFAULT_CODEC),
+			getRowGroupSize(rlen * clen * 8, _numThreads), (rc, i) -> {
+				for(int j = 0; j < ncol; j++) {
+					rc.startField(names[j], j);
+					rc.addDouble(src.get(i, j));
+					rc.endField(names[j], j);
+				}
+			});
+
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	@Override
+	public void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen)
+		throws IOException, DMLRuntimeException
+	{
+		MatrixBlock empty = new MatrixBlock((int) Math.max(rlen, 1), (int) Math.max(clen, 1), true);
+		writeMatrixToHDFS(empty, fname, empty.getNumRows(), empty.getNumColumns(), blen, 0, false);
+	}
+
+	protected static long getRowGroupSize(long size, int k) {
+		return Math.min(Math.max(size / Math.max(k, 1), MIN_ROW_GROUP_SIZE), MAX_ROW_GROUP_SIZE);
+	}
+}
@@ -90,6 +90,28 @@ public class WriterTextCSV extends MatrixWriter
 		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
 	}
 
+	@Override
+	public final void appendMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen) 
+		throws IOException, DMLRuntimeException 
+	{
+		//validity check matrix dimensions
+		if( src.getNumColumns() != clen )
+			throw new IOException("Matrix dimensions mismatch for append: "+src.getNumColumns()+" vs "+clen+" columns.");
+		
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//write new rows (w/o header) into the next part file
+		FileFormatPropertiesCSV props = (_props==null) ? new FileFormatPropertiesCSV() : _props;
+		Path part = IOUtilFunctions.getNextPartFilePath(fs, path);
+		writeCSVMatrixToFile(part, job, fs, src, 0, src.getNumRows(),
+			new FileFormatPropertiesCSV(false, props.getDelim(), props.isSparse()));
+		
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, part);
+	}
+
 	protected void writeCSVMatrixToHDFS(Path path, JobConf job, FileSystem fs, MatrixBlock src, FileFormatPropertiesCSV csvprops) 
 		throws IOException 
 	{
@@ -19,9 +19,7 @@
 
 package org.apache.sysds.runtime.io;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -85,13 +83,14 @@ public class WriterTextLIBSVM extends MatrixWriter {
 		boolean sparse = src.isInSparseFormat();
 		int clen = src.getNumColumns();
 
-		//create buffered writer
-		BufferedWriter br = new BufferedWriter(new OutputStreamWriter(fs.create(path,true)));
+		//allocation-free formatting into a reused byte buffer
+		TextOutputBuffer out = new TextOutputBuffer(fs.create(path,true));
 
 		try
 		{
-			StringBuilder sb = new StringBuilder();
 			_props = _props == null ? new FileFormatPropertiesLIBSVM() : _props;
+			byte[] delim = _props.getDelim().getBytes();
+			byte[] indexDelim = _props.getIndexDelim().getBytes();
 
 			// Write data lines
 			if( sparse ) //SPARSE
@@ -101,7 +100,7 @@ public class WriterTextLIBSVM extends MatrixWriter {
 					// append the class label as the 1st column
 					double label = (sblock!=null) ?
 						sblock.get(i, clen-1) : 0;
-					sb.append(label);
+					out.append(label);
 
 					if( sblock!=null && i<sblock.numRows() && !sblock.isEmpty(i) ) {
 						int pos = sblock.pos(i);
@@ -111,49 +110,49 @@ public class WriterTextLIBSVM extends MatrixWriter {
 						// append sparse row
 						for( int k=pos; k<pos+alen; k++ ) {
 							if( aix[k]!=clen-1 ) {
-								sb.append(_props.getDelim());
-								appendIndexValLibsvm(sb, aix[k], avals[k]);
+								out.append(delim);
+								appendIndexValLibsvm(out, indexDelim, aix[k], avals[k]);
 							}
 						}
 					}
-					// write the string row
-					sb.append('\n');
-					br.write( sb.toString() );
-					sb.setLength(0);
+					// write the row
+					out.append('\n');
 				}
 			}
 			else //DENSE
 			{
 				DenseBlock d = src.getDenseBlock();
 				for( int i=rl; i<rlen; i++ ) {
+					double[] avals = d!=null ? d.values(i) : null;
+					int apos = d!=null ? d.pos(i) : 0;
 					// append the class label as the 1st column
-					double label = d!=null ? d.get(i, clen-1) : 0;
-					sb.append(label);
+					double label = d!=null ? avals[apos+clen-1] : 0;
+					out.append(label);
 
 					// append dense row
-					for( int j=0; j<clen-1; j++ ) {
-						double val = d!=null ? d.get(i, j) : 0;
+					for( int j=0; d!=null && j<clen-1; j++ ) {
+						double val = avals[apos+j];
 						if( val != 0 ) {
-							sb.append(_props.getDelim());
-							appendIndexValLibsvm(sb, j, val);
+							out.append(delim);
+							appendIndexValLibsvm(out, indexDelim, j, val);
 						}
 					}
-					// write the string row
-					sb.append('\n');
-					br.write( sb.toString() );
-					sb.setLength(0);
+					// write the row
+					out.append('\n');
 				}
 			}
 		}
 		finally {
-			IOUtilFunctions.closeSilently(br);
+			IOUtilFunctions.closeSilently(out);
 		}
 	}
 
-	// Return string in libsvm format (<index#>:<value#>)
-	protected static void appendIndexValLibsvm(StringBuilder sb, int index, double value) {
-		sb.append(index+1);  // convert 0 based matrix index to 1 base libsvm index
-		sb.append(_props.getIndexDelim());
-		sb.append(value);
+	// Write bytes in libsvm format (<index#>:<value#>)
+	protected static void appendIndexValLibsvm(TextOutputBuffer out, byte[] indexDelim, int index, double value)
+		throws IOException
+	{
+		out.append(index+1);  // convert 0 based matrix index to 1 base libsvm index
+		out.append(indexDelim);
+		out.append(value);
 	}
 }
@@ -47,14 +47,8 @@ public class WriterTextLIBSVMParallel extends WriterTextLIBSVM
 	protected void writeLIBSVMMatrixToHDFS(Path path, JobConf job, FileSystem fs, MatrixBlock src)
 		throws IOException
 	{
-		//estimate output size and number of output blocks (min 1)
-		int numPartFiles = (int)(OptimizerUtils.estimateSizeTextOutput(src.getNumRows(), src.getNumColumns(),
-				src.getNonZeros(), FileFormat.LIBSVM)  / InfrastructureAnalyzer.getHDFSBlockSize());
-		numPartFiles = Math.max(numPartFiles, 1);
-
-		//determine degree of parallelism
-		int numThreads = OptimizerUtils.getParallelTextWriteParallelism();
-		numThreads = Math.min(numThreads, numPartFiles);
+		int rlen = src.getNumRows();
+		int numThreads = getNumThreads(src);
 
 		//fall back to sequential write if dop is 1 (e.g., <128MB) in order to create single file
 		if( numThreads <= 1 ) {
@@ -62,29 +56,28 @@ public class WriterTextLIBSVMParallel extends WriterTextLIBSVM
 			return;
 		}
 
-		//create directory for concurrent tasks
-		HDFSTool.createDirIfNotExistOnHDFS(path, DMLConfig.DEFAULT_SHARED_DIR_PERMISSION);
+		//create directory for concurrent tasks, where part files of local outputs are
+		//written to a temporary directory and finally concatenated into a single file
+		boolean merge = fs instanceof LocalFileSystem;
+		Path dir = merge ? IOUtilFunctions.getPartFilesDir(path) : path;
+		HDFSTool.createDirIfNotExistOnHDFS(dir, DMLConfig.DEFAULT_SHARED_DIR_PERMISSION);
 
-		//create and execute tasks
+		//create and execute tasks (streaming partitions w/ bounded buffers)
 		ExecutorService pool = CommonThreadPool.get(numThreads);
 		try {
 			ArrayList<WriteLIBSVMTask> tasks = new ArrayList<>();
-			int rlen = src.getNumRows();
 			int blklen = (int)Math.ceil((double)rlen / numThreads);
 			for(int i=0; i<numThreads & i*blklen<rlen; i++) {
-				Path newPath = new Path(path, IOUtilFunctions.getPartFileName(i));
+				Path newPath = new Path(dir, IOUtilFunctions.getPartFileName(i));
 				tasks.add(new WriteLIBSVMTask(newPath, job, fs, src, i*blklen, Math.min((i+1)*blklen, rlen)));
 			}
 
 			for( Future<Object> task : pool.invokeAll(tasks) )
 				task.get();
 
-			// delete crc files if written to local file system
-			if (fs instanceof LocalFileSystem) {
-				for(int i=0; i<numThreads & i*blklen<rlen; i++)
-					IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs,
-						new Path(path, IOUtilFunctions.getPartFileName(i)));
-			}
+			// concatenate part files of local outputs (incl delete of crc files)
+			if( merge )
+				IOUtilFunctions.mergeLocalPartFiles(fs, dir, tasks.size(), path);
 		}
 		catch (Exception e) {
 			throw new IOException("Failed parallel write of libsvm output.", e);
@@ -94,6 +87,24 @@ public class WriterTextLIBSVMParallel extends WriterTextLIBSVM
 		}
 	}
 
+	/**
+	 * Determines the number of concurrent write tasks (and part files) based on the
+	 * estimated output size in number of HDFS blocks and the available parallelism.
+	 * 
+	 * @param src matrix block to write
+	 * @return degree of parallelism
+	 */
+	protected int getNumThreads(MatrixBlock src) {
+		//estimate output size and number of output blocks (min 1)
+		int numPartFiles = (int)(OptimizerUtils.estimateSizeTextOutput(src.getNumRows(), src.getNumColumns(),
+				src.getNonZeros(), FileFormat.LIBSVM)  / InfrastructureAnalyzer.getHDFSBlockSize());
+		numPartFiles = Math.max(numPartFiles, 1);
+
+		//determine degree of parallelism
+		int numThreads = OptimizerUtils.getParallelTextWriteParallelism();
+		return Math.min(numThreads, numPartFiles);
+	}
+
 	private class WriteLIBSVMTask implements Callable<Object>
 	{
 		private final JobConf _job;
@@ -24,7 +24,9 @@ import java.io.BufferedOutputStream;
 import java.nio.ByteBuffer;
 import java.util.List;
 
+import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.io.hdf5.message.H5SymbolTableMessage;
+import org.apache.sysds.runtime.util.IndexRange;
 
 public class H5 {
 
@@ -72,6 +74,11 @@ public class H5 {
 
 	// Create Data Space
 	public static H5RootObject H5Screate(BufferedOutputStream bos, long row, long col) {
+		return H5Screate(bos, row, col, row * col * 8); // double value
+	}
+
+	// Create Data Space with given size of the raw data (incl chunk index)
+	public static H5RootObject H5Screate(BufferedOutputStream bos, long row, long col, long dataSize) {
 
 		try {
 			H5RootObject rootObject = new H5RootObject();
@@ -88,7 +95,7 @@ public class H5 {
 			superblock.groupInternalNodeK = 16;
 			superblock.baseAddressByte = 0;
 			superblock.addressOfGlobalFreeSpaceIndex = -1;
-			superblock.endOfFileAddress = 2048 + (row * col * 8); // double value
+			superblock.endOfFileAddress = H5Constants.STATIC_HEADER_SIZE + dataSize;
 			superblock.driverInformationBlockAddress = -1;
 			superblock.rootGroupSymbolTableAddress = 56;
 
@@ -111,7 +118,7 @@ public class H5 {
 	}
 
 	// Open a Data Space
-	public static H5ContiguousDataset H5Dopen(H5RootObject rootObject, String datasetName) {
+	public static H5Dataset H5Dopen(H5RootObject rootObject, String datasetName) {
 		try {
 			H5SymbolTableEntry symbolTableEntry = new H5SymbolTableEntry(rootObject,
 				rootObject.getSuperblock().rootGroupSymbolTableAddress - rootObject.getSuperblock().baseAddressByte);
@@ -138,8 +145,7 @@ public class H5 {
 			}
 
 			final H5ObjectHeader header = new H5ObjectHeader(rootObject, symbolTableEntry.getObjectHeaderAddress());
-			final H5ContiguousDataset contiguousDataset = new H5ContiguousDataset(rootObject, header);
-			return contiguousDataset;
+			return H5Dataset.create(rootObject, header);
 
 		}
 		catch(Exception exception) {
@@ -164,6 +170,15 @@ public class H5 {
 			throw new H5RuntimeException("Just support Matrix!");
 	}
 
+	// Create Chunked Dataset with optional deflate compression (level < 0 for none)
+	public static void H5Dcreate(H5RootObject rootObject, long maxRow, long maxCol, String datasetName,
+		int[] chunkDims, int deflateLevel) {
+		rootObject.setChunkDims(chunkDims);
+		rootObject.setDeflateLevel(deflateLevel);
+		rootObject.setDataLayoutClass(H5Constants.LAYOUT_CLASS_CHUNKED);
+		H5Dcreate(rootObject, maxRow, maxCol, datasetName);
+	}
+
 	public static void H5WriteHeaders(H5RootObject rootObject) {
 		try {
 			rootObject.getBufferedOutputStream().write(rootObject.bufferBuilder.build().array());
@@ -194,6 +209,20 @@ public class H5 {
 		}
 	}
 
+	// Write Chunks, where the chunk index is followed by the encoded chunks in key order
+	public static void H5DwriteChunks(H5RootObject rootObject, List<H5Chunk> chunks, List<byte[]> data) {
+		try {
+			H5BufferBuilder bb = new H5BufferBuilder();
+			H5ChunkBTree.toBuffer(bb, H5Constants.STATIC_HEADER_SIZE, chunks, rootObject.getChunkDims());
+			rootObject.getBufferedOutputStream().write(bb.noOrderBuild().array());
+			for(byte[] chunk : data)
+				rootObject.getBufferedOutputStream().write(chunk);
+		}
+		catch(Exception exception) {
+			throw new H5RuntimeException(exception);
+		}
+	}
+
 	public static void H5Dread(H5RootObject rootObject, H5ContiguousDataset dataset, double[][] data) {
 		for(int i = 0; i < rootObject.getRow(); i++) {
 			ByteBuffer buffer = dataset.getDataBuffer(i);
@@ -206,4 +235,14 @@ public class H5 {
 		dataset.getDataType().getDoubleDataType().fillData(buffer, data);
 	}
 
+	// Read the index range of the given chunks into a dense block holding the entire dataset
+	public static long H5Dread(H5ChunkedDataset dataset, List<H5Chunk> chunks, DenseBlock dest, IndexRange ixrange) {
+		return dataset.readChunks(chunks, dest, ixrange, 0, 0);
+	}
+
+	// Read the index range of the given chunks into a dense block holding just the index range
+	public static long H5DreadRange(H5ChunkedDataset dataset, List<H5Chunk> chunks, DenseBlock dest,
+		IndexRange ixrange) {
+		return dataset.readChunks(chunks, dest, ixrange, ixrange.rowStart, ixrange.colStart);
+	}
 }
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io.hdf5;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Version 1 B-tree of raw data chunks (node type 1), which indexes the chunks of a chunked dataset by their element
+ * offsets. Keys hold the stored chunk size, filter mask, and chunk offsets (incl. a trailing zero offset for the
+ * element size dimension), where leaf nodes point to chunks and internal nodes to child nodes.
+ */
+public final class H5ChunkBTree {
+
+	private static final byte[] BTREE_NODE_SIGNATURE = "TREE".getBytes(StandardCharsets.US_ASCII);
+
+	private H5ChunkBTree() {
+		// prevent instantiation
+	}
+
+	/**
+	 * Reads the chunks of all leaf nodes reachable from the given B-tree root in key order.
+	 * 
+	 * @param rootObject root object
+	 * @param address    address of the B-tree root node
+	 * @param rank       rank of the dataset
+	 * @return list of chunks
+	 */
+	public static List<H5Chunk> readChunks(H5RootObject rootObject, long address, int rank) {
+		List<H5Chunk> chunks = new ArrayList<>();
+		if(address != H5Constants.UNDEFINED_ADDRESS)
+			readNode(rootObject, address, rank, chunks);
+		return chunks;
+	}
+
+	private static void readNode(H5RootObject rootObject, long address, int rank, List<H5Chunk> chunks) {
+		final int sizeOfOffsets = rootObject.getSuperblock().sizeOfOffsets;
+		ByteBuffer header = H5BTree.readHeaderAndValidateSignature(rootObject, address);
+		final int nodeType = Utils.readBytesAsUnsignedInt(header, 1);
+		final int nodeLevel = Utils.readBytesAsUnsignedInt(header, 1);
+		if(nodeType != H5Constants.CHUNK_BTREE_NODE_TYPE)
+			throw new H5RuntimeException("B tree type is not raw data chunks. Type is: " + nodeType);
+
+		// entries used, and left/right sibling addresses
+		ByteBuffer info = rootObject.readBufferFromAddress(address + 6, 2 + 2 * sizeOfOffsets);
+		final int entriesUsed = Utils.readBytesAsUnsignedInt(info, 2);
+
+		// interleaved keys and child pointers
+		final int keySize = getKeySize(rank);
+		ByteBuffer bb = rootObject.readBufferFromAddress(address + 8 + 2L * sizeOfOffsets,
+			(entriesUsed + 1) * keySize + entriesUsed * sizeOfOffsets);
+		for(int i = 0; i < entriesUsed; i++) {
+			final int size = Utils.readBytesAsUnsignedInt(bb, 4);
+			final int filterMask = bb.getInt();
+			final long[] offsets = new long[rank];
+			for(int j = 0; j < rank; j++)
+				offsets[j] = Utils.readBytesAsUnsignedLong(bb, 8);
+			bb.position(bb.position() + 8); // element size dimension
+			final long child = Utils.readBytesAsUnsignedLong(bb, sizeOfOffsets);
+			if(nodeLevel == 0)
+				chunks.add(new H5Chunk(child, size, filterMask, offsets));
+			else
+				readNode(rootObject, child, rank, chunks);
+		}
+	}
+
+	/**
+	 * Gets the number of bytes required to write a chunk B-tree over the given number of chunks, where every node is
+	 * allocated with the full capacity of 2K entries as expected by other HDF5 readers.
+	 * 
+	 * @param numChunks number of chunks
+	 * @param rank      rank of the dataset
+	 * @return size in bytes
+	 */
+	public static long getIndexSize(int numChunks, int rank) {
+		long numNodes = 0;
+		int n = numChunks;
+		do {
+			n = (n + 2 * H5Constants.CHUNK_BTREE_K - 1) / (2 * H5Constants.CHUNK_BTREE_K);
+			numNodes += n;
+		}
+		while(n > 1);
+		return numNodes * getNodeSize(rank);
+	}
+
+	/**
+	 * Writes a chunk B-tree over the given chunks (in key order) starting at the given address, where the root node
+	 * is placed first, followed by the remaining levels top-down.
+	 * 
+	 * @param bb        buffer builder
+	 * @param address   start address of the root node
+	 * @param chunks    list of chunks in key order
+	 * @param chunkDims chunk dimensions
+	 */
+	public static void toBuffer(H5BufferBuilder bb, long address, List<H5Chunk> chunks, int[] chunkDims) {
+		// build levels bottom-up, where keys are the chunks and a final upper-bound key
+		List<List<Node>> levels = new ArrayList<>();
+		List<Node> level = new ArrayList<>();
+		final int cap = 2 * H5Constants.CHUNK_BTREE_K;
+		for(int i = 0; i < chunks.size(); i += cap) {
+			List<H5Chunk> entries = chunks.subList(i, Math.min(i + cap, chunks.size()));
+			Node node = new Node(0, entries.size());
+			for(int j = 0; j < entries.size(); j++) {
+				node.keys[j] = entries.get(j);
+				node.children[j] = entries.get(j).getAddress();
+			}
+			node.keys[entries.size()] = getUpperBoundKey(entries.get(entries.size() - 1), chunkDims);
+			level.add(node);
+		}
+		levels.add(level);
+		while(level.size() > 1) {
+			List<Node> parents = new ArrayList<>();
+			for(int i = 0; i < level.size(); i += cap) {
+				List<Node> entries = level.subList(i, Math.min(i + cap, level.size()));
+				Node node = new Node(levels.size(), entries.size());
+				for(int j = 0; j < entries.size(); j++) {
+					node.keys[j] = entries.get(j).keys[0];
+					node.childNodes[j] = entries.get(j);
+				}
+				node.keys[entries.size()] = entries.get(entries.size() - 1).keys[entries.get(entries.size() - 1).n];
+				parents.add(node);
+			}
+			levels.add(parents);
+			level = parents;
+		}
+
+		// assign addresses top-down and link siblings and children
+		final int nodeSize = getNodeSize(chunkDims.length);
+		List<Node> nodes = new ArrayList<>();
+		for(int l = levels.size() - 1; l >= 0; l--)
+			nodes.addAll(levels.get(l));
+		for(int i = 0; i < nodes.size(); i++)
+			nodes.get(i).address = address + (long) i * nodeSize;
+		for(Node node : nodes)
+			if(node.level > 0)
+				for(int j = 0; j < node.n; j++)
+					node.children[j] = node.childNodes[j].address;
+
+		// write nodes in address order
+		for(List<Node> lnodes : levels) {
+			for(int i = 0; i < lnodes.size(); i++) {
+				lnodes.get(i).left = (i > 0) ? lnodes.get(i - 1).address : H5Constants.UNDEFINED_ADDRESS;
+				lnodes.get(i).right = (i < lnodes.size() - 1) ? lnodes.get(i + 1).address : H5Constants.UNDEFINED_ADDRESS;
+			}
+		}
+		for(Node node : nodes) {
+			int start = bb.getSize();
+			bb.writeBytes(BTREE_NODE_SIGNATURE);
+			bb.writeByte(H5Constants.CHUNK_BTREE_NODE_TYPE);
+			bb.writeByte(node.level);
+			bb.writeShort((short) node.n);
+			bb.writeLong(node.left);
+			bb.writeLong(node.right);
+			for(int j = 0; j <= node.n; j++) {
+				H5Chunk key = node.keys[j];
+				bb.writeInt(key.getSize());
+				bb.writeInt(key.getFilterMask());
+				for(long offset : key.getOffsets())
+					bb.writeLong(offset);
+				bb.writeLong(0);
+				if(j < node.n)
+					bb.writeLong(node.children[j]);
+			}
+			bb.writeBytes(new byte[nodeSize - (bb.getSize() - start)]);
+		}
+	}
+
+	private static H5Chunk getUpperBoundKey(H5Chunk last, int[] chunkDims) {
+		long[] offsets = new long[chunkDims.length];
+		for(int i = 0; i < offsets.length; i++)
+			offsets[i] = last.getOffsets()[i] + chunkDims[i];
+		return new H5Chunk(H5Constants.UNDEFINED_ADDRESS, 0, 0, offsets);
+	}
+
+	private static int getKeySize(int rank) {
+		return 4 + 4 + (rank + 1) * 8;
+	}
+
+	private static int getNodeSize(int rank) {
+		final int cap = 2 * H5Constants.CHUNK_BTREE_K;
+		return 8 + 2 * 8 + (cap + 1) * getKeySize(rank) + cap * 8;
+	}
+
+	private static class Node {
+		private final int level;
+		private final int n;
+		private final H5Chunk[] keys;
+		private final long[] children;
+		private final Node[] childNodes;
+		private long address;
+		private long left;
+		private long right;
+
+		private Node(int level, int n) {
+			this.level = level;
+			this.n = n;
+			this.keys = new H5Chunk[n + 1];
+			this.children = new long[n];
+			this.childNodes = new Node[n];
+		}
+	}
+}
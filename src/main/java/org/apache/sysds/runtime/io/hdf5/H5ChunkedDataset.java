@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io.hdf5;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.io.hdf5.message.H5FilterPipelineMessage;
+import org.apache.sysds.runtime.io.hdf5.message.H5FilterPipelineMessage.H5Filter;
+import org.apache.sysds.runtime.util.IndexRange;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Dataset with chunked data layout, where the chunks are indexed by a B-tree and optionally compressed by a filter
+ * pipeline of deflate and shuffle filters. Chunks are decoded independently (and thus, can be decoded in parallel)
+ * directly into the rows of a target dense block.
+ */
+public class H5ChunkedDataset extends H5Dataset {
+
+	private final int[] chunkDims;
+	private final List<H5Filter> filters;
+	private List<H5Chunk> chunks;
+
+	public H5ChunkedDataset(H5RootObject rootObject, H5ObjectHeader objectHeader) {
+		super(rootObject, objectHeader);
+		this.chunkDims = dataLayoutMessage.getChunkDims();
+		this.filters = objectHeader.hasMessageOfType(H5FilterPipelineMessage.class) ?
+			objectHeader.getMessageOfType(H5FilterPipelineMessage.class).getFilters() : Collections.emptyList();
+
+		if(chunkDims.length != 2)
+			throw new H5RuntimeException("Just support Matrix! Chunked dataset rank is: " + chunkDims.length);
+		if(dataTypeMessage.getDoubleDataType().getSize() != 8)
+			throw new H5RuntimeException(
+				"Unsupported element size of chunked dataset: " + dataTypeMessage.getDoubleDataType().getSize());
+		for(H5Filter filter : filters)
+			if(filter.getId() != H5Constants.FILTER_DEFLATE && filter.getId() != H5Constants.FILTER_SHUFFLE)
+				throw new H5RuntimeException("Unsupported HDF5 filter: " + filter.getId() + " (" + filter.getName() + ")");
+	}
+
+	@Override
+	public boolean isChunked() {
+		return true;
+	}
+
+	public int[] getChunkDims() {
+		return chunkDims;
+	}
+
+	public List<H5Filter> getFilters() {
+		return filters;
+	}
+
+	/**
+	 * Gets all allocated chunks of the dataset in key order (i.e., row-major order of chunk offsets). Chunks that were
+	 * never written are not allocated and implicitly zero.
+	 * 
+	 * @return list of chunks
+	 */
+	public synchronized List<H5Chunk> getChunks() {
+		if(chunks == null)
+			chunks = H5ChunkBTree.readChunks(rootObject, dataLayoutMessage.getAddress(), chunkDims.length);
+		return chunks;
+	}
+
+	/**
+	 * Reads and decodes the given chunks into the target dense block, where only the cells in the given index range
+	 * are copied and cell (i,j) of the dataset is written to cell (i-rowOffset, j-colOffset) of the target. Raw chunk
+	 * reads are synchronized on the shared input stream, while the decompression runs unsynchronized, which allows
+	 * concurrent calls for disjoint chunks.
+	 * 
+	 * @param chunks    list of chunks
+	 * @param dest      target dense block
+	 * @param ixrange   index range in dataset coordinates (0-based, inclusive)
+	 * @param rowOffset row offset of the target in the dataset
+	 * @param colOffset column offset of the target in the dataset
+	 * @return number of non-zeros copied into the target
+	 */
+	public long readChunks(List<H5Chunk> chunks, DenseBlock dest, IndexRange ixrange, long rowOffset,
+		long colOffset) {
+		final int chunkLength = chunkDims[0] * chunkDims[1] * 8;
+		final ByteOrder order = dataTypeMessage.getDoubleDataType().getOrder();
+		final byte[] buff1 = new byte[chunkLength];
+		final byte[] buff2 = new byte[chunkLength];
+		final Inflater inflater = new Inflater();
+		long lnnz = 0;
+		try {
+			for(H5Chunk chunk : chunks) {
+				if(!isInRange(chunk, ixrange))
+					continue;
+
+				// read raw chunk bytes from the shared stream
+				byte[] data;
+				synchronized(rootObject) {
+					data = rootObject.readBufferFromAddressNoOrder(chunk.getAddress(), chunk.getSize()).array();
+				}
+				int len = data.length;
+
+				// reverse filter pipeline into reused buffers
+				for(int i = filters.size() - 1; i >= 0; i--) {
+					if(chunk.isFilterSkipped(i))
+						continue;
+					byte[] out = (data == buff1) ? buff2 : buff1;
+					if(filters.get(i).getId() == H5Constants.FILTER_DEFLATE)
+						len = inflate(inflater, data, len, out);
+					else
+						unshuffle(data, len, out, getShuffleElementSize(filters.get(i)));
+					data = out;
+				}
+				if(len != chunkLength)
+					throw new H5RuntimeException("Invalid decoded chunk size: " + len + " vs " + chunkLength);
+
+				// copy the intersection with the index range into the target rows
+				DoubleBuffer db = ByteBuffer.wrap(data, 0, len).order(order).asDoubleBuffer();
+				lnnz += copyChunk(chunk, db, dest, ixrange, rowOffset, colOffset);
+			}
+		}
+		finally {
+			inflater.end();
+		}
+		return lnnz;
+	}
+
+	private boolean isInRange(H5Chunk chunk, IndexRange ixrange) {
+		long[] off = chunk.getOffsets();
+		return off[0] <= ixrange.rowEnd && off[0] + chunkDims[0] > ixrange.rowStart //
+			&& off[1] <= ixrange.colEnd && off[1] + chunkDims[1] > ixrange.colStart;
+	}
+
+	private long copyChunk(H5Chunk chunk, DoubleBuffer db, DenseBlock dest, IndexRange ixrange, long rowOffset,
+		long colOffset) {
+		final long r0 = chunk.getOffsets()[0], c0 = chunk.getOffsets()[1];
+		final int rl = (int) Math.max(r0, ixrange.rowStart);
+		final int ru = (int) Math.min(r0 + chunkDims[0] - 1, ixrange.rowEnd);
+		final int cl = (int) Math.max(c0, ixrange.colStart);
+		final int cu = (int) Math.min(c0 + chunkDims[1] - 1, ixrange.colEnd);
+		final int len = cu - cl + 1;
+		long lnnz = 0;
+		for(int i = rl; i <= ru; i++) {
+			int ti = (int) (i - rowOffset);
+			double[] tvals = dest.values(ti);
+			int tpos = dest.pos(ti) + (int) (cl - colOffset);
+			db.position((int) ((i - r0) * chunkDims[1] + (cl - c0)));
+			db.get(tvals, tpos, len);
+			lnnz += UtilFunctions.computeNnz(tvals, tpos, len);
+		}
+		return lnnz;
+	}
+
+	private static int inflate(Inflater inflater, byte[] in, int len, byte[] out) {
+		inflater.reset();
+		inflater.setInput(in, 0, len);
+		int n = 0;
+		try {
+			while(n < out.length && !inflater.finished()) {
+				int ret = inflater.inflate(out, n, out.length - n);
+				if(ret == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					throw new H5RuntimeException("Truncated deflate chunk");
+				n += ret;
+			}
+		}
+		catch(DataFormatException e) {
+			throw new H5RuntimeException("Failed to inflate chunk", e);
+		}
+		return n;
+	}
+
+	private static void unshuffle(byte[] in, int len, byte[] out, int elementSize) {
+		// bytes are stored grouped by byte position across all elements
+		final int n = len / elementSize;
+		for(int j = 0; j < elementSize; j++) {
+			final int off = j * n;
+			for(int i = 0; i < n; i++)
+				out[i * elementSize + j] = in[off + i];
+		}
+		// trailing bytes are not shuffled
+		System.arraycopy(in, n * elementSize, out, n * elementSize, len - n * elementSize);
+	}
+
+	private int getShuffleElementSize(H5Filter filter) {
+		return filter.getClientData().length > 0 ? filter.getClientData()[0] :
+			dataTypeMessage.getDoubleDataType().getSize();
+	}
+}
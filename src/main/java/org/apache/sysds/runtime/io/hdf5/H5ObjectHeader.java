@@ -27,10 +27,13 @@ import org.apache.sysds.runtime.io.hdf5.message.H5NilMessage;
 import org.apache.sysds.runtime.io.hdf5.message.H5ObjectModificationTimeMessage;
 import org.apache.sysds.runtime.io.hdf5.message.H5SymbolTableMessage;
 import org.apache.sysds.runtime.io.hdf5.message.H5DataLayoutMessage;
+import org.apache.sysds.runtime.io.hdf5.message.H5FilterPipelineMessage;
+import org.apache.sysds.runtime.io.hdf5.message.H5FilterPipelineMessage.H5Filter;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -163,7 +166,13 @@ public class H5ObjectHeader {
 		localHeap.toBuffer(bb);
 
 		// 2. Write Object Header Message for second step
-		this.writeObjectHeader(bb, (short) 6, 256);
+		// (with filter pipeline, the nil message shrinks to keep the header size)
+		boolean chunked = rootObject.getDataLayoutClass() == H5Constants.LAYOUT_CLASS_CHUNKED;
+		H5FilterPipelineMessage filterPipelineMessage = (chunked && rootObject.getDeflateLevel() >= 0) ?
+			new H5FilterPipelineMessage(rootObject, new BitSet(), Collections.singletonList(
+				new H5Filter(H5Constants.FILTER_DEFLATE, "deflate", false, new int[] {rootObject.getDeflateLevel()}))) :
+			null;
+		this.writeObjectHeader(bb, (short) (filterPipelineMessage != null ? 7 : 6), 256);
 
 		// 2.1 Write Data Space
 		flags = new BitSet(8);
@@ -182,19 +191,25 @@ public class H5ObjectHeader {
 		H5FillValueMessage fillValueMessage = new H5FillValueMessage(rootObject, flags, 2, 2, true);
 		fillValueMessage.toBuffer(bb);
 
-		// 2.4 Write Data Layout Message
+		// 2.4 Write Data Layout Message (and Filter Pipeline Message)
 		flags = new BitSet();
 
-		H5DataLayoutMessage dataLayoutMessage = new H5DataLayoutMessage(rootObject, flags, 2048,
+		H5DataLayoutMessage dataLayoutMessage = chunked ?
+			new H5DataLayoutMessage(rootObject, flags, H5Constants.STATIC_HEADER_SIZE, rootObject.getChunkDims(), 8) :
+			new H5DataLayoutMessage(rootObject, flags, 2048,
 			(rootObject.row * rootObject.col) * rootObject.superblock.sizeOfLengths);
 		dataLayoutMessage.toBuffer(bb);
+		if(filterPipelineMessage != null)
+			filterPipelineMessage.toBuffer(bb);
+
 		// 2.5 Write Object Modification Time
 		long time = Instant.now().getEpochSecond();
 		H5ObjectModificationTimeMessage objectModificationTimeMessage = new H5ObjectModificationTimeMessage(rootObject,
 			flags, time);
 		objectModificationTimeMessage.toBuffer(bb);
 		//2.6 Write Nil
-		H5NilMessage nilMessage = new H5NilMessage(rootObject, flags);
+		H5NilMessage nilMessage = new H5NilMessage(rootObject, flags,
+			104 - (filterPipelineMessage != null ? filterPipelineMessage.getMessageSize() + 8 : 0));
 		nilMessage.toBuffer(bb);
 
 		// Write Group Symbol Table Node
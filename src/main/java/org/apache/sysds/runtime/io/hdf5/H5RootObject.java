@@ -50,6 +50,8 @@ public class H5RootObject {
 	protected byte groupSymbolTableNodeVersion = 1;
 
 	protected byte dataLayoutClass = 1;
+	protected int[] chunkDims;
+	protected int deflateLevel = -1;
 
 	public ByteBuffer readBufferFromAddress(long address, int length) {
 		ByteBuffer bb = ByteBuffer.allocate(length);
@@ -245,4 +247,20 @@ public class H5RootObject {
 	public void setGroupSymbolTableNodeVersion(byte groupSymbolTableNodeVersion) {
 		this.groupSymbolTableNodeVersion = groupSymbolTableNodeVersion;
 	}
+
+	public int[] getChunkDims() {
+		return chunkDims;
+	}
+
+	public void setChunkDims(int[] chunkDims) {
+		this.chunkDims = chunkDims;
+	}
+
+	public int getDeflateLevel() {
+		return deflateLevel;
+	}
+
+	public void setDeflateLevel(int deflateLevel) {
+		this.deflateLevel = deflateLevel;
+	}
 }
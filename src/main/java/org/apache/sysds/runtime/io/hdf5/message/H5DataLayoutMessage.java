@@ -23,6 +23,7 @@ package org.apache.sysds.runtime.io.hdf5.message;
 import org.apache.sysds.runtime.io.hdf5.H5BufferBuilder;
 import org.apache.sysds.runtime.io.hdf5.H5Constants;
 import org.apache.sysds.runtime.io.hdf5.H5RootObject;
+import org.apache.sysds.runtime.io.hdf5.H5RuntimeException;
 import org.apache.sysds.runtime.io.hdf5.Utils;
 
 import java.nio.ByteBuffer;
@@ -30,21 +31,55 @@ import java.util.BitSet;
 
 public class H5DataLayoutMessage extends H5Message {
 
+	private final byte layoutClass;
 	private final long address;
 	private final long size;
+	// chunk dimensions (without the trailing element size) for chunked layouts
+	private final int[] chunkDims;
 
 	public H5DataLayoutMessage(H5RootObject rootObject, BitSet flags, ByteBuffer bb) {
 		super(rootObject, flags);
 		rootObject.setDataLayoutVersion(bb.get());
-		rootObject.setDataLayoutClass(bb.get());
-		this.address = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfOffsets);
-		this.size = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfLengths);
+		layoutClass = bb.get();
+		rootObject.setDataLayoutClass(layoutClass);
+
+		if(layoutClass == H5Constants.LAYOUT_CLASS_CHUNKED) {
+			if(rootObject.getDataLayoutVersion() != 3)
+				throw new H5RuntimeException(
+					"Unsupported chunked data layout version: " + rootObject.getDataLayoutVersion());
+			// Dimensionality (rank + 1 for the element size)
+			int dimensionality = Utils.readBytesAsUnsignedInt(bb, 1);
+			this.address = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfOffsets);
+			this.chunkDims = new int[dimensionality - 1];
+			for(int i = 0; i < chunkDims.length; i++)
+				chunkDims[i] = Utils.readBytesAsUnsignedInt(bb, 4);
+			// Dataset element size
+			this.size = Utils.readBytesAsUnsignedInt(bb, 4);
+		}
+		else if(layoutClass == H5Constants.LAYOUT_CLASS_CONTIGUOUS) {
+			this.address = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfOffsets);
+			this.size = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfLengths);
+			this.chunkDims = null;
+		}
+		else
+			throw new H5RuntimeException("Unsupported data layout class: " + layoutClass);
 	}
 
 	public H5DataLayoutMessage(H5RootObject rootObject, BitSet flags, long address, long size) {
 		super(rootObject, flags);
+		this.layoutClass = H5Constants.LAYOUT_CLASS_CONTIGUOUS;
 		this.address = address;
 		this.size = size;
+		this.chunkDims = null;
+	}
+
+	public H5DataLayoutMessage(H5RootObject rootObject, BitSet flags, long bTreeAddress, int[] chunkDims,
+		int elementSize) {
+		super(rootObject, flags);
+		this.layoutClass = H5Constants.LAYOUT_CLASS_CHUNKED;
+		this.address = bTreeAddress;
+		this.size = elementSize;
+		this.chunkDims = chunkDims;
 	}
 
 	@Override
@@ -55,24 +90,54 @@ public class H5DataLayoutMessage extends H5Message {
 		bb.writeByte(rootObject.getDataLayoutVersion());
 
 		// Layout Class
-		bb.writeByte(rootObject.getDataLayoutClass());
-
-		// Address
-		bb.writeLong(address);
-
-		// Size
-		bb.writeLong(size);
+		bb.writeByte(layoutClass);
+
+		if(isChunked()) {
+			// Dimensionality, B-tree address, chunk dims, and element size
+			bb.writeByte(chunkDims.length + 1);
+			bb.writeLong(address);
+			for(int dim : chunkDims)
+				bb.writeInt(dim);
+			bb.writeInt((int) size);
+			bb.writeBytes(new byte[24 - 3 - 8 - 4 * (chunkDims.length + 1)]);
+		}
+		else {
+			// Address
+			bb.writeLong(address);
+
+			// Size
+			bb.writeLong(size);
+
+			byte[] reserved = new byte[6];
+			bb.writeBytes(reserved);
+		}
+	}
 
-		byte[] reserved = new byte[6];
-		bb.writeBytes(reserved);
+	public boolean isChunked() {
+		return layoutClass == H5Constants.LAYOUT_CLASS_CHUNKED;
 	}
 
+	/**
+	 * Gets the raw data address for contiguous layouts, and the address of the chunk index B-tree for chunked
+	 * layouts.
+	 * 
+	 * @return address
+	 */
 	public long getAddress() {
 		return address;
 	}
 
+	/**
+	 * Gets the raw data size for contiguous layouts, and the element size for chunked layouts.
+	 * 
+	 * @return size
+	 */
 	public long getSize() {
 		return size;
 	}
 
+	public int[] getChunkDims() {
+		return chunkDims;
+	}
+
 }
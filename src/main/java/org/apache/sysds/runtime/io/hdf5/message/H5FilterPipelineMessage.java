@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io.hdf5.message;
+
+import org.apache.sysds.runtime.io.hdf5.H5BufferBuilder;
+import org.apache.sysds.runtime.io.hdf5.H5Constants;
+import org.apache.sysds.runtime.io.hdf5.H5RootObject;
+import org.apache.sysds.runtime.io.hdf5.H5RuntimeException;
+import org.apache.sysds.runtime.io.hdf5.Utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+public class H5FilterPipelineMessage extends H5Message {
+
+	private final List<H5Filter> filters;
+
+	public H5FilterPipelineMessage(H5RootObject rootObject, BitSet flags, ByteBuffer bb) {
+		super(rootObject, flags);
+
+		final byte version = bb.get();
+		if(version != 1 && version != 2)
+			throw new H5RuntimeException("Unsupported filter pipeline message version: " + version);
+		final int numberOfFilters = Utils.readBytesAsUnsignedInt(bb, 1);
+		filters = new ArrayList<>(numberOfFilters);
+
+		// Skip 6 reserved bytes (version 1 only)
+		if(version == 1)
+			bb.position(bb.position() + 6);
+
+		for(int i = 0; i < numberOfFilters; i++) {
+			final int id = Utils.readBytesAsUnsignedInt(bb, 2);
+
+			// Name length (version 2 omits it for predefined filters)
+			final int nameLength = (version == 1 || id >= 256) ? Utils.readBytesAsUnsignedInt(bb, 2) : 0;
+			final BitSet filterFlags = BitSet.valueOf(new byte[] {bb.get(), bb.get()});
+			final int numberOfValues = Utils.readBytesAsUnsignedInt(bb, 2);
+
+			// Name, null-padded to a multiple of eight (version 1 only)
+			String name = null;
+			if(nameLength > 0) {
+				ByteBuffer nameBuffer = Utils.createSubBuffer(bb, nameLength);
+				name = Utils.readUntilNull(nameBuffer);
+				if(version == 1 && nameLength % 8 != 0)
+					bb.position(bb.position() + 8 - nameLength % 8);
+			}
+
+			final int[] clientData = new int[numberOfValues];
+			for(int j = 0; j < numberOfValues; j++)
+				clientData[j] = bb.getInt();
+
+			// Padding of an odd number of client values (version 1 only)
+			if(version == 1 && numberOfValues % 2 != 0)
+				bb.position(bb.position() + 4);
+
+			filters.add(new H5Filter(id, name, filterFlags.get(0), clientData));
+		}
+	}
+
+	public H5FilterPipelineMessage(H5RootObject rootObject, BitSet flags, List<H5Filter> filters) {
+		super(rootObject, flags);
+		this.filters = filters;
+	}
+
+	@Override
+	public void toBuffer(H5BufferBuilder bb) {
+		super.toBuffer(bb, H5Constants.FILTER_PIPELINE_MESSAGE, getMessageSize());
+
+		// Version 1, number of filters, and 6 reserved bytes
+		bb.writeByte(1);
+		bb.writeByte(filters.size());
+		bb.writeBytes(new byte[6]);
+
+		for(H5Filter filter : filters) {
+			byte[] name = getPaddedName(filter);
+			bb.writeShort((short) filter.getId());
+			bb.writeShort((short) name.length);
+			bb.writeShort((short) (filter.isOptional() ? 1 : 0));
+			bb.writeShort((short) filter.getClientData().length);
+			bb.writeBytes(name);
+			for(int value : filter.getClientData())
+				bb.writeInt(value);
+			if(filter.getClientData().length % 2 != 0)
+				bb.writeInt(0);
+		}
+	}
+
+	public int getMessageSize() {
+		int size = 8;
+		for(H5Filter filter : filters)
+			size += 8 + getPaddedName(filter).length + ((filter.getClientData().length + 1) / 2) * 8;
+		return size;
+	}
+
+	private static byte[] getPaddedName(H5Filter filter) {
+		if(filter.getName() == null)
+			return new byte[0];
+		byte[] name = filter.getName().getBytes(StandardCharsets.US_ASCII);
+		byte[] ret = new byte[(name.length / 8 + 1) * 8];
+		System.arraycopy(name, 0, ret, 0, name.length);
+		return ret;
+	}
+
+	public List<H5Filter> getFilters() {
+		return filters;
+	}
+
+	public static class H5Filter {
+		private final int id;
+		private final String name;
+		private final boolean optional;
+		private final int[] clientData;
+
+		public H5Filter(int id, String name, boolean optional, int[] clientData) {
+			this.id = id;
+			this.name = name;
+			this.optional = optional;
+			this.clientData = clientData;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isOptional() {
+			return optional;
+		}
+
+		public int[] getClientData() {
+			return clientData;
+		}
+	}
+}
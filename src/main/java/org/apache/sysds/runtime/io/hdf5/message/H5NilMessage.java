@@ -29,20 +29,28 @@ import java.util.BitSet;
 
 public class H5NilMessage extends H5Message {
 
+	private final int size;
+
 	public H5NilMessage(H5RootObject rootObject, BitSet flags, ByteBuffer bb) {
 		super(rootObject, flags);
+		this.size = bb.remaining();
 		// Move buffer to the end
 		bb.position(bb.limit());
 	}
 
 	public H5NilMessage(H5RootObject rootObject, BitSet flags) {
+		this(rootObject, flags, 104);
+	}
+
+	public H5NilMessage(H5RootObject rootObject, BitSet flags, int size) {
 		super(rootObject, flags);
+		this.size = size;
 	}
 
 	@Override
 	public void toBuffer(H5BufferBuilder bb) {
-		super.toBuffer(bb, H5Constants.NIL_MESSAGE);
-		byte[] reserve = new byte[104];
+		super.toBuffer(bb, H5Constants.NIL_MESSAGE, size);
+		byte[] reserve = new byte[size];
 		bb.writeBytes(reserve);
 	}
 }
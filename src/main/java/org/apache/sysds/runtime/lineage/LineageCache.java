@@ -63,6 +63,7 @@ import org.apache.sysds.runtime.lineage.LineageCacheConfig.LineageCacheStatus;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.utils.stats.JFREvents;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -96,6 +97,14 @@ public class LineageCache
 		if (ReuseCacheType.isNone())
 			return false;
 		
+		JFREvents.LineageCacheEvent jfr = JFREvents.beginLineageCache();
+		boolean reuse = reuseIntern(inst, ec);
+		if (jfr.isEnabled() && (reuse || LineageCacheConfig.isReusable(inst, ec)))
+			JFREvents.commitLineageCache(jfr, reuse ? "hit" : "miss", inst.getOpcode(), 0);
+		return reuse;
+	}
+	
+	private static boolean reuseIntern(Instruction inst, ExecutionContext ec) {
 		boolean reuse = false;
 		if (LineageCacheConfig.isReusable(inst, ec))
 		{
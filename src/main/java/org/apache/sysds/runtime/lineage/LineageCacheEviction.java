@@ -31,6 +31,7 @@ import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyze
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.LineageCacheStatus;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.utils.stats.JFREvents;
 
 public class LineageCacheEviction
 {
@@ -358,6 +359,7 @@ public class LineageCacheEviction
 				return;
 		}
 		
+		JFREvents.LineageCacheEvent jfr = JFREvents.beginLineageCache();
 		long t0 = System.nanoTime();
 		if (_outdir == null) {
 			_outdir = LocalFileUtils.getUniqueWorkingDir(LocalFileUtils.CATEGORY_LINEAGE);
@@ -389,6 +391,7 @@ public class LineageCacheEviction
 			LineageCacheStatistics.incrementFSWriteTime(t1-t0);
 			LineageCacheStatistics.incrementFSWrites();
 		}
+		JFREvents.commitLineageCache(jfr, "spill", entry._key.getOpcode(), entry.getSize());
 	}
 
 	protected static LineageCacheEntry readFromLocalFS(Map<LineageItem, LineageCacheEntry> cache, LineageItem key) {
@@ -396,6 +399,7 @@ public class LineageCacheEviction
 			throw new DMLRuntimeException ("Spilled item should present in cache. Key: "+key);
 
 		LineageCacheEntry e = cache.get(key);
+		JFREvents.LineageCacheEvent jfr = JFREvents.beginLineageCache();
 		long t0 = System.nanoTime();
 		MatrixBlock mb = null;
 		// Read from local FS
@@ -429,6 +433,7 @@ public class LineageCacheEviction
 			LineageCacheStatistics.incrementFSReadTime(t1-t0);
 			LineageCacheStatistics.incrementFSHits();
 		}
+		JFREvents.commitLineageCache(jfr, "restore", key.getOpcode(), e.getSize());
 		return cache.get(key);
 	}
 }
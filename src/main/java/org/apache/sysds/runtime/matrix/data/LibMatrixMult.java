@@ -79,6 +79,9 @@ public class LibMatrixMult
 	public static final int L2_CACHESIZE = 256 * 1024; //256KB (common size)
 	public static final int L3_CACHESIZE = 16 * 1024 * 1024; //16MB (common size)
 	private static final Log LOG = LogFactory.getLog(LibMatrixMult.class.getName());
+	//optional Vector API kernels (null if not available), used for vectors of at least SIMD_MIN_LEN cells
+	private static final LibMatrixSIMD SIMD = LibMatrixSIMD.get();
+	private static final int SIMD_MIN_LEN = 32;
 
 	private LibMatrixMult() {
 		//prevent instantiation via private constructor
@@ -1213,6 +1216,12 @@ public class LibMatrixMult
 
 	//note: public for use by codegen for consistency
 	public static void matrixMultDenseDenseMM(DenseBlock a, DenseBlock b, DenseBlock c, int n, int cd, int rl, int ru, int cl, int cu) {
+		//0) Register-blocked SIMD micro-kernels (if available, for contiguous inputs/outputs)
+		if( SIMD != null && a.isContiguous() && b.isContiguous() && c.isContiguous() && cu-cl >= SIMD_MIN_LEN ) {
+			SIMD.matrixMultDenseDenseMM(a.valuesAt(0), b.valuesAt(0), c.valuesAt(0), n, cd, rl, ru, cl, cu);
+			return;
+		}
+		
 		//1) Unrolled inner loop (for better instruction-level parallelism)
 		//2) Blocked execution (for less cache trashing in parallel exec)
 		//3) Asymmetric block sizes (for less misses in inner loop, yet blocks in L1/L2)
@@ -3682,6 +3691,9 @@ public class LibMatrixMult
 	 */
 	private static double dotProduct( double[] a, double[] b, final int len )
 	{
+		if( SIMD != null && len >= SIMD_MIN_LEN )
+			return SIMD.dotProduct(a, b, 0, 0, len);
+		
 		double val = 0;
 		final int bn = len%8;
 				
@@ -3711,6 +3723,9 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static double dotProduct( double[] a, double[] b, int ai, int bi, final int len )
 	{
+		if( SIMD != null && len >= SIMD_MIN_LEN )
+			return SIMD.dotProduct(a, b, ai, bi, len);
+		
 		double val = 0;
 		final int bn = len%8;
 		
@@ -3800,6 +3815,11 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectMultiplyAdd( final double aval, double[] b, double[] c, int bi, int ci, final int len )
 	{
+		if( SIMD != null && len >= SIMD_MIN_LEN ) {
+			SIMD.vectMultiplyAdd(aval, b, c, bi, ci, len);
+			return;
+		}
+		
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -3875,6 +3895,11 @@ public class LibMatrixMult
 
 	private static void vectMultiplyAdd4( final double aval1, final double aval2, final double aval3, final double aval4, double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, final int len )
 	{
+		if( SIMD != null && len >= SIMD_MIN_LEN ) {
+			SIMD.vectMultiplyAdd4(aval1, aval2, aval3, aval4, b, c, bi1, bi2, bi3, bi4, ci, len);
+			return;
+		}
+		
 		final int bn = len%8;	
 		
 		//rest, not aligned to 8-blocks
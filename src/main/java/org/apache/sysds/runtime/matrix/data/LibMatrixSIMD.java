@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Optional family of SIMD kernels for dense dot products, axpy and GEMM micro-kernels.
+ * <p>
+ * The kernels are implemented with the incubating Java Vector API (jdk.incubator.vector) in a separate source root
+ * (src/main/java17) that is only compiled on JDK 17+. At runtime, the vectorized implementation is only loaded if the
+ * JVM runs with Java 17+ and was started with {@code --add-modules jdk.incubator.vector}; otherwise {@link #get()}
+ * returns null and all callers fall back to the unrolled scalar kernels in {@link LibMatrixMult}.
+ */
+public abstract class LibMatrixSIMD {
+	private static final Log LOG = LogFactory.getLog(LibMatrixSIMD.class.getName());
+
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	private static final String VECTOR_IMPL = "org.apache.sysds.runtime.matrix.data.LibMatrixSIMDVectorAPI";
+
+	private static final LibMatrixSIMD _kernels = create();
+
+	/**
+	 * Get the SIMD kernels if the Vector API is available in the current JVM.
+	 * 
+	 * @return the SIMD kernels or null if not supported
+	 */
+	public static LibMatrixSIMD get() {
+		return _kernels;
+	}
+
+	/**
+	 * Indicates if the SIMD kernels are available in the current JVM.
+	 * 
+	 * @return true if the SIMD kernels are available
+	 */
+	public static boolean isSupported() {
+		return _kernels != null;
+	}
+
+	/**
+	 * Get the number of doubles processed per vector instruction.
+	 * 
+	 * @return vector length in number of doubles
+	 */
+	public abstract int vectorLength();
+
+	/**
+	 * Computes the dot product sum(a[ai:ai+len] * b[bi:bi+len]).
+	 * 
+	 * @param a   left input vector
+	 * @param b   right input vector
+	 * @param ai  start position in a
+	 * @param bi  start position in b
+	 * @param len number of cells
+	 * @return dot product
+	 */
+	public abstract double dotProduct(double[] a, double[] b, int ai, int bi, int len);
+
+	/**
+	 * Computes the axpy c[ci:ci+len] += aval * b[bi:bi+len].
+	 * 
+	 * @param aval scalar factor
+	 * @param b    input vector
+	 * @param c    output vector
+	 * @param bi   start position in b
+	 * @param ci   start position in c
+	 * @param len  number of cells
+	 */
+	public abstract void vectMultiplyAdd(double aval, double[] b, double[] c, int bi, int ci, int len);
+
+	/**
+	 * Computes the rank-4 update c[ci:ci+len] += aval1 * b[bi1:] + aval2 * b[bi2:] + aval3 * b[bi3:] + aval4 * b[bi4:].
+	 * 
+	 * @param aval1 scalar factor of the first row
+	 * @param aval2 scalar factor of the second row
+	 * @param aval3 scalar factor of the third row
+	 * @param aval4 scalar factor of the fourth row
+	 * @param b     input rows
+	 * @param c     output vector
+	 * @param bi1   start position of the first row in b
+	 * @param bi2   start position of the second row in b
+	 * @param bi3   start position of the third row in b
+	 * @param bi4   start position of the fourth row in b
+	 * @param ci    start position in c
+	 * @param len   number of cells
+	 */
+	public abstract void vectMultiplyAdd4(double aval1, double aval2, double aval3, double aval4, double[] b,
+		double[] c, int bi1, int bi2, int bi3, int bi4, int ci, int len);
+
+	/**
+	 * Register-blocked dense GEMM micro-kernel C[rl:ru, cl:cu] += A[rl:ru, 0:cd] %*% B[0:cd, cl:cu] over contiguous
+	 * row-major arrays, where A has cd columns and B and C have n columns.
+	 * 
+	 * @param a  left input values (m x cd)
+	 * @param b  right input values (cd x n)
+	 * @param c  output values (m x n)
+	 * @param n  number of columns in b and c
+	 * @param cd common dimension
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
+	 */
+	public abstract void matrixMultDenseDenseMM(double[] a, double[] b, double[] c, int n, int cd, int rl, int ru,
+		int cl, int cu);
+
+	private static LibMatrixSIMD create() {
+		try {
+			if(Runtime.version().feature() < 17 || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty())
+				return null;
+			LibMatrixSIMD ret = (LibMatrixSIMD) Class.forName(VECTOR_IMPL).getDeclaredConstructor().newInstance();
+			LOG.info("Using Vector API SIMD kernels with vector length " + ret.vectorLength());
+			return ret;
+		}
+		catch(Throwable t) {
+			// e.g., sources compiled without the java17 profile
+			LOG.warn("Failed to load Vector API SIMD kernels, falling back to scalar kernels: " + t.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data.sketch.quantileapprox;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * KLL sketch for approximate quantiles over a stream of double values
+ *
+ * Zohar Karnin, Kevin Lang, Edo Liberty:
+ *
+ * Optimal Quantile Approximation in Streams. FOCS 2016
+ *
+ * The sketch is a hierarchy of compactors, where an item at level h represents 2^h input values. If a level exceeds
+ * its capacity, its items are sorted and every other item (with random offset) is promoted to the next level. The
+ * capacities decrease geometrically for lower levels, which bounds the size of the sketch to O(k) items, with a rank
+ * error of about 1.7/k. Sketches are mergeable, such that partial sketches of row partitions (e.g., of parallel,
+ * federated, or spark builds) can be exchanged and combined instead of the raw values.
+ */
+public class KLLSketch implements Serializable {
+	private static final long serialVersionUID = 4436364573125442341L;
+
+	/** Default size parameter, with a rank error of about 1% */
+	public static final int DEFAULT_K = 200;
+
+	/** Capacity decrease factor between levels */
+	private static final double C = 2.0 / 3.0;
+	/** Minimum capacity of a level */
+	private static final int MIN_CAPACITY = 2;
+	/** Default seed of the compaction offsets */
+	private static final long DEFAULT_SEED = 0x9E3779B97F4A7C15L;
+
+	/** Size parameter, i.e., the capacity of the top level */
+	private final int _k;
+	/** Items per level, where only the first _sizes[h] items are valid */
+	private double[][] _levels;
+	/** Number of items per level */
+	private int[] _sizes;
+	/** Number of retained items over all levels */
+	private int _size;
+	/** Number of input values */
+	private long _n;
+	/** Exact minimum and maximum of the input values */
+	private double _min;
+	private double _max;
+	/** State of the xorshift generator for the compaction offsets */
+	private long _rand;
+
+	public KLLSketch() {
+		this(DEFAULT_K);
+	}
+
+	public KLLSketch(int k) {
+		this(k, DEFAULT_SEED);
+	}
+
+	/**
+	 * Create an empty sketch with the given seed for the random compaction offsets. Sketches of different
+	 * partitions should use different seeds, but merging is correct for arbitrary seeds.
+	 *
+	 * @param k    The size parameter
+	 * @param seed The seed of the compaction offsets
+	 */
+	public KLLSketch(int k, long seed) {
+		if(k < MIN_CAPACITY)
+			throw new IllegalArgumentException("Invalid KLL sketch size: " + k);
+		_k = k;
+		_levels = new double[][] {new double[k]};
+		_sizes = new int[1];
+		_size = 0;
+		_n = 0;
+		_min = Double.POSITIVE_INFINITY;
+		_max = Double.NEGATIVE_INFINITY;
+		// xorshift requires a non-zero state
+		_rand = (seed != 0) ? seed : DEFAULT_SEED;
+	}
+
+	/**
+	 * Derive a deterministic seed from the given keys (e.g., column and row offset of a partition), such that
+	 * sketches of different partitions use independent, yet reproducible compaction offsets.
+	 *
+	 * @param key1 The first key
+	 * @param key2 The second key
+	 * @return The seed
+	 */
+	public static long getSeed(long key1, long key2) {
+		// splitmix64 finalizer over both keys
+		long z = key1 * DEFAULT_SEED + key2;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Add the given value to the sketch, where NaN values are ignored.
+	 *
+	 * @param v The value
+	 */
+	public void update(double v) {
+		if(Double.isNaN(v))
+			return;
+		_n++;
+		_min = Math.min(_min, v);
+		_max = Math.max(_max, v);
+		append(0, v);
+		while(_size >= getCapacity())
+			compress();
+	}
+
+	/**
+	 * Merge the given sketch into this sketch, which leaves the other sketch unchanged.
+	 *
+	 * @param that The other sketch
+	 */
+	public void merge(KLLSketch that) {
+		if(that == null || that._n == 0)
+			return;
+		_n += that._n;
+		_min = Math.min(_min, that._min);
+		_max = Math.max(_max, that._max);
+		while(_levels.length < that._levels.length)
+			addLevel();
+		for(int h = 0; h < that._levels.length; h++)
+			for(int i = 0; i < that._sizes[h]; i++)
+				append(h, that._levels[h][i]);
+		while(_size >= getCapacity())
+			compress();
+	}
+
+	/**
+	 * Get the approximate quantile of the given fraction, where 0 returns the exact minimum and 1 the exact maximum.
+	 *
+	 * @param fraction The fraction in [0, 1]
+	 * @return The quantile, or NaN if the sketch is empty
+	 */
+	public double getQuantile(double fraction) {
+		return getQuantiles(new double[] {fraction})[0];
+	}
+
+	/**
+	 * Get the approximate quantiles of the given fractions, which reuses the sorted items across fractions.
+	 *
+	 * @param fractions The fractions in [0, 1]
+	 * @return The quantiles, or NaN if the sketch is empty
+	 */
+	public double[] getQuantiles(double[] fractions) {
+		final double[] ret = new double[fractions.length];
+		if(_n == 0) {
+			Arrays.fill(ret, Double.NaN);
+			return ret;
+		}
+
+		// sorted items with their weights (of 2^h)
+		final double[] vals = new double[_size];
+		final long[] weights = new long[_size];
+		int len = 0;
+		for(int h = 0; h < _levels.length; h++) {
+			final double[] lvals = Arrays.copyOf(_levels[h], _sizes[h]);
+			Arrays.sort(lvals);
+			len = mergeSorted(vals, weights, len, lvals, 1L << h);
+		}
+
+		for(int j = 0; j < fractions.length; j++) {
+			final double f = fractions[j];
+			if(f <= 0)
+				ret[j] = _min;
+			else if(f >= 1)
+				ret[j] = _max;
+			else {
+				// first item with a cumulative weight of at least the target rank
+				final double rank = f * _n;
+				long cum = 0;
+				int i = 0;
+				while(i < len - 1 && (cum += weights[i]) < rank)
+					i++;
+				ret[j] = vals[i];
+			}
+		}
+		return ret;
+	}
+
+	public long getN() {
+		return _n;
+	}
+
+	public boolean isEmpty() {
+		return _n == 0;
+	}
+
+	public double getMin() {
+		return _min;
+	}
+
+	public double getMax() {
+		return _max;
+	}
+
+	/**
+	 * Get the number of retained items, which is bounded by O(k).
+	 *
+	 * @return The number of retained items
+	 */
+	public int getNumRetained() {
+		return _size;
+	}
+
+	/**
+	 * Serialize the sketch, e.g., as part of an encoder.
+	 *
+	 * @param out The data output
+	 * @throws IOException if IOException occurs
+	 */
+	public void write(DataOutput out) throws IOException {
+		out.writeInt(_k);
+		out.writeLong(_n);
+		out.writeDouble(_min);
+		out.writeDouble(_max);
+		out.writeLong(_rand);
+		out.writeInt(_levels.length);
+		for(int h = 0; h < _levels.length; h++) {
+			out.writeInt(_sizes[h]);
+			for(int i = 0; i < _sizes[h]; i++)
+				out.writeDouble(_levels[h][i]);
+		}
+	}
+
+	/**
+	 * Deserialize a sketch written with {@link #write(DataOutput)}.
+	 *
+	 * @param in The data input
+	 * @return The sketch
+	 * @throws IOException if IOException occurs
+	 */
+	public static KLLSketch read(DataInput in) throws IOException {
+		final KLLSketch ret = new KLLSketch(in.readInt());
+		ret._n = in.readLong();
+		ret._min = in.readDouble();
+		ret._max = in.readDouble();
+		ret._rand = in.readLong();
+		final int nLevels = in.readInt();
+		ret._levels = new double[nLevels][];
+		ret._sizes = new int[nLevels];
+		for(int h = 0; h < nLevels; h++) {
+			final int size = in.readInt();
+			ret._levels[h] = new double[Math.max(size, MIN_CAPACITY)];
+			for(int i = 0; i < size; i++)
+				ret._levels[h][i] = in.readDouble();
+			ret._sizes[h] = size;
+			ret._size += size;
+		}
+		return ret;
+	}
+
+	private void append(int h, double v) {
+		if(_sizes[h] == _levels[h].length)
+			_levels[h] = Arrays.copyOf(_levels[h], _levels[h].length * 2);
+		_levels[h][_sizes[h]++] = v;
+		_size++;
+	}
+
+	private void addLevel() {
+		final int h = _levels.length;
+		_levels = Arrays.copyOf(_levels, h + 1);
+		_sizes = Arrays.copyOf(_sizes, h + 1);
+		_levels[h] = new double[getCapacity(h)];
+	}
+
+	private int getCapacity(int h) {
+		final int depth = _levels.length - 1 - h;
+		return Math.max(MIN_CAPACITY, (int) Math.ceil(_k * Math.pow(C, depth)));
+	}
+
+	private int getCapacity() {
+		int ret = 0;
+		for(int h = 0; h < _levels.length; h++)
+			ret += getCapacity(h);
+		return ret;
+	}
+
+	/**
+	 * Compact the lowest level that exceeds its capacity, which promotes half of its items to the next level.
+	 */
+	private void compress() {
+		for(int h = 0; h < _levels.length; h++) {
+			if(_sizes[h] >= getCapacity(h)) {
+				if(h + 1 == _levels.length)
+					addLevel();
+				compact(h);
+				return;
+			}
+		}
+	}
+
+	private void compact(int h) {
+		final double[] lvals = _levels[h];
+		final int size = _sizes[h];
+		Arrays.sort(lvals, 0, size);
+		// with an odd number of items, the largest item remains at this level
+		final int even = size & ~1;
+		final int offset = nextBit();
+		for(int i = offset; i < even; i += 2)
+			append(h + 1, lvals[i]);
+		if(even < size)
+			lvals[0] = lvals[even];
+		_sizes[h] = size - even;
+		_size -= even;
+	}
+
+	private int nextBit() {
+		// xorshift64 for cheap, yet unbiased compaction offsets
+		_rand ^= _rand << 13;
+		_rand ^= _rand >>> 7;
+		_rand ^= _rand << 17;
+		return (int) (_rand >>> 63);
+	}
+
+	private static int mergeSorted(double[] vals, long[] weights, int len, double[] lvals, long w) {
+		// merge from the back, which allows an in-place merge into the output arrays
+		int i = len - 1;
+		int j = lvals.length - 1;
+		int pos = len + lvals.length - 1;
+		while(j >= 0) {
+			if(i >= 0 && vals[i] > lvals[j]) {
+				vals[pos] = vals[i];
+				weights[pos--] = weights[i--];
+			}
+			else {
+				vals[pos] = lvals[j--];
+				weights[pos--] = w;
+			}
+		}
+		return len + lvals.length;
+	}
+}
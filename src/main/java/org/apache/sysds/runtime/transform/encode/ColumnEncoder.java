@@ -242,6 +242,13 @@ public abstract class ColumnEncoder implements Encoder, Comparable<ColumnEncoder
 		// do nothing
 	}
 
+	/**
+	 * Finalizes the internal data structures after partial builds over all row batches.
+	 */
+	public void finalizeBuildPartial() {
+		// do nothing
+	}
+
 	public void build(CacheBlock<?> in, double[] equiHeightMaxs) {
 		// do nothing
 	}
@@ -427,6 +434,10 @@ public abstract class ColumnEncoder implements Encoder, Comparable<ColumnEncoder
 		}
 	}
 
+	protected void resetSparseRowsWZeros() {
+		_sparseRowsWZeros = null;
+	}
+
 	protected void setBuildRowBlocksPerColumn(int nPart) {
 		_nBuildPartitions = nPart;
 	}
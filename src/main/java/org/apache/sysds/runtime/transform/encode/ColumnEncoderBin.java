@@ -31,13 +31,14 @@ import java.util.concurrent.Callable;
 import static org.apache.sysds.runtime.util.UtilFunctions.getEndIndex;
 import org.apache.commons.lang3.tuple.MutableTriple;
 import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.frame.data.columns.Array;
-import org.apache.sysds.runtime.frame.data.columns.StringArray;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.sketch.quantileapprox.KLLSketch;
 import org.apache.sysds.utils.stats.TransformStatistics;
 
 public class ColumnEncoderBin extends ColumnEncoder {
@@ -59,6 +60,10 @@ public class ColumnEncoderBin extends ColumnEncoder {
 	// b) column min/max (for partial build)
 	private double _colMins = -1f;
 	private double _colMaxs = -1f;
+	// c) column quantile sketch (for sketch-based equi-height binning)
+	private KLLSketch _sketch = null;
+	// row offset of the input (e.g., of a spark or federated partition), for reproducible sketch seeds
+	private long _rowOffset = 0;
 
 	public ColumnEncoderBin() {
 		super(-1);
@@ -101,6 +106,20 @@ public class ColumnEncoderBin extends ColumnEncoder {
 		return _binMethod;
 	}
 
+	public KLLSketch getSketch() {
+		return _sketch;
+	}
+
+	/**
+	 * Sets the global row offset of the input of subsequent builds (e.g., of a spark or federated row
+	 * partition), which deterministically seeds the quantile sketches of different partitions.
+	 *
+	 * @param rowOffset The 0-based row offset
+	 */
+	public void setRowOffset(long rowOffset) {
+		_rowOffset = rowOffset;
+	}
+
 	public void setBinMethod(String method) {
 		if(method.equalsIgnoreCase(BinMethod.EQUI_WIDTH.toString()))
 			_binMethod = BinMethod.EQUI_WIDTH;
@@ -108,6 +127,8 @@ public class ColumnEncoderBin extends ColumnEncoder {
 			_binMethod = BinMethod.EQUI_HEIGHT;
 		else if(method.equalsIgnoreCase(BinMethod.EQUI_HEIGHT_APPROX.toString()))
 			_binMethod = BinMethod.EQUI_HEIGHT_APPROX;
+		else if(method.equalsIgnoreCase(BinMethod.EQUI_HEIGHT_SKETCH.toString()))
+			_binMethod = BinMethod.EQUI_HEIGHT_SKETCH;
 		else
 			throw new RuntimeException(method + " is invalid");
 	}
@@ -130,6 +151,11 @@ public class ColumnEncoderBin extends ColumnEncoder {
 			Arrays.sort(vals);
 			computeEqualHeightBins(vals, false);
 		}
+		else if(_binMethod == BinMethod.EQUI_HEIGHT_SKETCH) {
+			// keep the sketch for merging with other partial builds (e.g., federated)
+			_sketch = createSketch(in, _colID, _rowOffset, 0, -1);
+			computeBins(_sketch);
+		}
 
 		if(DMLScript.STATISTICS)
 			TransformStatistics.incBinningBuildTime(System.nanoTime()-t0);
@@ -147,6 +173,10 @@ public class ColumnEncoderBin extends ColumnEncoder {
 		else if(_binMethod == BinMethod.EQUI_HEIGHT || _binMethod == BinMethod.EQUI_HEIGHT_APPROX) {
 			computeEqualHeightBins(equiHeightMaxs, true);
 		}
+		else if(_binMethod == BinMethod.EQUI_HEIGHT_SKETCH) {
+			_sketch = createSketch(in, _colID, _rowOffset, 0, -1);
+			computeBins(_sketch);
+		}
 
 		if(DMLScript.STATISTICS)
 			TransformStatistics.incBinningBuildTime(System.nanoTime()-t0);
@@ -188,7 +218,7 @@ public class ColumnEncoderBin extends ColumnEncoder {
 		final Array<?> c = in.getColumn(_colID - 1);
 		final double mi = _binMins[0];
 		final double mx = _binMaxs[_binMaxs.length-1];
-		if(!(c instanceof StringArray) && !c.containsNull())
+		if(c.getValueType() != ValueType.STRING && !c.containsNull())
 			for(int i = startInd; i < endInd; i++)
 				codes[i - startInd] = getCodeIndex(c.getAsDouble(i), mi, mx);
 		else 
@@ -205,7 +235,7 @@ public class ColumnEncoderBin extends ColumnEncoder {
 			return Double.NaN;
 		else if(_binMethod == BinMethod.EQUI_WIDTH)
 			return getEqWidth(inVal, min, max);
-		else // if (_binMethod == BinMethod.EQUI_HEIGHT || _binMethod == BinMethod.EQUI_HEIGHT_APPROX)
+		else // equi-height variants (exact, approx, sketch)
 			return getCodeIndexEQHeight(inVal);
 	}
 
@@ -272,6 +302,39 @@ public class ColumnEncoderBin extends ColumnEncoder {
 		return vals;
 	}
 
+	private static KLLSketch createSketch(CacheBlock<?> in, int colID, long rowOffset, int startRow, int blockSize) {
+		final KLLSketch sketch = createSketch(colID, rowOffset + startRow);
+		updateSketch(sketch, in, colID, startRow, blockSize);
+		return sketch;
+	}
+
+	/**
+	 * Creates an empty quantile sketch, seeded by the column and row offset of its input partition. The final
+	 * merge of partial sketches uses a row offset of -1.
+	 *
+	 * @param colID     The 1-based column id
+	 * @param rowOffset The 0-based row offset of the partition
+	 * @return The sketch
+	 */
+	public static KLLSketch createSketch(int colID, long rowOffset) {
+		return new KLLSketch(KLLSketch.DEFAULT_K, KLLSketch.getSeed(colID, rowOffset));
+	}
+
+	private static void updateSketch(KLLSketch sketch, CacheBlock<?> in, int colID, int startRow, int blockSize) {
+		final int endRow = getEndIndex(in.getNumRows(), startRow, blockSize);
+		final int cid = colID - 1;
+		if(in instanceof FrameBlock) {
+			// FrameBlock optimization
+			Array<?> a = ((FrameBlock) in).getColumn(cid);
+			for(int i = startRow; i < endRow; i++)
+				sketch.update(a.getAsNaNDouble(i)); // ignores NaN
+		}
+		else {
+			for(int i = startRow; i < endRow; i++)
+				sketch.update(in.getDoubleNaN(i, cid));
+		}
+	}
+
 	private static double[] extractDoubleColumn(CacheBlock<?> in, int colID, int startRow, int blockSize) {
 		int endRow = getEndIndex(in.getNumRows(), startRow, blockSize);
 		double[] vals = new double[endRow - startRow];
@@ -322,7 +385,7 @@ public class ColumnEncoderBin extends ColumnEncoder {
 	@Override
 	public Callable<Object> getPartialBuildTask(CacheBlock<?> in, int startRow, int blockSize,
 			HashMap<Integer, Object> ret) {
-		return new BinPartialBuildTask(in, _colID, startRow, blockSize, _binMethod, ret);
+		return new BinPartialBuildTask(in, _colID, _rowOffset, startRow, blockSize, _binMethod, ret);
 	}
 
 	@Override
@@ -364,10 +427,27 @@ public class ColumnEncoderBin extends ColumnEncoder {
 		System.arraycopy(_binMaxs, 0, _binMins, 1, _numBin - 1);
 	}
 
+	public void computeBins(KLLSketch sketch) {
+		if(_binMins == null || _binMaxs == null) {
+			_binMins = new double[_numBin];
+			_binMaxs = new double[_numBin];
+		}
+		// approximate quantiles as bin maxs, but exact min and max
+		double[] fractions = new double[_numBin];
+		for(int i = 0; i < _numBin; i++)
+			fractions[i] = (i + 1d) / _numBin;
+		System.arraycopy(sketch.getQuantiles(fractions), 0, _binMaxs, 0, _numBin);
+		_binMaxs[_numBin - 1] = sketch.getMax();
+
+		_binMins[0] = sketch.getMin();
+		System.arraycopy(_binMaxs, 0, _binMins, 1, _numBin - 1);
+	}
+
 	public void prepareBuildPartial() {
-		// ensure allocated min/max arrays
-		_colMins = -1f;
-		_colMaxs = -1f;
+		// reset min/max for aggregation over partial builds
+		_colMins = Double.POSITIVE_INFINITY;
+		_colMaxs = Double.NEGATIVE_INFINITY;
+		_sketch = (_binMethod == BinMethod.EQUI_HEIGHT_SKETCH) ? createSketch(_colID, _rowOffset) : null;
 	}
 
 	public void buildPartial(FrameBlock in) {
@@ -375,8 +455,23 @@ public class ColumnEncoderBin extends ColumnEncoder {
 			return;
 		// derive bin boundaries from min/max per column
 		double[] pairMinMax = getMinMaxOfCol(in, _colID, 0, -1);
-		_colMins = pairMinMax[0];
-		_colMaxs = pairMinMax[1];
+		_colMins = Math.min(_colMins, pairMinMax[0]);
+		_colMaxs = Math.max(_colMaxs, pairMinMax[1]);
+		if(_sketch != null)
+			updateSketch(_sketch, in, _colID, 0, -1);
+	}
+
+	@Override
+	public void finalizeBuildPartial() {
+		if(!isApplicable())
+			return;
+		if(_binMethod == BinMethod.EQUI_WIDTH)
+			computeBins(_colMins, _colMaxs);
+		else if(_binMethod == BinMethod.EQUI_HEIGHT_SKETCH)
+			computeBins(_sketch);
+		else
+			throw new DMLRuntimeException("Partial build of binning only supports " + BinMethod.EQUI_WIDTH + " and "
+				+ BinMethod.EQUI_HEIGHT_SKETCH + ", but got " + _binMethod + " for column " + _colID + ".");
 	}
 
 	@Override
@@ -390,6 +485,12 @@ public class ColumnEncoderBin extends ColumnEncoder {
 		if(other instanceof ColumnEncoderBin) {
 			ColumnEncoderBin otherBin = (ColumnEncoderBin) other;
 			assert other._colID == _colID;
+			if(_sketch != null && otherBin._sketch != null) {
+				// merge the partial sketches (e.g., of federated row partitions)
+				_sketch.merge(otherBin._sketch);
+				computeBins(_sketch);
+				return;
+			}
 			// save the min, max as well as the number of bins for the column indexes
 			MutableTriple<Integer, Double, Double> entry = new MutableTriple<>(_numBin, _binMins[0],
 				_binMaxs[_binMaxs.length - 1]);
@@ -460,6 +561,11 @@ public class ColumnEncoderBin extends ColumnEncoder {
 				out.writeDouble(_binMins[j]);
 			}
 		}
+		if(_binMethod == BinMethod.EQUI_HEIGHT_SKETCH) {
+			out.writeBoolean(_sketch != null);
+			if(_sketch != null)
+				_sketch.write(out);
+		}
 	}
 
 	@Override
@@ -470,12 +576,13 @@ public class ColumnEncoderBin extends ColumnEncoder {
 		boolean minmax = in.readBoolean();
 		_binMaxs = minmax ? new double[_numBin] : null;
 		_binMins = minmax ? new double[_numBin] : null;
-		if(!minmax)
-			return;
-		for(int j = 0; j < _binMaxs.length; j++) {
-			_binMaxs[j] = in.readDouble();
-			_binMins[j] = in.readDouble();
+		if(minmax) {
+			for(int j = 0; j < _binMaxs.length; j++) {
+				_binMaxs[j] = in.readDouble();
+				_binMins[j] = in.readDouble();
+			}
 		}
+		_sketch = (_binMethod == BinMethod.EQUI_HEIGHT_SKETCH && in.readBoolean()) ? KLLSketch.read(in) : null;
 	}
 
 	@Override
@@ -491,7 +598,7 @@ public class ColumnEncoderBin extends ColumnEncoder {
 	}
 
 	public enum BinMethod {
-		INVALID, EQUI_WIDTH, EQUI_HEIGHT, EQUI_HEIGHT_APPROX;
+		INVALID, EQUI_WIDTH, EQUI_HEIGHT, EQUI_HEIGHT_APPROX, EQUI_HEIGHT_SKETCH;
 
 		@Override
 		public String toString(){
@@ -499,6 +606,7 @@ public class ColumnEncoderBin extends ColumnEncoder {
 				case EQUI_WIDTH: return "EQUI-WIDTH";
 				case EQUI_HEIGHT: return "EQUI-HEIGHT";
 				case EQUI_HEIGHT_APPROX: return "EQUI_HEIGHT_APPROX";
+				case EQUI_HEIGHT_SKETCH: return "EQUI-HEIGHT-SKETCH";
 				default: throw new DMLRuntimeException("Invalid encoder type.");
 			}
 		}
@@ -537,15 +645,17 @@ public class ColumnEncoderBin extends ColumnEncoder {
 		private final int _blockSize;
 		private final int _startRow;
 		private final int _colID;
+		private final long _rowOffset;
 		private final BinMethod _method;
 		private final HashMap<Integer, Object> _partialData;
 
 		// if a pool is passed the task may be split up into multiple smaller tasks.
-		protected BinPartialBuildTask(CacheBlock<?> input, int colID, int startRow, 
+		protected BinPartialBuildTask(CacheBlock<?> input, int colID, long rowOffset, int startRow, 
 				int blocksize, BinMethod method, HashMap<Integer, Object> partialData) {
 			_input = input;
 			_blockSize = blocksize;
 			_colID = colID;
+			_rowOffset = rowOffset;
 			_startRow = startRow;
 			_method = method;
 			_partialData = partialData;
@@ -566,6 +676,12 @@ public class ColumnEncoderBin extends ColumnEncoder {
 					_partialData.put(_startRow, sortedVals);
 				}
 			}
+			else if (_method == BinMethod.EQUI_HEIGHT_SKETCH) {
+				KLLSketch sketch = createSketch(_input, _colID, _rowOffset, _startRow, _blockSize);
+				synchronized(_partialData) {
+					_partialData.put(_startRow, sketch);
+				}
+			}
 			
 			if (DMLScript.STATISTICS)
 				TransformStatistics.incBinningBuildTime(System.nanoTime()-t0);
@@ -625,7 +741,8 @@ public class ColumnEncoderBin extends ColumnEncoder {
 				_encoder.computeBins(min, max);
 			}
 
-			if (_encoder.getBinMethod() == BinMethod.EQUI_HEIGHT) {
+			if (_encoder.getBinMethod() == BinMethod.EQUI_HEIGHT
+				|| _encoder.getBinMethod() == BinMethod.EQUI_HEIGHT_APPROX) {
 				double[][] allParts = new double[_partialMaps.size()][];
 				int i = 0;
 				for (Object arr: _partialMaps.values())
@@ -638,6 +755,15 @@ public class ColumnEncoderBin extends ColumnEncoder {
 				_encoder.computeEqualHeightBins(sortedRes, false);
 			}
 
+			if (_encoder.getBinMethod() == BinMethod.EQUI_HEIGHT_SKETCH) {
+				// merge the partial sketches in order of row partitions
+				KLLSketch sketch = createSketch(_encoder._colID, -1);
+				_partialMaps.keySet().stream().sorted()
+					.forEach(startRow -> sketch.merge((KLLSketch) _partialMaps.get(startRow)));
+				_encoder._sketch = sketch;
+				_encoder.computeBins(sketch);
+			}
+
 			if(DMLScript.STATISTICS)
 				TransformStatistics.incBinningBuildTime(System.nanoTime()-t0);
 			return null;
@@ -202,6 +202,13 @@ public class ColumnEncoderComposite extends ColumnEncoder {
 			columnEncoder.buildPartial(in);
 	}
 
+	@Override
+	public void finalizeBuildPartial() {
+		for(ColumnEncoder columnEncoder : _columnEncoders)
+			columnEncoder.finalizeBuildPartial();
+		updateAllDCEncoders();
+	}
+
 	@Override
 	public MatrixBlock apply(CacheBlock<?> in, MatrixBlock out, int outputCol, int rowStart, int blk) {
 		try {
@@ -417,6 +424,11 @@ public class ColumnEncoderComposite extends ColumnEncoder {
 				}).collect(Collectors.toSet());
 	}
 
+	@Override
+	protected void resetSparseRowsWZeros() {
+		_columnEncoders.forEach(ColumnEncoder::resetSparseRowsWZeros);
+	}
+
 	@Override
 	public int getDomainSize() {
 		return _columnEncoders.stream()//
@@ -27,6 +27,7 @@ import java.io.ObjectOutput;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -34,9 +35,14 @@ import java.util.concurrent.Callable;
 
 import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.lops.Lop;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
 import org.apache.sysds.runtime.compress.estim.sample.SampleEstimatorFactory;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.DDCArray;
+import org.apache.sysds.runtime.frame.data.columns.ObjectRecodeMap;
+import org.apache.sysds.runtime.frame.data.columns.RecodeMap;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.utils.stats.TransformStatistics;
 
@@ -52,14 +58,14 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 
 	public ColumnEncoderRecode(int colID) {
 		super(colID);
-		_rcdMap = new HashMap<>();
+		_rcdMap = new ObjectRecodeMap<>();
 	}
 
 	public ColumnEncoderRecode() {
 		this(-1);
 	}
 
-	protected ColumnEncoderRecode(int colID, HashMap<Object, Long> rcdMap) {
+	protected ColumnEncoderRecode(int colID, Map<Object, Long> rcdMap) {
 		super(colID);
 		_rcdMap = rcdMap;
 	}
@@ -115,17 +121,54 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	}
 
 	private static void makeRcdMap(CacheBlock<?> in, Map<Object, Long> map, int colID, int startRow, int blk) {
-		for(int row = startRow; row < getEndIndex(in.getNumRows(), startRow, blk); row++){
-			String key = in.getString(row, colID - 1);
-			if(key != null && !key.isEmpty() && !map.containsKey(key))
-				putCode(map, key);
+		final int endRow = getEndIndex(in.getNumRows(), startRow, blk);
+		final DDCArray<?> ddc = getDDCColumn(in, colID);
+		if(ddc != null)
+			makeRcdMapDDC(ddc, map, startRow, endRow);
+		else {
+			for(int row = startRow; row < endRow; row++) {
+				String key = in.getString(row, colID - 1);
+				if(key != null && !key.isEmpty())
+					putCode(map, key);
+			}
 		}
 		if(SORT_RECODE_MAP) {
 			sortCPRecodeMaps(map);
 		}
 	}
 
+	/**
+	 * Build the recode map from the dictionary of a dictionary-encoded column, where each distinct value is probed only
+	 * once. The codes are assigned in order of first occurrence to match the row-wise build.
+	 */
+	private static void makeRcdMapDDC(DDCArray<?> ddc, Map<Object, Long> map, int startRow, int endRow) {
+		final Array<?> dict = ddc.getDict();
+		final AMapToData m = ddc.getMap();
+		final boolean[] seen = new boolean[dict.size()];
+		int nSeen = 0;
+		for(int row = startRow; row < endRow && nSeen < seen.length; row++) {
+			final int idx = m.getIndex(row);
+			if(!seen[idx]) {
+				seen[idx] = true;
+				nSeen++;
+				final Object key = dict.get(idx);
+				if(key != null && !key.toString().isEmpty())
+					putCode(map, key.toString());
+			}
+		}
+	}
+
+	private static DDCArray<?> getDDCColumn(CacheBlock<?> in, int colID) {
+		if(!(in instanceof FrameBlock))
+			return null;
+		final Array<?> a = ((FrameBlock) in).getColumn(colID - 1);
+		return (a instanceof DDCArray && ((DDCArray<?>) a).getDict() != null) ? (DDCArray<?>) a : null;
+	}
+
 	private long lookupRCDMap(Object key) {
+		// primitive lookup w/o boxing of the code (maps from metadata might be generic)
+		if(_rcdMap instanceof RecodeMap)
+			return ((RecodeMap<?>) _rcdMap).getCode(key);
 		return _rcdMap.getOrDefault(key, -1L);
 	}
 
@@ -197,13 +240,17 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	}
 
 	/**
-	 * Put the code into the map with the provided key. The code depends on the type of encoder.
+	 * Put the code into the map with the provided key, if the key does not yet exist. The code depends on the type of
+	 * encoder.
 	 *
 	 * @param map column map
 	 * @param key key for the new entry
 	 */
 	protected static void putCode(Map<Object, Long> map, Object key) {
-		map.put(key, (long) (map.size() + 1));
+		if(map instanceof ObjectRecodeMap)
+			((ObjectRecodeMap<Object>) map).add(key);
+		else
+			map.putIfAbsent(key, (long) (map.size() + 1));
 	}
 
 	protected double getCode(CacheBlock<?> in, int r){
@@ -220,6 +267,21 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	protected double[] getCodeCol(CacheBlock<?> in, int startInd, int endInd, double[] tmp) {
 		final int endLength = endInd - startInd;
 		final double[] codes = tmp != null && tmp.length == endLength ? tmp : new double[endLength];
+		final DDCArray<?> ddc = getDDCColumn(in, _colID);
+		if(ddc != null && ddc.getDict().size() <= endLength) {
+			// lookup the codes once per distinct value of a dictionary-encoded column
+			final Array<?> dict = ddc.getDict();
+			final AMapToData m = ddc.getMap();
+			final double[] dcodes = new double[dict.size()];
+			for(int j = 0; j < dcodes.length; j++) {
+				final Object key = dict.get(j);
+				final long code = (key == null || key.toString().isEmpty()) ? -1 : lookupRCDMap(key.toString());
+				dcodes[j] = (code < 0) ? Double.NaN : code;
+			}
+			for(int i = startInd; i < endInd; i++)
+				codes[i - startInd] = dcodes[m.getIndex(i)];
+			return codes;
+		}
 		for (int i=startInd; i<endInd; i++) {
 			String key = in.getString(i, _colID-1);
 			if(key == null || key.isEmpty()) {
@@ -234,9 +296,9 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 
 	@Override
 	public void prepareBuildPartial() {
-		// ensure allocated partial recode map
+		// ensure allocated partial recode map (in order of first occurrence)
 		if(_rcdMapPart == null)
-			_rcdMapPart = new HashSet<>();
+			_rcdMapPart = new LinkedHashSet<>();
 	}
 
 	@Override
@@ -253,6 +315,19 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		_rcdMapPart.remove("");
 	}
 
+	@Override
+	public void finalizeBuildPartial() {
+		if(!isApplicable() || _rcdMapPart == null)
+			return;
+		// assign codes to the collected tokens in order of first occurrence,
+		// which yields the same recode map as a build over the entire input
+		for(Object token : _rcdMapPart)
+			putCode(_rcdMap, token.toString());
+		_rcdMapPart = null;
+		if(SORT_RECODE_MAP)
+			sortCPRecodeMaps(_rcdMap);
+	}
+
 
 	@Override
 	protected ColumnApplyTask<? extends ColumnEncoder> 
@@ -272,12 +347,8 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		Map<Object, Long> otherMap = otherRec._rcdMap;
 		if(otherMap != null) {
 			// for each column, add all non present recode values
-			for(Map.Entry<Object, Long> entry : otherMap.entrySet()) {
-				if(lookupRCDMap(entry.getKey()) == -1) {
-					// key does not yet exist
-					putCode(_rcdMap, entry.getKey());
-				}
-			}
+			for(Object key : otherMap.keySet())
+				putCode(_rcdMap, key);
 		}
 	}
 
@@ -429,7 +500,7 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		@Override
 		public Object call() throws Exception {
 			long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
-			HashMap<Object, Long> partialMap = new HashMap<>();
+			Map<Object, Long> partialMap = new ObjectRecodeMap<>();
 			makeRcdMap(_input, partialMap, _colID, _startRow, _blockSize);
 			synchronized(_partialMaps) {
 				_partialMaps.put(_startRow, partialMap);
@@ -461,10 +532,8 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 			long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 			Map<Object, Long> rcdMap = _encoder.getRcdMap();
 			_partialMaps.forEach((start_row, map) -> {
-				((HashMap<?, ?>) map).forEach((k, v) -> {
-					if(!rcdMap.containsKey(k))
-						putCode(rcdMap, k);
-				});
+				for(Object k : ((Map<?, ?>) map).keySet())
+					putCode(rcdMap, k);
 			});
 			_encoder._rcdMap = rcdMap;
 			if(DMLScript.STATISTICS){
@@ -20,9 +20,9 @@
 package org.apache.sysds.runtime.transform.encode;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -34,42 +34,56 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.compress.colgroup.AColGroup;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupEmpty;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCZeros;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
 import org.apache.sysds.runtime.compress.colgroup.dictionary.ADictionary;
 import org.apache.sysds.runtime.compress.colgroup.dictionary.Dictionary;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.IDictionary;
 import org.apache.sysds.runtime.compress.colgroup.dictionary.IdentityDictionary;
 import org.apache.sysds.runtime.compress.colgroup.dictionary.MatrixBlockDictionary;
 import org.apache.sysds.runtime.compress.colgroup.indexes.ColIndexFactory;
 import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
 import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
 import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.compress.colgroup.offset.AOffset;
+import org.apache.sysds.runtime.compress.colgroup.offset.OffsetFactory;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.frame.data.columns.ACompressedArray;
 import org.apache.sysds.runtime.frame.data.columns.Array;
 import org.apache.sysds.runtime.frame.data.columns.DDCArray;
+import org.apache.sysds.runtime.frame.data.columns.RecodeMap;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.EncoderMVImpute.MVMethod;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
 public class CompressedEncode {
 	protected static final Log LOG = LogFactory.getLog(CompressedEncode.class.getName());
 
+	/** Maximum fraction of rows not equal to the most frequent value, to encode a column group as SDC */
+	public static double SDC_THRESHOLD = 0.4;
+
 	/** The encoding scheme plan */
 	private final MultiColumnEncoder enc;
 	/** The Input FrameBlock */
 	private final FrameBlock in;
 	/** The thread count of the instruction */
 	private final int k;
+	/** The legacy missing value imputation, or null */
+	private final EncoderMVImpute mvi;
 
 	private CompressedEncode(MultiColumnEncoder enc, FrameBlock in, int k) {
 		this.enc = enc;
 		this.in = in;
 		this.k = k;
+		this.mvi = enc.hasLegacyEncoder(EncoderMVImpute.class) ? enc.getLegacyEncoder(EncoderMVImpute.class) : null;
 	}
 
 	public static MatrixBlock encode(MultiColumnEncoder enc, FrameBlock in, int k)
@@ -77,8 +91,35 @@ public class CompressedEncode {
 		return new CompressedEncode(enc, in, k).apply();
 	}
 
+	/**
+	 * Indicates if the given encoder can be encoded directly into column groups. Row-removing encoders (omit), UDF and
+	 * word embedding encoders, as well as missing value imputation of dummycoded columns, require the uncompressed
+	 * encode.
+	 *
+	 * @param enc The encoding scheme plan
+	 * @return true if supported
+	 */
+	public static boolean isSupported(MultiColumnEncoder enc) {
+		if(enc.hasLegacyEncoder(EncoderOmit.class))
+			return false;
+		final EncoderMVImpute mvi = enc.hasLegacyEncoder(EncoderMVImpute.class) ? //
+			enc.getLegacyEncoder(EncoderMVImpute.class) : null;
+		for(ColumnEncoderComposite c : enc.getColumnEncoders()) {
+			final boolean imputed = mvi != null && mvi.getMethod(c._colID) != MVMethod.INVALID;
+			if(c.isRecodeToDummy() || c.isBinToDummy() || c.isHashToDummy()) {
+				if(imputed)
+					return false;
+			}
+			else if(!(c.isRecode() || c.isPassThrough() || c.isBin() || c.isHash()))
+				return false;
+		}
+		return true;
+	}
+
 	private MatrixBlock apply() throws InterruptedException, ExecutionException {
 		final List<ColumnEncoderComposite> encoders = enc.getColumnEncoders();
+		if(mvi != null)
+			mvi.build(in);
 		final List<AColGroup> groups = isParallel() ? multiThread(encoders) : singleThread(encoders);
 		final int cols = shiftGroups(groups);
 		final MatrixBlock mb = new CompressedMatrixBlock(in.getNumRows(), cols, -1, false, groups);
@@ -159,7 +200,7 @@ public class CompressedEncode {
 		boolean containsNull = a.containsNull();
 		Map<?, Long> map = a.getRecodeMap();
 		List<ColumnEncoder> r = c.getEncoders();
-		r.set(0, new ColumnEncoderRecode(colId, (HashMap<Object, Long>) map));
+		r.set(0, new ColumnEncoderRecode(colId, (Map<Object, Long>) map));
 		int domain = map.size();
 		if(containsNull && domain == 0)
 			return new ColGroupEmpty(ColIndexFactory.create(1));
@@ -169,7 +210,7 @@ public class CompressedEncode {
 
 		ADictionary d = new IdentityDictionary(colIndexes.size(), containsNull);
 		AMapToData m = createMappingAMapToData(a, map, containsNull);
-		return ColGroupDDC.create(colIndexes, d, m, null);
+		return createDDCOrSDC(colIndexes, d, m);
 	}
 
 	private AColGroup bin(ColumnEncoderComposite c) {
@@ -181,11 +222,9 @@ public class CompressedEncode {
 		b.build(in);
 		final IColIndex colIndexes = ColIndexFactory.create(1);
 
-		ADictionary d = createIncrementingVector(b._numBin, containsNull);
+		ADictionary d = createIncrementingVector(b._numBin, containsNull, getNullValue(colId, null));
 		AMapToData m = binEncode(a, b, containsNull);
-
-		AColGroup ret = ColGroupDDC.create(colIndexes, d, m, null);
-		return ret;
+		return createDDCOrSDC(colIndexes, d, m);
 	}
 
 	private AMapToData binEncode(Array<?> a, ColumnEncoderBin b, boolean containsNull) {
@@ -231,13 +270,13 @@ public class CompressedEncode {
 		return m;
 	}
 
-	private MatrixBlockDictionary createIncrementingVector(int nVals, boolean NaN) {
+	private MatrixBlockDictionary createIncrementingVector(int nVals, boolean NaN, double nullValue) {
 
 		MatrixBlock bins = new MatrixBlock(nVals + (NaN ? 1 : 0), 1, false);
 		for(int i = 0; i < nVals; i++)
 			bins.set(i, 0, i + 1);
 		if(NaN)
-			bins.set(nVals, 0, Double.NaN);
+			bins.set(nVals, 0, nullValue);
 
 		return MatrixBlockDictionary.create(bins);
 
@@ -253,8 +292,7 @@ public class CompressedEncode {
 		IColIndex colIndexes = ColIndexFactory.create(0, b._numBin);
 		ADictionary d = new IdentityDictionary(colIndexes.size(), containsNull);
 		AMapToData m = binEncode(a, b, containsNull);
-		AColGroup ret = ColGroupDDC.create(colIndexes, d, m, null);
-		return ret;
+		return createDDCOrSDC(colIndexes, d, m);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -267,22 +305,20 @@ public class CompressedEncode {
 
 		// int domain = c.getDomainSize();
 		IColIndex colIndexes = ColIndexFactory.create(1);
-		if(domain == 1)
+		List<ColumnEncoder> r = c.getEncoders();
+		r.set(0, new ColumnEncoderRecode(colId, (Map<Object, Long>) map));
+		if(domain == 1 && !containsNull)
 			return ColGroupConst.create(colIndexes, new double[] {1});
 		MatrixBlock incrementing = new MatrixBlock(domain + (containsNull ? 1 : 0), 1, false);
 		for(int i = 0; i < domain; i++)
 			incrementing.set(i, 0, i + 1);
 		if(containsNull)
-			incrementing.set(domain, 0, Double.NaN);
+			incrementing.set(domain, 0, getNullValue(colId, map));
 
 		ADictionary d = MatrixBlockDictionary.create(incrementing);
 
 		AMapToData m = createMappingAMapToData(a, map, containsNull);
-
-		List<ColumnEncoder> r = c.getEncoders();
-		r.set(0, new ColumnEncoderRecode(colId, (HashMap<Object, Long>) map));
-		return ColGroupDDC.create(colIndexes, d, m, null);
-
+		return createDDCOrSDC(colIndexes, d, m);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -296,22 +332,30 @@ public class CompressedEncode {
 				case DDC:
 					DDCArray<?> aDDC = (DDCArray<?>) a;
 					Array<?> dict = aDDC.getDict();
+					double nullValue = getNullValue(colId, null);
 					double[] vals = new double[dict.size()];
 					for(int i = 0; i < dict.size(); i++) {
-						vals[i] = dict.getAsDouble(i);
+						double v = dict.getAsNaNDouble(i);
+						vals[i] = Double.isNaN(v) ? nullValue : v;
 					}
 					ADictionary d = Dictionary.create(vals);
 
-					return ColGroupDDC.create(colIndexes, d, aDDC.getMap(), null);
+					return createDDCOrSDC(colIndexes, d, aDDC.getMap());
 				default:
 					throw new NotImplementedException();
 			}
 		}
 		boolean containsNull = a.containsNull();
-		HashMap<Object, Long> map = (HashMap<Object, Long>) a.getRecodeMap();
+		Map<Object, Long> map = (Map<Object, Long>) a.getRecodeMap();
 		final int blockSz = ConfigurationManager.getDMLConfig().getIntValue(DMLConfig.DEFAULT_BLOCK_SIZE);
 		if(map.size() >= blockSz) {
 			double[] vals = (double[]) a.changeType(ValueType.FP64).get();
+			if(mvi != null && mvi.getMethod(colId) != MVMethod.INVALID) {
+				double nullValue = getNullValue(colId, null);
+				for(int i = 0; i < vals.length; i++)
+					if(Double.isNaN(a.getAsNaNDouble(i)))
+						vals[i] = nullValue;
+			}
 			MatrixBlock col = new MatrixBlock(a.size(), 1, vals);
 			col.recomputeNonZeros();
 			// lets make it an uncompressed column group.
@@ -320,17 +364,100 @@ public class CompressedEncode {
 		else {
 			double[] vals = new double[map.size() + (containsNull ? 1 : 0)];
 			if(containsNull)
-				vals[map.size()] = Double.NaN;
+				vals[map.size()] = getNullValue(colId, null);
 			ValueType t = a.getValueType();
 			map.forEach((k, v) -> vals[v.intValue()-1] = UtilFunctions.objectToDouble(t, k));
+			if(mvi != null && mvi.getMethod(colId) != MVMethod.INVALID) {
+				// imputation of NaN values, which are not nulls
+				double nullValue = getNullValue(colId, null);
+				for(int i = 0; i < vals.length; i++)
+					vals[i] = Double.isNaN(vals[i]) ? nullValue : vals[i];
+			}
 			ADictionary d = Dictionary.create(vals);
 			AMapToData m = createMappingAMapToData(a, map, containsNull);
-			return ColGroupDDC.create(colIndexes, d, m, null);
+			return createDDCOrSDC(colIndexes, d, m);
 		}
 
 	}
 
+	/**
+	 * Get the encoded value of missing values in the given column, which is NaN or the replacement of the missing value
+	 * imputation. Consistent with the uncompressed encode, the replacement of recoded columns is the code of the
+	 * replacement token.
+	 *
+	 * @param colId The column id
+	 * @param map   The recode map of the column, or null if not recoded
+	 * @return The value of missing values
+	 */
+	private double getNullValue(int colId, Map<?, Long> map) {
+		if(mvi == null || mvi.getMethod(colId) == MVMethod.INVALID)
+			return Double.NaN;
+		final String replacement = mvi.getReplacement(colId);
+		if(replacement == null) // only missing values
+			return Double.NaN;
+		if(map == null)
+			return Double.parseDouble(replacement);
+		for(Entry<?, Long> e : map.entrySet())
+			if(e.getKey().toString().equals(replacement))
+				return e.getValue();
+		throw new DMLRuntimeException(
+			"Missing recode value for impute value '" + replacement + "' (colID=" + colId + ").");
+	}
+
+	/**
+	 * Create a DDC column group, or an SDC column group if the most frequent tuple covers most rows. For SDC, the most
+	 * frequent tuple becomes the default tuple, and only the offsets and codes of the other rows are stored. Multi-column
+	 * (one-hot) groups are only converted if the most frequent tuple is the empty row of an identity dictionary.
+	 *
+	 * @param colIndexes The column indexes
+	 * @param d          The dictionary, with one tuple per code
+	 * @param m          The mapping of rows to codes
+	 * @return The column group
+	 */
+	private AColGroup createDDCOrSDC(IColIndex colIndexes, IDictionary d, AMapToData m) {
+		final int nRow = m.size();
+		final int nVal = m.getUnique();
+		final int[] counts = m.getCounts(new int[nVal]);
+		int mf = 0;
+		for(int i = 1; i < nVal; i++)
+			if(counts[i] > counts[mf])
+				mf = i;
+
+		final int nOff = nRow - counts[mf];
+		if(d == null || nVal <= 1 || nOff == 0 || nOff > nRow * SDC_THRESHOLD)
+			return ColGroupDDC.create(colIndexes, d, m, counts);
+
+		final int nCol = colIndexes.size();
+		final boolean emptyDefault = d instanceof IdentityDictionary && mf == nCol;
+		if(nCol > 1 && !emptyDefault)
+			return ColGroupDDC.create(colIndexes, d, m, counts);
+
+		// offsets and codes of the rows not equal to the default tuple
+		final int[] offsets = new int[nOff];
+		final AMapToData data = MapToFactory.create(nOff, nVal - 1);
+		for(int i = 0, j = 0; i < nRow; i++) {
+			final int code = m.getIndex(i);
+			if(code != mf) {
+				offsets[j] = i;
+				data.set(j++, code < mf ? code : code - 1);
+			}
+		}
+		final AOffset off = OffsetFactory.createOffset(offsets);
+
+		if(emptyDefault) // one-hot encoding with mostly empty rows
+			return ColGroupSDCZeros.create(colIndexes, nRow, new IdentityDictionary(nCol), off, data, null);
+
+		final double[] vals = new double[nVal - 1];
+		for(int i = 0, j = 0; i < nVal; i++)
+			if(i != mf)
+				vals[j++] = d.getValue(i);
+		return ColGroupSDC.create(colIndexes, nRow, Dictionary.create(vals), new double[] {d.getValue(mf)}, off, data,
+			null);
+	}
+
 	private AMapToData createMappingAMapToData(Array<?> a, Map<?, Long> map, boolean containsNull) {
+		if(map instanceof RecodeMap)
+			return createMappingAMapToData(a, (RecodeMap<?>) map, containsNull);
 		try {
 
 			final int si = map.size();
@@ -364,6 +491,21 @@ public class CompressedEncode {
 		}
 	}
 
+	private AMapToData createMappingAMapToData(Array<?> a, RecodeMap<?> map, boolean containsNull) {
+		// int codes of the recode map avoid boxing a Long per row
+		final int si = map.size();
+		AMapToData m = MapToFactory.create(in.getNumRows(), si + (containsNull ? 1 : 0));
+		Array<?>.ArrayIterator it = a.getIterator();
+		while(it.hasNext()) {
+			Object v = it.next();
+			if(v != null)
+				m.set(it.getIndex(), map.getCode(v) - 1);
+			else
+				m.set(it.getIndex(), si);
+		}
+		return m;
+	}
+
 	private AMapToData createHashMappingAMapToData(Array<?> a, int k, boolean nulls) {
 		AMapToData m = MapToFactory.create(a.size(), k + (nulls ? 1 : 0));
 		if(nulls) {
@@ -400,13 +542,12 @@ public class CompressedEncode {
 		for(int i = 0; i < domain; i++)
 			incrementing.set(i, 0, i + 1);
 		if(nulls)
-			incrementing.set(domain, 0, Double.NaN);
+			incrementing.set(domain, 0, getNullValue(colId, null));
 
 		ADictionary d = MatrixBlockDictionary.create(incrementing);
 
 		AMapToData m = createHashMappingAMapToData(a, domain, nulls);
-		AColGroup ret = ColGroupDDC.create(colIndexes, d, m, null);
-		return ret;
+		return createDDCOrSDC(colIndexes, d, m);
 	}
 
 	private AColGroup hashToDummy(ColumnEncoderComposite c) {
@@ -420,7 +561,7 @@ public class CompressedEncode {
 			return ColGroupConst.create(colIndexes, new double[] {1});
 		ADictionary d = new IdentityDictionary(colIndexes.size(), nulls);
 		AMapToData m = createHashMappingAMapToData(a, domain, nulls);
-		return ColGroupDDC.create(colIndexes, d, m, null);
+		return createDDCOrSDC(colIndexes, d, m);
 	}
 
 	private class EncodeTask implements Callable<AColGroup> {
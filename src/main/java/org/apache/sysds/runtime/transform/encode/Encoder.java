@@ -81,6 +81,12 @@ public interface Encoder extends Externalizable {
 	 */
 	void buildPartial(FrameBlock in);
 
+	/**
+	 * Finalizes the internal data structures after a sequence of partial builds over all row batches (e.g., in
+	 * streaming transformencode), such that the encoder is ready for apply.
+	 */
+	void finalizeBuildPartial();
+
 	/**
 	 * Update index-ranges to after encoding. Note that only Dummycoding changes the ranges.
 	 *
@@ -168,6 +168,8 @@ public interface EncoderFactory {
 						binMethod = ColumnEncoderBin.BinMethod.EQUI_HEIGHT;
 					else if ("EQUI-HEIGHT-APPROX".equals(method))
 						binMethod = ColumnEncoderBin.BinMethod.EQUI_HEIGHT_APPROX;
+					else if ("EQUI-HEIGHT-SKETCH".equals(method))
+						binMethod = ColumnEncoderBin.BinMethod.EQUI_HEIGHT_SKETCH;
 					else
 						throw new DMLRuntimeException("Unsupported binning method: " + method);
 					ColumnEncoderBin bin = new ColumnEncoderBin(id, numBins, binMethod);
@@ -193,7 +193,8 @@ public class EncoderMVImpute extends LegacyEncoder {
 							off + i + 1);
 					}
 					_replacementList[j] = String.valueOf(_meanList[j]._sum);
-					_countList[j] += in.getNumRows();
+					// number of non-missing values, to continue the mean over subsequent blocks
+					_countList[j] = off + in.getNumRows();
 				}
 				else if(_mvMethodList[j] == MVMethod.GLOBAL_MODE) {
 					// compute global column mode (categorical), i.e., most frequent category
@@ -222,6 +223,12 @@ public class EncoderMVImpute extends LegacyEncoder {
 			TransformStatistics.incImputeBuildTime(System.nanoTime()-t0);
 	}
 
+	@Override
+	public void buildPartial(FrameBlock in) {
+		// the build incrementally maintains means and histograms over blocks
+		build(in);
+	}
+
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
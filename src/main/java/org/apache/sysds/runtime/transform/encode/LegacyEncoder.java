@@ -125,6 +125,13 @@ public abstract class LegacyEncoder implements Externalizable {
 		// do nothing
 	}
 
+	/**
+	 * Finalizes the internal data structures after partial builds over all row batches.
+	 */
+	public void finalizeBuildPartial() {
+		// do nothing
+	}
+
 	/**
 	 * Encode input data blockwise according to existing transform meta data (transform apply).
 	 *
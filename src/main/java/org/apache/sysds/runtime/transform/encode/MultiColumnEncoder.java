@@ -367,6 +367,8 @@ public class MultiColumnEncoder implements Encoder {
 				}
 		}
 		outputMatrixPreProcessing(out, in, hasDC, hasWE, distinctWE, sizeWE);
+		// clear the rows to compact of previous applies (e.g., of prior row batches)
+		_columnEncoders.forEach(ColumnEncoderComposite::resetSparseRowsWZeros);
 		if(k > 1) {
 			if(!_partitionDone) //happens if this method is directly called
 				deriveNumRowPartitions(in, k);
@@ -759,12 +761,27 @@ public class MultiColumnEncoder implements Encoder {
 	public void prepareBuildPartial() {
 		for(Encoder encoder : _columnEncoders)
 			encoder.prepareBuildPartial();
+		if(_legacyMVImpute != null)
+			_legacyMVImpute.prepareBuildPartial();
 	}
 
 	@Override
 	public void buildPartial(FrameBlock in) {
 		for(Encoder encoder : _columnEncoders)
 			encoder.buildPartial(in);
+		if(_legacyMVImpute != null)
+			_legacyMVImpute.buildPartial(in);
+	}
+
+	@Override
+	public void finalizeBuildPartial() {
+		for(Encoder encoder : _columnEncoders)
+			encoder.finalizeBuildPartial();
+		if(_legacyMVImpute != null) {
+			// see encode, the imputation requires the recode maps of the meta data
+			_meta = getMetaData(new FrameBlock(_columnEncoders.size(), ValueType.STRING));
+			initMetaData(_meta);
+		}
 	}
 
 	/**
@@ -1062,8 +1079,9 @@ public class MultiColumnEncoder implements Encoder {
 	}
 
 	public boolean isCompressedTransformEncode(CacheBlock<?> in, boolean enabled){
+		// unsupported encoders fall back to the uncompressed encode
 		return (enabled || ConfigurationManager.getDMLConfig().getBooleanValue(DMLConfig.COMPRESSED_TRANSFORMENCODE)) &&
-			in instanceof FrameBlock && _colOffset == 0;
+			in instanceof FrameBlock && _colOffset == 0 && CompressedEncode.isSupported(this);
 	}
 
 	public <T extends LegacyEncoder> boolean hasLegacyEncoder(Class<T> type) {
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.transform.encode;
+
+import java.io.IOException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.io.FrameReader;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.transform.encode.ColumnEncoderBin.BinMethod;
+
+/**
+ * Single-node streaming transformencode over frames larger than memory. The input is read in row batches twice: first,
+ * to build the encoder meta data (recode maps, bin boundaries, imputation values) via the partial build of the
+ * encoders, and second, to apply the encoding batch by batch and append the encoded rows to the output matrix on disk.
+ * Hence, the memory requirements are proportional to the meta data and the batch size rather than the input size.
+ */
+public class StreamingEncode {
+	protected static final Log LOG = LogFactory.getLog(StreamingEncode.class.getName());
+
+	/** Default number of rows per batch, which is rounded up to a multiple of the output block size */
+	public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+	/** The encoding scheme plan */
+	private final MultiColumnEncoder enc;
+	/** The reader of the input frame */
+	private final FrameReader reader;
+	/** The file name of the input frame */
+	private final String fname;
+	/** The schema of the input frame */
+	private final ValueType[] schema;
+	/** The column names of the input frame */
+	private final String[] names;
+	/** The number of columns of the input frame */
+	private final long clen;
+	/** The number of rows per batch */
+	private final int batchSize;
+	/** The thread count for the apply of a batch */
+	private final int k;
+
+	private StreamingEncode(MultiColumnEncoder enc, FrameReader reader, String fname, ValueType[] schema,
+		String[] names, long clen, int batchSize, int k) {
+		this.enc = enc;
+		this.reader = reader;
+		this.fname = fname;
+		this.schema = schema;
+		this.names = names;
+		this.clen = clen;
+		this.batchSize = batchSize;
+		this.k = k;
+	}
+
+	/**
+	 * Encode the given input frame in row batches, and write the encoded matrix to the given output file. The caller is
+	 * responsible for writing the metadata file of the output and the transform meta data, which is obtained via
+	 * encoder.getMetaData after the encode.
+	 *
+	 * @param enc       The encoder, which is built by this call
+	 * @param reader    The reader of the input frame, which has to support batch reads
+	 * @param fname     The file name of the input frame
+	 * @param schema    The schema of the input frame
+	 * @param names     The column names of the input frame
+	 * @param clen      The number of columns of the input frame
+	 * @param writer    The writer of the output matrix, which has to support appends
+	 * @param outName   The file name of the output matrix
+	 * @param blen      The block size of the output matrix
+	 * @param batchSize The number of rows per batch, rounded up to a multiple of the block size
+	 * @param k         The thread count for the apply of a batch
+	 * @return The characteristics of the written output matrix
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixCharacteristics encode(MultiColumnEncoder enc, FrameReader reader, String fname,
+		ValueType[] schema, String[] names, long clen, MatrixWriter writer, String outName, int blen, int batchSize,
+		int k) throws IOException {
+		if(!isSupported(enc))
+			throw new DMLRuntimeException("Streaming transformencode does not support udf, word embedding, and "
+				+ "binning encoders other than " + BinMethod.EQUI_WIDTH + " and " + BinMethod.EQUI_HEIGHT_SKETCH + ".");
+		if(batchSize <= 0 || blen <= 0)
+			throw new DMLRuntimeException("Invalid batch size: " + batchSize + " (block size " + blen + ")");
+
+		// block-aligned batches, such that all but the last batch append full row blocks
+		// (except for omitted rows, where the append merges the trailing partial row block)
+		batchSize = (int) Math.min((long) Math.ceil((double) batchSize / blen) * blen, Integer.MAX_VALUE / blen * blen);
+		StreamingEncode se = new StreamingEncode(enc, reader, fname, schema, names, clen, batchSize, k);
+		se.build();
+		return se.apply(writer, outName, blen);
+	}
+
+	/**
+	 * Indicates if the given encoder supports the streaming encode, which excludes encoders that require the full
+	 * input or output in memory (udf, word embedding, and binning other than equi-width and equi-height via sketches).
+	 * 
+	 * @param enc The encoder
+	 * @return true if the encoder supports the streaming encode
+	 */
+	public static boolean isSupported(MultiColumnEncoder enc) {
+		if(!enc.getColumnEncoders(ColumnEncoderUDF.class).isEmpty() ||
+			!enc.getColumnEncoders(ColumnEncoderWordEmbedding.class).isEmpty())
+			return false;
+		// exact equi-height binning requires all values of a column (no partial build)
+		for(ColumnEncoderBin bin : enc.getColumnEncoders(ColumnEncoderBin.class))
+			if(bin.getBinMethod() != BinMethod.EQUI_WIDTH && bin.getBinMethod() != BinMethod.EQUI_HEIGHT_SKETCH)
+				return false;
+		return true;
+	}
+
+	private void build() throws IOException {
+		long t0 = System.nanoTime();
+		enc.prepareBuildPartial();
+		reader.readFrameFromHDFS(fname, schema, names, clen, batchSize, (rl, batch) -> enc.buildPartial(batch));
+		enc.finalizeBuildPartial();
+		LOG.debug("Elapsed time for streaming build phase: " + (System.nanoTime() - t0) / 1000000.0 + " ms");
+	}
+
+	private MatrixCharacteristics apply(MatrixWriter writer, String outName, int blen) throws IOException {
+		long t0 = System.nanoTime();
+		final MatrixCharacteristics mc = new MatrixCharacteristics(0, enc.getNumOutCols(), blen, 0);
+		reader.readFrameFromHDFS(fname, schema, names, clen, batchSize, (rl, batch) -> {
+			MatrixBlock out = enc.apply(batch, k);
+			if(out.getNumRows() == 0) // all rows of the batch omitted
+				return;
+			long nnz = out.recomputeNonZeros();
+			// the first batch creates the output, all others append to it
+			if(mc.getRows() == 0)
+				writer.writeMatrixToHDFS(out, outName, out.getNumRows(), out.getNumColumns(), blen, nnz);
+			else
+				writer.appendMatrixToHDFS(out, outName, mc.getRows(), out.getNumColumns(), blen);
+			mc.setRows(mc.getRows() + out.getNumRows());
+			mc.setNonZeros(mc.getNonZeros() + nnz);
+		});
+		LOG.debug("Elapsed time for streaming apply phase: " + (System.nanoTime() - t0) / 1000000.0 + " ms");
+		return mc;
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.util;
+
+import java.math.BigInteger;
+
+/**
+ * Allocation-free formatter of doubles into byte buffers (ASCII), which produces
+ * the shortest decimal that rounds back to the same double (and among those the
+ * closest), via the Schubfach algorithm. The output uses the layout of
+ * {@link Double#toString(double)} (plain notation for 1e-3 &lt;= |v| &lt; 1e7, and
+ * computerized scientific notation otherwise), and thus, is parsed back exactly
+ * by {@link Double#parseDouble(String)} and the fast double parser used by the readers.
+ * 
+ * See R. Giulietti: The Schubfach way to render doubles, 2020.
+ */
+public class FastDoubleFormatter 
+{
+	/** Maximum number of bytes of a formatted double, e.g., -2.2250738585072014E-308 */
+	public static final int MAX_CHARS = 24;
+	/** Maximum number of bytes of a formatted long */
+	public static final int MAX_LONG_CHARS = 20;
+	
+	private static final int P = 53;            //precision (incl hidden bit)
+	private static final int Q_MIN = -1074;      //min exponent of c*2^q
+	private static final long C_MIN = 1L << (P - 1);
+	private static final long C_TINY = 3;        //ceil(2^(-Q_MIN) 10^K_MIN)
+	private static final int K_MIN = -324;
+	private static final int K_MAX = 292;
+	private static final int H = 17;             //max number of digits
+	private static final long MASK_63 = (1L << 63) - 1;
+	private static final int MASK_28 = (1 << 28) - 1;
+	
+	private static final byte[] NAN = "NaN".getBytes();
+	private static final byte[] INF = "Infinity".getBytes();
+	
+	private static final long[] POW10 = new long[19];
+	
+	//126-bit approximations g = g1 2^63 + g0 of 10^-k 2^(125-floor(log2(10^-k))), rounded up
+	private static final long[] G1 = new long[K_MAX - K_MIN + 1];
+	private static final long[] G0 = new long[K_MAX - K_MIN + 1];
+	
+	static {
+		POW10[0] = 1;
+		for( int i = 1; i < POW10.length; i++ )
+			POW10[i] = 10 * POW10[i-1];
+		for( int k = K_MIN; k <= K_MAX; k++ ) {
+			int s = 125 - flog2pow10(-k);
+			BigInteger num = BigInteger.TEN.pow(Math.max(-k, 0)).shiftLeft(Math.max(s, 0));
+			BigInteger den = BigInteger.TEN.pow(Math.max(k, 0)).shiftLeft(Math.max(-s, 0));
+			BigInteger g = num.divide(den).add(BigInteger.ONE);
+			G1[k - K_MIN] = g.shiftRight(63).longValue();
+			G0[k - K_MIN] = g.longValue() & MASK_63;
+		}
+	}
+	
+	private FastDoubleFormatter() {
+		//prevent instantiation
+	}
+	
+	/**
+	 * Formats the given double into the buffer at the given position.
+	 * 
+	 * @param v   double value
+	 * @param buf output buffer with at least {@link #MAX_CHARS} bytes after pos
+	 * @param pos start position
+	 * @return position after the last written byte
+	 */
+	public static int format(double v, byte[] buf, int pos) {
+		long bits = Double.doubleToRawLongBits(v);
+		long t = bits & (C_MIN - 1);
+		int bq = (int) (bits >>> (P - 1)) & 0x7FF;
+		if( bq == 0x7FF ) {
+			if( t != 0 )
+				return copy(NAN, buf, pos);
+			if( bits < 0 )
+				buf[pos++] = '-';
+			return copy(INF, buf, pos);
+		}
+		if( bits < 0 )
+			buf[pos++] = '-';
+		if( bq != 0 ) {
+			//normal value, with fast path for integers < 2^53
+			int mq = -Q_MIN + 1 - bq;
+			long c = C_MIN | t;
+			if( 0 < mq & mq < P ) {
+				long f = c >> mq;
+				if( f << mq == c )
+					return toChars(f, 0, buf, pos);
+			}
+			return toDecimal(-mq, c, 0, buf, pos);
+		}
+		if( t != 0 ) {
+			//subnormal value
+			return (t < C_TINY) ?
+				toDecimal(Q_MIN, 10 * t, -1, buf, pos) :
+				toDecimal(Q_MIN, t, 0, buf, pos);
+		}
+		//positive or negative zero
+		buf[pos++] = '0';
+		buf[pos++] = '.';
+		buf[pos++] = '0';
+		return pos;
+	}
+	
+	/**
+	 * Formats the given long into the buffer at the given position.
+	 * 
+	 * @param v   long value
+	 * @param buf output buffer with at least {@link #MAX_LONG_CHARS} bytes after pos
+	 * @param pos start position
+	 * @return position after the last written byte
+	 */
+	public static int format(long v, byte[] buf, int pos) {
+		if( v == Long.MIN_VALUE )
+			return copy(Long.toString(v).getBytes(), buf, pos);
+		if( v < 0 ) {
+			buf[pos++] = '-';
+			v = -v;
+		}
+		int len = 1;
+		while( len < 19 && v >= POW10[len] )
+			len++;
+		for( int i = pos + len - 1; i >= pos; i-- ) {
+			buf[i] = (byte) ('0' + v % 10);
+			v /= 10;
+		}
+		return pos + len;
+	}
+	
+	private static int toDecimal(int q, long c, int dk, byte[] buf, int pos) {
+		//rounding interval of c 2^q, scaled by 4 to keep boundaries integral
+		int out = (int) c & 0x1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+		if( c != C_MIN | q == Q_MIN ) {
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		}
+		else {
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		int h = q + flog2pow10(-k) + 2;
+		
+		//scaled boundaries vb = cb 2^q 10^-k (w/ sticky bit)
+		long g1 = G1[k - K_MIN];
+		long g0 = G0[k - K_MIN];
+		long vb = rop(g1, g0, cb << h);
+		long vbl = rop(g1, g0, cbl << h);
+		long vbr = rop(g1, g0, cbr << h);
+		
+		//try a decimal with one digit less first (if unique in the interval)
+		long s = vb >> 2;
+		if( s >= 100 ) {
+			long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			if( upin != wpin )
+				return toChars(upin ? sp10 : tp10, k, buf, pos);
+		}
+		
+		//otherwise, pick the candidate in the interval or the closest one
+		long tt = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (tt << 2) + out <= vbr;
+		if( uin != win )
+			return toChars(uin ? s : tt, k + dk, buf, pos);
+		long cmp = vb - (s + tt << 1);
+		return toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : tt, k + dk, buf, pos);
+	}
+	
+	private static long rop(long g1, long g0, long cp) {
+		//round to odd of (g cp) 2^-127
+		long x1 = Math.multiplyHigh(g0, cp);
+		long y0 = g1 * cp;
+		long y1 = Math.multiplyHigh(g1, cp);
+		long z = (y0 >>> 1) + x1;
+		long vbp = y1 + (z >>> 63);
+		return vbp | (z & MASK_63) + MASK_63 >>> 63;
+	}
+	
+	private static int toChars(long f, int e, byte[] buf, int pos) {
+		//normalize f to exactly H digits, i.e., f 10^e = 0.f' 10^e'
+		int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+		if( f >= POW10[len] )
+			len += 1;
+		f *= POW10[H - len];
+		e += len;
+		
+		//split into the leading digit h, and two blocks of 8 digits m and l
+		long hm = Math.multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+		int l = (int) (f - 100_000_000L * hm);
+		int h = (int) (hm * 1_441_151_881L >>> 57);
+		int m = (int) (hm - 100_000_000 * h);
+		
+		if( 0 < e && e <= 7 ) {
+			//plain format without leading zeros
+			buf[pos++] = (byte) ('0' + h);
+			int y = y(m);
+			int i = 1;
+			for( ; i < e; i++ ) {
+				int t = 10 * y;
+				buf[pos++] = (byte) ('0' + (t >>> 28));
+				y = t & MASK_28;
+			}
+			buf[pos++] = '.';
+			for( ; i <= 8; i++ ) {
+				int t = 10 * y;
+				buf[pos++] = (byte) ('0' + (t >>> 28));
+				y = t & MASK_28;
+			}
+			return lowDigits(l, buf, pos);
+		}
+		else if( -3 < e && e <= 0 ) {
+			//plain format with leading zeros
+			buf[pos++] = '0';
+			buf[pos++] = '.';
+			for( ; e < 0; e++ )
+				buf[pos++] = '0';
+			buf[pos++] = (byte) ('0' + h);
+			pos = append8Digits(m, buf, pos);
+			return lowDigits(l, buf, pos);
+		}
+		else {
+			//computerized scientific notation
+			buf[pos++] = (byte) ('0' + h);
+			buf[pos++] = '.';
+			pos = append8Digits(m, buf, pos);
+			pos = lowDigits(l, buf, pos);
+			return exponent(e - 1, buf, pos);
+		}
+	}
+	
+	private static int lowDigits(int l, byte[] buf, int pos) {
+		if( l != 0 )
+			pos = append8Digits(l, buf, pos);
+		//remove trailing zeros, but keep one digit after the '.'
+		while( buf[pos - 1] == '0' )
+			pos--;
+		if( buf[pos - 1] == '.' )
+			pos++;
+		return pos;
+	}
+	
+	private static int append8Digits(int m, byte[] buf, int pos) {
+		int y = y(m);
+		for( int i = 0; i < 8; i++ ) {
+			int t = 10 * y;
+			buf[pos++] = (byte) ('0' + (t >>> 28));
+			y = t & MASK_28;
+		}
+		return pos;
+	}
+	
+	private static int y(int a) {
+		//floor((a + 1) 2^28 / 10^8) - 1 for left-to-right digit extraction
+		return (int) (Math.multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+	}
+	
+	private static int exponent(int e, byte[] buf, int pos) {
+		buf[pos++] = 'E';
+		if( e < 0 ) {
+			buf[pos++] = '-';
+			e = -e;
+		}
+		if( e >= 100 ) {
+			int d = e * 1_311 >>> 17; //floor(e / 100)
+			buf[pos++] = (byte) ('0' + d);
+			e -= 100 * d;
+			d = e * 103 >>> 10; //floor(e / 10)
+			buf[pos++] = (byte) ('0' + d);
+			buf[pos++] = (byte) ('0' + e - 10 * d);
+		}
+		else if( e >= 10 ) {
+			int d = e * 103 >>> 10;
+			buf[pos++] = (byte) ('0' + d);
+			buf[pos++] = (byte) ('0' + e - 10 * d);
+		}
+		else
+			buf[pos++] = (byte) ('0' + e);
+		return pos;
+	}
+	
+	private static int copy(byte[] src, byte[] buf, int pos) {
+		System.arraycopy(src, 0, buf, pos, src.length);
+		return pos + src.length;
+	}
+	
+	private static int flog10pow2(int e) {
+		//floor(log10(2^e))
+		return (int) (e * 661_971_961_083L >> 41);
+	}
+	
+	private static int flog10threeQuartersPow2(int e) {
+		//floor(log10(3/4 2^e))
+		return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+	}
+	
+	private static int flog2pow10(int e) {
+		//floor(log2(10^e))
+		return (int) (e * 913_124_641_741L >> 38);
+	}
+}
@@ -483,7 +483,7 @@ public class HDFSTool
 			mtd.put(DataExpression.READCOLPARAM, dc.getCols());
 			// handle output nnz and binary block configuration
 			if( dt.isMatrix() ) {
-				if (fmt == FileFormat.BINARY || fmt == FileFormat.COMPRESSED) {
+				if (fmt == FileFormat.BINARY || fmt == FileFormat.COMPRESSED || fmt == FileFormat.NATIVE) {
 					mtd.put(DataExpression.ROWBLOCKCOUNTPARAM, dc.getBlocksize());
 					mtd.put(DataExpression.COLUMNBLOCKCOUNTPARAM, dc.getBlocksize());
 				}
@@ -31,7 +31,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
@@ -39,12 +41,21 @@ import java.util.HashMap;
 
 import org.apache.hadoop.io.Writable;
 import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.BlockType;
+import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.controlprogram.caching.OffHeapDenseBlock;
+import org.apache.sysds.runtime.controlprogram.caching.SpillCompression;
+import org.apache.sysds.runtime.controlprogram.caching.SpillCompression.Codec;
 import org.apache.sysds.runtime.controlprogram.parfor.util.IDSequence;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFP64DEDUP;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -56,6 +67,7 @@ public class LocalFileUtils
 {
 	public static final int BUFFER_SIZE = 8192;
 	public static final int DOUBLE_BUFFERING_MIN = 100*1024;
+	public static final int MMAP_CHUNK_SIZE = 1024*1024*1024; //max bytes per mapped region
 	
 	//unique IDs per JVM for tmp files
 	private static IDSequence _seq = null;
@@ -115,6 +127,49 @@ public class LocalFileUtils
 		return (CacheBlock<?>) readWritableFromLocal(fname, matrix?new MatrixBlock():new FrameBlock());
 	}
 	
+	/**
+	 * Reads a cache block from local file system, optionally via memory-mapped I/O. Memory
+	 * mapping applies to dense matrix blocks only, all other blocks are read via streams.
+	 * 
+	 * @param fname file name to read
+	 * @param matrix true if matrix block, false if frame block
+	 * @param mmap read dense matrix blocks via memory-mapped I/O
+	 * @return cache block (common interface to MatrixBlock and FrameBlock)
+	 * @throws IOException if IOException occurs
+	 */
+	public static CacheBlock<?> readCacheBlockFromLocal(String fname, boolean matrix, boolean mmap) throws IOException {
+		if( mmap && matrix )
+			return readMatrixBlockFromLocalMapped(fname);
+		else if( SpillCompression.isActive() ) //raw or compressed
+			return (CacheBlock<?>) readWritableFromStream(SpillCompression.createInputStream(
+				new FileInputStream(fname), fname), matrix ? new MatrixBlock() : new FrameBlock());
+		else
+			return readCacheBlockFromLocal(fname, matrix);
+	}
+	
+	private static MatrixBlock readMatrixBlockFromLocalMapped(String fname) throws IOException {
+		try( FileChannel channel = FileChannel.open(Paths.get(fname), StandardOpenOption.READ) ) {
+			//read header of serialized matrix block
+			ByteBuffer header = ByteBuffer.allocate(9);
+			while( header.hasRemaining() && channel.read(header) >= 0 );
+			header.flip();
+			int rlen = header.getInt();
+			int clen = header.getInt();
+			if( header.get() != BlockType.DENSE_BLOCK.ordinal() ) //empty/sparse
+				return (MatrixBlock) readCacheBlockFromLocal(fname, true);
+			
+			//map file regions directly into the allocated dense block
+			MatrixBlock ret = new MatrixBlock(rlen, clen, false);
+			ret.allocateDenseBlock();
+			DenseBlock a = ret.getDenseBlock();
+			long pos = header.capacity();
+			for( int i=0; i<a.numBlocks(); i++ )
+				pos = transferMapped(channel, false, pos, a.valuesAt(i), a.size(i));
+			ret.recomputeNonZeros();
+			return ret;
+		}
+	}
+	
 	/**
 	 * Reads an arbitrary writable from local file system, using a fused buffered reader
 	 * with special support for matrix blocks.
@@ -224,6 +279,116 @@ public class LocalFileUtils
 		writeWritableToLocal(fname, cb, cb.getInMemorySize()>=DOUBLE_BUFFERING_MIN);
 	}
 	
+	/**
+	 * Writes a cache block to local file system, optionally via memory-mapped I/O. Memory
+	 * mapping applies to non-empty dense matrix blocks only and produces the same serialized
+	 * format as {@link #writeCacheBlockToLocal(String, CacheBlock)}. Otherwise, the block
+	 * is written with the configured spill compression, if active.
+	 * 
+	 * @param fname file name to write
+	 * @param cb cache block (common interface to matrix block and frame block)
+	 * @param mmap write dense matrix blocks via memory-mapped I/O
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeCacheBlockToLocal(String fname, CacheBlock<?> cb, boolean mmap) throws IOException {
+		if( mmap && isMappedDenseBlock(cb) )
+			writeMatrixBlockToLocalMapped(fname, (MatrixBlock)cb);
+		else if( SpillCompression.isActive() )
+			writeCompressedToLocal(fname, cb instanceof MatrixBlock, cb, null, 0);
+		else
+			writeCacheBlockToLocal(fname, cb);
+	}
+	
+	/**
+	 * Writes a serialized cache block (byte array) to local file system,
+	 * with the configured spill compression.
+	 * 
+	 * @param fname file name to write
+	 * @param data serialized cache block
+	 * @param len number of bytes
+	 * @param matrix true if matrix block, false if frame block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeCacheBytesToLocal(String fname, byte[] data, int len, boolean matrix) throws IOException {
+		writeCompressedToLocal(fname, matrix, null, data, len);
+	}
+	
+	private static void writeCompressedToLocal(String fname, boolean matrix, CacheBlock<?> cb, byte[] data, int len)
+		throws IOException
+	{
+		Codec codec = SpillCompression.selectCodec(matrix);
+		long rawBytes = (cb != null) ? cb.getExactSerializedSize() : len;
+		long t0 = System.nanoTime();
+		if( codec == Codec.NONE ) {
+			if( cb != null )
+				writeCacheBlockToLocal(fname, cb);
+			else
+				writeByteArrayToLocal(fname, data, len);
+		}
+		else {
+			//note: close w/ exceptions, as compressed streams flush on close
+			try( FastBufferedDataOutputStream dout = new FastBufferedDataOutputStream(
+				SpillCompression.createOutputStream(new FileOutputStream(fname), codec), BUFFER_SIZE) )
+			{
+				if( cb != null )
+					cb.write(dout);
+				else
+					dout.write(data, 0, len);
+			}
+			if( DMLScript.STATISTICS )
+				CacheStatistics.incrementSpillCompWrites(rawBytes, new File(fname).length());
+		}
+		SpillCompression.monitor(matrix, codec, rawBytes, System.nanoTime() - t0);
+	}
+	
+	private static boolean isMappedDenseBlock(CacheBlock<?> cb) {
+		if( !(cb instanceof MatrixBlock) || cb instanceof CompressedMatrixBlock )
+			return false;
+		MatrixBlock mb = (MatrixBlock) cb;
+		DenseBlock a = mb.getDenseBlock();
+		return !mb.isInSparseFormat() && a != null && mb.getNonZeros() != 0
+			&& a.isNumeric(ValueType.FP64) && !(a instanceof DenseBlockFP64DEDUP);
+	}
+	
+	private static void writeMatrixBlockToLocalMapped(String fname, MatrixBlock mb) throws IOException {
+		try( FileChannel channel = FileChannel.open(Paths.get(fname), StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE) )
+		{
+			//write header of serialized matrix block
+			ByteBuffer header = ByteBuffer.allocate(9);
+			header.putInt(mb.getNumRows()).putInt(mb.getNumColumns())
+				.put((byte)BlockType.DENSE_BLOCK.ordinal()).flip();
+			while( header.hasRemaining() )
+				channel.write(header);
+			
+			//copy dense block into mapped file regions (extends the file)
+			DenseBlock a = mb.getDenseBlock();
+			long pos = header.capacity();
+			for( int i=0; i<a.numBlocks(); i++ )
+				pos = transferMapped(channel, true, pos, a.valuesAt(i), a.size(i));
+		}
+	}
+	
+	private static long transferMapped(FileChannel channel, boolean write, long pos, double[] vals, int len)
+		throws IOException
+	{
+		//process in chunks because mapped regions are limited to 2GB
+		int chunk = MMAP_CHUNK_SIZE / Double.BYTES;
+		for( int off=0; off<len; off+=chunk ) {
+			int n = Math.min(chunk, len-off);
+			MappedByteBuffer buff = channel.map(write ? MapMode.READ_WRITE : MapMode.READ_ONLY,
+				pos, (long)n * Double.BYTES); //big-endian, consistent w/ DataOutput
+			if( write )
+				buff.asDoubleBuffer().put(vals, off, n);
+			else
+				buff.asDoubleBuffer().get(vals, off, n);
+			//eager unmap, otherwise mappings accumulate until GC
+			IOUtilFunctions.freeDirectBuffer(buff);
+			pos += (long)n * Double.BYTES;
+		}
+		return pos;
+	}
+	
 	/**
 	 * Writes an arbitrary writable to local file system, using a fused buffered writer
 	 * with special support for matrix blocks.
@@ -248,6 +413,12 @@ public class LocalFileUtils
 
 	public static void writeByteArrayToLocal( String fname, byte[] data )
 		throws IOException
+	{
+		writeByteArrayToLocal(fname, data, data.length);
+	}
+	
+	public static void writeByteArrayToLocal( String fname, byte[] data, int len )
+		throws IOException
 	{	
 		//byte array write via java.nio file channel ~10-15% faster than java.io
 		FileChannel channel = null;
@@ -255,7 +426,36 @@ public class LocalFileUtils
 			Path path = Paths.get(fname);
 			channel = FileChannel.open(path, StandardOpenOption.CREATE, 
 				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
-			channel.write(ByteBuffer.wrap(data));
+			ByteBuffer buff = ByteBuffer.wrap(data, 0, len);
+			while( buff.hasRemaining() )
+				channel.write(buff);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+	}
+
+	/**
+	 * Writes an off-heap dense block in the serialized dense MatrixBlock format
+	 * (readable via readCacheBlockFromLocal) without copying the values on-heap.
+	 * 
+	 * @param fname file name
+	 * @param db off-heap dense block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeDenseBlockToLocal( String fname, OffHeapDenseBlock db )
+		throws IOException
+	{
+		FileChannel channel = null;
+		try {
+			Path path = Paths.get(fname);
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+			ByteBuffer header = ByteBuffer.allocate(9);
+			header.putInt(db.getNumRows()).putInt(db.getNumColumns()).put((byte)BlockType.DENSE_BLOCK.ordinal()).flip();
+			while( header.hasRemaining() )
+				channel.write(header);
+			db.writeTo(channel);
 		}
 		finally {
 			IOUtilFunctions.closeSilently(channel);
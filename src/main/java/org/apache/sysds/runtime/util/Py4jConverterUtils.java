@@ -19,17 +19,40 @@
 
 package org.apache.sysds.runtime.util;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 import org.apache.sysds.common.Types;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.FileFormatPropertiesColumnar;
+import org.apache.sysds.runtime.io.FrameReaderArrow;
+import org.apache.sysds.runtime.io.FrameWriterArrow;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 
 /**
  * Utils for converting python data to java.
+ * 
+ * Besides the conversion of byte arrays passed through py4j, large inputs and
+ * outputs can be exchanged via memory-mapped files (e.g., in /dev/shm) of raw
+ * row-major values in native byte order, and frames via Arrow IPC files. This
+ * avoids the serialization of byte arrays over the py4j socket, such that the
+ * values are only copied once between the mapped file and the heap.
  */
 public class Py4jConverterUtils {
+	//max size of memory-mapped regions (row-aligned)
+	private static final long MAX_MAP_SIZE = 1L << 30;
+	
 	public static MatrixBlock convertPy4JArrayToMB(byte[] data, int rlen, int clen) {
 		return convertPy4JArrayToMB(data, rlen, clen, false, Types.ValueType.FP64);
 	}
@@ -143,4 +166,171 @@ public class Py4jConverterUtils {
 
 		return ret;
 	}
+
+	/**
+	 * Reads a dense row-major matrix of the given value type from a memory-mapped file.
+	 * 
+	 * @param fname file name of the raw values in native byte order
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @param valueType value type of the raw values (UINT8, INT32, FP32, or FP64)
+	 * @return matrix block
+	 */
+	public static MatrixBlock convertMappedFileToMB(String fname, int rlen, int clen, Types.ValueType valueType) {
+		int width = getValueWidth(valueType);
+		MatrixBlock mb = new MatrixBlock(rlen, clen, false);
+		if((long) rlen * clen == 0)
+			return mb;
+		mb.allocateDenseBlock();
+		DenseBlock a = mb.getDenseBlock();
+		long rowSize = (long) clen * width;
+		int blkRows = (int) Math.max(Math.min(MAX_MAP_SIZE / rowSize, rlen), 1);
+		try(FileChannel ch = FileChannel.open(Paths.get(fname), StandardOpenOption.READ)) {
+			if(ch.size() < rlen * rowSize)
+				throw new DMLRuntimeException("Mapped file " + fname + " of size " + ch.size()
+					+ " too small for " + rlen + "x" + clen + " " + valueType + " values.");
+			for(int bi = 0; bi < rlen; bi += blkRows) {
+				int bimin = Math.min(bi + blkRows, rlen);
+				ByteBuffer buf = ch.map(MapMode.READ_ONLY, bi * rowSize, (bimin - bi) * rowSize)
+					.order(ByteOrder.nativeOrder());
+				if(valueType == Types.ValueType.FP64) {
+					//bulk copy of contiguous rows
+					DoubleBuffer dbuf = buf.asDoubleBuffer();
+					if(a.isContiguous(bi, bimin - 1))
+						dbuf.get(a.values(bi), a.pos(bi), (bimin - bi) * clen);
+					else
+						for(int i = bi; i < bimin; i++)
+							dbuf.get(a.values(i), a.pos(i), clen);
+				}
+				else {
+					for(int i = bi; i < bimin; i++) {
+						double[] avals = a.values(i);
+						int apos = a.pos(i);
+						for(int j = 0; j < clen; j++)
+							avals[apos + j] = getValue(buf, valueType);
+					}
+				}
+			}
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to read memory-mapped file " + fname, ex);
+		}
+		mb.recomputeNonZeros();
+		mb.examSparsity();
+		return mb;
+	}
+	
+	/**
+	 * Writes the given matrix block as dense row-major FP64 values in native
+	 * byte order into a memory-mapped file (created or truncated).
+	 * 
+	 * @param mb matrix block
+	 * @param fname file name
+	 */
+	public static void convertMBtoMappedFile(MatrixBlock mb, String fname) {
+		int rlen = mb.getNumRows();
+		int clen = mb.getNumColumns();
+		long rowSize = (long) clen * Double.BYTES;
+		int blkRows = (int) Math.max(Math.min(MAX_MAP_SIZE / Math.max(rowSize, 1), rlen), 1);
+		try(FileChannel ch = FileChannel.open(Paths.get(fname), StandardOpenOption.CREATE,
+			StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			if(mb.isEmptyBlock(false)) {
+				//zero-filled file without any writes of values
+				if(rlen * rowSize > 0)
+					ch.write(ByteBuffer.allocate(1), rlen * rowSize - 1);
+				return;
+			}
+			double[] tmp = mb.isInSparseFormat() ? new double[clen] : null;
+			for(int bi = 0; bi < rlen; bi += blkRows) {
+				int bimin = Math.min(bi + blkRows, rlen);
+				DoubleBuffer dbuf = ch.map(MapMode.READ_WRITE, bi * rowSize, (bimin - bi) * rowSize)
+					.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+				if(mb.isInSparseFormat()) {
+					SparseBlock sb = mb.getSparseBlock();
+					for(int i = bi; i < bimin; i++) {
+						Arrays.fill(tmp, 0);
+						if(!sb.isEmpty(i)) {
+							int apos = sb.pos(i);
+							int alen = sb.size(i);
+							int[] aix = sb.indexes(i);
+							double[] avals = sb.values(i);
+							for(int k = apos; k < apos + alen; k++)
+								tmp[aix[k]] = avals[k];
+						}
+						dbuf.put(tmp);
+					}
+				}
+				else {
+					DenseBlock a = mb.getDenseBlock();
+					if(a.isContiguous(bi, bimin - 1))
+						dbuf.put(a.values(bi), a.pos(bi), (bimin - bi) * clen);
+					else
+						for(int i = bi; i < bimin; i++)
+							dbuf.put(a.values(i), a.pos(i), clen);
+				}
+			}
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to write memory-mapped file " + fname, ex);
+		}
+	}
+	
+	/**
+	 * Reads a frame block from an Arrow IPC file, with column names and value
+	 * types taken from the arrow schema.
+	 * 
+	 * @param fname file name
+	 * @return frame block
+	 */
+	public static FrameBlock convertArrowFileToFB(String fname) {
+		try {
+			return new FrameReaderArrow(new FileFormatPropertiesColumnar(),
+				OptimizerUtils.getParallelBinaryReadParallelism()).readFrameFromHDFS(toLocalURI(fname), null, null, -1, -1);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to read arrow file " + fname, ex);
+		}
+	}
+	
+	/**
+	 * Writes the given frame block as an Arrow IPC file (created or overwritten).
+	 * 
+	 * @param fb frame block
+	 * @param fname file name
+	 */
+	public static void convertFBtoArrowFile(FrameBlock fb, String fname) {
+		try {
+			new FrameWriterArrow(new FileFormatPropertiesColumnar(), 1)
+				.writeFrameToHDFS(fb, toLocalURI(fname), fb.getNumRows(), fb.getNumColumns());
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to write arrow file " + fname, ex);
+		}
+	}
+	
+	private static String toLocalURI(String fname) {
+		//local file system independent of the configured default file system
+		return Paths.get(fname).toUri().toString();
+	}
+	
+	private static int getValueWidth(Types.ValueType valueType) {
+		switch(valueType) {
+			case UINT8: return 1;
+			case INT32:
+			case FP32:  return 4;
+			case FP64:  return 8;
+			default:
+				throw new DMLRuntimeException("Unsupported value type: " + valueType.name());
+		}
+	}
+	
+	private static double getValue(ByteBuffer buf, Types.ValueType valueType) {
+		switch(valueType) {
+			case UINT8: return buf.get() & 0xFF;
+			case INT32: return buf.getInt();
+			case FP32:  return buf.getFloat();
+			default:    return buf.getDouble();
+		}
+	}
 }
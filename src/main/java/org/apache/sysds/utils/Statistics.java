@@ -26,6 +26,9 @@ import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.hops.fedplanner.FederatedCompilationTimer;
 import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.PageCache;
+import org.apache.sysds.runtime.controlprogram.caching.SpillCompression;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedStatistics;
 import org.apache.sysds.runtime.instructions.Instruction;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
@@ -63,6 +66,8 @@ public class Statistics
 	private static class InstStats {
 		private final LongAdder time = new LongAdder();
 		private final LongAdder count = new LongAdder();
+		private final LongAdder alloc = new LongAdder(); //bytes (-stats alloc)
+		private final LongAdder gcTime = new LongAdder(); //millis (-stats alloc)
 	}
 	
 	private static long compileStartTime = 0;
@@ -72,6 +77,10 @@ public class Statistics
 	
 	//heavy hitter counts and times 
 	private static final ConcurrentHashMap<String,InstStats>_instStats = new ConcurrentHashMap<>();
+	//heavy hitter allocations per DML line (-stats alloc)
+	private static final ConcurrentHashMap<String,InstStats>_lineStats = new ConcurrentHashMap<>();
+	//last jvm gc time per thread (-stats alloc)
+	private static final ThreadLocal<long[]> _lastGCTime = ThreadLocal.withInitial(() -> new long[] {getJVMgcTime()});
 
 	// number of compiled/executed SP instructions
 	private static final LongAdder numExecutedSPInst = new LongAdder();
@@ -268,6 +277,7 @@ public class Statistics
 
 	public static void resetCPHeavyHitters(){
 		_instStats.clear();
+		_lineStats.clear();
 	}
 
 	public static String getCPHeavyHitterCode( Instruction inst )
@@ -342,18 +352,91 @@ public class Statistics
 	 */
 	public static void maintainCPHeavyHitters( String instName, long timeNanos ) {
 		//maintain instruction entry (w/ robustness for concurrent updates)
-		InstStats tmp = _instStats.get(instName);
-		if( tmp == null ) {
-			InstStats tmp0 = new InstStats();
-			InstStats tmp1 = _instStats.putIfAbsent(instName, tmp0);
-			tmp = (tmp1 != null) ? tmp1 : tmp0;
-		}
+		InstStats tmp = getInstStats(_instStats, instName);
 		
 		//thread-local maintenance of instruction stats
 		tmp.time.add(timeNanos);
 		tmp.count.increment();
 	}
 	
+	/**
+	 * Adds allocated bytes and GC time to the per instruction/op and per DML line
+	 * heavy hitters. Allocations are measured for the executing thread only (i.e.,
+	 * excluding allocations of worker threads of multi-threaded operations), while
+	 * the GC time is attributed to all instructions running concurrently.
+	 * 
+	 * @param inst instruction
+	 * @param allocBytes allocated bytes of the executing thread
+	 * @param gcMillis GC time in milli seconds
+	 */
+	public static void maintainAllocHeavyHitters( Instruction inst, long allocBytes, long gcMillis ) {
+		InstStats tmp = getInstStats(_instStats, inst.getExtendedOpcode());
+		tmp.alloc.add(allocBytes);
+		tmp.gcTime.add(gcMillis);
+		
+		//generated instructions (e.g., rmvar) have no line
+		if( inst.getLineNum() > 0 ) {
+			String line = (inst.getFilename() != null ? inst.getFilename() : "") + ":" + inst.getLineNum();
+			InstStats ltmp = getInstStats(_lineStats, line);
+			ltmp.alloc.add(allocBytes);
+			ltmp.gcTime.add(gcMillis);
+			ltmp.count.increment();
+		}
+	}
+	
+	private static InstStats getInstStats(ConcurrentHashMap<String,InstStats> map, String key) {
+		InstStats tmp = map.get(key);
+		if( tmp == null ) {
+			InstStats tmp0 = new InstStats();
+			InstStats tmp1 = map.putIfAbsent(key, tmp0);
+			tmp = (tmp1 != null) ? tmp1 : tmp0;
+		}
+		return tmp;
+	}
+	
+	/**
+	 * Returns the number of bytes allocated by the current thread, or 0 if
+	 * thread allocation measurement is unsupported by the JVM.
+	 * 
+	 * @return allocated bytes
+	 */
+	public static long getThreadAllocatedBytes() {
+		com.sun.management.ThreadMXBean mx = ThreadMXHolder.MX;
+		return (mx != null) ? mx.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+	}
+	
+	/**
+	 * Returns the JVM GC time since the previous call by the current thread, which
+	 * requires a single GC time lookup per instruction (with GC in between instructions
+	 * attributed to the next instruction of the thread).
+	 * 
+	 * @return GC time in milli seconds
+	 */
+	public static long getThreadGCTimeDelta() {
+		long[] last = _lastGCTime.get();
+		long now = getJVMgcTime();
+		long ret = now - last[0];
+		last[0] = now;
+		return ret;
+	}
+	
+	//lazily initialized on first use (safe publication via class init)
+	private static class ThreadMXHolder {
+		private static final com.sun.management.ThreadMXBean MX = createThreadMXBean();
+	}
+	
+	private static com.sun.management.ThreadMXBean createThreadMXBean() {
+		java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+		if( !(mx instanceof com.sun.management.ThreadMXBean) )
+			return null;
+		com.sun.management.ThreadMXBean ret = (com.sun.management.ThreadMXBean) mx;
+		if( !ret.isThreadAllocatedMemorySupported() )
+			return null;
+		if( !ret.isThreadAllocatedMemoryEnabled() )
+			ret.setThreadAllocatedMemoryEnabled(true);
+		return ret;
+	}
+	
 	public static void maintainCPFuncCallStats(String instName) {
 		InstStats tmp = _instStats.get(instName);
 		if (tmp != null)  //tmp should never be null
@@ -464,6 +547,50 @@ public class Statistics
 		return sb.toString();
 	}
 
+	/**
+	 * Obtain a string tabular representation of the heavy hitter instructions
+	 * or DML lines w.r.t. allocated bytes, including GC time and count.
+	 * 
+	 * @param num the maximum number of heavy hitters to display
+	 * @param lines if true, DML lines, otherwise instructions
+	 * @return string representing the heavy hitters in tabular format
+	 */
+	@SuppressWarnings("unchecked")
+	public static String getAllocHeavyHitters(int num, boolean lines) {
+		ConcurrentHashMap<String,InstStats> stats = lines ? _lineStats : _instStats;
+		if (num <= 0 || stats.size() <= 0)
+			return "-";
+		
+		// get top k via sort (descending allocated bytes)
+		Entry<String, InstStats>[] tmp = stats.entrySet().toArray(Entry[]::new);
+		Arrays.sort(tmp, (e1, e2) -> Long.compare(
+			e2.getValue().alloc.longValue(), e1.getValue().alloc.longValue()));
+		
+		int numHittersToDisplay = Math.min(num, tmp.length);
+		DecimalFormat sFormat = new DecimalFormat("#,##0.000");
+		String[][] rows = new String[numHittersToDisplay+1][];
+		rows[0] = new String[] {"#", lines ? "Line" : "Instruction", "Alloc(MB)", "GC(s)", "Count"};
+		int[] maxLen = new int[rows[0].length];
+		for (int i = 0; i < numHittersToDisplay; i++) {
+			InstStats val = tmp[i].getValue();
+			rows[i+1] = new String[] {String.valueOf(i+1), tmp[i].getKey(),
+				sFormat.format(val.alloc.longValue() / (1024d*1024)),
+				sFormat.format(val.gcTime.longValue() / 1000d),
+				String.valueOf(val.count.longValue())};
+		}
+		for (String[] row : rows)
+			for (int j = 0; j < row.length; j++)
+				maxLen[j] = Math.max(maxLen[j], row[j].length());
+		
+		StringBuilder sb = new StringBuilder();
+		for (String[] row : rows) {
+			sb.append(String.format(" %" + maxLen[0] + "s  %-" + maxLen[1] + "s  %" + maxLen[2]
+				+ "s  %" + maxLen[3] + "s  %" + maxLen[4] + "s", (Object[]) row));
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+
 	@SuppressWarnings("unchecked")
 	public static String getCPHeavyHittersMem(int num) {
 		if ((_cpMemObjs.size() <= 0) || (num <= 0))
@@ -625,6 +752,13 @@ public class Statistics
 			sb.append("Cache hits (Mem/Li/WB/FS/HDFS):\t" + CacheStatistics.displayHits() + ".\n");
 			sb.append("Cache writes (Li/WB/FS/HDFS):\t" + CacheStatistics.displayWrites() + ".\n");
 			sb.append("Cache times (ACQr/m, RLS, EXP):\t" + CacheStatistics.displayTime() + " sec.\n");
+			sb.append("Cache evict (policy/MB/clean):\t" + CacheStatistics.displayEvictions() + ".\n");
+			if( SpillCompression.isActive() )
+				sb.append("Cache spill compr (n/raw/ratio):\t" + CacheStatistics.displaySpillCompression() + ".\n");
+			if( PageCache.isActive() )
+				sb.append("Cache pages (hit/miss/drop):\t" + CacheStatistics.displayPages() + ".\n");
+			if( CacheableData.getReadAheadWindow() > 0 )
+				sb.append("Cache read-ahead restores:\t" + CacheStatistics.getReadAheads() + ".\n");
 			if (DMLScript.JMLC_MEM_STATISTICS)
 				sb.append("Max size of live objects:\t" + byteCountToDisplaySize(getSizeofPinnedObjects()) + " ("  + getNumPinnedObjects() + " total objects)" + "\n");
 
@@ -677,6 +811,13 @@ public class Statistics
 			sb.append("Total JVM GC count:\t\t" + getJVMgcCount() + ".\n");
 			sb.append("Total JVM GC time:\t\t" + ((double)getJVMgcTime())/1000 + " sec.\n");
 			sb.append("Heavy hitter instructions:\n" + getHeavyHitters(maxHeavyHitters));
+			if(DMLScript.STATISTICS_ALLOC) {
+				//allocations of the executing thread, excluding worker threads of multi-threaded ops
+				sb.append("Heavy hitter allocations (instructions, excl. worker threads):\n"
+					+ getAllocHeavyHitters(maxHeavyHitters, false));
+				sb.append("Heavy hitter allocations (lines, excl. worker threads):\n"
+					+ getAllocHeavyHitters(maxHeavyHitters, true));
+			}
 		}
 
 		if(DMLScript.FED_STATISTICS) {
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.utils.stats;
+
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.controlprogram.parfor.Task;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.instructions.cp.ComputationCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.Data;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Custom Java Flight Recorder events for instruction execution, buffer pool,
+ * lineage cache, and parfor tasks. Events are only populated and committed
+ * if enabled in an active recording (e.g., -XX:StartFlightRecording), otherwise
+ * the overhead is a single check per event.
+ */
+public class JFREvents 
+{
+	public static final String CATEGORY = "SystemDS";
+
+	@Name("org.apache.sysds.Instruction")
+	@Label("Instruction")
+	@Category({CATEGORY, "Runtime"})
+	@StackTrace(false)
+	public static class InstructionEvent extends Event {
+		@Label("Opcode")
+		public String opcode;
+		@Label("File")
+		public String file;
+		@Label("Line")
+		public int line;
+		@Label("Input Size")
+		@DataAmount
+		public long inputSize;
+		@Label("Output Size")
+		@DataAmount
+		public long outputSize;
+		@Label("Lineage Reuse")
+		public boolean reused;
+	}
+
+	@Name("org.apache.sysds.BufferPool")
+	@Label("Buffer Pool")
+	@Category({CATEGORY, "Buffer Pool"})
+	@StackTrace(false)
+	public static class BufferPoolEvent extends Event {
+		@Label("Type")
+		public String type;
+		@Label("File")
+		public String file;
+		@Label("Size")
+		@DataAmount
+		public long size;
+	}
+
+	@Name("org.apache.sysds.LineageCache")
+	@Label("Lineage Cache")
+	@Category({CATEGORY, "Lineage Cache"})
+	@StackTrace(false)
+	public static class LineageCacheEvent extends Event {
+		@Label("Type")
+		public String type;
+		@Label("Opcode")
+		public String opcode;
+		@Label("Size")
+		@DataAmount
+		public long size;
+	}
+
+	@Name("org.apache.sysds.ParForTask")
+	@Label("ParFor Task")
+	@Category({CATEGORY, "ParFor"})
+	@StackTrace(false)
+	public static class ParForTaskEvent extends Event {
+		@Label("Worker ID")
+		public long workerID;
+		@Label("Iteration Variable")
+		public String iterVar;
+		@Label("Task Type")
+		public String taskType;
+		@Label("Task Size")
+		public int taskSize;
+	}
+
+	public static InstructionEvent beginInstruction(Instruction inst, ExecutionContext ec) {
+		InstructionEvent ev = new InstructionEvent();
+		if( ev.isEnabled() ) {
+			ev.begin();
+			if( inst instanceof ComputationCPInstruction )
+				for( CPOperand in : ((ComputationCPInstruction) inst).getInputs() )
+					ev.inputSize += getDataSize(in, ec);
+		}
+		return ev;
+	}
+
+	public static void commitInstruction(InstructionEvent ev, Instruction inst, ExecutionContext ec, boolean reused) {
+		if( !ev.shouldCommit() )
+			return;
+		ev.opcode = inst.getExtendedOpcode();
+		ev.file = inst.getFilename();
+		ev.line = inst.getLineNum();
+		if( inst instanceof ComputationCPInstruction )
+			ev.outputSize = getDataSize(((ComputationCPInstruction) inst).getOutput(), ec);
+		ev.reused = reused;
+		ev.commit();
+	}
+
+	public static BufferPoolEvent beginBufferPool() {
+		BufferPoolEvent ev = new BufferPoolEvent();
+		ev.begin();
+		return ev;
+	}
+
+	public static void commitBufferPool(BufferPoolEvent ev, String type, String file, long size) {
+		if( !ev.shouldCommit() )
+			return;
+		ev.type = type;
+		ev.file = file;
+		ev.size = size;
+		ev.commit();
+	}
+
+	public static LineageCacheEvent beginLineageCache() {
+		LineageCacheEvent ev = new LineageCacheEvent();
+		ev.begin();
+		return ev;
+	}
+
+	public static void commitLineageCache(LineageCacheEvent ev, String type, String opcode, long size) {
+		if( !ev.shouldCommit() )
+			return;
+		ev.type = type;
+		ev.opcode = opcode;
+		ev.size = size;
+		ev.commit();
+	}
+
+	public static ParForTaskEvent beginParForTask() {
+		ParForTaskEvent ev = new ParForTaskEvent();
+		ev.begin();
+		return ev;
+	}
+
+	public static void commitParForTask(ParForTaskEvent ev, long workerID, Task task) {
+		if( !ev.shouldCommit() )
+			return;
+		ev.workerID = workerID;
+		ev.iterVar = task.getVarName();
+		ev.taskType = task.getType().name();
+		ev.taskSize = task.size();
+		ev.commit();
+	}
+
+	private static long getDataSize(CPOperand op, ExecutionContext ec) {
+		if( op == null || op.getName() == null )
+			return 0;
+		Data dat = ec.getVariables().get(op.getName());
+		if( dat instanceof MatrixObject ) {
+			//estimate from meta data, as released blocks might be only softly referenced
+			DataCharacteristics dc = ((MatrixObject) dat).getDataCharacteristics();
+			return dc.dimsKnown() ? OptimizerUtils.estimateSizeExactSparsity(dc) : 0;
+		}
+		return (dat instanceof CacheableData) ?
+			((CacheableData<?>) dat).getDataSize() : 0;
+	}
+}
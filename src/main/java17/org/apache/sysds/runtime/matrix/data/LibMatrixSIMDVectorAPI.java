@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels based on the Java Vector API, using the preferred (widest) vector species of the platform. This class
+ * is only loaded through {@link LibMatrixSIMD#get()} if the jdk.incubator.vector module is available.
+ */
+public class LibMatrixSIMDVectorAPI extends LibMatrixSIMD {
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	private static final int VLEN = SPECIES.length();
+
+	// block sizes of the GEMM kernel (b block of blocksizeK x blocksizeJ in L2)
+	private static final int BLOCKSIZE_K = 256;
+	private static final int BLOCKSIZE_J = 128;
+
+	@Override
+	public int vectorLength() {
+		return VLEN;
+	}
+
+	@Override
+	public double dotProduct(double[] a, double[] b, int ai, int bi, int len) {
+		// two independent accumulators to hide the fma latency
+		DoubleVector acc1 = DoubleVector.zero(SPECIES);
+		DoubleVector acc2 = DoubleVector.zero(SPECIES);
+		final int bn = len - len % (2 * VLEN);
+		int j = 0;
+		for(; j < bn; j += 2 * VLEN) {
+			acc1 = DoubleVector.fromArray(SPECIES, a, ai + j)
+				.fma(DoubleVector.fromArray(SPECIES, b, bi + j), acc1);
+			acc2 = DoubleVector.fromArray(SPECIES, a, ai + j + VLEN)
+				.fma(DoubleVector.fromArray(SPECIES, b, bi + j + VLEN), acc2);
+		}
+		double val = acc1.add(acc2).reduceLanes(VectorOperators.ADD);
+		// rest, not aligned to vector blocks
+		for(; j < len; j++)
+			val += a[ai + j] * b[bi + j];
+		return val;
+	}
+
+	@Override
+	public void vectMultiplyAdd(double aval, double[] b, double[] c, int bi, int ci, int len) {
+		final DoubleVector va = DoubleVector.broadcast(SPECIES, aval);
+		final int bn = len - len % VLEN;
+		int j = 0;
+		for(; j < bn; j += VLEN) {
+			DoubleVector vc = DoubleVector.fromArray(SPECIES, c, ci + j);
+			DoubleVector.fromArray(SPECIES, b, bi + j).fma(va, vc).intoArray(c, ci + j);
+		}
+		// rest, not aligned to vector blocks
+		for(; j < len; j++)
+			c[ci + j] += aval * b[bi + j];
+	}
+
+	@Override
+	public void vectMultiplyAdd4(double aval1, double aval2, double aval3, double aval4, double[] b, double[] c,
+		int bi1, int bi2, int bi3, int bi4, int ci, int len) {
+		final DoubleVector va1 = DoubleVector.broadcast(SPECIES, aval1);
+		final DoubleVector va2 = DoubleVector.broadcast(SPECIES, aval2);
+		final DoubleVector va3 = DoubleVector.broadcast(SPECIES, aval3);
+		final DoubleVector va4 = DoubleVector.broadcast(SPECIES, aval4);
+		final int bn = len - len % VLEN;
+		int j = 0;
+		for(; j < bn; j += VLEN) {
+			DoubleVector vc = DoubleVector.fromArray(SPECIES, c, ci + j);
+			vc = DoubleVector.fromArray(SPECIES, b, bi1 + j).fma(va1, vc);
+			vc = DoubleVector.fromArray(SPECIES, b, bi2 + j).fma(va2, vc);
+			vc = DoubleVector.fromArray(SPECIES, b, bi3 + j).fma(va3, vc);
+			vc = DoubleVector.fromArray(SPECIES, b, bi4 + j).fma(va4, vc);
+			vc.intoArray(c, ci + j);
+		}
+		// rest, not aligned to vector blocks
+		for(; j < len; j++)
+			c[ci + j] += aval1 * b[bi1 + j] + aval2 * b[bi2 + j] + aval3 * b[bi3 + j] + aval4 * b[bi4 + j];
+	}
+
+	@Override
+	public void matrixMultDenseDenseMM(double[] a, double[] b, double[] c, int n, int cd, int rl, int ru, int cl,
+		int cu) {
+		// blocked execution over the common dimension and columns, with a 4 x (2*VLEN)
+		// register-blocked micro-kernel that keeps the output tile in registers
+		for(int bk = 0; bk < cd; bk += BLOCKSIZE_K) {
+			final int bkmin = Math.min(cd, bk + BLOCKSIZE_K);
+			for(int bj = cl; bj < cu; bj += BLOCKSIZE_J) {
+				final int bjmin = Math.min(cu, bj + BLOCKSIZE_J);
+				final int bjvec = bj + (bjmin - bj) - (bjmin - bj) % (2 * VLEN);
+				int i = rl;
+				for(; i + 4 <= ru; i += 4) {
+					for(int j = bj; j < bjvec; j += 2 * VLEN)
+						kernel4x2(a, b, c, n, cd, i, j, bk, bkmin);
+					for(int r = i; r < i + 4; r++)
+						rowTail(a, b, c, n, cd, r, bjvec, bjmin, bk, bkmin);
+				}
+				// rest, not aligned to blocks of 4 rows
+				for(; i < ru; i++) {
+					for(int j = bj; j < bjvec; j += 2 * VLEN)
+						kernel1x2(a, b, c, n, cd, i, j, bk, bkmin);
+					rowTail(a, b, c, n, cd, i, bjvec, bjmin, bk, bkmin);
+				}
+			}
+		}
+	}
+
+	private static void kernel4x2(double[] a, double[] b, double[] c, int n, int cd, int i, int j, int bk, int bkmin) {
+		final int ci0 = i * n + j, ci1 = ci0 + n, ci2 = ci1 + n, ci3 = ci2 + n;
+		DoubleVector c00 = DoubleVector.fromArray(SPECIES, c, ci0);
+		DoubleVector c01 = DoubleVector.fromArray(SPECIES, c, ci0 + VLEN);
+		DoubleVector c10 = DoubleVector.fromArray(SPECIES, c, ci1);
+		DoubleVector c11 = DoubleVector.fromArray(SPECIES, c, ci1 + VLEN);
+		DoubleVector c20 = DoubleVector.fromArray(SPECIES, c, ci2);
+		DoubleVector c21 = DoubleVector.fromArray(SPECIES, c, ci2 + VLEN);
+		DoubleVector c30 = DoubleVector.fromArray(SPECIES, c, ci3);
+		DoubleVector c31 = DoubleVector.fromArray(SPECIES, c, ci3 + VLEN);
+		final int ai0 = i * cd, ai1 = ai0 + cd, ai2 = ai1 + cd, ai3 = ai2 + cd;
+		// zero values in a are skipped (as in the scalar kernels) to retain the
+		// semantics of 0 * Inf = 0 and 0 * NaN = 0 for inputs with non-finite values
+		for(int k = bk, bix = bk * n + j; k < bkmin; k++, bix += n) {
+			final double aval0 = a[ai0 + k], aval1 = a[ai1 + k];
+			final double aval2 = a[ai2 + k], aval3 = a[ai3 + k];
+			if(aval0 == 0 && aval1 == 0 && aval2 == 0 && aval3 == 0)
+				continue;
+			final DoubleVector b0 = DoubleVector.fromArray(SPECIES, b, bix);
+			final DoubleVector b1 = DoubleVector.fromArray(SPECIES, b, bix + VLEN);
+			if(aval0 != 0) {
+				final DoubleVector va = DoubleVector.broadcast(SPECIES, aval0);
+				c00 = b0.fma(va, c00);
+				c01 = b1.fma(va, c01);
+			}
+			if(aval1 != 0) {
+				final DoubleVector va = DoubleVector.broadcast(SPECIES, aval1);
+				c10 = b0.fma(va, c10);
+				c11 = b1.fma(va, c11);
+			}
+			if(aval2 != 0) {
+				final DoubleVector va = DoubleVector.broadcast(SPECIES, aval2);
+				c20 = b0.fma(va, c20);
+				c21 = b1.fma(va, c21);
+			}
+			if(aval3 != 0) {
+				final DoubleVector va = DoubleVector.broadcast(SPECIES, aval3);
+				c30 = b0.fma(va, c30);
+				c31 = b1.fma(va, c31);
+			}
+		}
+		c00.intoArray(c, ci0);
+		c01.intoArray(c, ci0 + VLEN);
+		c10.intoArray(c, ci1);
+		c11.intoArray(c, ci1 + VLEN);
+		c20.intoArray(c, ci2);
+		c21.intoArray(c, ci2 + VLEN);
+		c30.intoArray(c, ci3);
+		c31.intoArray(c, ci3 + VLEN);
+	}
+
+	private static void kernel1x2(double[] a, double[] b, double[] c, int n, int cd, int i, int j, int bk, int bkmin) {
+		final int ci = i * n + j;
+		DoubleVector c0 = DoubleVector.fromArray(SPECIES, c, ci);
+		DoubleVector c1 = DoubleVector.fromArray(SPECIES, c, ci + VLEN);
+		final int ai = i * cd;
+		for(int k = bk, bix = bk * n + j; k < bkmin; k++, bix += n) {
+			final double aval = a[ai + k];
+			if(aval == 0)
+				continue;
+			final DoubleVector va = DoubleVector.broadcast(SPECIES, aval);
+			c0 = DoubleVector.fromArray(SPECIES, b, bix).fma(va, c0);
+			c1 = DoubleVector.fromArray(SPECIES, b, bix + VLEN).fma(va, c1);
+		}
+		c0.intoArray(c, ci);
+		c1.intoArray(c, ci + VLEN);
+	}
+
+	private static void rowTail(double[] a, double[] b, double[] c, int n, int cd, int i, int jl, int ju, int bk,
+		int bkmin) {
+		if(jl >= ju)
+			return;
+		final int ai = i * cd, ci = i * n;
+		for(int k = bk; k < bkmin; k++) {
+			final double aval = a[ai + k];
+			if(aval != 0)
+				for(int j = jl, bix = k * n; j < ju; j++)
+					c[ci + j] += aval * b[bix + j];
+		}
+	}
+}
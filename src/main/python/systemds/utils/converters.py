@@ -20,10 +20,39 @@
 # -------------------------------------------------------------
 
 
+import os
+import tempfile
+import uuid
+
 import numpy as np
 import pandas as pd
 from py4j.java_gateway import JavaClass, JavaGateway, JavaObject, JVMView
 
+try:
+    import pyarrow as pa
+    import pyarrow.ipc
+except ImportError:  # optional, frames are transferred via py4j otherwise
+    pa = None
+
+# Minimum size in bytes of matrices and frames that are exchanged with the JVM
+# via memory-mapped files (matrices) and Arrow IPC files (frames) instead of
+# byte arrays serialized over the py4j socket.
+SHARED_MEMORY_THRESHOLD = 1024 * 1024
+
+
+def _shared_memory_file(suffix: str = "") -> str:
+    """Returns a unique file name in shared memory (/dev/shm) if available,
+    and in the temporary directory otherwise."""
+    directory = "/dev/shm" if os.path.isdir("/dev/shm") else tempfile.gettempdir()
+    return os.path.join(directory, "systemds_" + uuid.uuid4().hex + suffix)
+
+
+def _remove_file(path: str):
+    try:
+        os.remove(path)
+    except OSError:
+        pass
+
 
 def numpy_to_matrix_block(sds, np_arr: np.array):
     """Converts a given numpy array, to internal matrix block representation.
@@ -54,11 +83,23 @@ def numpy_to_matrix_block(sds, np_arr: np.array):
     else:
         arr = np_arr.ravel().astype(np.float64)
         value_type = jvm.org.apache.sysds.common.Types.ValueType.FP64
+    j_class: JavaClass = jvm.org.apache.sysds.runtime.util.Py4jConverterUtils
+
+    # Send large data to java via a memory-mapped file.
+    if arr.nbytes >= SHARED_MEMORY_THRESHOLD:
+        path = _shared_memory_file()
+        try:
+            arr.tofile(path)
+            return j_class.convertMappedFileToMB(path, rows, cols, value_type)
+        except Exception as e:
+            sds.exception_and_close(e)
+        finally:
+            _remove_file(path)
+
     buf = bytearray(arr.tobytes())
 
     # Send data to java.
     try:
-        j_class: JavaClass = jvm.org.apache.sysds.runtime.util.Py4jConverterUtils
         return j_class.convertPy4JArrayToMB(buf, rows, cols, value_type)
     except Exception as e:
         sds.exception_and_close(e)
@@ -72,6 +113,21 @@ def matrix_block_to_numpy(jvm: JVMView, mb: JavaObject):
     """
     num_ros = mb.getNumRows()
     num_cols = mb.getNumColumns()
+
+    # Receive large data via a memory-mapped file, which is mapped without copy
+    # (the mapping remains valid after the file is removed on POSIX systems).
+    if num_ros * num_cols * 8 >= SHARED_MEMORY_THRESHOLD:
+        path = _shared_memory_file()
+        try:
+            jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertMBtoMappedFile(
+                mb, path)
+            if os.name == "posix":
+                return np.memmap(path, dtype=np.float64, mode="c",
+                                 shape=(num_ros, num_cols)).view(np.ndarray)
+            return np.fromfile(path, dtype=np.float64).reshape((num_ros, num_cols))
+        finally:
+            _remove_file(path)
+
     buf = jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertMBtoPy4JDenseArr(
         mb
     )
@@ -110,6 +166,21 @@ def pandas_to_frame_block(sds, pd_df: pd.DataFrame):
             schema.append(data_type_mapping[dtype])
         else:
             schema.append(jvm.org.apache.sysds.common.Types.ValueType.STRING)
+
+    # Send large data to java via an Arrow IPC file.
+    if pa is not None and rows * cols * 8 >= SHARED_MEMORY_THRESHOLD:
+        path = _shared_memory_file(".arrow")
+        try:
+            table = _pandas_to_arrow_table(pd_df)
+            with pa.OSFile(path, "wb") as sink:
+                with pa.ipc.new_file(sink, table.schema) as writer:
+                    writer.write_table(table)
+            return jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertArrowFileToFB(path)
+        except Exception as e:
+            sds.exception_and_close(e)
+        finally:
+            _remove_file(path)
+
     try:
         jc_ValueType = jvm.org.apache.sysds.common.Types.ValueType
         jc_String = jvm.java.lang.String
@@ -134,15 +205,44 @@ def pandas_to_frame_block(sds, pd_df: pd.DataFrame):
         sds.exception_and_close(e)
 
 
+def _pandas_to_arrow_table(pd_df: pd.DataFrame):
+    """Converts a pandas dataframe to an arrow table, where all columns except
+    int64, float64, and bool columns are converted to strings (with empty
+    strings and missing values represented as nulls).
+
+    :param pd_df: the pandas dataframe to convert.
+    """
+    native_types = [np.dtype(np.int64), np.dtype(np.float64), np.dtype(np.bool_)]
+    columns = []
+    for col_name, dtype in dict(pd_df.dtypes).items():
+        if dtype in native_types:
+            columns.append(pa.array(pd_df[col_name].to_numpy()))
+        else:
+            col_data = pd_df[col_name].fillna("").to_numpy(dtype=str)
+            columns.append(pa.array([v if v else None for v in col_data], type=pa.string()))
+    return pa.Table.from_arrays(columns, names=[str(c) for c in pd_df.columns])
+
+
 def frame_block_to_pandas(sds, fb: JavaObject):
     """Converts a FrameBlock object in the JVM to a pandas dataframe.
 
-    :param sds: The current systemds context.
+    :param sds: The current systemds context (or the JVM instance).
     :param fb: A pointer to the JVM's FrameBlock object.
     """
 
     num_rows = fb.getNumRows()
     num_cols = fb.getNumColumns()
+
+    # Receive large data via an Arrow IPC file.
+    if pa is not None and num_rows * num_cols * 8 >= SHARED_MEMORY_THRESHOLD:
+        jvm: JVMView = sds.java_gateway.jvm if hasattr(sds, "java_gateway") else sds
+        path = _shared_memory_file(".arrow")
+        try:
+            jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertFBtoArrowFile(fb, path)
+            return pa.ipc.open_file(pa.memory_map(path, "r")).read_pandas()
+        finally:
+            _remove_file(path)
+
     df = pd.DataFrame()
 
     for c_index in range(num_cols):
@@ -67,6 +67,22 @@ class TestWriteRead(unittest.TestCase):
         self.assertTrue(isinstance(result_df, pd.DataFrame))
         self.assertTrue(self.df.equals(result_df))
 
+    def test_write_read_binary_large(self):
+        # large enough to be transferred via shared memory (with pyarrow)
+        n_rows = 50000
+        df = pd.DataFrame(
+            {
+                "col1": [f"col1_string_{i}" for i in range(n_rows)],
+                "col2": [i for i in range(n_rows)],
+                "col3": [i * 0.1 for i in range(n_rows)],
+            }
+        )
+        frame = self.sds.from_pandas(df)
+        frame.write(self.temp_dir + "03").compute()
+        NX = self.sds.read(self.temp_dir + "03", data_type="frame")
+        result_df = NX.compute()
+        self.assertTrue((df.values == result_df.values).all())
+
 
 if __name__ == "__main__":
     unittest.main(exit=False)
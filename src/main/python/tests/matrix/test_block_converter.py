@@ -72,6 +72,24 @@ class Test_MatrixBlockConverter(unittest.TestCase):
         array = np.array([rng.standard_normal(n) for x in range(k)])
         self.convert_back_and_forth(array)
 
+    def test_shared_memory_nxn(self):
+        n = 400
+        rng = np.random.default_rng(seed=7)
+        array = rng.standard_normal((n, n))
+        self.convert_back_and_forth(array)
+
+    def test_shared_memory_sparse(self):
+        rng = np.random.default_rng(seed=7)
+        array = rng.standard_normal((500, 300))
+        array[array < 1.5] = 0
+        self.convert_back_and_forth(array)
+
+    def test_shared_memory_value_types(self):
+        rng = np.random.default_rng(seed=7)
+        for dtype in [np.float32, np.int32, np.uint8]:
+            array = (rng.random((2000, 600)) * 100).astype(dtype)
+            self.convert_back_and_forth(array)
+
     def convert_back_and_forth(self, array):
         matrix_block = numpy_to_matrix_block(self.sds, array)
         # use the ability to call functions on matrix_block.
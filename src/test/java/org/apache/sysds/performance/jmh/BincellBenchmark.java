@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.LibMatrixBincell;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.test.TestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the cell-wise binary operations in {@link LibMatrixBincell}, for matrix-matrix, matrix-row vector
+ * and matrix-scalar operations over dense, sparse and ultra-sparse left-hand-side inputs. The operations are invoked
+ * through {@link MatrixBlock} so that the output representation is chosen exactly as in the runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BincellBenchmark {
+
+	@Param({"10000"})
+	public int rows;
+
+	@Param({"100", "1000"})
+	public int cols;
+
+	@Param({"1.0", "0.1", "0.0001"})
+	public double sparsity;
+
+	@Param({"+", "*", ">"})
+	public String opcode;
+
+	@Param({"1", "8"})
+	public int k;
+
+	private MatrixBlock _m1;
+	private MatrixBlock _m2;
+	private MatrixBlock _rowVector;
+	private BinaryOperator _bop;
+	private ScalarOperator _sop;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_m1 = TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, sparsity, 7);
+		_m2 = TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, sparsity, 13);
+		_rowVector = TestUtils.generateTestMatrixBlock(1, cols, -1, 1, 1.0, 3);
+		_bop = InstructionUtils.parseBinaryOperator(opcode, k);
+		_sop = InstructionUtils.parseScalarBinaryOperator(opcode, false, 0.5, k);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMatrix() {
+		return _m1.binaryOperations(_bop, _m2);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixRowVector() {
+		return _m1.binaryOperations(_bop, _rowVector);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixScalar() {
+		return _m1.scalarOperations(_sop, null);
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.lops.MapMultChain.ChainType;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the matrix multiplication kernels in {@link LibMatrixMult}: matrix multiply, transpose-self
+ * matrix multiply (tsmm) and matrix multiplication chains (mmchain). The sparsity parameter selects the dense (1.0),
+ * sparse (0.1) and ultra-sparse (0.0001) code paths of the left-hand-side input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MatrixMultBenchmark {
+
+	@Param({"1000"})
+	public int rows;
+
+	@Param({"1000"})
+	public int cols;
+
+	/** Number of columns of the right hand side of the matrix multiply */
+	@Param({"1", "100", "1000"})
+	public int rhsCols;
+
+	@Param({"1.0", "0.1", "0.0001"})
+	public double sparsity;
+
+	@Param({"1", "8"})
+	public int k;
+
+	private MatrixBlock _m1;
+	private MatrixBlock _m2;
+	private MatrixBlock _v;
+	private MatrixBlock _w;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_m1 = TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, sparsity, 7);
+		_m2 = TestUtils.generateTestMatrixBlock(cols, rhsCols, -1, 1, 1.0, 3);
+		_v = TestUtils.generateTestMatrixBlock(cols, 1, -1, 1, 1.0, 5);
+		_w = TestUtils.generateTestMatrixBlock(rows, 1, -1, 1, 1.0, 11);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMult() {
+		return LibMatrixMult.matrixMult(_m1, _m2, k);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMultTransposeSelfLeft() {
+		MatrixBlock ret = new MatrixBlock(cols, cols, false);
+		LibMatrixMult.matrixMultTransposeSelf(_m1, ret, true, k);
+		return ret;
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMultTransposeSelfRight() {
+		MatrixBlock ret = new MatrixBlock(rows, rows, false);
+		LibMatrixMult.matrixMultTransposeSelf(_m1, ret, false, k);
+		return ret;
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMultChainXtXv() {
+		MatrixBlock ret = new MatrixBlock(cols, 1, false);
+		LibMatrixMult.matrixMultChain(_m1, _v, null, ret, ChainType.XtXv, k);
+		return ret;
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMultChainXtwXv() {
+		MatrixBlock ret = new MatrixBlock(cols, 1, false);
+		LibMatrixMult.matrixMultChain(_m1, _v, _w, ret, ChainType.XtwXv, k);
+		return ret;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.caching;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.apache.sysds.runtime.controlprogram.caching.OffHeapDenseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestUtils;
+
+public class OffHeapDenseBlockTest {
+	@Before
+	public void setup() {
+		OffHeapDenseBlock.init(1024 * 1024);
+	}
+
+	@After
+	public void cleanup() {
+		OffHeapDenseBlock.init(0);
+	}
+
+	@Test
+	public void testOffHeapGetSet() {
+		OffHeapDenseBlock db = OffHeapDenseBlock.allocate(7, 11);
+		for( int i = 0; i < 7; i++ )
+			for( int j = 0; j < 11; j++ )
+				db.set(i, j, i * 11 + j);
+		Assert.assertEquals(3 * 11 + 4, db.get(3, 4), 0);
+		Assert.assertEquals(76, db.get(6, 10), 0);
+		db.free();
+	}
+
+	@Test
+	public void testOffHeapCopyRoundtrip() {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(123, 45, -1, 1, 0.9, 7);
+		mb.sparseToDense();
+		OffHeapDenseBlock db = OffHeapDenseBlock.allocate(123, 45);
+		db.set(mb.getDenseBlock());
+		MatrixBlock ret = new MatrixBlock(123, 45, false);
+		ret.allocateDenseBlock();
+		db.copyTo(ret.getDenseBlock());
+		ret.recomputeNonZeros();
+		TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0, "off-heap copy");
+		db.free();
+	}
+
+	@Test
+	public void testOffHeapLocalFileRoundtrip() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(321, 17, -1, 1, 1.0, 3);
+		mb.sparseToDense();
+		OffHeapDenseBlock db = OffHeapDenseBlock.allocate(321, 17);
+		db.set(mb.getDenseBlock());
+		File tmp = File.createTempFile("offheap", ".dat");
+		try {
+			LocalFileUtils.writeDenseBlockToLocal(tmp.getAbsolutePath(), db);
+			MatrixBlock ret = (MatrixBlock) LocalFileUtils.readCacheBlockFromLocal(tmp.getAbsolutePath(), true);
+			TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0, "off-heap write");
+		}
+		finally {
+			tmp.delete();
+			db.free();
+		}
+	}
+
+	@Test
+	public void testOffHeapLimit() {
+		long size = OffHeapDenseBlock.getSize();
+		OffHeapDenseBlock db1 = OffHeapDenseBlock.allocate(256, 256); //512KB
+		Assert.assertNotNull(db1);
+		Assert.assertEquals(size + 256 * 256 * 8, OffHeapDenseBlock.getSize());
+		//exceeds the remaining off-heap limit
+		Assert.assertNull(OffHeapDenseBlock.allocate(256, 384));
+		Assert.assertEquals(size + 256 * 256 * 8, OffHeapDenseBlock.getSize());
+		db1.free();
+		db1.free(); //idempotent
+		Assert.assertFalse(db1.isAllocated());
+		Assert.assertEquals(size, OffHeapDenseBlock.getSize());
+		OffHeapDenseBlock db2 = OffHeapDenseBlock.allocate(256, 384);
+		Assert.assertNotNull(db2);
+		db2.free();
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame.array;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.DoubleRecodeMap;
+import org.apache.sysds.runtime.frame.data.columns.IntegerRecodeMap;
+import org.apache.sysds.runtime.frame.data.columns.LongRecodeMap;
+import org.apache.sysds.runtime.frame.data.columns.ObjectRecodeMap;
+import org.apache.sysds.runtime.frame.data.columns.RecodeMap;
+import org.apache.sysds.runtime.transform.encode.ColumnEncoderRecode;
+import org.junit.Test;
+
+public class RecodeMapTests {
+
+	@Test
+	public void testDoubleMap() {
+		Random r = new Random(7);
+		DoubleRecodeMap m = new DoubleRecodeMap(4);
+		Map<Object, Long> e = new HashMap<>();
+		for(int i = 0; i < 10000; i++) {
+			double v = r.nextInt(3000) * 0.5;
+			assertEquals(expected(e, v), m.add(v));
+		}
+		compare(e, m);
+		assertEquals(-1, m.getCode(-1.0));
+		assertEquals(-1, m.getCode((Object) "1.0"));
+	}
+
+	@Test
+	public void testDoubleMapSpecialValues() {
+		DoubleRecodeMap m = new DoubleRecodeMap();
+		m.add(Double.NaN);
+		m.add(0.0 / 0.0);
+		m.add(0.0);
+		m.add(-0.0);
+		assertEquals(3, m.size());
+		assertEquals(1, m.getCode(Double.NaN));
+		assertEquals(3, m.getCode(-0.0));
+	}
+
+	@Test
+	public void testLongMap() {
+		Random r = new Random(8);
+		LongRecodeMap m = new LongRecodeMap();
+		Map<Object, Long> e = new HashMap<>();
+		for(int i = 0; i < 10000; i++) {
+			long v = r.nextInt(3000) * 4294967296L;
+			assertEquals(expected(e, v), m.add(v));
+		}
+		compare(e, m);
+		assertEquals(-1, m.getCode((Object) 1));
+	}
+
+	@Test
+	public void testIntegerMap() {
+		Random r = new Random(9);
+		IntegerRecodeMap m = new IntegerRecodeMap();
+		Map<Object, Long> e = new HashMap<>();
+		for(int i = 0; i < 10000; i++) {
+			int v = r.nextInt(3000) - 1500;
+			assertEquals(expected(e, v), m.add(v));
+		}
+		compare(e, m);
+		assertEquals(-1, m.getCode((Object) 1L));
+	}
+
+	@Test
+	public void testObjectMap() {
+		Random r = new Random(10);
+		ObjectRecodeMap<Object> m = new ObjectRecodeMap<>();
+		Map<Object, Long> e = new HashMap<>();
+		for(int i = 0; i < 10000; i++) {
+			String v = "v" + r.nextInt(3000);
+			assertEquals(expected(e, v), m.add(v));
+		}
+		compare(e, m);
+		assertEquals(-1, m.getCode(null));
+		assertNull(m.get("w"));
+	}
+
+	@Test
+	public void testPutAndClear() {
+		ObjectRecodeMap<String> m = new ObjectRecodeMap<>();
+		assertNull(m.put("a", 5L));
+		assertEquals(Long.valueOf(5), m.put("a", 7L));
+		assertEquals(Long.valueOf(7), m.putIfAbsent("a", 9L));
+		assertEquals(7, m.getCode("a"));
+		m.clear();
+		assertTrue(m.isEmpty());
+		assertFalse(m.containsKey("a"));
+		assertEquals(1, m.add("b"));
+	}
+
+	@Test
+	public void testInsertionOrder() {
+		LongRecodeMap m = new LongRecodeMap();
+		for(long v = 100; v > 0; v--)
+			m.add(v * 31);
+		long code = 1;
+		for(Map.Entry<Long, Long> e : m.entrySet()) {
+			assertEquals(Long.valueOf((101 - code) * 31), e.getKey());
+			assertEquals(Long.valueOf(code++), e.getValue());
+		}
+	}
+
+	@Test
+	public void testArrayRecodeMaps() {
+		compareArrayMap(ArrayFactory.create(new double[] {3, 1, 3, 2, 1}));
+		compareArrayMap(ArrayFactory.create(new long[] {3, 1, 3, 2, 1}));
+		compareArrayMap(ArrayFactory.create(new int[] {3, 1, 3, 2, 1}));
+		compareArrayMap(ArrayFactory.create(new String[] {"c", "a", null, "c", "b"}));
+		compareArrayMap(ArrayFactory.create(new Integer[] {3, null, 3, 2, 1}));
+	}
+
+	@Test
+	public void testMetaRecodeMap() {
+		Array<String> a = ArrayFactory.create(new String[] {//
+			ColumnEncoderRecode.constructRecodeMapEntry("b", 2L), //
+			ColumnEncoderRecode.constructRecodeMapEntry("a", 1L), null});
+		Map<String, Long> m = a.getRecodeMap();
+		assertTrue(m instanceof RecodeMap);
+		assertEquals(2, m.size());
+		assertEquals(Long.valueOf(1), m.get("a"));
+		assertEquals(Long.valueOf(2), m.get("b"));
+	}
+
+	private static <T> void compareArrayMap(Array<T> a) {
+		Map<T, Long> m = a.getRecodeMap();
+		Map<Object, Long> e = new HashMap<>();
+		for(int i = 0; i < a.size(); i++)
+			if(a.get(i) != null)
+				expected(e, a.get(i));
+		assertTrue(m instanceof RecodeMap);
+		compare(e, m);
+	}
+
+	private static long expected(Map<Object, Long> e, Object key) {
+		Long code = e.get(key);
+		if(code == null) {
+			code = (long) e.size() + 1;
+			e.put(key, code);
+		}
+		return code;
+	}
+
+	private static void compare(Map<Object, Long> e, Map<?, Long> m) {
+		assertEquals(e.size(), m.size());
+		assertEquals(e, m);
+		assertEquals(m, e);
+		assertEquals(e.hashCode(), m.hashCode());
+		for(Map.Entry<Object, Long> en : e.entrySet())
+			assertEquals(en.getValue(), m.get(en.getKey()));
+	}
+}
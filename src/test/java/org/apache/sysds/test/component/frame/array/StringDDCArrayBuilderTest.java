@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame.array;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.DDCArray;
+import org.apache.sysds.runtime.frame.data.columns.StringArray;
+import org.apache.sysds.runtime.frame.data.columns.StringDDCArrayBuilder;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class StringDDCArrayBuilderTest {
+
+	@Test
+	public void testLowCardinality() {
+		String[] exp = generate(3000, 10, 0.1, 7);
+		Array<String> a = build(exp);
+		assertTrue(a instanceof DDCArray);
+		compare(exp, a);
+	}
+
+	@Test
+	public void testLowCardinalityNoNull() {
+		String[] exp = generate(3000, 10, 0.0, 7);
+		Array<String> a = build(exp);
+		assertTrue(a instanceof DDCArray);
+		assertEquals(10, ((DDCArray<String>) a).getDict().size());
+		compare(exp, a);
+	}
+
+	@Test
+	public void testFallback() {
+		String[] exp = generate(3000, 2900, 0.1, 8);
+		Array<String> a = build(exp);
+		assertTrue(a instanceof StringArray);
+		compare(exp, a);
+	}
+
+	@Test
+	public void testCreateSchema() {
+		ValueType[] schema = {ValueType.FP64, ValueType.STRING};
+		assertNull(StringDDCArrayBuilder.create(schema, StringDDCArrayBuilder.MIN_ROWS - 1));
+		StringDDCArrayBuilder[] b = StringDDCArrayBuilder.create(schema, StringDDCArrayBuilder.MIN_ROWS);
+		assertNull(b[0]);
+		assertTrue(b[1] != null);
+		assertNull(StringDDCArrayBuilder.create(new ValueType[] {ValueType.INT64}, 10000));
+	}
+
+	@Test
+	public void testFrameSetDecompress() {
+		String[] exp = generate(2000, 5, 0.1, 9);
+		FrameBlock fb = new FrameBlock(new Array<?>[] {build(exp)});
+		assertTrue(fb.getColumn(0) instanceof DDCArray);
+		fb.set(3, 0, "new");
+		exp[3] = "new";
+		assertTrue(fb.getColumn(0) instanceof StringArray);
+		compare(exp, fb.getColumn(0));
+	}
+
+	@Test
+	public void testFrameColumnDataNoDecompress() {
+		String[] exp = generate(2000, 5, 0.1, 12);
+		FrameBlock fb = new FrameBlock(new Array<?>[] {build(exp)});
+		assertArrayEquals(exp, (String[]) fb.getColumnData(0));
+		assertTrue(fb.getColumn(0) instanceof DDCArray);
+	}
+
+	@Test
+	public void testFrameAppend() {
+		String[] exp = generate(2000, 5, 0.1, 10);
+		FrameBlock fb = new FrameBlock(new Array<?>[] {build(exp)});
+		FrameBlock ret = fb.append(fb, false);
+		assertEquals(4000, ret.getNumRows());
+		for(int i = 0; i < 4000; i++)
+			assertEquals(exp[i % 2000], ret.get(i, 0));
+	}
+
+	@Test
+	public void testRecode() {
+		String[] exp = generate(5000, 20, 0.05, 11);
+		FrameBlock ddc = new FrameBlock(new Array<?>[] {build(exp)});
+		FrameBlock plain = new FrameBlock(new Array<?>[] {new StringArray(exp)});
+		String spec = "{ids:true, recode:[1]}";
+		MatrixBlock out1 = EncoderFactory.createEncoder(spec, null, 1, null).encode(ddc);
+		MatrixBlock out2 = EncoderFactory.createEncoder(spec, null, 1, null).encode(plain);
+		TestUtils.compareMatrices(out2, out1, 0, "");
+	}
+
+	private static Array<String> build(String[] values) {
+		StringDDCArrayBuilder b = new StringDDCArrayBuilder(values.length);
+		// set in two halves to exercise the range set
+		for(int i = 0; i < values.length / 2; i++)
+			b.set(i, values[i]);
+		String[] tail = new String[values.length - values.length / 2];
+		System.arraycopy(values, values.length / 2, tail, 0, tail.length);
+		b.set(values.length / 2, new StringArray(tail));
+		return b.build();
+	}
+
+	private static void compare(String[] exp, Array<?> a) {
+		assertEquals(exp.length, a.size());
+		for(int i = 0; i < exp.length; i++)
+			assertEquals(exp[i], a.get(i));
+	}
+
+	private static String[] generate(int n, int distinct, double nullFraction, int seed) {
+		Random r = new Random(seed);
+		String[] ret = new String[n];
+		for(int i = 0; i < n; i++)
+			ret[i] = r.nextDouble() < nullFraction ? null : "v" + r.nextInt(distinct);
+		return ret;
+	}
+}
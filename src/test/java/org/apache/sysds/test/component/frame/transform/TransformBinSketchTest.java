@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame.transform;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.sketch.quantileapprox.KLLSketch;
+import org.apache.sysds.runtime.transform.encode.ColumnEncoder;
+import org.apache.sysds.runtime.transform.encode.ColumnEncoderBin;
+import org.apache.sysds.runtime.transform.encode.ColumnEncoderBin.BinMethod;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
+import org.junit.Test;
+
+public class TransformBinSketchTest {
+	private static final String SPEC = "{ids:true, bin:[{id:1, method:equi-height-sketch, numbins:10}]}";
+	private static final double EPS = 0.02;
+
+	@Test
+	public void testSketchQuantiles() {
+		double[] vals = generate(100000, 1);
+		KLLSketch sketch = new KLLSketch();
+		for(double v : vals)
+			sketch.update(v);
+		assertEquals(vals.length, sketch.getN());
+		assertTrue(sketch.getNumRetained() < vals.length / 10);
+		compareQuantiles(vals, sketch);
+	}
+
+	@Test
+	public void testSketchMerge() {
+		double[] vals = generate(100000, 2);
+		KLLSketch sketch = new KLLSketch();
+		for(int p = 0; p < 8; p++) {
+			KLLSketch part = new KLLSketch();
+			for(int i = p; i < vals.length; i += 8)
+				part.update(vals[i]);
+			sketch.merge(part);
+		}
+		assertEquals(vals.length, sketch.getN());
+		compareQuantiles(vals, sketch);
+	}
+
+	@Test
+	public void testSketchSerialization() throws Exception {
+		KLLSketch sketch = new KLLSketch();
+		for(double v : generate(50000, 3))
+			sketch.update(v);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		sketch.write(new DataOutputStream(bos));
+		KLLSketch sketch2 = KLLSketch.read(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		double[] fractions = {0, 0.1, 0.25, 0.5, 0.75, 0.9, 1};
+		assertEquals(sketch.getN(), sketch2.getN());
+		assertArrayEquals(sketch.getQuantiles(fractions), sketch2.getQuantiles(fractions), 0);
+	}
+
+	@Test
+	public void testSketchEmpty() {
+		KLLSketch sketch = new KLLSketch();
+		sketch.update(Double.NaN);
+		assertTrue(sketch.isEmpty());
+		assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+	}
+
+	@Test
+	public void testBinSketch() {
+		FrameBlock in = createFrame(generate(20000, 4));
+		MatrixBlock out = EncoderFactory.createEncoder(SPEC, null, 1, null).encode(in);
+		checkEqualHeight(out, 10);
+	}
+
+	@Test
+	public void testBinSketchParallel() {
+		FrameBlock in = createFrame(generate(20000, 5));
+		try {
+			ColumnEncoder.BUILD_ROW_BLOCKS_PER_COLUMN = 4;
+			MultiColumnEncoder enc = EncoderFactory.createEncoder(SPEC, null, 1, null);
+			MatrixBlock out = enc.encode(in, 4);
+			checkEqualHeight(out, 10);
+			assertEquals(in.getNumRows(), getBinEncoder(enc).getSketch().getN());
+
+			// reproducible bin boundaries for repeated parallel builds
+			MultiColumnEncoder enc2 = EncoderFactory.createEncoder(SPEC, null, 1, null);
+			enc2.encode(in, 4);
+			assertArrayEquals(getBinEncoder(enc).getBinMaxs(), getBinEncoder(enc2).getBinMaxs(), 0);
+			assertArrayEquals(getBinEncoder(enc).getBinMins(), getBinEncoder(enc2).getBinMins(), 0);
+		}
+		finally {
+			ColumnEncoder.BUILD_ROW_BLOCKS_PER_COLUMN = -1;
+		}
+	}
+
+	@Test
+	public void testBinSketchPartialBuild() {
+		FrameBlock in = createFrame(generate(20000, 6));
+		MultiColumnEncoder enc1 = EncoderFactory.createEncoder(SPEC, null, 1, null);
+		enc1.build(in);
+
+		// partial build over row batches, with the same sequence of sketch updates
+		MultiColumnEncoder enc2 = EncoderFactory.createEncoder(SPEC, null, 1, null);
+		enc2.prepareBuildPartial();
+		enc2.buildPartial(in.slice(0, 9999));
+		enc2.buildPartial(in.slice(10000, 19999));
+		enc2.finalizeBuildPartial();
+
+		assertArrayEquals(getBinEncoder(enc1).getBinMaxs(), getBinEncoder(enc2).getBinMaxs(), 0);
+		assertArrayEquals(getBinEncoder(enc1).getBinMins(), getBinEncoder(enc2).getBinMins(), 0);
+	}
+
+	@Test
+	public void testBinSketchMergeAt() throws Exception {
+		// build encoders over row partitions (as federated workers), and merge their serialized sketches
+		FrameBlock in = createFrame(generate(20000, 7));
+		MultiColumnEncoder enc = null;
+		for(int p = 0; p < 4; p++) {
+			MultiColumnEncoder part = EncoderFactory.createEncoder(SPEC, null, 1, null);
+			part.build(in.slice(p * 5000, (p + 1) * 5000 - 1));
+			part = serializeAndDeserialize(part);
+			if(enc == null)
+				enc = part;
+			else
+				enc.mergeAt(part, 0, p * 5000 + 1);
+		}
+		assertEquals(in.getNumRows(), getBinEncoder(enc).getSketch().getN());
+		checkEqualHeight(enc.apply(in), 10);
+	}
+
+	@Test
+	public void testBinSketchRowOffset() {
+		// partitions with different row offsets use different, yet reproducible sketch seeds
+		FrameBlock in = createFrame(generate(20000, 9));
+		double[][] maxs = new double[3][];
+		for(int i = 0; i < 3; i++) {
+			MultiColumnEncoder enc = EncoderFactory.createEncoder(SPEC, null, 1, null);
+			getBinEncoder(enc).setRowOffset(i < 2 ? 0 : 10000);
+			enc.build(in);
+			maxs[i] = getBinEncoder(enc).getBinMaxs();
+		}
+		assertArrayEquals(maxs[0], maxs[1], 0);
+		assertTrue(!Arrays.equals(maxs[0], maxs[2]));
+	}
+
+	@Test
+	public void testBinApproxParallel() {
+		String spec = "{ids:true, bin:[{id:1, method:equi-height-approx, numbins:10}]}";
+		FrameBlock in = createFrame(generate(20000, 8));
+		try {
+			// fixed sample for reproducible bin boundaries
+			DMLScript.SEED = 8;
+			ColumnEncoder.BUILD_ROW_BLOCKS_PER_COLUMN = 4;
+			MultiColumnEncoder enc = EncoderFactory.createEncoder(spec, null, 1, null);
+			assertEquals(BinMethod.EQUI_HEIGHT_APPROX, getBinEncoder(enc).getBinMethod());
+			checkEqualHeight(enc.encode(in, 4), 10);
+		}
+		finally {
+			DMLScript.SEED = -1;
+			ColumnEncoder.BUILD_ROW_BLOCKS_PER_COLUMN = -1;
+		}
+	}
+
+	private static void compareQuantiles(double[] vals, KLLSketch sketch) {
+		double[] sorted = vals.clone();
+		Arrays.sort(sorted);
+		assertEquals(sorted[0], sketch.getMin(), 0);
+		assertEquals(sorted[sorted.length - 1], sketch.getMax(), 0);
+		for(double f = 0.05; f < 1; f += 0.05) {
+			// rank error of the approximate quantile
+			double q = sketch.getQuantile(f);
+			int rank = Arrays.binarySearch(sorted, q);
+			assertTrue("value not in input: " + q, rank >= 0);
+			assertEquals("rank error at " + f, f, (double) rank / sorted.length, EPS);
+		}
+	}
+
+	private static void checkEqualHeight(MatrixBlock out, int numBins) {
+		int[] counts = new int[numBins];
+		for(int i = 0; i < out.getNumRows(); i++)
+			counts[(int) out.get(i, 0) - 1]++;
+		for(int c : counts)
+			assertEquals((double) out.getNumRows() / numBins, c, EPS * out.getNumRows());
+	}
+
+	private static ColumnEncoderBin getBinEncoder(MultiColumnEncoder enc) {
+		return enc.getColumnEncoders(ColumnEncoderBin.class).get(0);
+	}
+
+	private static MultiColumnEncoder serializeAndDeserialize(MultiColumnEncoder enc) throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try(ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+			enc.writeExternal(oos);
+		}
+		MultiColumnEncoder ret = new MultiColumnEncoder();
+		try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+			ret.readExternal(ois);
+		}
+		return ret;
+	}
+
+	private static FrameBlock createFrame(double[] vals) {
+		return new FrameBlock(new Array<?>[] {ArrayFactory.create(vals)});
+	}
+
+	private static double[] generate(int n, int seed) {
+		// skewed distribution, for which equi-width and equi-height bins differ
+		Random r = new Random(seed);
+		double[] ret = new double[n];
+		for(int i = 0; i < n; i++)
+			ret[i] = Math.exp(r.nextGaussian() * 2);
+		return ret;
+	}
+}
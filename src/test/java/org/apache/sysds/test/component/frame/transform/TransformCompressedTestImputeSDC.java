@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup.CompressionType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class TransformCompressedTestImputeSDC {
+	private final FrameBlock data = generate(2000, 13);
+
+	@Test
+	public void testImputeMeanPassThrough() {
+		testCompressed("{ids:true, recode:[2,3,5], impute:[{id:1, method:global_mean}]}");
+	}
+
+	@Test
+	public void testImputeConstantPassThrough() {
+		testCompressed("{ids:true, recode:[2,3,5], impute:[{id:1, method:constant, value:-1}]}");
+	}
+
+	@Test
+	public void testImputeModeRecode() {
+		testCompressed("{ids:true, recode:[2,3,5], impute:[{id:2, method:global_mode}]}");
+	}
+
+	@Test
+	public void testImputeMeanBin() {
+		testCompressed("{ids:true, recode:[2,3,5], bin:[{id:1, method:equi-width, numbins:5}],"
+			+ " impute:[{id:1, method:global_mean}]}");
+	}
+
+	@Test
+	public void testSDCRecode() {
+		MatrixBlock out = testCompressed("{ids:true, recode:[2,3,5]}");
+		assertEquals(CompressionType.SDC, getGroup(out, 1).getCompType());
+	}
+
+	@Test
+	public void testSDCPassThrough() {
+		MatrixBlock out = testCompressed("{ids:true, recode:[2,3,5]}");
+		assertEquals(CompressionType.SDC, getGroup(out, 3).getCompType());
+	}
+
+	@Test
+	public void testSDCDummycodeEmpty() {
+		MatrixBlock out = testCompressed("{ids:true, recode:[2,5], dummycode:[3]}");
+		assertEquals(CompressionType.SDC, getGroup(out, 2).getCompType());
+	}
+
+	@Test
+	public void testDDCUniform() {
+		MatrixBlock out = testCompressed("{ids:true, recode:[2,3], dummycode:[5]}");
+		assertEquals(CompressionType.DDC, getGroup(out, 4).getCompType());
+	}
+
+	@Test
+	public void testFallbackOmit() {
+		MatrixBlock out = testCompressed("{ids:true, omit:[1], recode:[2,3,5]}");
+		assertFalse(out instanceof CompressedMatrixBlock);
+	}
+
+	@Test
+	public void testFallbackImputeDummycode() {
+		MatrixBlock out = testCompressed("{ids:true, recode:[3,5], dummycode:[2],"
+			+ " impute:[{id:2, method:global_mode}]}");
+		assertFalse(out instanceof CompressedMatrixBlock);
+	}
+
+	private MatrixBlock testCompressed(String spec) {
+		MultiColumnEncoder encoderNormal = EncoderFactory.createEncoder(spec, data.getColumnNames(),
+			data.getNumColumns(), null);
+		MatrixBlock outNormal = encoderNormal.encode(data, 1);
+		MatrixBlock ret = null;
+		for(int k : new int[] {1, 4}) {
+			MultiColumnEncoder encoderCompressed = EncoderFactory.createEncoder(spec, data.getColumnNames(),
+				data.getNumColumns(), null);
+			ret = encoderCompressed.encode(data, k, true);
+			TestUtils.compareMatrices(outNormal, ret, 0, "Not Equal after compressed encode with k=" + k);
+		}
+		return ret;
+	}
+
+	private static AColGroup getGroup(MatrixBlock out, int col) {
+		assertTrue(out instanceof CompressedMatrixBlock);
+		List<AColGroup> groups = ((CompressedMatrixBlock) out).getColGroups();
+		for(AColGroup g : groups)
+			if(g.getColIndices().contains(col))
+				return g;
+		throw new AssertionError("No column group for column " + col);
+	}
+
+	private static FrameBlock generate(int rows, int seed) {
+		Random r = new Random(seed);
+		Double[] c1 = new Double[rows]; // numeric with missing values
+		String[] c2 = new String[rows]; // skewed categories with missing values
+		String[] c3 = new String[rows]; // mostly missing categories
+		long[] c4 = new long[rows]; // mostly zero
+		String[] c5 = new String[rows]; // uniform categories
+		for(int i = 0; i < rows; i++) {
+			c1[i] = r.nextDouble() < 0.05 ? null : Math.round(r.nextDouble() * 1000) / 10.0;
+			double p = r.nextDouble();
+			c2[i] = p < 0.03 ? null : p < 0.9 ? "a" : "b" + r.nextInt(10);
+			c3[i] = r.nextDouble() < 0.95 ? null : "x" + r.nextInt(5);
+			c4[i] = r.nextDouble() < 0.9 ? 0 : r.nextInt(100);
+			c5[i] = "u" + r.nextInt(8);
+		}
+		return new FrameBlock(new Array<?>[] {ArrayFactory.create(c1), ArrayFactory.create(c2),
+			ArrayFactory.create(c3), ArrayFactory.create(c4), ArrayFactory.create(c5)});
+	}
+}
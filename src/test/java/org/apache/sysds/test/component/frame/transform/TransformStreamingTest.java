@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReader;
+import org.apache.sysds.runtime.io.FrameReaderBinaryBlock;
+import org.apache.sysds.runtime.io.FrameReaderTextCSV;
+import org.apache.sysds.runtime.io.FrameWriter;
+import org.apache.sysds.runtime.io.FrameWriterBinaryBlock;
+import org.apache.sysds.runtime.io.FrameWriterTextCSV;
+import org.apache.sysds.runtime.io.ReaderBinaryBlock;
+import org.apache.sysds.runtime.io.WriterBinaryBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
+import org.apache.sysds.runtime.transform.encode.StreamingEncode;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TransformStreamingTest {
+	private static final int BLEN = 100;
+	private static final ValueType[] SCHEMA = {ValueType.FP64, ValueType.STRING, ValueType.INT64};
+
+	private File _dir;
+
+	@Before
+	public void setUp() throws Exception {
+		_dir = Files.createTempDirectory("stream").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testRecodeBinary() throws Exception {
+		runTest("{ids:true, recode:[2,3]}", binary(), 333, false);
+	}
+
+	@Test
+	public void testDummycodeBinary() throws Exception {
+		runTest("{ids:true, recode:[2], dummycode:[2,3], bin:[{id:3, method:equi-width, numbins:5}]}", binary(),
+			1000, false);
+	}
+
+	@Test
+	public void testBinPassThroughCSV() throws Exception {
+		runTest("{ids:true, bin:[{id:1, method:equi-width, numbins:7}], recode:[2]}", csv(), 777, false);
+	}
+
+	@Test
+	public void testBinSketchBinary() throws Exception {
+		runTest("{ids:true, bin:[{id:1, method:equi-height-sketch, numbins:8}], recode:[2], dummycode:[1]}", binary(),
+			500, false);
+	}
+
+	@Test
+	public void testDummycodeCSVSingleBatch() throws Exception {
+		runTest("{ids:true, dummycode:[2]}", csv(), 10000, false);
+	}
+
+	@Test
+	public void testImputeBinary() throws Exception {
+		runTest("{ids:true, impute:[{id:1, method:global_mean}, {id:2, method:global_mode}], recode:[2]}", binary(),
+			256, true);
+	}
+
+	@Test
+	public void testBinUnsupported() throws Exception {
+		String[] names = FrameBlock.createColNames(SCHEMA.length);
+		for(String method : new String[] {"equi-height", "equi-height-approx"}) {
+			String spec = "{ids:true, bin:[{id:1, method:" + method + ", numbins:4}], recode:[2]}";
+			MultiColumnEncoder enc = EncoderFactory.createEncoder(spec, names, SCHEMA.length, null);
+			assertFalse(StreamingEncode.isSupported(enc));
+			// rejected before reading the (non-existing) input
+			String fname = new File(_dir, "missing").getAbsolutePath();
+			assertThrows(DMLRuntimeException.class, () -> StreamingEncode.encode(enc, new FrameReaderBinaryBlock(),
+				fname, SCHEMA, names, SCHEMA.length, new WriterBinaryBlock(1), fname + "_out", BLEN, 256, 1));
+		}
+	}
+
+	private void runTest(String spec, Object[] io, int batchSize, boolean missingValues) throws Exception {
+		FrameWriter writer = (FrameWriter) io[0];
+		FrameReader reader = (FrameReader) io[1];
+		FrameBlock in = generate(2500, missingValues, 11);
+		String fname = new File(_dir, "F").getAbsolutePath();
+		String oname = new File(_dir, "X").getAbsolutePath();
+		writer.writeFrameToHDFS(in, fname, in.getNumRows(), in.getNumColumns());
+
+		// in-memory encode as reference
+		MultiColumnEncoder enc1 = EncoderFactory.createEncoder(spec, in.getColumnNames(), in.getNumColumns(), null);
+		MatrixBlock expected = enc1.encode(in);
+
+		// streaming encode over row batches
+		MultiColumnEncoder enc2 = EncoderFactory.createEncoder(spec, in.getColumnNames(), in.getNumColumns(), null);
+		MatrixCharacteristics mc = StreamingEncode.encode(enc2, reader, fname, SCHEMA, in.getColumnNames(),
+			in.getNumColumns(), new WriterBinaryBlock(1), oname, BLEN, batchSize, 1);
+
+		assertEquals(expected.getNumRows(), mc.getRows());
+		assertEquals(expected.getNumColumns(), mc.getCols());
+		assertEquals(expected.recomputeNonZeros(), mc.getNonZeros());
+		MatrixBlock ret = new ReaderBinaryBlock(false).readMatrixFromHDFS(oname, mc.getRows(), mc.getCols(), BLEN,
+			mc.getNonZeros());
+		TestUtils.compareMatrices(expected, ret, 1e-10, "");
+	}
+
+	private static Object[] binary() {
+		return new Object[] {new FrameWriterBinaryBlock(), new FrameReaderBinaryBlock()};
+	}
+
+	private static Object[] csv() {
+		FileFormatPropertiesCSV props = new FileFormatPropertiesCSV(true, ",", false);
+		return new Object[] {new FrameWriterTextCSV(props), new FrameReaderTextCSV(props)};
+	}
+
+	private static FrameBlock generate(int rows, boolean missingValues, int seed) {
+		Random r = new Random(seed);
+		Double[] c1 = new Double[rows];
+		String[] c2 = new String[rows];
+		long[] c3 = new long[rows];
+		for(int i = 0; i < rows; i++) {
+			c1[i] = missingValues && r.nextDouble() < 0.05 ? null : r.nextDouble() * 100;
+			c2[i] = r.nextDouble() < 0.05 ? null : "v" + r.nextInt(20);
+			c3[i] = r.nextInt(50);
+		}
+		Array<?> a1 = missingValues ? ArrayFactory.create(c1) : ArrayFactory.create(ArrayUtils.toPrimitive(c1));
+		return new FrameBlock(new Array<?>[] {a1, ArrayFactory.create(c2), ArrayFactory.create(c3)});
+	}
+}
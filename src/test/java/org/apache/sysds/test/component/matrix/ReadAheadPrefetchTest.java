@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.matrix;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.caching.ReadAheadPrefetcher;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContextFactory;
+import org.apache.sysds.runtime.instructions.CPInstructionParser;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.instructions.cp.TriggerPrefetchTask;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class ReadAheadPrefetchTest {
+	private DMLConfig _conf;
+	private boolean _stats;
+
+	@Before
+	public void setUp() throws Exception {
+		_conf = ConfigurationManager.getDMLConfig();
+		_stats = DMLScript.STATISTICS;
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.CACHING_READAHEAD, "4");
+		ConfigurationManager.setGlobalConfig(conf);
+		DMLScript.STATISTICS = true;
+		CacheStatistics.reset();
+		CacheableData.initCaching("tmp_readahead_test");
+	}
+
+	@After
+	public void tearDown() {
+		ConfigurationManager.setGlobalConfig(_conf);
+		DMLScript.STATISTICS = _stats;
+		CacheableData.cleanupCacheDir();
+	}
+
+	@Test
+	public void testRestoreEvicted() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 100, -1, 1, 1.0, 7);
+		MatrixObject mo = createEvicted("A", mb);
+		Assert.assertTrue(mo.isEvicted());
+		new TriggerPrefetchTask(mo).run();
+		Assert.assertFalse(mo.isEvicted());
+		Assert.assertEquals(1, CacheStatistics.getReadAheads());
+		TestUtils.compareMatricesBitAvgDistance(mb, mo.acquireReadAndRelease(), 0, 0, "read-ahead");
+	}
+
+	@Test
+	public void testRestoreFromInstructionStream() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 100, -1, 1, 1.0, 3);
+		MatrixObject mo = createEvicted("A", mb);
+		ExecutionContext ec = ExecutionContextFactory.createContext();
+		ec.setVariable("A", mo);
+		Instruction inst = CPInstructionParser.parseSingleInstruction(
+			"CP°+°A·MATRIX·FP64°A·MATRIX·FP64°C·MATRIX·FP64°1");
+		ReadAheadPrefetcher.trigger(Arrays.asList(inst), 0, CacheableData.getReadAheadWindow(), ec);
+		//wait for async restore
+		for( int i = 0; i < 1000 && mo.isEvicted(); i++ )
+			Thread.sleep(10);
+		Assert.assertFalse(mo.isEvicted());
+		TestUtils.compareMatricesBitAvgDistance(mb, mo.acquireReadAndRelease(), 0, 0, "read-ahead");
+	}
+
+	@Test
+	public void testSkipWrittenVariables() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 100, -1, 1, 1.0, 5);
+		MatrixObject mo = createEvicted("A", mb);
+		ExecutionContext ec = ExecutionContextFactory.createContext();
+		ec.setVariable("A", mo);
+		//A is overwritten before it is read, so the current A must not be restored
+		Instruction inst1 = CPInstructionParser.parseSingleInstruction(
+			"CP°+°D·MATRIX·FP64°D·MATRIX·FP64°A·MATRIX·FP64°1");
+		Instruction inst2 = CPInstructionParser.parseSingleInstruction(
+			"CP°+°A·MATRIX·FP64°A·MATRIX·FP64°C·MATRIX·FP64°1");
+		ReadAheadPrefetcher.trigger(Arrays.asList(inst1, inst2), 0, CacheableData.getReadAheadWindow(), ec);
+		ReadAheadPrefetcher.triggerNext(Arrays.asList(inst1, inst2), 0, 1, ec);
+		Thread.sleep(200);
+		Assert.assertTrue(mo.isEvicted());
+		Assert.assertEquals(0, CacheStatistics.getReadAheads());
+	}
+
+	private static MatrixObject createEvicted(String name, MatrixBlock mb) throws Exception {
+		MatrixCharacteristics mc = new MatrixCharacteristics(mb.getNumRows(), mb.getNumColumns(), -1, -1);
+		MatrixObject mo = new MatrixObject(ValueType.FP64, name, new MetaDataFormat(mc, FileFormat.BINARY));
+		mo.acquireModify(mb);
+		mo.release();
+		LazyWriteBuffer.forceEviction();
+		Method clearCache = CacheableData.class.getDeclaredMethod("clearCache");
+		clearCache.setAccessible(true);
+		clearCache.invoke(mo);
+		return mo;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.LibMatrixSIMD;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the Vector API kernels against scalar reference implementations. These tests are skipped unless the JVM
+ * runs with --add-modules jdk.incubator.vector, but fail if the module is expected (as configured in the vector-api
+ * build profile) or was added and the kernels could not be loaded.
+ */
+public class SIMDKernelsTest {
+	private static final double EPS = 1e-9;
+
+	private LibMatrixSIMD simd;
+
+	@Before
+	public void setup() {
+		boolean expected = Boolean.getBoolean("sysds.test.vectorapi")
+			|| ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+		if(expected)
+			assertTrue("Vector API SIMD kernels not available", LibMatrixSIMD.isSupported());
+		Assume.assumeTrue(LibMatrixSIMD.isSupported());
+		simd = LibMatrixSIMD.get();
+	}
+
+	@Test
+	public void testDotProduct() {
+		for(int len : new int[] {0, 1, 7, 8, 31, 64, 1003}) {
+			double[] a = rand(len + 3, 1), b = rand(len + 5, 2);
+			double exp = 0;
+			for(int i = 0; i < len; i++)
+				exp += a[i + 3] * b[i + 5];
+			assertEquals(exp, simd.dotProduct(a, b, 3, 5, len), EPS);
+		}
+	}
+
+	@Test
+	public void testVectMultiplyAdd() {
+		for(int len : new int[] {0, 1, 7, 8, 31, 64, 1003}) {
+			double[] b = rand(len + 2, 3), c = rand(len + 1, 4);
+			double[] exp = c.clone();
+			for(int i = 0; i < len; i++)
+				exp[i + 1] += 0.7 * b[i + 2];
+			simd.vectMultiplyAdd(0.7, b, c, 2, 1, len);
+			TestUtils.compareMatrices(exp, c, EPS);
+		}
+	}
+
+	@Test
+	public void testVectMultiplyAdd4() {
+		for(int len : new int[] {1, 7, 8, 31, 64, 1003}) {
+			double[] b = rand(4 * len, 5), c = rand(len, 6);
+			double[] exp = c.clone();
+			for(int i = 0; i < len; i++)
+				exp[i] += 0.1 * b[i] + 0.2 * b[len + i] + 0.3 * b[2 * len + i] + 0.4 * b[3 * len + i];
+			simd.vectMultiplyAdd4(0.1, 0.2, 0.3, 0.4, b, c, 0, len, 2 * len, 3 * len, 0, len);
+			TestUtils.compareMatrices(exp, c, EPS);
+		}
+	}
+
+	@Test
+	public void testMatrixMultSquare() {
+		testMatrixMult(64, 64, 64, 0, 64, 0, 64);
+	}
+
+	@Test
+	public void testMatrixMultUnaligned() {
+		testMatrixMult(37, 301, 129, 0, 37, 0, 129);
+	}
+
+	@Test
+	public void testMatrixMultRowColumnRange() {
+		testMatrixMult(100, 300, 500, 13, 71, 33, 411);
+	}
+
+	@Test
+	public void testMatrixMultViaMatrixBlock() {
+		MatrixBlock a = TestUtils.generateTestMatrixBlock(257, 301, -1, 1, 1.0, 7);
+		MatrixBlock b = TestUtils.generateTestMatrixBlock(301, 263, -1, 1, 1.0, 8);
+		double[][] exp = mm(a.getDenseBlockValues(), b.getDenseBlockValues(), 257, 301, 263);
+		MatrixBlock ret = LibMatrixMult.matrixMult(a, b, 4);
+		TestUtils.compareMatrices(exp, ret, EPS, "matrix mult via LibMatrixMult");
+	}
+
+	@Test
+	public void testMatrixMultNonFinite() {
+		// zeros in a (entire rows, and scattered) against Inf/NaN in b
+		final int m = 37, cd = 129, n = 70;
+		double[] a = rand(m * cd, 9), b = rand(cd * n, 10);
+		for(int i = 0; i < a.length; i++)
+			if(i % 5 == 0 || (i / cd) % 4 == 1)
+				a[i] = 0;
+		for(int i = 0; i < b.length; i += 17)
+			b[i] = (i % 2 == 0) ? Double.POSITIVE_INFINITY : Double.NaN;
+		double[] c = new double[m * n];
+		double[][] exp = mm(a, b, m, cd, n);
+		simd.matrixMultDenseDenseMM(a, b, c, n, cd, 0, m, 0, n);
+		for(int i = 0; i < m; i++)
+			for(int j = 0; j < n; j++)
+				assertEquals(exp[i][j], c[i * n + j], EPS);
+	}
+
+	private void testMatrixMult(int m, int cd, int n, int rl, int ru, int cl, int cu) {
+		double[] a = rand(m * cd, 7), b = rand(cd * n, 8);
+		double[] c = new double[m * n];
+		double[][] full = mm(a, b, m, cd, n);
+		simd.matrixMultDenseDenseMM(a, b, c, n, cd, rl, ru, cl, cu);
+		for(int i = 0; i < m; i++)
+			for(int j = 0; j < n; j++) {
+				boolean inRange = i >= rl && i < ru && j >= cl && j < cu;
+				assertEquals(inRange ? full[i][j] : 0, c[i * n + j], EPS);
+			}
+	}
+
+	private static double[][] mm(double[] a, double[] b, int m, int cd, int n) {
+		double[][] ret = new double[m][n];
+		for(int i = 0; i < m; i++)
+			for(int k = 0; k < cd; k++) {
+				// skip zeros as the scalar kernels do (0 * Inf and 0 * NaN do not propagate)
+				if(a[i * cd + k] == 0)
+					continue;
+				for(int j = 0; j < n; j++)
+					ret[i][j] += a[i * cd + k] * b[k * n + j];
+			}
+		return ret;
+	}
+
+	private static double[] rand(int len, int seed) {
+		Random r = new Random(seed);
+		double[] ret = new double[len];
+		for(int i = 0; i < len; i++)
+			ret[i] = r.nextDouble() * 2 - 1;
+		return ret;
+	}
+}
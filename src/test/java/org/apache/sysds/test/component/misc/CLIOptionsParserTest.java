@@ -115,6 +115,26 @@ public class CLIOptionsParserTest {
 		Assert.assertEquals(9123, o.statsCount);
 	}
 
+	@Test
+	public void testStatsAlloc() throws Exception {
+		String cl = "systemds -f test.dml -stats alloc";
+		String[] args = cl.split(" ");
+		DMLOptions o = DMLOptions.parseCLArguments(args);
+		Assert.assertEquals(true, o.stats);
+		Assert.assertEquals(true, o.statsAlloc);
+		Assert.assertEquals(10, o.statsCount);
+	}
+
+	@Test
+	public void testStatsCountAlloc() throws Exception {
+		String cl = "systemds -f test.dml -stats 25 alloc";
+		String[] args = cl.split(" ");
+		DMLOptions o = DMLOptions.parseCLArguments(args);
+		Assert.assertEquals(true, o.stats);
+		Assert.assertEquals(true, o.statsAlloc);
+		Assert.assertEquals(25, o.statsCount);
+	}
+
 	@Test(expected = ParseException.class)
 	public void testBadStats() throws Exception {
 		String cl = "systemds -f test.dml -stats help";
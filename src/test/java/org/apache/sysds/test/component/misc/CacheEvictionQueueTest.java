@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.apache.sysds.runtime.controlprogram.caching.ByteBuffer;
+import org.apache.sysds.runtime.controlprogram.caching.CacheEvictionQueue;
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CacheEvictionQueueTest {
+	private File _pfile;
+
+	@Before
+	public void setUp() throws Exception {
+		//persistent copy of clean entries
+		_pfile = File.createTempFile("pcopy", ".bin");
+		Files.write(_pfile.toPath(), new byte[64]);
+	}
+
+	@After
+	public void tearDown() {
+		_pfile.delete();
+	}
+
+	@Test
+	public void testFIFO() {
+		CacheEvictionQueue q = createQueue(RPolicy.FIFO);
+		Assert.assertEquals("a", q.removeFirst().getKey());
+		Assert.assertEquals("b", q.removeFirst().getKey());
+		Assert.assertEquals("c", q.removeFirst().getKey());
+		Assert.assertTrue(q.isEmpty());
+	}
+
+	@Test
+	public void testLRU() {
+		CacheEvictionQueue q = createQueue(RPolicy.LRU);
+		//re-insert on access
+		q.addLast("a", q.remove("a"));
+		Assert.assertEquals("b", q.removeFirst().getKey());
+		Assert.assertEquals("c", q.removeFirst().getKey());
+		Assert.assertEquals("a", q.removeFirst().getKey());
+	}
+
+	@Test
+	public void testCleanFirst() {
+		CacheEvictionQueue q = createQueue(RPolicy.CLEANFIRST);
+		q.get("c").setClean(_pfile.getAbsolutePath());
+		Assert.assertEquals("c", q.removeFirst().getKey());
+		//fallback to queue order w/o clean entries
+		Assert.assertEquals("a", q.removeFirst().getKey());
+	}
+
+	@Test
+	public void testCostNSize() {
+		CacheEvictionQueue q = createQueue(RPolicy.COSTNSIZE);
+		//large, rarely accessed entry first
+		for( int i=0; i<4; i++ )
+			q.get("b").incrementAccesses();
+		Assert.assertEquals("c", q.removeFirst().getKey());
+		//equal size, fewer accesses
+		Assert.assertEquals("a", q.removeFirst().getKey());
+		Assert.assertEquals("b", q.removeFirst().getKey());
+	}
+
+	@Test
+	public void testCostNSizeClean() {
+		CacheEvictionQueue q = createQueue(RPolicy.COSTNSIZE);
+		q.remove("c");
+		q.get("b").setClean(_pfile.getAbsolutePath());
+		Assert.assertEquals("b", q.removeFirst().getKey());
+	}
+
+	@Test
+	public void testCleanDrop() throws Exception {
+		CacheEvictionQueue q = createQueue(RPolicy.CLEANFIRST);
+		ByteBuffer bb = q.get("a");
+		bb.setClean(_pfile.getAbsolutePath());
+		Assert.assertTrue(bb.hasUnmodifiedPersistentCopy());
+		q.evictBuffer(q.removeFirst().getKey(), bb);
+		Assert.assertTrue(bb.isDropped());
+		Assert.assertSame(bb, q.removeDropped("a"));
+		Assert.assertNull(q.removeDropped("a"));
+		//re-written entries supersede the dropped buffer
+		q.evictBuffer("a", bb);
+		q.addLast("a", new ByteBuffer(1024));
+		Assert.assertNull(q.removeDropped("a"));
+	}
+
+	@Test
+	public void testCleanModified() throws Exception {
+		CacheEvictionQueue q = createQueue(RPolicy.CLEANFIRST);
+		q.get("b").setClean(_pfile.getAbsolutePath());
+		//overwrite of the persistent copy invalidates the clean state
+		Files.write(_pfile.toPath(), new byte[128]);
+		Assert.assertTrue(q.get("b").isClean());
+		Assert.assertFalse(q.get("b").hasUnmodifiedPersistentCopy());
+		Assert.assertNull(q.removeDropped("b"));
+	}
+
+	@Test
+	public void testCleanMissing() {
+		ByteBuffer bb = new ByteBuffer(1024);
+		bb.setClean(_pfile.getAbsolutePath() + "_missing");
+		Assert.assertFalse(bb.isClean());
+	}
+
+	@Test
+	public void testPinned() {
+		for( RPolicy p : RPolicy.values() ) {
+			CacheEvictionQueue q = createQueue(p);
+			Assert.assertEquals(p.name(), "b",
+				q.removeFirstUnpinned(Arrays.asList("a", "c")).getKey());
+		}
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testAllPinned() {
+		createQueue(RPolicy.COSTNSIZE)
+			.removeFirstUnpinned(Arrays.asList("a", "b", "c"));
+	}
+
+	private static CacheEvictionQueue createQueue(RPolicy policy) {
+		CacheEvictionQueue q = new CacheEvictionQueue(policy);
+		q.addLast("a", new ByteBuffer(1024));
+		q.addLast("b", new ByteBuffer(1024));
+		q.addLast("c", new ByteBuffer(8192));
+		Assert.assertEquals(policy, q.getPolicy());
+		return q;
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.FileFormatPropertiesColumnar;
+import org.apache.sysds.runtime.io.FrameReader;
+import org.apache.sysds.runtime.io.FrameReaderArrow;
+import org.apache.sysds.runtime.io.FrameReaderParquet;
+import org.apache.sysds.runtime.io.FrameWriter;
+import org.apache.sysds.runtime.io.FrameWriterArrow;
+import org.apache.sysds.runtime.io.FrameWriterParquet;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.ReaderArrow;
+import org.apache.sysds.runtime.io.ReaderParquet;
+import org.apache.sysds.runtime.io.WriterArrow;
+import org.apache.sysds.runtime.io.WriterParquet;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ColumnarFormatsTest {
+
+	private static final ValueType[] SCHEMA = new ValueType[] {ValueType.STRING, ValueType.FP64,
+		ValueType.FP32, ValueType.INT64, ValueType.INT32, ValueType.BOOLEAN};
+
+	private final FileFormat _fmt;
+	private final String _codec;
+	private File _dir;
+
+	public ColumnarFormatsTest(FileFormat fmt, String codec) {
+		_fmt = fmt;
+		_codec = codec;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] {
+			{FileFormat.PARQUET, null}, {FileFormat.PARQUET, "gzip"},
+			{FileFormat.ARROW, null}, {FileFormat.ARROW, "lz4"}, {FileFormat.ARROW, "zstd"}});
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		_dir = Files.createTempDirectory("columnar").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testMatrixDense() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 7, -10, 10, 0.9, 7);
+		MatrixBlock ret = writeAndRead(mb, 1);
+		TestUtils.compareMatrices(mb, ret, 0);
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+	}
+
+	@Test
+	public void testMatrixSparseParallel() throws Exception {
+		//about 3.2MB with row groups / batches of at least 1MB
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(100000, 4, -1, 1, 0.05, 13);
+		MatrixBlock ret = writeAndRead(mb, 4);
+		TestUtils.compareMatrices(mb, ret, 0);
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		assertTrue(ret.isInSparseFormat());
+	}
+
+	@Test
+	public void testMatrixProjection() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(100, 5, 1, 2, 1, 3);
+		String fname = new File(_dir, "m").getPath();
+		createMatrixWriter().writeMatrixToHDFS(mb, fname, 100, 5, -1, mb.getNonZeros(), false);
+		MatrixBlock ret = createMatrixReader(new String[] {"C4", "C2"}, 1)
+			.readMatrixFromHDFS(fname, -1, -1, -1, -1);
+		assertEquals(2, ret.getNumColumns());
+		for(int i = 0; i < 100; i++) {
+			assertEquals(mb.get(i, 3), ret.get(i, 0), 0);
+			assertEquals(mb.get(i, 1), ret.get(i, 1), 0);
+		}
+	}
+
+	@Test
+	public void testMatrixUnknownDims() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(17, 3, 0, 1, 0.5, 11);
+		String fname = new File(_dir, "m").getPath();
+		createMatrixWriter().writeMatrixToHDFS(mb, fname, 17, 3, -1, mb.getNonZeros(), false);
+		MatrixBlock ret = createMatrixReader(null, 1).readMatrixFromHDFS(fname, -1, -1, -1, -1);
+		TestUtils.compareMatrices(mb, ret, 0);
+	}
+
+	@Test(expected = Exception.class)
+	public void testMatrixDimsMismatch() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(10, 3, 0, 1, 1, 11);
+		String fname = new File(_dir, "m").getPath();
+		createMatrixWriter().writeMatrixToHDFS(mb, fname, 10, 3, -1, mb.getNonZeros(), false);
+		createMatrixReader(null, 1).readMatrixFromHDFS(fname, 11, 3, -1, -1);
+	}
+
+	@Test
+	public void testFrame() throws Exception {
+		FrameBlock fb = createFrame(500);
+		FrameBlock ret = writeAndRead(fb, null, SCHEMA, 1);
+		assertArrayEquals(SCHEMA, ret.getSchema());
+		assertArrayEquals(fb.getColumnNames(), ret.getColumnNames());
+		TestUtils.compareFrames(fb, ret, false);
+		assertNull(ret.get(3, 0));
+	}
+
+	@Test
+	public void testFrameParallel() throws Exception {
+		FrameBlock fb = createFrame(60000);
+		FrameBlock ret = writeAndRead(fb, null, SCHEMA, 4);
+		TestUtils.compareFrames(fb, ret, false);
+	}
+
+	@Test
+	public void testFrameProjection() throws Exception {
+		FrameBlock fb = createFrame(100);
+		FrameBlock ret = writeAndRead(fb, new String[] {"C5", "C1"}, null, 1);
+		assertArrayEquals(new ValueType[] {ValueType.INT32, ValueType.STRING}, ret.getSchema());
+		assertArrayEquals(new String[] {"C5", "C1"}, ret.getColumnNames());
+		for(int i = 0; i < 100; i++) {
+			assertEquals(fb.get(i, 4), ret.get(i, 0));
+			assertEquals(fb.get(i, 0), ret.get(i, 1));
+		}
+	}
+
+	@Test
+	public void testFrameSchemaConversion() throws Exception {
+		FrameBlock fb = createFrame(50);
+		ValueType[] schema = new ValueType[] {ValueType.STRING, ValueType.STRING,
+			ValueType.FP64, ValueType.FP64, ValueType.INT64, ValueType.UNKNOWN};
+		FrameBlock ret = writeAndRead(fb, null, schema, 1);
+		assertEquals(ValueType.STRING, ret.getSchema()[1]);
+		assertEquals(ValueType.FP64, ret.getSchema()[2]);
+		assertEquals(ValueType.INT64, ret.getSchema()[4]);
+		assertEquals(ValueType.BOOLEAN, ret.getSchema()[5]);
+		for(int i = 0; i < 50; i++)
+			assertEquals(fb.getColumn(3).getAsDouble(i), ret.getColumn(3).getAsDouble(i), 0);
+	}
+
+	@Test
+	public void testFrameEmpty() throws Exception {
+		FrameBlock fb = new FrameBlock(SCHEMA);
+		FrameBlock ret = writeAndRead(fb, null, SCHEMA, 1);
+		assertEquals(0, ret.getNumRows());
+		assertEquals(SCHEMA.length, ret.getNumColumns());
+	}
+
+	@Test
+	public void testParquetDirectory() throws Exception {
+		if(_fmt != FileFormat.PARQUET)
+			return;
+		//directory of part files as written by spark
+		FrameBlock fb = createFrame(300);
+		File dir = new File(_dir, "parts");
+		dir.mkdir();
+		FrameWriter writer = createFrameWriter();
+		writer.writeFrameToHDFS(fb.slice(0, 99), new File(dir, "part-00000").getPath(), 100, SCHEMA.length);
+		writer.writeFrameToHDFS(fb.slice(100, 299), new File(dir, "part-00001").getPath(), 200, SCHEMA.length);
+		FrameBlock ret = createFrameReader(null, 4).readFrameFromHDFS(dir.getPath(), SCHEMA, null, 300, -1);
+		TestUtils.compareFrames(fb, ret, false);
+	}
+
+	private MatrixBlock writeAndRead(MatrixBlock mb, int k) throws Exception {
+		String fname = new File(_dir, "m").getPath();
+		createMatrixWriter().writeMatrixToHDFS(mb, fname,
+			mb.getNumRows(), mb.getNumColumns(), -1, mb.getNonZeros(), false);
+		return createMatrixReader(null, k).readMatrixFromHDFS(fname,
+			mb.getNumRows(), mb.getNumColumns(), -1, mb.getNonZeros());
+	}
+
+	private FrameBlock writeAndRead(FrameBlock fb, String[] columns, ValueType[] schema, int k) throws Exception {
+		String fname = new File(_dir, "f").getPath();
+		createFrameWriter().writeFrameToHDFS(fb, fname, fb.getNumRows(), fb.getNumColumns());
+		return createFrameReader(columns, k).readFrameFromHDFS(fname, schema, null, fb.getNumRows(), -1);
+	}
+
+	private static FrameBlock createFrame(int rows) {
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(rows, SCHEMA, 7);
+		for(int i = 3; i < rows; i += 7)
+			fb.set(i, 0, (String) null);
+		return fb;
+	}
+
+	private MatrixWriter createMatrixWriter() {
+		FileFormatPropertiesColumnar props = new FileFormatPropertiesColumnar(null, _codec);
+		return (_fmt == FileFormat.PARQUET) ? new WriterParquet(props, 4) : new WriterArrow(props, 4);
+	}
+
+	private MatrixReader createMatrixReader(String[] columns, int k) {
+		FileFormatPropertiesColumnar props = new FileFormatPropertiesColumnar(columns);
+		return (_fmt == FileFormat.PARQUET) ? new ReaderParquet(props, k) : new ReaderArrow(props, k);
+	}
+
+	private FrameWriter createFrameWriter() {
+		FileFormatPropertiesColumnar props = new FileFormatPropertiesColumnar(null, _codec);
+		return (_fmt == FileFormat.PARQUET) ? new FrameWriterParquet(props, 4) : new FrameWriterArrow(props, 4);
+	}
+
+	private FrameReader createFrameReader(String[] columns, int k) {
+		FileFormatPropertiesColumnar props = new FileFormatPropertiesColumnar(columns);
+		return (_fmt == FileFormat.PARQUET) ? new FrameReaderParquet(props, k) : new FrameReaderArrow(props, k);
+	}
+}
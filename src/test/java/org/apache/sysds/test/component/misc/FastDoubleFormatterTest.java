@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.apache.sysds.runtime.util.FastDoubleFormatter;
+import org.junit.Test;
+
+public class FastDoubleFormatterTest {
+
+	@Test
+	public void testSimpleNumbers() {
+		double[] in = {0, -0d, 1, -1, 0.1, 0.3, 1.5, 100, 1e7, 9999999, 1e-3, 1e-4, 0.00123, 1234567.125,
+			3.141592653589793, 1e22, 123456789012345678d, 1.7976931348623157e308, 2.2250738585072014E-308,
+			Double.MIN_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+		for(double d : in)
+			assertEquals(Double.toString(d), format(d));
+	}
+
+	@Test
+	public void testShortestNumbers() {
+		// known cases where Double.toString (before JDK 19) emits more digits than necessary
+		assertEquals("1.0E23", format(1e23));
+		assertEquals("5.684341886080802E-14", format(Math.pow(2, -44)));
+	}
+
+	@Test
+	public void testRandomNumbers() {
+		Random rand = new Random(7);
+		for(int i = 0; i < 500000; i++) {
+			double d;
+			switch(i % 4) {
+				case 0: d = Double.longBitsToDouble(rand.nextLong()); break;
+				case 1: d = rand.nextDouble(); break;
+				case 2: d = rand.nextGaussian() * Math.pow(10, rand.nextInt(40) - 20); break;
+				default: d = Math.round(rand.nextDouble() * 1e6) / 1e3;
+			}
+			if(Double.isNaN(d))
+				continue;
+			String s = format(d);
+			String ref = Double.toString(d);
+			assertEquals(ref, d, Double.parseDouble(s), 0);
+			assertTrue(s + " vs " + ref, s.length() <= ref.length());
+		}
+	}
+
+	@Test
+	public void testLongs() {
+		long[] in = {0, 1, -1, 9, 10, 99, 100, 123456789, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE,
+			-999999999999999999L};
+		byte[] buff = new byte[FastDoubleFormatter.MAX_LONG_CHARS];
+		for(long v : in)
+			assertEquals(Long.toString(v),
+				new String(buff, 0, FastDoubleFormatter.format(v, buff, 0), StandardCharsets.US_ASCII));
+	}
+
+	private static String format(double d) {
+		byte[] buff = new byte[FastDoubleFormatter.MAX_CHARS + 3];
+		int pos = FastDoubleFormatter.format(d, buff, 3);
+		return new String(buff, 3, pos - 3, StandardCharsets.US_ASCII);
+	}
+}
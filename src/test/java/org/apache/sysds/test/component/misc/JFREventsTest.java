@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.sysds.runtime.controlprogram.parfor.Task;
+import org.apache.sysds.runtime.controlprogram.parfor.Task.TaskType;
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+import org.apache.sysds.utils.stats.JFREvents;
+import org.junit.Assert;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JFREventsTest {
+
+	@Test
+	public void testBufferPoolEvent() throws IOException {
+		List<RecordedEvent> events = record(() -> {
+			JFREvents.commitBufferPool(JFREvents.beginBufferPool(), "evict", "cache7.dat", 1024);
+		});
+		RecordedEvent ev = find(events, "org.apache.sysds.BufferPool");
+		Assert.assertEquals("evict", ev.getString("type"));
+		Assert.assertEquals("cache7.dat", ev.getString("file"));
+		Assert.assertEquals(1024, ev.getLong("size"));
+	}
+
+	@Test
+	public void testLineageCacheEvent() throws IOException {
+		List<RecordedEvent> events = record(() -> {
+			JFREvents.commitLineageCache(JFREvents.beginLineageCache(), "spill", "ba+*", 4096);
+		});
+		RecordedEvent ev = find(events, "org.apache.sysds.LineageCache");
+		Assert.assertEquals("spill", ev.getString("type"));
+		Assert.assertEquals("ba+*", ev.getString("opcode"));
+		Assert.assertEquals(4096, ev.getLong("size"));
+	}
+
+	@Test
+	public void testParForTaskEvent() throws IOException {
+		Task task = new Task("i", TaskType.RANGE);
+		task.addIteration(new IntObject(1));
+		task.addIteration(new IntObject(10));
+		task.addIteration(new IntObject(1));
+		List<RecordedEvent> events = record(() -> {
+			JFREvents.commitParForTask(JFREvents.beginParForTask(), 3, task);
+		});
+		RecordedEvent ev = find(events, "org.apache.sysds.ParForTask");
+		Assert.assertEquals(3, ev.getLong("workerID"));
+		Assert.assertEquals("i", ev.getString("iterVar"));
+		Assert.assertEquals("RANGE", ev.getString("taskType"));
+	}
+
+	@Test
+	public void testDisabled() {
+		//no active recording, events are not committed
+		JFREvents.BufferPoolEvent ev = JFREvents.beginBufferPool();
+		Assert.assertFalse(ev.shouldCommit());
+		JFREvents.commitBufferPool(ev, "restore", "cache1.dat", 1);
+		Assert.assertNull(ev.type);
+	}
+
+	private static List<RecordedEvent> record(Runnable r) throws IOException {
+		File tmp = File.createTempFile("sysds", ".jfr");
+		try( Recording rec = new Recording() ) {
+			rec.enable(JFREvents.BufferPoolEvent.class);
+			rec.enable(JFREvents.LineageCacheEvent.class);
+			rec.enable(JFREvents.ParForTaskEvent.class);
+			rec.start();
+			r.run();
+			rec.stop();
+			rec.dump(tmp.toPath());
+			return RecordingFile.readAllEvents(tmp.toPath());
+		}
+		finally {
+			tmp.delete();
+		}
+	}
+
+	private static RecordedEvent find(List<RecordedEvent> events, String name) {
+		for( RecordedEvent ev : events )
+			if( ev.getEventType().getName().equals(name) )
+				return ev;
+		Assert.fail("Missing event " + name);
+		return null;
+	}
+}
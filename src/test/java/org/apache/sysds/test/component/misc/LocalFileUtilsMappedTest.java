@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LocalFileUtilsMappedTest {
+
+	@Test
+	public void testDenseMappedWriteMappedRead() throws IOException {
+		runRoundtrip(1.0, true, true);
+	}
+
+	@Test
+	public void testDenseMappedWriteStreamRead() throws IOException {
+		runRoundtrip(1.0, true, false);
+	}
+
+	@Test
+	public void testDenseStreamWriteMappedRead() throws IOException {
+		runRoundtrip(1.0, false, true);
+	}
+
+	@Test
+	public void testSparseMappedWriteMappedRead() throws IOException {
+		runRoundtrip(0.01, true, true);
+	}
+
+	@Test
+	public void testEmptyMappedWriteMappedRead() throws IOException {
+		runRoundtrip(0.0, true, true);
+	}
+
+	private static void runRoundtrip(double sparsity, boolean mmapWrite, boolean mmapRead) throws IOException {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1234, 67, -1, 1, sparsity, 7);
+		if( sparsity == 1.0 )
+			mb.sparseToDense();
+		File tmp = File.createTempFile("mmap", ".dat");
+		try {
+			LocalFileUtils.writeCacheBlockToLocal(tmp.getAbsolutePath(), mb, mmapWrite);
+			MatrixBlock ret = (MatrixBlock) LocalFileUtils
+				.readCacheBlockFromLocal(tmp.getAbsolutePath(), true, mmapRead);
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0, "mmap roundtrip");
+		}
+		finally {
+			tmp.delete();
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.runtime.io.NativeBinaryFile;
+import org.apache.sysds.runtime.io.ReaderNativeBinary;
+import org.apache.sysds.runtime.io.WriterNativeBinary;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.IndexRange;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class NativeBinaryFormatTest {
+
+	private final int _k;
+	private File _dir;
+
+	public NativeBinaryFormatTest(int k) {
+		_k = k;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] {{1}, {4}});
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		_dir = Files.createTempDirectory("native").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testDense() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(1234, 567, -1, 1, 0.9, 7), 100);
+	}
+
+	@Test
+	public void testSparse() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(3000, 2500, -1, 1, 0.01, 3), 1000);
+	}
+
+	@Test
+	public void testUltraSparse() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(10000, 5000, -1, 1, 0.00001, 5), 1000);
+	}
+
+	@Test
+	public void testSingleBlock() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(10, 20, -1, 1, 0.5, 11), 1000);
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		String fname = write(new MatrixBlock(500, 300, true), 100);
+		NativeBinaryFile file = new NativeBinaryFile(new File(fname));
+		assertEquals(0, file.getIndex().length);
+		MatrixBlock ret = new ReaderNativeBinary(_k).readMatrixFromHDFS(fname, 500, 300, 100, -1);
+		assertEquals(500, ret.getNumRows());
+		assertEquals(0, ret.getNonZeros());
+	}
+
+	@Test
+	public void testIndexRangeDense() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1234, 567, -1, 1, 0.9, 7);
+		String fname = write(mb, 100);
+		readRange(fname, mb, new IndexRange(0, 0, 0, 0));
+		readRange(fname, mb, new IndexRange(150, 420, 99, 301));
+		readRange(fname, mb, new IndexRange(1200, 1233, 500, 566));
+		readRange(fname, mb, new IndexRange(0, 1233, 200, 299));
+	}
+
+	@Test
+	public void testIndexRangeSparse() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(3000, 2500, -1, 1, 0.01, 3);
+		String fname = write(mb, 1000);
+		readRange(fname, mb, new IndexRange(999, 1000, 999, 1000));
+		readRange(fname, mb, new IndexRange(500, 2700, 10, 2499));
+	}
+
+	@Test
+	public void testIndexRangeReadsOnlyCoveringBlocks() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 1000, -1, 1, 1.0, 13);
+		String fname = write(mb, 100);
+		NativeBinaryFile file = new NativeBinaryFile(new File(fname));
+		assertEquals(100, file.getIndex().length);
+		assertEquals(4, file.getBlocks(new IndexRange(150, 250, 90, 100)).size());
+		assertEquals(1, file.getBlocks(new IndexRange(999, 999, 999, 999)).size());
+	}
+
+	@Test
+	public void testInvalidIndexRange() throws Exception {
+		String fname = write(TestUtils.generateTestMatrixBlock(100, 100, -1, 1, 0.5, 7), 10);
+		try {
+			new ReaderNativeBinary(_k).readMatrixFromHDFS(fname, 100, 100, 10, -1, new IndexRange(50, 100, 0, 10));
+			fail("Expected IOException");
+		}
+		catch(IOException ex) {
+			assertTrue(ex.getMessage().contains("Invalid index range"));
+		}
+	}
+
+	@Test
+	public void testInvalidFile() throws Exception {
+		File f = new File(_dir, "invalid");
+		Files.write(f.toPath(), new byte[100]);
+		try {
+			new ReaderNativeBinary(_k).readMatrixFromHDFS(f.getAbsolutePath(), -1, -1, 1000, -1);
+			fail("Expected IOException");
+		}
+		catch(IOException ex) {
+			assertTrue(ex.getMessage().contains("wrong magic number"));
+		}
+	}
+
+	private void roundtrip(MatrixBlock mb, int blen) throws Exception {
+		String fname = write(mb, blen);
+		MatrixBlock ret = new ReaderNativeBinary(_k).readMatrixFromHDFS(fname,
+			mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0, "");
+	}
+
+	private void readRange(String fname, MatrixBlock mb, IndexRange ix) throws Exception {
+		MatrixBlock ret = new ReaderNativeBinary(_k)
+			.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), -1, -1, ix);
+		MatrixBlock expected = mb.slice((int) ix.rowStart, (int) ix.rowEnd, (int) ix.colStart, (int) ix.colEnd);
+		assertEquals(expected.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(expected, ret, 0, "");
+	}
+
+	private String write(MatrixBlock mb, int blen) throws Exception {
+		String fname = new File(_dir, "X").getAbsolutePath();
+		new WriterNativeBinary(_k).writeMatrixToHDFS(mb, fname,
+			mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+		return fname;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.sysds.runtime.controlprogram.caching.PageCache;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PageCacheTest {
+
+	@After
+	public void cleanup() {
+		PageCache.clear();
+	}
+
+	@Test
+	public void testInactive() {
+		PageCache.clear();
+		Assert.assertFalse(PageCache.putPage(new byte[16]));
+		Assert.assertNull(PageCache.getPage(16));
+	}
+
+	@Test
+	public void testSizeClasses() {
+		PageCache.init(1024 * 1024);
+		Assert.assertTrue(PageCache.putPage(new byte[1000]));
+		//same class but too small
+		Assert.assertNull(PageCache.getPage(1010));
+		byte[] p = PageCache.getPage(600);
+		Assert.assertNotNull(p);
+		Assert.assertEquals(1000, p.length);
+		Assert.assertEquals(0, PageCache.getSize());
+		//next larger class always fits
+		Assert.assertTrue(PageCache.putPage(new byte[2048]));
+		Assert.assertEquals(2048, PageCache.getPage(1500).length);
+	}
+
+	@Test
+	public void testBudget() {
+		PageCache.init(3000);
+		Assert.assertTrue(PageCache.putPage(new byte[2000]));
+		Assert.assertFalse(PageCache.putPage(new byte[2000]));
+		Assert.assertEquals(2000, PageCache.getSize());
+		Assert.assertNotNull(PageCache.getPage(2000));
+		Assert.assertTrue(PageCache.putPage(new byte[2000]));
+	}
+
+	@Test
+	public void testConcurrentPutGet() throws Exception {
+		PageCache.init(64 * 1024 * 1024);
+		ExecutorService pool = CommonThreadPool.get(8);
+		try {
+			List<Future<Integer>> tasks = new ArrayList<>();
+			for( int t = 0; t < 8; t++ ) {
+				tasks.add(pool.submit(() -> {
+					int hits = 0;
+					for( int i = 0; i < 10000; i++ ) {
+						int size = 1 << (8 + i % 8);
+						byte[] p = PageCache.getPage(size);
+						if( p != null ) {
+							Assert.assertTrue(p.length >= size);
+							hits++;
+						}
+						PageCache.putPage(p != null ? p : new byte[size]);
+					}
+					return hits;
+				}));
+			}
+			int hits = 0;
+			for( Future<Integer> f : tasks )
+				hits += f.get();
+			Assert.assertTrue(hits > 0);
+			Assert.assertTrue(PageCache.getSize() <= 64 * 1024 * 1024);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.Py4jConverterUtils;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class Py4jConverterUtilsTest {
+
+	private File _dir;
+
+	@Before
+	public void setUp() throws Exception {
+		_dir = Files.createTempDirectory("py4j").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testMappedFileDense() {
+		roundTrip(TestUtils.generateTestMatrixBlock(123, 17, -1, 1, 0.9, 7));
+	}
+
+	@Test
+	public void testMappedFileSparse() {
+		roundTrip(TestUtils.generateTestMatrixBlock(500, 40, -1, 1, 0.01, 7));
+	}
+
+	@Test
+	public void testMappedFileEmpty() {
+		roundTrip(new MatrixBlock(20, 3, true));
+	}
+
+	@Test
+	public void testMappedFileValueTypes() throws Exception {
+		File f = new File(_dir, "in");
+		ByteBuffer buf = ByteBuffer.allocate(24).order(ByteOrder.nativeOrder());
+		buf.putInt(1).putInt(-2).putInt(3).putInt(0).putInt(5).putInt(6);
+		Files.write(f.toPath(), buf.array());
+		MatrixBlock mb = Py4jConverterUtils.convertMappedFileToMB(f.getPath(), 2, 3, ValueType.INT32);
+		TestUtils.compareMatrices(mb, new double[][] {{1, -2, 3}, {0, 5, 6}}, 0, "INT32");
+		assertEquals(5, mb.getNonZeros());
+
+		buf.clear();
+		buf.putFloat(1.5f).putFloat(-2).putFloat(3).putFloat(0).putFloat(5).putFloat(6.25f);
+		Files.write(f.toPath(), buf.array());
+		mb = Py4jConverterUtils.convertMappedFileToMB(f.getPath(), 3, 2, ValueType.FP32);
+		TestUtils.compareMatrices(mb, new double[][] {{1.5, -2}, {3, 0}, {5, 6.25}}, 0, "FP32");
+
+		Files.write(f.toPath(), new byte[] {1, (byte) 255, 0, 7});
+		mb = Py4jConverterUtils.convertMappedFileToMB(f.getPath(), 4, 1, ValueType.UINT8);
+		TestUtils.compareMatrices(mb, new double[][] {{1}, {255}, {0}, {7}}, 0, "UINT8");
+	}
+
+	@Test
+	public void testArrowFileFrame() {
+		ValueType[] schema = new ValueType[] {ValueType.STRING, ValueType.FP64, ValueType.INT64, ValueType.BOOLEAN};
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(100, schema, 7);
+		fb.set(5, 0, (String) null);
+		String fname = new File(_dir, "f.arrow").getPath();
+		Py4jConverterUtils.convertFBtoArrowFile(fb, fname);
+		FrameBlock ret = Py4jConverterUtils.convertArrowFileToFB(fname);
+		assertArrayEquals(schema, ret.getSchema());
+		TestUtils.compareFrames(fb, ret, false);
+	}
+
+	private void roundTrip(MatrixBlock mb) {
+		String fname = new File(_dir, "m").getPath();
+		Py4jConverterUtils.convertMBtoMappedFile(mb, fname);
+		assertEquals(8L * mb.getNumRows() * mb.getNumColumns(), new File(fname).length());
+		MatrixBlock ret = Py4jConverterUtils.convertMappedFileToMB(fname,
+			mb.getNumRows(), mb.getNumColumns(), ValueType.FP64);
+		TestUtils.compareMatrices(mb, ret, 0);
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.io.ReaderBinaryBlockParallel;
+import org.apache.sysds.runtime.io.WriterBinaryBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReaderBinaryBlockParallelTest {
+
+	private long _minSplitSize;
+	private File _dir;
+
+	@Before
+	public void setUp() throws Exception {
+		_minSplitSize = ReaderBinaryBlockParallel.MIN_SPLIT_SIZE;
+		ReaderBinaryBlockParallel.MIN_SPLIT_SIZE = 256 * 1024;
+		_dir = Files.createTempDirectory("binary").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ReaderBinaryBlockParallel.MIN_SPLIT_SIZE = _minSplitSize;
+		ConfigurationManager.clearLocalConfigs();
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testDenseSingleColumnBlock() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(3000, 100, -1, 1, 1.0, 7), 100);
+	}
+
+	@Test
+	public void testDenseMultipleColumnBlocks() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(1500, 350, -1, 1, 0.9, 3), 100);
+	}
+
+	@Test
+	public void testSparseSingleColumnBlock() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(20000, 100, -1, 1, 0.05, 11), 1000);
+	}
+
+	@Test
+	public void testSparseMultipleColumnBlocks() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(8000, 2500, -1, 1, 0.01, 5), 1000);
+	}
+
+	@Test
+	public void testUltraSparseWithEmptyBlocks() throws Exception {
+		roundtrip(TestUtils.generateTestMatrixBlock(40000, 3000, -1, 1, 0.00005, 13), 100);
+	}
+
+	@Test
+	public void testCompressedFile() throws Exception {
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.IO_COMPRESSION_CODEC, "deflate");
+		ConfigurationManager.setLocalConfig(conf);
+		roundtrip(TestUtils.generateTestMatrixBlock(3000, 200, -1, 1, 0.5, 17), 100);
+	}
+
+	private void roundtrip(MatrixBlock mb, int blen) throws Exception {
+		String fname = new File(_dir, "X").getAbsolutePath();
+		new WriterBinaryBlock(1).writeMatrixToHDFS(mb, fname,
+			mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+		assertTrue(new File(fname).length() > ReaderBinaryBlockParallel.MIN_SPLIT_SIZE);
+		MatrixBlock ret = new ReaderBinaryBlockParallel(false).readMatrixFromHDFS(fname,
+			mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0, "");
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.runtime.io.FileFormatPropertiesHDF5;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.ReaderHDF5;
+import org.apache.sysds.runtime.io.ReaderHDF5Parallel;
+import org.apache.sysds.runtime.io.WriterHDF5;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.IndexRange;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ReaderHDF5ChunkedTest {
+	private final int _chunkRows;
+	private final int _chunkCols;
+	private final int _level;
+	private final boolean _parallel;
+	private File _dir;
+
+	public ReaderHDF5ChunkedTest(int chunkRows, int chunkCols, int level, boolean parallel) {
+		_chunkRows = chunkRows;
+		_chunkCols = chunkCols;
+		_level = level;
+		_parallel = parallel;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] {
+			{100, 1000, 6, false}, {100, 1000, 6, true},
+			{64, 50, 1, false}, {64, 50, 1, true},
+			{7, 13, -1, false}, {7, 13, -1, true},
+			{5000, 5000, 9, true}});
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		_dir = Files.createTempDirectory("hdf5chunks").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testDense() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1234, 567, -1, 1, 0.9, 7);
+		String fname = write(mb);
+		read(fname, mb);
+		readRange(fname, mb, new IndexRange(150, 420, 99, 301));
+		readRange(fname, mb, new IndexRange(1200, 1233, 500, 566));
+		readRange(fname, mb, new IndexRange(0, 0, 0, 0));
+	}
+
+	@Test
+	public void testSparse() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 700, -1, 1, 0.05, 3);
+		String fname = write(mb);
+		MatrixBlock ret = read(fname, mb);
+		assertTrue(ret.isInSparseFormat());
+		readRange(fname, mb, new IndexRange(10, 990, 300, 699));
+	}
+
+	@Test
+	public void testCompression() throws Exception {
+		// integer values compress well, unless chunks are stored without deflate
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(2000, 300, 0, 3, 1.0, 11));
+		String fname = write(mb);
+		long size = new File(fname).length();
+		if(_level > 0)
+			assertTrue("Compressed size " + size, size < 2000L * 300 * 8 / 2);
+		else
+			assertTrue("Uncompressed size " + size, size >= 2000L * 300 * 8);
+		read(fname, mb);
+	}
+
+	private MatrixBlock read(String fname, MatrixBlock mb) throws Exception {
+		MatrixBlock ret = createReader().readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), 1000,
+			(long) mb.getNumRows() * mb.getNumColumns());
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0, "");
+		return ret;
+	}
+
+	private void readRange(String fname, MatrixBlock mb, IndexRange ix) throws Exception {
+		MatrixBlock ret = createReader().readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), 1000,
+			mb.getNonZeros(), ix);
+		MatrixBlock expected = mb.slice((int) ix.rowStart, (int) ix.rowEnd, (int) ix.colStart, (int) ix.colEnd);
+		assertEquals(expected.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(expected, ret, 0, "");
+	}
+
+	private MatrixReader createReader() {
+		FileFormatPropertiesHDF5 props = new FileFormatPropertiesHDF5();
+		return _parallel ? new ReaderHDF5Parallel(props) : new ReaderHDF5(props);
+	}
+
+	private String write(MatrixBlock mb) throws Exception {
+		String fname = new File(_dir, "X.h5").getAbsolutePath();
+		FileFormatPropertiesHDF5 props = new FileFormatPropertiesHDF5("systemdsh5", _chunkRows, _chunkCols, _level);
+		new WriterHDF5(props).writeMatrixToHDFS(mb, fname, mb.getNumRows(), mb.getNumColumns(), 1000,
+			mb.getNonZeros());
+		return fname;
+	}
+}
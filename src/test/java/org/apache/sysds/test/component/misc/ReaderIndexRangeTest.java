@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.runtime.io.FileFormatProperties;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FileFormatPropertiesHDF5;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.io.ReaderBinaryBlock;
+import org.apache.sysds.runtime.io.ReaderBinaryBlockParallel;
+import org.apache.sysds.runtime.io.ReaderHDF5;
+import org.apache.sysds.runtime.io.ReaderHDF5Parallel;
+import org.apache.sysds.runtime.io.ReaderTextCSV;
+import org.apache.sysds.runtime.io.ReaderTextCSVParallel;
+import org.apache.sysds.runtime.io.ReaderTextCell;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.IndexRange;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ReaderIndexRangeTest {
+
+	private final FileFormat _fmt;
+	private final boolean _parallel;
+	private File _dir;
+
+	public ReaderIndexRangeTest(FileFormat fmt, boolean parallel) {
+		_fmt = fmt;
+		_parallel = parallel;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] {
+			{FileFormat.BINARY, false}, {FileFormat.BINARY, true},
+			{FileFormat.CSV, false}, {FileFormat.CSV, true},
+			{FileFormat.HDF5, false}, {FileFormat.HDF5, true},
+			{FileFormat.TEXT, false}});
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		_dir = Files.createTempDirectory("ixrange").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testDense() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1234, 567, -1, 1, 0.9, 7);
+		String fname = write(mb, 100);
+		readRange(fname, mb, 100, new IndexRange(0, 0, 0, 0));
+		readRange(fname, mb, 100, new IndexRange(150, 420, 99, 301));
+		readRange(fname, mb, 100, new IndexRange(1200, 1233, 500, 566));
+		readRange(fname, mb, 100, new IndexRange(0, 1233, 200, 299));
+		readRange(fname, mb, 100, new IndexRange(0, 1233, 0, 566));
+	}
+
+	@Test
+	public void testSparse() throws Exception {
+		if(_fmt == FileFormat.HDF5)
+			return; // dense only
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(3000, 2500, -1, 1, 0.01, 3);
+		String fname = write(mb, 1000);
+		readRange(fname, mb, 1000, new IndexRange(999, 1000, 999, 1000));
+		readRange(fname, mb, 1000, new IndexRange(500, 2700, 10, 2499));
+		readRange(fname, mb, 1000, new IndexRange(0, 2999, 950, 2050));
+		readRange(fname, mb, 1000, new IndexRange(2000, 2999, 2000, 2499));
+	}
+
+	@Test
+	public void testInvalidRange() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(100, 50, -1, 1, 0.9, 11);
+		String fname = write(mb, 1000);
+		try {
+			createReader().readMatrixFromHDFS(fname, 100, 50, 1000, mb.getNonZeros(), new IndexRange(10, 100, 0, 9));
+			fail("Expected exception for invalid index range");
+		}
+		catch(IOException ex) {
+			assertTrue(ex.getMessage().contains("Invalid index range"));
+		}
+	}
+
+	private void readRange(String fname, MatrixBlock mb, int blen, IndexRange ix) throws Exception {
+		MatrixBlock ret = createReader().readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), blen,
+			mb.getNonZeros(), ix);
+		MatrixBlock expected = mb.slice((int) ix.rowStart, (int) ix.rowEnd, (int) ix.colStart, (int) ix.colEnd);
+		assertEquals(expected.getNumRows(), ret.getNumRows());
+		assertEquals(expected.getNumColumns(), ret.getNumColumns());
+		assertEquals(expected.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(expected, ret, 0, "");
+	}
+
+	private MatrixReader createReader() {
+		switch(_fmt) {
+			case BINARY:
+				return _parallel ? new ReaderBinaryBlockParallel(false) : new ReaderBinaryBlock(false);
+			case CSV:
+				FileFormatPropertiesCSV props = new FileFormatPropertiesCSV();
+				return _parallel ? new ReaderTextCSVParallel(props) : new ReaderTextCSV(props);
+			case HDF5:
+				FileFormatPropertiesHDF5 props2 = new FileFormatPropertiesHDF5();
+				return _parallel ? new ReaderHDF5Parallel(props2) : new ReaderHDF5(props2);
+			default:
+				return new ReaderTextCell(_fmt);
+		}
+	}
+
+	private String write(MatrixBlock mb, int blen) throws Exception {
+		String fname = new File(_dir, "X").getAbsolutePath();
+		FileFormatProperties props = (_fmt == FileFormat.HDF5) ? new FileFormatPropertiesHDF5() : null;
+		MatrixWriterFactory.createMatrixWriter(_fmt, 1, props).writeMatrixToHDFS(mb, fname,
+			mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+		return fname;
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.ReaderTextCSVParallel;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ReaderTextCSVParallelTest {
+
+	private final boolean _singlePass;
+
+	public ReaderTextCSVParallelTest(boolean singlePass) {
+		_singlePass = singlePass;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] {{false}, {true}});
+	}
+
+	@Before
+	public void setUp() {
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.IO_CSV_SINGLE_PASS, String.valueOf(_singlePass));
+		ConfigurationManager.setLocalConfig(conf);
+	}
+
+	@After
+	public void tearDown() {
+		ConfigurationManager.clearLocalConfigs();
+	}
+
+	@Test
+	public void testDense() throws Exception {
+		MatrixBlock mb = read("1,2.5,-3\n4e2, 5 ,6.125\n", false, ",", false, 0, "", 2, 3, 6);
+		compare(new double[][] {{1, 2.5, -3}, {400, 5, 6.125}}, mb);
+	}
+
+	@Test
+	public void testDenseHeaderMultiCharDelim() throws Exception {
+		MatrixBlock mb = read("a::b\n1::0\n0::-7.5\n", true, "::", false, 0, "", 2, 2, 4);
+		compare(new double[][] {{1, 0}, {0, -7.5}}, mb);
+	}
+
+	@Test
+	public void testDenseFillAndNA() throws Exception {
+		MatrixBlock mb = read("1,,NA\n,2,3\n", false, ",", true, 7, "NA", 2, 3, 6);
+		assertEquals(1, mb.get(0, 0), 0);
+		assertEquals(7, mb.get(0, 1), 0);
+		assertTrue(Double.isNaN(mb.get(0, 2)));
+		assertEquals(7, mb.get(1, 0), 0);
+	}
+
+	@Test
+	public void testDenseEmptyLineFill() throws Exception {
+		//empty line as one empty (filled) cell
+		MatrixBlock mb = read("1\n\n3\n", false, ",", true, 7, "", 3, 1, 3);
+		compare(new double[][] {{1}, {7}, {3}}, mb);
+	}
+
+	@Test
+	public void testSparse() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		double[][] expected = new double[200][100];
+		for(int i = 0; i < 200; i++) {
+			expected[i][(i * 7) % 100] = i + 0.5;
+			for(int j = 0; j < 100; j++)
+				sb.append(j > 0 ? "," : "").append(expected[i][j] != 0 ? String.valueOf(expected[i][j]) : "0");
+			sb.append('\n');
+		}
+		MatrixBlock mb = read(sb.toString(), false, ",", false, 0, "", 200, 100, 200);
+		assertTrue(mb.isInSparseFormat());
+		assertEquals(200, mb.getNonZeros());
+		compare(expected, mb);
+	}
+
+	@Test
+	public void testSparseFillAndNA() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 200; i++) {
+			for(int j = 0; j < 100; j++)
+				sb.append(j > 0 ? "," : "").append(j == i % 100 ? "?" : "");
+			sb.append('\n');
+		}
+		MatrixBlock mb = read(sb.toString(), false, ",", true, 0, "?", 200, 100, 200);
+		assertTrue(Double.isNaN(mb.get(5, 5)));
+		assertEquals(0, mb.get(5, 6), 0);
+	}
+
+	@Test
+	public void testUnknownDimsAndPadding() throws Exception {
+		MatrixBlock mb = read("1,2\n3,4\n5,6\n", false, ",", false, 0, "", -1, -1, -1);
+		compare(new double[][] {{1, 2}, {3, 4}, {5, 6}}, mb);
+		mb = read("1,2\n3,4\n", false, ",", false, 0, "", 4, 2, 8);
+		compare(new double[][] {{1, 2}, {3, 4}, {0, 0}, {0, 0}}, mb);
+	}
+
+	@Test
+	public void testLargeMultiChunk() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		double[][] expected = new double[30000][3];
+		for(int i = 0; i < expected.length; i++) {
+			for(int j = 0; j < 3; j++) {
+				expected[i][j] = i * 3 + j + 0.25;
+				sb.append(j > 0 ? "," : "").append(expected[i][j]);
+			}
+			sb.append('\n');
+		}
+		MatrixBlock mb = read(sb.toString(), false, ",", false, 0, "", expected.length, 3, expected.length * 3);
+		assertEquals(expected.length * 3, mb.getNonZeros());
+		compare(expected, mb);
+	}
+
+	@Test
+	public void testEmptyFieldWithoutFill() throws Exception {
+		readInvalid("1,,3\n4,5,6\n", false, 2, 3, "Empty fields");
+	}
+
+	@Test
+	public void testInvalidNumColumns() throws Exception {
+		readInvalid("1,2,3\n4,5\n", true, 2, 3, "Invalid number of columns");
+	}
+
+	@Test
+	public void testInvalidNumber() throws Exception {
+		readInvalid("1,2,3\n4,x5,6\n", true, 2, 3, "x5");
+	}
+
+	private static MatrixBlock read(String content, boolean header, String delim, boolean fill, double fillValue,
+		String naStrings, long rlen, long clen, long estnnz) throws Exception
+	{
+		File f = File.createTempFile("csv", ".csv");
+		try {
+			Files.write(f.toPath(), content.getBytes(StandardCharsets.UTF_8));
+			FileFormatPropertiesCSV props = new FileFormatPropertiesCSV(header, delim, fill, fillValue, naStrings);
+			return new ReaderTextCSVParallel(props).readMatrixFromHDFS(f.getAbsolutePath(), rlen, clen, 1000, estnnz);
+		}
+		finally {
+			f.delete();
+		}
+	}
+
+	private static void readInvalid(String content, boolean fill, long rlen, long clen, String msg) throws Exception {
+		try {
+			read(content, false, ",", fill, 0, "", rlen, clen, rlen * clen);
+			fail("Expected IOException");
+		}
+		catch(IOException ex) {
+			String fullMsg = ex.getMessage() + (ex.getCause() != null ? ex.getCause().getMessage() : "");
+			assertTrue(fullMsg, fullMsg.contains(msg));
+		}
+	}
+
+	private static void compare(double[][] expected, MatrixBlock mb) {
+		TestUtils.compareMatrices(expected, mb, 0, "");
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.SpillCompression;
+import org.apache.sysds.runtime.controlprogram.caching.SpillCompression.Codec;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SpillCompressionTest {
+
+	@After
+	public void cleanup() {
+		SpillCompression.init("none");
+	}
+
+	@Test
+	public void testParseSingle() {
+		SpillCompression.init("lz4");
+		Assert.assertTrue(SpillCompression.isActive());
+		Assert.assertEquals(Codec.LZ4, SpillCompression.getConfiguredCodec(true));
+		Assert.assertEquals(Codec.LZ4, SpillCompression.getConfiguredCodec(false));
+	}
+
+	@Test
+	public void testParsePerType() {
+		SpillCompression.init("matrix:zlib, frame:none");
+		Assert.assertEquals(Codec.ZLIB, SpillCompression.getConfiguredCodec(true));
+		Assert.assertEquals(Codec.NONE, SpillCompression.getConfiguredCodec(false));
+		SpillCompression.init("none");
+		Assert.assertFalse(SpillCompression.isActive());
+	}
+
+	@Test(expected = DMLRuntimeException.class)
+	public void testParseInvalid() {
+		SpillCompression.init("matrix:gzip2");
+	}
+
+	@Test
+	public void testDenseLZ4() throws IOException {
+		runMatrixRoundtrip("lz4", 1.0);
+	}
+
+	@Test
+	public void testSparseLZ4() throws IOException {
+		runMatrixRoundtrip("lz4", 0.05);
+	}
+
+	@Test
+	public void testDenseZlib() throws IOException {
+		runMatrixRoundtrip("zlib", 1.0);
+	}
+
+	@Test
+	public void testSparseZlib() throws IOException {
+		runMatrixRoundtrip("zlib", 0.05);
+	}
+
+	@Test
+	public void testSerializedBytesLZ4() throws IOException {
+		SpillCompression.init("lz4");
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(500, 40, -1, 1, 0.1, 7);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		mb.write(new DataOutputStream(bos));
+		File tmp = File.createTempFile("spill", ".dat");
+		try {
+			byte[] data = bos.toByteArray();
+			LocalFileUtils.writeCacheBytesToLocal(tmp.getAbsolutePath(), data, data.length, true);
+			MatrixBlock ret = (MatrixBlock) LocalFileUtils
+				.readCacheBlockFromLocal(tmp.getAbsolutePath(), true, false);
+			TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0, "spill bytes roundtrip");
+		}
+		finally {
+			tmp.delete();
+		}
+	}
+
+	@Test
+	public void testFrameZlib() throws IOException {
+		SpillCompression.init("frame:zlib");
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(300, new ValueType[] {
+			ValueType.STRING, ValueType.FP64, ValueType.INT64, ValueType.BOOLEAN}, 7);
+		File tmp = File.createTempFile("spill", ".dat");
+		try {
+			LocalFileUtils.writeCacheBlockToLocal(tmp.getAbsolutePath(), fb, false);
+			FrameBlock ret = (FrameBlock) LocalFileUtils
+				.readCacheBlockFromLocal(tmp.getAbsolutePath(), false, false);
+			TestUtils.compareFrames(fb, ret, true);
+		}
+		finally {
+			tmp.delete();
+		}
+	}
+
+	@Test
+	public void testRawFileCompressionActive() throws IOException {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(200, 30, -1, 1, 0.5, 3);
+		File tmp = File.createTempFile("spill", ".dat");
+		try {
+			LocalFileUtils.writeCacheBlockToLocal(tmp.getAbsolutePath(), mb);
+			SpillCompression.init("lz4");
+			MatrixBlock ret = (MatrixBlock) LocalFileUtils
+				.readCacheBlockFromLocal(tmp.getAbsolutePath(), true, false);
+			TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0, "raw roundtrip");
+		}
+		finally {
+			tmp.delete();
+		}
+	}
+
+	@Test
+	public void testInvalidCodecHeader() {
+		//valid magic number, but unknown codec
+		byte[] header = {(byte)0xC5, (byte)0x53, (byte)0x50, (byte)0x7F};
+		try {
+			SpillCompression.createInputStream(new ByteArrayInputStream(header), "spill.dat");
+			Assert.fail("expected IOException for invalid codec");
+		}
+		catch(IOException ex) {
+			Assert.assertTrue(ex.getMessage().contains("spill.dat"));
+		}
+	}
+
+	@Test
+	public void testAutoDisable() {
+		SpillCompression.init("lz4");
+		//compressed writes slower than raw writes
+		SpillCompression.monitor(true, Codec.LZ4, 1000, 10000);
+		SpillCompression.monitor(true, Codec.NONE, 1000, 1000);
+		int compressed = 0;
+		for( int i=0; i<32; i++ )
+			compressed += SpillCompression.selectCodec(true) == Codec.LZ4 ? 1 : 0;
+		//only periodic probes
+		Assert.assertEquals(2, compressed);
+		//frames unaffected
+		Assert.assertEquals(Codec.LZ4, SpillCompression.selectCodec(false));
+	}
+
+	private static void runMatrixRoundtrip(String codec, double sparsity) throws IOException {
+		SpillCompression.init(codec);
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(1234, 67, 0, 10, sparsity, 7));
+		if( sparsity == 1.0 )
+			mb.sparseToDense();
+		File tmp = File.createTempFile("spill", ".dat");
+		try {
+			LocalFileUtils.writeCacheBlockToLocal(tmp.getAbsolutePath(), mb, false);
+			Assert.assertTrue(tmp.length() < mb.getExactSerializedSize());
+			MatrixBlock ret = (MatrixBlock) LocalFileUtils
+				.readCacheBlockFromLocal(tmp.getAbsolutePath(), true, false);
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0, codec + " roundtrip");
+		}
+		finally {
+			tmp.delete();
+		}
+	}
+}
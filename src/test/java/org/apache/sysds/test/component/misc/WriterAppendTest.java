@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReader;
+import org.apache.sysds.runtime.io.FrameReaderBinaryBlock;
+import org.apache.sysds.runtime.io.FrameReaderTextCSV;
+import org.apache.sysds.runtime.io.FrameWriter;
+import org.apache.sysds.runtime.io.FrameWriterBinaryBlock;
+import org.apache.sysds.runtime.io.FrameWriterTextCSV;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.ReaderBinaryBlock;
+import org.apache.sysds.runtime.io.ReaderTextCSV;
+import org.apache.sysds.runtime.io.WriterBinaryBlock;
+import org.apache.sysds.runtime.io.WriterTextCSV;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WriterAppendTest {
+	private static final int BLEN = 100;
+	private static final ValueType[] SCHEMA = {ValueType.FP64, ValueType.STRING, ValueType.INT64};
+
+	private File _dir;
+
+	@Before
+	public void setUp() throws Exception {
+		_dir = Files.createTempDirectory("append").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testBinaryAligned() throws Exception {
+		runMatrixAppendTest(new WriterBinaryBlock(1), new ReaderBinaryBlock(false), 0.7, 200, 300, 100);
+	}
+
+	@Test
+	public void testBinaryUnaligned() throws Exception {
+		runMatrixAppendTest(new WriterBinaryBlock(1), new ReaderBinaryBlock(false), 0.7, 150, 37, 213);
+	}
+
+	@Test
+	public void testBinarySparseUnaligned() throws Exception {
+		runMatrixAppendTest(new WriterBinaryBlock(1), new ReaderBinaryBlock(false), 0.01, 57, 80, 3);
+	}
+
+	@Test
+	public void testCSVHeader() throws Exception {
+		FileFormatPropertiesCSV props = new FileFormatPropertiesCSV(true, ",", false);
+		runMatrixAppendTest(new WriterTextCSV(props), new ReaderTextCSV(props), 0.7, 150, 37, 213);
+	}
+
+	@Test
+	public void testFrameBinary() throws Exception {
+		runFrameAppendTest(new FrameWriterBinaryBlock(), new FrameReaderBinaryBlock());
+	}
+
+	@Test
+	public void testFrameCSVHeader() throws Exception {
+		FileFormatPropertiesCSV props = new FileFormatPropertiesCSV(true, ",", false);
+		runFrameAppendTest(new FrameWriterTextCSV(props), new FrameReaderTextCSV(props));
+	}
+
+	private void runMatrixAppendTest(MatrixWriter writer, MatrixReader reader, double sparsity, int... batches)
+		throws Exception
+	{
+		String fname = new File(_dir, "X").getAbsolutePath();
+		MatrixBlock expected = null;
+		for(int i = 0; i < batches.length; i++) {
+			MatrixBlock mb = TestUtils.generateTestMatrixBlock(batches[i], 250, -1, 1, sparsity, 7 + i);
+			if(expected == null)
+				writer.writeMatrixToHDFS(mb, fname, mb.getNumRows(), 250, BLEN, mb.getNonZeros());
+			else
+				writer.appendMatrixToHDFS(mb, fname, expected.getNumRows(), 250, BLEN);
+			expected = (expected == null) ? mb : expected.append(mb, new MatrixBlock(), false);
+		}
+
+		// appends convert the output into a directory of part files
+		assertTrue(new File(fname).isDirectory());
+		MatrixBlock ret = reader.readMatrixFromHDFS(fname, expected.getNumRows(), 250, BLEN,
+			expected.getNonZeros());
+		TestUtils.compareMatrices(expected, ret, 0, "");
+	}
+
+	private void runFrameAppendTest(FrameWriter writer, FrameReader reader) throws Exception {
+		String fname = new File(_dir, "F").getAbsolutePath();
+		FrameBlock expected = null;
+		for(int rows : new int[] {1500, 37, 1213}) {
+			FrameBlock fb = TestUtils.generateRandomFrameBlock(rows, SCHEMA, rows);
+			if(expected == null)
+				writer.writeFrameToHDFS(fb, fname, rows, SCHEMA.length);
+			else
+				writer.appendFrameToHDFS(fb, fname, expected.getNumRows(), SCHEMA.length);
+			expected = (expected == null) ? fb : expected.append(fb, false);
+		}
+
+		assertTrue(new File(fname).isDirectory());
+		FrameBlock ret = reader.readFrameFromHDFS(fname, SCHEMA, expected.getNumRows(), SCHEMA.length);
+		TestUtils.compareFrames(expected, ret, false);
+	}
+}
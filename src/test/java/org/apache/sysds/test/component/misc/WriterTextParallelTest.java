@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.runtime.io.FileFormatPropertiesLIBSVM;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.ReaderTextCell;
+import org.apache.sysds.runtime.io.ReaderTextLIBSVM;
+import org.apache.sysds.runtime.io.WriterMatrixMarket;
+import org.apache.sysds.runtime.io.WriterMatrixMarketParallel;
+import org.apache.sysds.runtime.io.WriterTextLIBSVM;
+import org.apache.sysds.runtime.io.WriterTextLIBSVMParallel;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class WriterTextParallelTest {
+	private final FileFormat _fmt;
+	private File _dir;
+
+	public WriterTextParallelTest(FileFormat fmt) {
+		_fmt = fmt;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] {{FileFormat.MM}, {FileFormat.LIBSVM}});
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		_dir = Files.createTempDirectory("textwrite").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_dir);
+	}
+
+	@Test
+	public void testDense() throws Exception {
+		runWriteTest(TestUtils.generateTestMatrixBlock(1001, 37, -10, 10, 0.7, 7));
+	}
+
+	@Test
+	public void testSparse() throws Exception {
+		runWriteTest(TestUtils.generateTestMatrixBlock(3333, 1000, -10, 10, 0.01, 3));
+	}
+
+	@Test
+	public void testSparseEmptyRows() throws Exception {
+		runWriteTest(TestUtils.generateTestMatrixBlock(500, 20, -10, 10, 0.02, 5));
+	}
+
+	private void runWriteTest(MatrixBlock mb) throws Exception {
+		File seq = new File(_dir, "seq");
+		File par = new File(_dir, "par");
+		write(createWriter(false), mb, seq);
+		write(createWriter(true), mb, par);
+
+		// parallel writes are concatenated into a single file equal to the sequential write
+		// (w/o remaining part files; hidden checksum files are only deleted on exit)
+		assertTrue(par.isFile());
+		String[] files = _dir.list((d, name) -> !(name.startsWith(".") && name.endsWith(".crc")));
+		Arrays.sort(files);
+		assertArrayEquals(new String[] {"par", "seq"}, files);
+		assertArrayEquals(Files.readAllBytes(seq.toPath()), Files.readAllBytes(par.toPath()));
+
+		MatrixBlock ret = createReader().readMatrixFromHDFS(par.getAbsolutePath(), mb.getNumRows(),
+			mb.getNumColumns(), 1000, mb.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0, "");
+	}
+
+	private void write(MatrixWriter writer, MatrixBlock mb, File f) throws Exception {
+		writer.writeMatrixToHDFS(mb, f.getAbsolutePath(), mb.getNumRows(), mb.getNumColumns(), 1000,
+			mb.getNonZeros());
+	}
+
+	private MatrixReader createReader() {
+		return _fmt == FileFormat.MM ? new ReaderTextCell(_fmt) :
+			new ReaderTextLIBSVM(new FileFormatPropertiesLIBSVM());
+	}
+
+	private MatrixWriter createWriter(boolean parallel) {
+		FileFormatPropertiesLIBSVM props = new FileFormatPropertiesLIBSVM();
+		if(!parallel)
+			return _fmt == FileFormat.MM ? new WriterMatrixMarket() : new WriterTextLIBSVM(props);
+		// force multiple concurrent part files despite the small outputs
+		return _fmt == FileFormat.MM ? new WriterMatrixMarketParallel() {
+			@Override
+			protected int getNumThreads(MatrixBlock src) {
+				return 3;
+			}
+		} : new WriterTextLIBSVMParallel(props) {
+			@Override
+			protected int getNumThreads(MatrixBlock src) {
+				return 3;
+			}
+		};
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.binary;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.FileFormatProperties;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameWriterFactory;
+import org.apache.sysds.runtime.io.ReaderTextCSV;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataAll;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+
+public class AppendWriteTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME = "AppendWriteTest";
+	private final static String TEST_NAME2 = "AppendWriteFrameTest";
+	private final static String TEST_DIR = "functions/io/binary/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + AppendWriteTest.class.getSimpleName() + "/";
+	
+	public static int rows = 2345;
+	public static int cols = 123;
+	public static double sparsity = 0.3;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "X" }) );  
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] { "F" }) );
+	}
+	
+	@Test
+	public void testBinaryAligned() {
+		runAppendWriteTest(FileFormat.BINARY, 1000);
+	}
+	
+	@Test
+	public void testBinaryUnaligned() {
+		runAppendWriteTest(FileFormat.BINARY, 700);
+	}
+	
+	@Test
+	public void testCSV() {
+		runAppendWriteTest(FileFormat.CSV, 700);
+	}
+	
+	@Test
+	public void testFrameBinaryUnknownSchema() {
+		runAppendWriteFrameTest(FileFormat.BINARY, ValueType.UNKNOWN, false);
+	}
+	
+	@Test
+	public void testFrameBinarySchemaMismatch() {
+		runAppendWriteFrameTest(FileFormat.BINARY, ValueType.FP64, true);
+	}
+	
+	@Test
+	public void testFrameCSVSchemaMismatch() {
+		runAppendWriteFrameTest(FileFormat.CSV, ValueType.INT64, true);
+	}
+	
+	private void runAppendWriteFrameTest(FileFormat fmt, ValueType vt, boolean exception)
+	{
+		ExecMode modeOld = setExecMode(ExecMode.SINGLE_NODE);
+		try {
+			TestConfiguration config = getTestConfiguration(TEST_NAME2);
+			loadTestConfiguration(config);
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME2 + ".dml";
+			programArgs = new String[]{"-args", output("F"), "100", "3", fmt.toString()};
+	
+			//write existing frame with string columns, except the middle column
+			ValueType[] schema = {ValueType.STRING, vt, ValueType.STRING};
+			ValueType[] schema2 = {ValueType.STRING, (vt == ValueType.UNKNOWN) ? ValueType.STRING : vt, ValueType.STRING};
+			FrameBlock fb = TestUtils.generateRandomFrameBlock(200, schema2, 7);
+			MatrixCharacteristics mc = new MatrixCharacteristics(200, 3, -1, -1);
+			FileFormatProperties fprops = (fmt == FileFormat.CSV) ? new FileFormatPropertiesCSV() : null;
+			FrameWriterFactory.createFrameWriter(fmt, fprops).writeFrameToHDFS(fb, output("F"), 200, 3);
+			HDFSTool.writeMetaDataFile(output("F.mtd"), ValueType.UNKNOWN, schema, DataType.FRAME, mc, fmt, fprops);
+			
+			runTest(true, exception, exception ? DMLRuntimeException.class : null, -1);
+			
+			//the existing schema is retained, and only updated with the row count on success
+			MetaDataAll mtd = new MetaDataAll(output("F.mtd"), false, true);
+			assertEquals(exception ? 200 : 300, mtd.getDataCharacteristics().getRows());
+			assertEquals((vt == ValueType.UNKNOWN) ? "STRING,*,STRING," : "STRING," + vt + ",STRING,",
+				mtd.getSchema());
+		}
+		catch(IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e);
+		}
+		finally {
+			resetExecMode(modeOld);
+		}
+	}
+	
+	private void runAppendWriteTest(FileFormat fmt, int batch)
+	{
+		ExecMode modeOld = setExecMode(ExecMode.SINGLE_NODE);
+		try {
+			TestConfiguration config = getTestConfiguration(TEST_NAME);
+			loadTestConfiguration(config);
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{"-args", input("X"), output("X"),
+				String.valueOf(batch), fmt.toString()};
+	
+			//generate actual dataset 
+			MatrixBlock mb = TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, sparsity, 7);
+			MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, 1000, mb.getNonZeros());
+			DataConverter.writeMatrixToHDFS(mb, input("X"), FileFormat.BINARY, mc);
+			HDFSTool.writeMetaDataFile(input("X.mtd"), ValueType.FP64, mc, FileFormat.BINARY);
+			
+			runTest(true, false, null, -1);
+			
+			//compare appended row batches with the input
+			checkDMLMetaDataFile("X", new MatrixCharacteristics(rows, cols, 1000), fmt == FileFormat.BINARY);
+			MatrixBlock mb2 = (fmt == FileFormat.BINARY) ?
+				DataConverter.readMatrixFromHDFS(output("X"), fmt, rows, cols, 1000, -1) :
+				new ReaderTextCSV(new FileFormatPropertiesCSV()).readMatrixFromHDFS(output("X"), rows, cols, -1, -1);
+			TestUtils.compareMatrices(mb, mb2, 0, "");
+		}
+		catch(IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e);
+		}
+		finally {
+			resetExecMode(modeOld);
+		}
+	}
+}
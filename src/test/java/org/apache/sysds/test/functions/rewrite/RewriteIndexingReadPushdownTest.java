@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.rewrite;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+
+public class RewriteIndexingReadPushdownTest extends AutomatedTestBase 
+{
+	private static final String TEST_NAME = "RewriteIndexingReadPushdown";
+	private static final String TEST_DIR = "functions/rewrite/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + RewriteIndexingReadPushdownTest.class.getSimpleName() + "/";
+	
+	private static final int rows = 2345;
+	private static final int cols = 1234;
+	private static final int blen = 1000;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration( TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "R" }) );
+	}
+	
+	@Test
+	public void testBinaryDenseNoRewrite() {
+		testRewriteIndexingReadPushdown(FileFormat.BINARY, 0.9, false, ExecMode.SINGLE_NODE);
+	}
+	
+	@Test
+	public void testBinaryDense() {
+		testRewriteIndexingReadPushdown(FileFormat.BINARY, 0.9, true, ExecMode.SINGLE_NODE);
+	}
+	
+	@Test
+	public void testBinarySparse() {
+		testRewriteIndexingReadPushdown(FileFormat.BINARY, 0.05, true, ExecMode.SINGLE_NODE);
+	}
+	
+	@Test
+	public void testBinarySparseHybrid() {
+		testRewriteIndexingReadPushdown(FileFormat.BINARY, 0.05, true, ExecMode.HYBRID);
+	}
+	
+	@Test
+	public void testCSVDenseNoRewrite() {
+		testRewriteIndexingReadPushdown(FileFormat.CSV, 0.9, false, ExecMode.SINGLE_NODE);
+	}
+	
+	@Test
+	public void testCSVDense() {
+		testRewriteIndexingReadPushdown(FileFormat.CSV, 0.9, true, ExecMode.SINGLE_NODE);
+	}
+	
+	@Test
+	public void testCSVSparseHybridNoRewrite() {
+		testRewriteIndexingReadPushdown(FileFormat.CSV, 0.05, false, ExecMode.HYBRID);
+	}
+	
+	@Test
+	public void testCSVSparseHybrid() {
+		testRewriteIndexingReadPushdown(FileFormat.CSV, 0.05, true, ExecMode.HYBRID);
+	}
+	
+	private void testRewriteIndexingReadPushdown(FileFormat fmt, double sparsity, boolean rewrite, ExecMode mode)
+	{
+		boolean oldFlag = OptimizerUtils.ALLOW_INDEXING_READ_PUSHDOWN;
+		ExecMode oldMode = setExecMode(mode);
+		
+		try
+		{
+			TestConfiguration config = getTestConfiguration(TEST_NAME);
+			loadTestConfiguration(config);
+			
+			//write input in the given format
+			MatrixBlock X = TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, sparsity, 7);
+			MatrixWriterFactory.createMatrixWriter(fmt)
+				.writeMatrixToHDFS(X, input("X"), rows, cols, blen, X.getNonZeros());
+			HDFSTool.writeMetaDataFile(input("X.mtd"), ValueType.FP64,
+				new MatrixCharacteristics(rows, cols, blen, X.getNonZeros()), fmt);
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{ "-explain", "-args", input("X"),
+				"901", "2100", "950", "1051", output("R") };
+			
+			OptimizerUtils.ALLOW_INDEXING_READ_PUSHDOWN = rewrite;
+			setOutputBuffering(true);
+			String out = runTest(null).toString();
+			
+			//compare output with the sliced input
+			HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromOutputDir("R");
+			TestUtils.compareMatrices(dmlfile, X.slice(900, 2099, 949, 1050), 0);
+			
+			//check for applied rewrite (read pushdown flag of right indexing)
+			Assert.assertEquals(rewrite, out.contains("rightIndex") && out.contains(".MATRIX.FP64 true"));
+			//check for no reblock of the input (only dropped for CP right indexing)
+			if( mode == ExecMode.HYBRID )
+				Assert.assertEquals(!rewrite, out.contains("rblk"));
+		}
+		catch(IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			OptimizerUtils.ALLOW_INDEXING_READ_PUSHDOWN = oldFlag;
+			resetExecMode(oldMode);
+		}
+	}
+}